@@ -158,6 +158,23 @@ export function useTreatmentPlans() {
     })
   }
 
+  // List endpoints return one page at a time; follow X-Next-Cursor until the last page
+  const fetchAllPages = async <T>(path: string, params: URLSearchParams): Promise<T[]> => {
+    const items: T[] = []
+    let cursor: string | null = null
+    do {
+      if (cursor) params.set('cursor', cursor)
+      const response = await $fetch.raw<T[]>(`${path}?${params.toString()}`, {
+        baseURL,
+        credentials: 'include',
+        headers: auth.authorizationHeader()
+      })
+      items.push(...(response._data ?? []))
+      cursor = response.headers.get('X-Next-Cursor')
+    } while (cursor)
+    return items
+  }
+
   return {
     // Get all treatment plans
     async getAll(filters?: {
@@ -169,9 +186,9 @@ export function useTreatmentPlans() {
       if (filters?.patientId) params.append('patientId', filters.patientId.toString())
       if (filters?.doctorId) params.append('doctorId', filters.doctorId.toString())
       if (filters?.status) params.append('status', filters.status)
+      params.append('limit', '500')
 
-      const query = params.toString() ? `?${params.toString()}` : ''
-      return authorizedRequest<TreatmentPlan[]>(`/treatment-plans${query}`)
+      return fetchAllPages<TreatmentPlan>('/treatment-plans', params)
     },
 
     // Get treatment plan by ID
@@ -3,6 +3,7 @@ import org.gradle.jvm.toolchain.JavaLanguageVersion
 plugins {
     id("org.springframework.boot") version "3.2.4"
     id("io.spring.dependency-management") version "1.1.4"
+    id("me.champeau.jmh") version "0.7.2"
     java
 }
 
@@ -42,6 +43,9 @@ dependencies {
     // SendGrid for email notifications
     implementation("com.sendgrid:sendgrid-java:4.10.2")
 
+    // Pooled HTTP client for outbound calls (PayPal, Cloudflare)
+    implementation("org.apache.httpcomponents.client5:httpclient5")
+
     // Spring Retry for webhook processing
     implementation("org.springframework.retry:spring-retry")
     implementation("org.springframework:spring-aspects")
@@ -50,11 +54,21 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-cache")
     implementation("com.github.ben-manes.caffeine:caffeine")
 
+    // Hibernate second-level cache for reference entities, backed by Caffeine via JCache
+    implementation("org.hibernate.orm:hibernate-jcache")
+    implementation("com.github.ben-manes.caffeine:jcache")
+
+    // S3-compatible object storage for self-hosted images (AWS S3, MinIO)
+    implementation("software.amazon.awssdk:s3:2.25.60")
+
     testImplementation("org.springframework.boot:spring-boot-starter-test")
     testImplementation("org.springframework.security:spring-security-test")
     
     // Property-based testing with jqwik (JUnit 5 compatible)
     testImplementation("net.jqwik:jqwik:1.8.2")
+
+    // Mock servlet requests and field access for benchmark fixtures
+    jmh("org.springframework:spring-test")
 }
 
 repositories {
@@ -64,3 +78,37 @@ repositories {
 tasks.test {
     useJUnitPlatform()
 }
+
+// Microbenchmarks live in src/jmh; run with ./gradlew jmh.
+// Results go to build/results/jmh/results.json for comparison across commits,
+// e.g. ./gradlew jmh -PjmhInclude=JwtVerification to run a subset.
+jmh {
+    jmhVersion.set("1.37")
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("results/jmh/results.json"))
+    (findProperty("jmhInclude") as String?)?.let { includes.set(listOf(it)) }
+}
+
+// Seeded multi-tenant load tests live in src/loadtest; see LOAD_TESTING.md.
+// ./gradlew seedLoadTestData --args="--tenants=5" then ./gradlew loadTest against a running app.
+val loadtest: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+    runtimeClasspath += sourceSets.main.get().output
+}
+
+configurations[loadtest.implementationConfigurationName].extendsFrom(configurations.implementation.get())
+configurations[loadtest.runtimeOnlyConfigurationName].extendsFrom(configurations.runtimeOnly.get())
+
+tasks.register<JavaExec>("seedLoadTestData") {
+    group = "load test"
+    description = "Seeds tenants with generated clinic and storefront history through COPY."
+    classpath = loadtest.runtimeClasspath
+    mainClass.set("com.clinic.loadtest.LoadTestDataGenerator")
+}
+
+tasks.register<JavaExec>("loadTest") {
+    group = "load test"
+    description = "Runs the scripted load scenarios against a running API and writes build/results/loadtest/results.json."
+    classpath = loadtest.runtimeClasspath
+    mainClass.set("com.clinic.loadtest.LoadScenarioRunner")
+}
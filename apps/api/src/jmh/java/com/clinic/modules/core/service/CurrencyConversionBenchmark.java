@@ -0,0 +1,133 @@
+package com.clinic.modules.core.service;
+
+import com.clinic.modules.core.settings.ClinicSettingsCache;
+import com.clinic.modules.core.settings.ClinicSettingsEntity;
+import com.clinic.modules.core.settings.ClinicSettingsSnapshot;
+import com.clinic.modules.core.tenant.TenantContextHolder;
+import com.clinic.modules.core.tenant.TenantEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversion hot path: one amount through the compiled {@link FxRateTable}
+ * against the previous per-call lookup-and-divide, the same conversion via
+ * {@link CurrencyConversionService#convert} including the settings-cache and
+ * table lookups, and a page worth of payments summed with
+ * {@link FxRateTable#convertAll}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CurrencyConversionBenchmark {
+
+    private static final Map<String, BigDecimal> RATES = Map.of(
+            "USD", new BigDecimal("1.0"),
+            "JOD", new BigDecimal("0.709"),
+            "AED", new BigDecimal("0.272"),
+            "SAR", new BigDecimal("0.267"),
+            "EUR", new BigDecimal("1.085"),
+            "GBP", new BigDecimal("1.267")
+    );
+
+    private static final String[] CURRENCIES = RATES.keySet().toArray(String[]::new);
+
+    private FxRateTable table;
+    private CurrencyConversionService service;
+    private BigDecimal amount;
+    private List<Payment> payments;
+
+    record Payment(BigDecimal amount, String currency) {}
+
+    @Setup
+    public void setUp() {
+        table = FxRateTable.of(RATES);
+        service = conversionService();
+        amount = new BigDecimal("1234.56");
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        payments = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            payments.add(new Payment(
+                    BigDecimal.valueOf(random.nextLong(1, 1_000_000), 2),
+                    CURRENCIES[random.nextInt(CURRENCIES.length)]));
+        }
+    }
+
+    @Benchmark
+    public BigDecimal convertWithTable() {
+        return table.convert(amount, "EUR", "JOD");
+    }
+
+    @Benchmark
+    public BigDecimal convertWithService() {
+        return service.convert(amount, "EUR", "JOD");
+    }
+
+    @Benchmark
+    public BigDecimal convertWithRateMap() {
+        BigDecimal fromRate = RATES.getOrDefault("EUR", BigDecimal.ONE);
+        BigDecimal toRate = RATES.getOrDefault("JOD", BigDecimal.ONE);
+        return amount.multiply(fromRate)
+                .divide(toRate, 4, RoundingMode.HALF_UP)
+                .setScale(2, RoundingMode.HALF_UP);
+    }
+
+    @Benchmark
+    public BigDecimal convertAllPayments() {
+        return table.convertAll(payments, Payment::amount, Payment::currency, "JOD");
+    }
+
+    @Benchmark
+    public FxRateTable compileTable() {
+        return FxRateTable.of(RATES);
+    }
+
+    /**
+     * A service reading one tenant's settings from a pre-filled snapshot, so
+     * the measurement covers the service's own lookups but no database.
+     */
+    private static CurrencyConversionService conversionService() {
+        TenantEntity tenant = new TenantEntity("bench", "Bench Clinic");
+        ReflectionTestUtils.setField(tenant, "id", 1L);
+        ClinicSettingsEntity settings = new ClinicSettingsEntity("Bench Clinic");
+        settings.setTenant(tenant);
+        settings.setCurrency("JOD");
+        settings.setExchangeRates(RATES);
+        Optional<ClinicSettingsSnapshot> snapshot = Optional.of(ClinicSettingsSnapshot.from(settings));
+
+        ClinicSettingsCache settingsCache = new ClinicSettingsCache(null, null, Duration.ofMinutes(10), 1) {
+            @Override
+            public Optional<ClinicSettingsSnapshot> get(Long tenantId) {
+                return snapshot;
+            }
+        };
+        TenantContextHolder tenantContextHolder = new TenantContextHolder(null, null) {
+            @Override
+            public Long requireTenantId() {
+                return 1L;
+            }
+        };
+        return new CurrencyConversionService(null, settingsCache, tenantContextHolder);
+    }
+}
@@ -0,0 +1,74 @@
+package com.clinic.modules.core.tenant;
+
+import com.clinic.config.TenantProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tenant lookup key extraction done by {@link TenantResolutionFilter} before
+ * any tenant query: the slug from the header or query parameter, and the
+ * normalized host used for custom-domain lookups.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TenantResolutionBenchmark {
+
+    private TenantResolutionFilter filter;
+    private MockHttpServletRequest headerRequest;
+    private MockHttpServletRequest queryRequest;
+    private MockHttpServletRequest hostRequest;
+
+    @Setup
+    public void setUp() {
+        TenantProperties tenantProperties = new TenantProperties();
+        filter = new TenantResolutionFilter(null, null, tenantProperties);
+
+        headerRequest = new MockHttpServletRequest("GET", "/public/services");
+        headerRequest.addHeader(tenantProperties.getHeaderName(), " Smile-Dental ");
+
+        queryRequest = new MockHttpServletRequest("GET", "/public/services");
+        queryRequest.addParameter(tenantProperties.getQueryParameter(), "Smile-Dental");
+
+        hostRequest = new MockHttpServletRequest("GET", "/public/services");
+    }
+
+    @Benchmark
+    public String slugFromHeader() {
+        return filter.resolveSlug(headerRequest);
+    }
+
+    @Benchmark
+    public String slugFromQueryParameter() {
+        return filter.resolveSlug(queryRequest);
+    }
+
+    @Benchmark
+    public String noSlug() {
+        return filter.resolveSlug(hostRequest);
+    }
+
+    @Benchmark
+    public String normalizePlainHost() {
+        return TenantResolutionFilter.normalizeHost("clinic.example.com");
+    }
+
+    @Benchmark
+    public String normalizeForwardedHost() {
+        return TenantResolutionFilter.normalizeHost(" HTTPS://Smile.Example-Clinic.com:8443/booking ");
+    }
+}
@@ -0,0 +1,100 @@
+package com.clinic.modules.ecommerce.dto;
+
+import com.clinic.modules.core.tenant.TenantEntity;
+import com.clinic.modules.ecommerce.model.CategoryEntity;
+import com.clinic.modules.ecommerce.model.ProductCategoryEntity;
+import com.clinic.modules.ecommerce.model.ProductEntity;
+import com.clinic.modules.ecommerce.model.ProductImageEntity;
+import com.clinic.modules.ecommerce.model.ProductVariantEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity-to-response mapping for the public catalog: one fully loaded
+ * product, in English and Arabic, and a 24-product listing page.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PublicProductMappingBenchmark {
+
+    private static final int PAGE_SIZE = 24;
+
+    private ProductEntity product;
+    private List<ProductEntity> page;
+
+    @Setup
+    public void setUp() {
+        TenantEntity tenant = new TenantEntity("bench", "Bench Clinic");
+        List<CategoryEntity> categories = List.of(
+                new CategoryEntity(tenant, "Oral care", "oral-care"),
+                new CategoryEntity(tenant, "Whitening", "whitening"));
+
+        page = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            page.add(product(tenant, i, categories));
+        }
+        product = page.get(0);
+    }
+
+    @Benchmark
+    public PublicProductResponse mapProduct() {
+        return PublicProductResponse.fromEntity(product);
+    }
+
+    @Benchmark
+    public PublicProductResponse mapProductArabic() {
+        return PublicProductResponse.fromEntity(product, "ar-JO");
+    }
+
+    @Benchmark
+    public List<PublicProductResponse> mapPage() {
+        List<PublicProductResponse> responses = new ArrayList<>(page.size());
+        for (ProductEntity entity : page) {
+            responses.add(PublicProductResponse.fromEntity(entity, "en"));
+        }
+        return responses;
+    }
+
+    private static ProductEntity product(TenantEntity tenant, int index, List<CategoryEntity> categories) {
+        ProductEntity product = new ProductEntity(tenant, "Whitening kit " + index, "whitening-kit-" + index);
+        product.setNameAr("طقم تبييض " + index);
+        product.setDescription("Professional take-home whitening kit with custom trays.");
+        product.setShortDescription("Take-home whitening");
+        product.setPrice(new BigDecimal("89.00"));
+        product.setHasVariants(true);
+
+        for (int v = 0; v < 3; v++) {
+            product.addVariant(new ProductVariantEntity(product, tenant, "WK-" + index + "-" + v,
+                    "Size " + v, new BigDecimal("89.00").add(BigDecimal.TEN.multiply(BigDecimal.valueOf(v)))));
+        }
+        for (int m = 0; m < 4; m++) {
+            ProductImageEntity image = new ProductImageEntity(product, tenant,
+                    "https://cdn.example-clinic.com/products/" + index + "/" + m + ".webp", "Image " + m);
+            // Main image last so the mapping has to reorder
+            image.setSortOrder(4 - m);
+            image.setIsMain(m == 3);
+            product.addImage(image);
+        }
+        for (CategoryEntity category : categories) {
+            product.getProductCategories().add(new ProductCategoryEntity(product, category, tenant));
+        }
+        return product;
+    }
+}
@@ -0,0 +1,65 @@
+package com.clinic.modules.publicapi.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Slot generation for one availability window in the clinic zone, for a
+ * future day and for today with half of the window already past. Excludes
+ * the per-slot appointment conflict query.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AvailabilitySlotBenchmark {
+
+    @Param({"15", "30"})
+    public int slotMinutes;
+
+    private final ZoneId clinicZone = ZoneId.of("Asia/Amman");
+    private final LocalTime opening = LocalTime.of(9, 0);
+    private final LocalTime closing = LocalTime.of(17, 0);
+
+    private Duration slotDuration;
+    private LocalDate today;
+    private LocalDate nextWeek;
+    private Instant midday;
+
+    @Setup
+    public void setUp() {
+        slotDuration = Duration.ofMinutes(slotMinutes);
+        today = LocalDate.of(2025, 6, 16);
+        nextWeek = today.plusWeeks(1);
+        midday = today.atTime(13, 0).atZone(clinicZone).toInstant();
+    }
+
+    @Benchmark
+    public List<AvailabilityService.SlotWindow> futureDay() {
+        return AvailabilityService.slotWindows(nextWeek, opening, closing, slotDuration, clinicZone, today, midday);
+    }
+
+    @Benchmark
+    public List<AvailabilityService.SlotWindow> todayAfterMidday() {
+        return AvailabilityService.slotWindows(today, opening, closing, slotDuration, clinicZone, today, midday);
+    }
+}
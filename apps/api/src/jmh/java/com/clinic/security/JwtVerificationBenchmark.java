@@ -0,0 +1,103 @@
+package com.clinic.security;
+
+import com.clinic.config.SecurityProperties;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JOSEObjectType;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Staff access token verification as done on every authenticated request:
+ * parse, RS256 signature check against the cached public key, and claim
+ * validation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtVerificationBenchmark {
+
+    private static final String ISSUER = "https://api.example-clinic.com";
+
+    private RsaJwtVerifier verifier;
+    private SecurityProperties.Token staffToken;
+    private String token;
+
+    @Setup
+    public void setUp() throws Exception {
+        staffToken = new SecurityProperties.Token(
+                ISSUER,
+                "staff",
+                "classpath:keys/staff_public.pem",
+                "classpath:keys/staff_private.pem",
+                Duration.ofHours(1),
+                Duration.ofSeconds(30));
+        SecurityProperties securityProperties = new SecurityProperties();
+        securityProperties.setJwt(new SecurityProperties.Jwt(
+                new SecurityProperties.Token(), staffToken, new SecurityProperties.Token(), new SecurityProperties.Refresh()));
+
+        verifier = new RsaJwtVerifier(securityProperties);
+        token = sign(staffToken);
+        // Resolve and cache the public key outside the measurement
+        verifier.verify(token, staffToken);
+    }
+
+    @Benchmark
+    public JwtPrincipal verifyStaffToken() {
+        return verifier.verify(token, staffToken);
+    }
+
+    @Benchmark
+    public SignedJWT parseOnly() throws ParseException {
+        return SignedJWT.parse(token);
+    }
+
+    private static String sign(SecurityProperties.Token config) throws JOSEException {
+        RSAKey key;
+        try {
+            key = (RSAKey) JWK.parseFromPEMEncodedObjects(PemUtils.loadPem(config.privateKey()).trim());
+        } catch (Exception e) {
+            throw new IllegalStateException("Unable to load staff private key", e);
+        }
+
+        Instant now = Instant.now();
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+                .subject("42")
+                .issuer(config.issuer())
+                .audience(config.audience())
+                .issueTime(Date.from(now))
+                .expirationTime(Date.from(now.plus(Duration.ofDays(1))))
+                .claim("email", "bench@example-clinic.com")
+                .claim("roles", List.of("ROLE_ADMIN"))
+                .claim("tenantId", 1L)
+                .build();
+        SignedJWT jwt = new SignedJWT(
+                new JWSHeader.Builder(JWSAlgorithm.RS256).type(JOSEObjectType.JWT).build(), claims);
+        jwt.sign(new RSASSASigner(key));
+        return jwt.serialize();
+    }
+}
@@ -0,0 +1,64 @@
+package com.clinic.security;
+
+import com.clinic.config.SecurityProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request bucket update in {@link RateLimitingFilter}: a single hot
+ * client key, keys spread over many clients, and the hot key contended by
+ * several threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RateLimitingBenchmark {
+
+    private static final int CLIENTS = 10_000;
+
+    private RateLimitingFilter filter;
+    private SecurityProperties.Bucket bucket;
+    private String[] keys;
+
+    @Setup
+    public void setUp() {
+        filter = new RateLimitingFilter(new SecurityProperties());
+        bucket = new SecurityProperties.Bucket(10, Duration.ofMinutes(1));
+        keys = new String[CLIENTS];
+        for (int i = 0; i < CLIENTS; i++) {
+            keys[i] = "/public/book:10.0." + (i >> 8) + "." + (i & 0xff);
+        }
+    }
+
+    @Benchmark
+    public boolean singleClient() {
+        return filter.allowRequest(keys[0], bucket);
+    }
+
+    @Benchmark
+    public boolean manyClients() {
+        return filter.allowRequest(keys[ThreadLocalRandom.current().nextInt(CLIENTS)], bucket);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean singleClientContended() {
+        return filter.allowRequest(keys[0], bucket);
+    }
+}
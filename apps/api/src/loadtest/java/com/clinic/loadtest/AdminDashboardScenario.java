@@ -0,0 +1,57 @@
+package com.clinic.loadtest;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Clinic staff opening the admin app: dashboard widgets, a report over a
+ * random window of the seeded history, and the first pages of the busiest
+ * lists.
+ */
+final class AdminDashboardScenario implements LoadScenario {
+
+    private final Map<String, String> tokensBySlug = new ConcurrentHashMap<>();
+
+    @Override
+    public String name() {
+        return "admin";
+    }
+
+    @Override
+    public void prepare(ApiClient client, DatasetManifest dataset) {
+        // Staff login is rate limited per address, so each tenant logs in from its own
+        Random random = new Random(dataset.seed());
+        for (DatasetManifest.Tenant tenant : dataset.tenants()) {
+            ApiClient.Caller caller = new ApiClient.Caller(tenant.slug(), null, LoadScenario.visitorIp(random));
+            ApiClient.Result login = client.post("admin-login", caller, "/admin/auth/login",
+                    Map.of("email", tenant.adminEmail(), "password", dataset.password()));
+            String token = login.body().path("accessToken").asText(null);
+            if (token == null) {
+                throw new IllegalStateException("Admin login failed for " + tenant.slug() + " (HTTP " + login.status() + ")");
+            }
+            tokensBySlug.put(tenant.slug(), token);
+        }
+    }
+
+    @Override
+    public void iterate(ApiClient client, DatasetManifest dataset, Random random) {
+        DatasetManifest.Tenant tenant = LoadScenario.anyTenant(dataset, random);
+        ApiClient.Caller staff = new ApiClient.Caller(tenant.slug(), tokensBySlug.get(tenant.slug()),
+                LoadScenario.visitorIp(random));
+
+        client.get("dashboard-summary", staff, "/admin/dashboard/summary");
+        client.get("team-on-call", staff, "/admin/dashboard/team-on-call");
+
+        LocalDate reportEnd = dataset.asOf().minusDays(random.nextInt(365));
+        LocalDate reportStart = reportEnd.minusDays(random.nextBoolean() ? 30 : 90);
+        String range = "startDate=" + reportStart + "&endDate=" + reportEnd;
+        client.get("report-metrics", staff, "/admin/reports/metrics?" + range);
+        client.get("expenses", staff, "/admin/expenses?" + range);
+
+        client.get("appointments", staff, "/admin/appointments?page=" + random.nextInt(3) + "&size=20");
+        client.get("patients", staff, "/admin/patients?page=" + random.nextInt(3) + "&size=20");
+        client.get("treatment-plans", staff, "/admin/treatment-plans?limit=20");
+    }
+}
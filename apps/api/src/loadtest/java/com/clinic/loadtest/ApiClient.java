@@ -0,0 +1,172 @@
+package com.clinic.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.MissingNode;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thin JSON client over {@link HttpClient} that times every call against a
+ * named step. Steps are recorded only while {@link #measuring} is set, so
+ * warm-up traffic never reaches the report.
+ */
+final class ApiClient {
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final String baseUrl;
+    private final Map<String, LatencyRecorder> steps = new ConcurrentHashMap<>();
+    private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+    private volatile LatencyRecorder total = new LatencyRecorder();
+    private volatile boolean measuring;
+
+    ApiClient(String baseUrl, ObjectMapper objectMapper) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.objectMapper = objectMapper;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    /**
+     * Identity and routing headers sent with a call.
+     *
+     * @param tenantSlug  sent as {@code X-Tenant-Slug}, or {@code null}
+     * @param bearerToken sent as {@code Authorization}, or {@code null}
+     * @param clientIp    sent as {@code X-Forwarded-For} so per-IP rate limits
+     *                    see one simulated visitor rather than the load generator
+     */
+    record Caller(String tenantSlug, String bearerToken, String clientIp) {
+
+        Caller withToken(String token) {
+            return new Caller(tenantSlug, token, clientIp);
+        }
+    }
+
+    /**
+     * Response status and body, with any {@code {success, data}} envelope
+     * already unwrapped.
+     */
+    record Result(int status, JsonNode body) {
+
+        boolean ok() {
+            return status >= 200 && status < 300;
+        }
+    }
+
+    Result get(String step, Caller caller, String path) {
+        return send(step, caller, request(caller, path).GET());
+    }
+
+    Result post(String step, Caller caller, String path, Object body) {
+        return post(step, caller, path, body, Map.of());
+    }
+
+    Result post(String step, Caller caller, String path, Object body, Map<String, String> headers) {
+        HttpRequest.Builder builder = request(caller, path)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(write(body)));
+        headers.forEach(builder::header);
+        return send(step, caller, builder);
+    }
+
+    void startMeasuring() {
+        steps.clear();
+        statuses.clear();
+        total = new LatencyRecorder();
+        measuring = true;
+    }
+
+    void stopMeasuring() {
+        measuring = false;
+    }
+
+    /**
+     * Every measured call, across steps.
+     */
+    LatencyRecorder total() {
+        return total;
+    }
+
+    Map<String, LatencyRecorder> steps() {
+        return steps;
+    }
+
+    Map<Integer, LongAdder> statuses() {
+        return statuses;
+    }
+
+    private HttpRequest.Builder request(Caller caller, String path) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Accept", "application/json");
+        if (caller.tenantSlug() != null) {
+            builder.header("X-Tenant-Slug", caller.tenantSlug());
+        }
+        if (caller.bearerToken() != null) {
+            builder.header("Authorization", "Bearer " + caller.bearerToken());
+        }
+        if (caller.clientIp() != null) {
+            builder.header("X-Forwarded-For", caller.clientIp());
+        }
+        return builder;
+    }
+
+    private Result send(String step, Caller caller, HttpRequest.Builder builder) {
+        long started = System.nanoTime();
+        int status;
+        String body;
+        try {
+            HttpResponse<String> response = httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofString());
+            status = response.statusCode();
+            body = response.body();
+        } catch (IOException e) {
+            status = 0;
+            body = null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            status = 0;
+            body = null;
+        }
+        long elapsed = System.nanoTime() - started;
+        if (measuring) {
+            boolean success = status >= 200 && status < 400;
+            steps.computeIfAbsent(step, key -> new LatencyRecorder()).record(elapsed, success);
+            total.record(elapsed, success);
+            statuses.computeIfAbsent(status, key -> new LongAdder()).increment();
+        }
+        return new Result(status, parse(body));
+    }
+
+    private JsonNode parse(String body) {
+        if (body == null || body.isBlank()) {
+            return MissingNode.getInstance();
+        }
+        try {
+            JsonNode node = objectMapper.readTree(body);
+            if (node.isObject() && node.has("success") && node.has("data")) {
+                return node.get("data");
+            }
+            return node;
+        } catch (IOException e) {
+            return MissingNode.getInstance();
+        }
+    }
+
+    private String write(Object body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Request body is not serializable", e);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.clinic.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Public booking funnel: browse services, pick a doctor, check a day's
+ * availability, and for roughly one visitor in four log in and book one of
+ * the offered slots.
+ */
+final class BookingFunnelScenario implements LoadScenario {
+
+    private static final ZoneId CLINIC_ZONE = ZoneId.of("Asia/Amman");
+    private static final int CONVERSION_PERCENT = 25;
+
+    @Override
+    public String name() {
+        return "booking";
+    }
+
+    @Override
+    public void iterate(ApiClient client, DatasetManifest dataset, Random random) {
+        DatasetManifest.Tenant tenant = LoadScenario.anyTenant(dataset, random);
+        ApiClient.Caller visitor = new ApiClient.Caller(tenant.slug(), null, LoadScenario.visitorIp(random));
+
+        ApiClient.Result services = client.get("services", visitor, "/public/services");
+        JsonNode service = pick(services.body(), random);
+        if (service == null) {
+            return;
+        }
+        String serviceSlug = service.path("slug").asText();
+
+        ApiClient.Result doctors = client.get("doctors", visitor,
+                "/public/doctors?service=" + URLEncoder.encode(serviceSlug, StandardCharsets.UTF_8));
+        JsonNode doctor = pick(doctors.body(), random);
+        if (doctor == null) {
+            return;
+        }
+        long doctorId = doctor.path("id").asLong();
+
+        LocalDate date = LocalDate.now(CLINIC_ZONE).plusDays(1 + random.nextInt(14));
+        ApiClient.Result availability = client.post("availability", visitor, "/public/availability",
+                Map.of("serviceSlug", serviceSlug, "doctorId", doctorId, "date", date.toString()));
+        JsonNode slot = pick(availability.body(), random);
+        if (slot == null || random.nextInt(100) >= CONVERSION_PERCENT || tenant.patientEmails().isEmpty()) {
+            return;
+        }
+
+        String email = tenant.patientEmails().get(random.nextInt(tenant.patientEmails().size()));
+        ApiClient.Result login = client.post("patient-login", visitor, "/public/auth/login",
+                Map.of("email", email, "password", dataset.password()));
+        String token = login.body().path("accessToken").asText(null);
+        if (token == null) {
+            return;
+        }
+        client.post("book", visitor.withToken(token), "/public/bookings", Map.of(
+                "serviceSlug", serviceSlug,
+                "doctorId", doctorId,
+                "slot", slot.path("start").asText(),
+                "bookingMode", "CLINIC_VISIT",
+                "notes", "Load test booking"));
+    }
+
+    private static JsonNode pick(JsonNode array, Random random) {
+        if (array == null || !array.isArray() || array.isEmpty()) {
+            return null;
+        }
+        return array.get(random.nextInt(array.size()));
+    }
+}
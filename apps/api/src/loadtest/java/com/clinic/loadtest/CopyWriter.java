@@ -0,0 +1,91 @@
+package com.clinic.loadtest;
+
+import org.postgresql.copy.CopyManager;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.sql.SQLException;
+
+/**
+ * Buffers rows for one table and streams them with {@code COPY ... FROM STDIN}
+ * in PostgreSQL text format, flushing every {@value #FLUSH_ROWS} rows.
+ */
+final class CopyWriter implements AutoCloseable {
+
+    private static final int FLUSH_ROWS = 50_000;
+
+    private final CopyManager copyManager;
+    private final String sql;
+    private final StringBuilder buffer = new StringBuilder(1 << 20);
+    private int pending;
+    private long written;
+
+    CopyWriter(CopyManager copyManager, String table, String... columns) {
+        this.copyManager = copyManager;
+        this.sql = "COPY " + table + " (" + String.join(", ", columns) + ") FROM STDIN";
+    }
+
+    void row(Object... values) throws SQLException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                buffer.append('\t');
+            }
+            append(values[i]);
+        }
+        buffer.append('\n');
+        if (++pending >= FLUSH_ROWS) {
+            flush();
+        }
+    }
+
+    long written() {
+        return written + pending;
+    }
+
+    @Override
+    public void close() throws SQLException {
+        flush();
+    }
+
+    private void flush() throws SQLException {
+        if (pending == 0) {
+            return;
+        }
+        try {
+            copyManager.copyIn(sql, new StringReader(buffer.toString()));
+        } catch (IOException e) {
+            throw new SQLException("COPY failed: " + sql, e);
+        }
+        written += pending;
+        pending = 0;
+        buffer.setLength(0);
+    }
+
+    private void append(Object value) {
+        if (value == null) {
+            buffer.append("\\N");
+        } else if (value instanceof Boolean bool) {
+            buffer.append(bool ? 't' : 'f');
+        } else if (value instanceof BigDecimal decimal) {
+            buffer.append(decimal.toPlainString());
+        } else if (value instanceof Number || value instanceof Enum<?>) {
+            buffer.append(value);
+        } else {
+            escape(value.toString());
+        }
+    }
+
+    private void escape(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '\\' -> buffer.append("\\\\");
+                case '\t' -> buffer.append("\\t");
+                case '\n' -> buffer.append("\\n");
+                case '\r' -> buffer.append("\\r");
+                default -> buffer.append(c);
+            }
+        }
+    }
+}
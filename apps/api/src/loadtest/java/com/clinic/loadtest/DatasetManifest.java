@@ -0,0 +1,41 @@
+package com.clinic.loadtest;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * What the seeder generated, written next to the build output so the
+ * scenario runner can log in and address the seeded tenants without
+ * querying the database.
+ *
+ * @param seed     random seed the dataset was generated from
+ * @param asOf     day the generated history ends on
+ * @param password password of every seeded staff user and patient
+ * @param tenants  seeded tenants, in generation order
+ */
+record DatasetManifest(long seed, double scale, LocalDate asOf, String password, List<Tenant> tenants) {
+
+    /**
+     * @param patientEmails a sample of the tenant's patients, for logins
+     */
+    record Tenant(long id,
+                  String slug,
+                  String adminEmail,
+                  String subscriptionId,
+                  List<String> patientEmails,
+                  Counts counts) {
+    }
+
+    /**
+     * Rows generated for one tenant.
+     */
+    record Counts(long doctors,
+                  long patients,
+                  long appointments,
+                  long treatmentPlans,
+                  long payments,
+                  long expenses,
+                  long products,
+                  long orders) {
+    }
+}
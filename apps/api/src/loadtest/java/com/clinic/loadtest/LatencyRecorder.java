@@ -0,0 +1,59 @@
+package com.clinic.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Collects raw request latencies for one scenario step. Samples are kept in
+ * full rather than bucketed, which is affordable for runs of a few minutes and
+ * gives exact percentiles.
+ */
+final class LatencyRecorder {
+
+    private long[] samples = new long[4096];
+    private int size;
+    private long errors;
+
+    synchronized void record(long elapsedNanos, boolean success) {
+        if (size == samples.length) {
+            samples = Arrays.copyOf(samples, size * 2);
+        }
+        samples[size++] = elapsedNanos;
+        if (!success) {
+            errors++;
+        }
+    }
+
+    synchronized Summary summarize(double elapsedSeconds) {
+        long[] sorted = Arrays.copyOf(samples, size);
+        Arrays.sort(sorted);
+        double mean = size == 0 ? 0 : Arrays.stream(sorted).average().orElse(0);
+        return new Summary(
+                size,
+                errors,
+                elapsedSeconds > 0 ? size / elapsedSeconds : 0,
+                millis(mean),
+                millis(percentile(sorted, 0.50)),
+                millis(percentile(sorted, 0.95)),
+                millis(percentile(sorted, 0.99)),
+                millis(size == 0 ? 0 : sorted[size - 1]));
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(rank, sorted.length - 1))];
+    }
+
+    private static double millis(double nanos) {
+        return Math.round(nanos / 10_000.0) / 100.0;
+    }
+
+    /**
+     * Latencies in milliseconds, throughput in requests per second.
+     */
+    record Summary(long requests, long errors, double throughput,
+                   double meanMs, double p50Ms, double p95Ms, double p99Ms, double maxMs) {
+    }
+}
@@ -0,0 +1,36 @@
+package com.clinic.loadtest;
+
+import java.util.Random;
+
+/**
+ * One scripted user journey. The runner calls {@link #prepare} once, then
+ * {@link #iterate} repeatedly from many worker threads for the warm-up and
+ * measurement windows.
+ */
+interface LoadScenario {
+
+    String name();
+
+    /**
+     * One-off setup such as logging in; calls made here are not measured.
+     */
+    default void prepare(ApiClient client, DatasetManifest dataset) {
+    }
+
+    /**
+     * Runs the journey once. {@code random} belongs to the calling worker.
+     */
+    void iterate(ApiClient client, DatasetManifest dataset, Random random);
+
+    /**
+     * A fresh {@code X-Forwarded-For} address per simulated visitor, from the
+     * 10.0.0.0/8 block.
+     */
+    static String visitorIp(Random random) {
+        return "10." + random.nextInt(256) + "." + random.nextInt(256) + "." + (1 + random.nextInt(254));
+    }
+
+    static DatasetManifest.Tenant anyTenant(DatasetManifest dataset, Random random) {
+        return dataset.tenants().get(random.nextInt(dataset.tenants().size()));
+    }
+}
@@ -0,0 +1,216 @@
+package com.clinic.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Drives the scripted scenarios against a running API seeded by
+ * {@link LoadTestDataGenerator}, one scenario at a time, and reports
+ * throughput, latency percentiles per step and the database statements the
+ * application issued per request.
+ * <p>
+ * Each scenario runs a warm-up window that is discarded, then a measured
+ * window, with {@code --concurrency} workers looping over the journey. The
+ * report is printed and written as JSON to {@code --out}.
+ */
+public final class LoadScenarioRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadScenarioRunner.class);
+
+    private final ApiClient client;
+    private final DatasetManifest dataset;
+    private final int concurrency;
+    private final Duration warmup;
+    private final Duration duration;
+    private final String saasToken;
+
+    LoadScenarioRunner(ApiClient client, DatasetManifest dataset, int concurrency, Duration warmup,
+                       Duration duration, String saasToken) {
+        this.client = client;
+        this.dataset = dataset;
+        this.concurrency = concurrency;
+        this.warmup = warmup;
+        this.duration = duration;
+        this.saasToken = saasToken;
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        ObjectMapper objectMapper = JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .build();
+        DatasetManifest dataset = LoadTestDataGenerator.readManifest(
+                Path.of(options.get("manifest", LoadTestDataGenerator.DEFAULT_MANIFEST)));
+        ApiClient client = new ApiClient(options.get("base-url", "LOADTEST_BASE_URL", "http://localhost:8080"), objectMapper);
+
+        String saasToken = saasLogin(client,
+                options.get("saas-email", "SAAS_DEFAULT_ADMIN_EMAIL", "saas.admin@example.com"),
+                options.get("saas-password", "SAAS_DEFAULT_ADMIN_PASSWORD", "saas-admin"));
+        LoadScenarioRunner runner = new LoadScenarioRunner(client, dataset,
+                options.getInt("concurrency", 16),
+                options.getDuration("warmup", Duration.ofSeconds(30)),
+                options.getDuration("duration", Duration.ofMinutes(2)),
+                saasToken);
+
+        List<ScenarioReport> reports = new ArrayList<>();
+        for (String name : options.getList("scenarios", "booking,storefront,admin,webhooks")) {
+            LoadScenario scenario = switch (name) {
+                case "booking" -> new BookingFunnelScenario();
+                case "storefront" -> new StorefrontScenario();
+                case "admin" -> new AdminDashboardScenario();
+                case "webhooks" -> new PayPalWebhookStormScenario(options.get("webhook-path", "/api/webhooks/paypal"));
+                default -> throw new IllegalArgumentException("Unknown scenario: " + name);
+            };
+            reports.add(runner.run(scenario));
+        }
+
+        RunReport report = new RunReport(Instant.now(), dataset.seed(), dataset.tenants().size(),
+                runner.concurrency, runner.warmup.toSeconds(), runner.duration.toSeconds(), reports);
+        print(report);
+        Path out = Path.of(options.get("out", "build/results/loadtest/results.json"));
+        write(objectMapper, out, report);
+        log.info("Load test report written to {}", out.toAbsolutePath());
+    }
+
+    ScenarioReport run(LoadScenario scenario) throws InterruptedException {
+        log.info("Scenario {}: preparing", scenario.name());
+        scenario.prepare(client, dataset);
+
+        log.info("Scenario {}: warming up for {}s", scenario.name(), warmup.toSeconds());
+        runWorkers(scenario, warmup);
+
+        RequestCostSnapshot before = costSnapshot();
+        log.info("Scenario {}: measuring for {}s with {} workers", scenario.name(), duration.toSeconds(), concurrency);
+        client.startMeasuring();
+        long started = System.nanoTime();
+        long[] outcome = runWorkers(scenario, duration);
+        double elapsedSeconds = (System.nanoTime() - started) / 1e9;
+        client.stopMeasuring();
+        RequestCostSnapshot after = costSnapshot();
+
+        Map<String, LatencyRecorder.Summary> steps = new TreeMap<>();
+        client.steps().forEach((step, recorder) -> steps.put(step, recorder.summarize(elapsedSeconds)));
+        Map<Integer, Long> statuses = new TreeMap<>();
+        client.statuses().forEach((status, count) -> statuses.put(status, count.sum()));
+
+        return new ScenarioReport(scenario.name(), outcome[0], outcome[1],
+                Math.round(outcome[0] / elapsedSeconds * 100.0) / 100.0,
+                client.total().summarize(elapsedSeconds), steps, statuses,
+                saasToken != null ? after.since(before) : null);
+    }
+
+    /**
+     * @return {@code [iterations, failed iterations]}
+     */
+    private long[] runWorkers(LoadScenario scenario, Duration window) throws InterruptedException {
+        LongAdder iterations = new LongAdder();
+        LongAdder failures = new LongAdder();
+        long deadline = System.nanoTime() + window.toNanos();
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        for (int w = 0; w < concurrency; w++) {
+            Random random = new Random(dataset.seed() * 31 + scenario.name().hashCode() * 17L + w);
+            workers.execute(() -> {
+                while (System.nanoTime() < deadline) {
+                    try {
+                        scenario.iterate(client, dataset, random);
+                    } catch (RuntimeException e) {
+                        failures.increment();
+                        log.debug("Scenario {} iteration failed", scenario.name(), e);
+                    }
+                    iterations.increment();
+                }
+            });
+        }
+        workers.shutdown();
+        if (!workers.awaitTermination(window.toSeconds() + 60, TimeUnit.SECONDS)) {
+            workers.shutdownNow();
+        }
+        return new long[]{iterations.sum(), failures.sum()};
+    }
+
+    private RequestCostSnapshot costSnapshot() {
+        if (saasToken == null) {
+            return RequestCostSnapshot.empty();
+        }
+        ApiClient.Result costs = client.get("saas-costs", new ApiClient.Caller(null, saasToken, null), RequestCostSnapshot.PATH);
+        return costs.ok() ? RequestCostSnapshot.from(costs.body()) : RequestCostSnapshot.empty();
+    }
+
+    private static String saasLogin(ApiClient client, String email, String password) {
+        ApiClient.Result login = client.post("saas-login", new ApiClient.Caller(null, null, null), "/saas/auth/login",
+                Map.of("email", email, "password", password));
+        String token = login.body().path("accessToken").asText(null);
+        if (token == null) {
+            log.warn("SaaS manager login failed (HTTP {}); database query counts will be omitted", login.status());
+        }
+        return token;
+    }
+
+    private static void print(RunReport report) {
+        System.out.printf(Locale.ROOT, "%n%-12s %-28s %9s %7s %9s %9s %9s %9s %9s%n",
+                "scenario", "step", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms");
+        for (ScenarioReport scenario : report.scenarios()) {
+            printRow(scenario.name(), "(all)", scenario.overall());
+            scenario.steps().forEach((step, summary) -> printRow("", step, summary));
+            RequestCostSnapshot.DbCost db = scenario.database();
+            if (db != null) {
+                System.out.printf(Locale.ROOT, "%-12s db: %d statements over %d requests (%.2f/request), %d ms SQL, %d N+1 requests%n",
+                        "", db.statements(), db.requests(), db.statementsPerRequest(), db.sqlTimeMs(), db.nPlusOneRequests());
+            }
+            System.out.printf(Locale.ROOT, "%-12s iterations: %d (%.2f/s, %d failed), statuses: %s%n%n",
+                    "", scenario.iterations(), scenario.iterationsPerSecond(), scenario.failedIterations(),
+                    scenario.statuses());
+        }
+    }
+
+    private static void printRow(String scenario, String step, LatencyRecorder.Summary summary) {
+        System.out.printf(Locale.ROOT, "%-12s %-28s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                scenario, step, summary.requests(), summary.errors(), summary.throughput(),
+                summary.p50Ms(), summary.p95Ms(), summary.p99Ms(), summary.maxMs());
+    }
+
+    private static void write(ObjectMapper objectMapper, Path out, RunReport report) throws IOException {
+        if (out.getParent() != null) {
+            Files.createDirectories(out.getParent());
+        }
+        objectMapper.writeValue(out.toFile(), report);
+    }
+
+    record RunReport(Instant finishedAt, long seed, int tenants, int concurrency, long warmupSeconds,
+                     long durationSeconds, List<ScenarioReport> scenarios) {
+    }
+
+    /**
+     * @param database {@code null} when the SaaS manager login was not available
+     */
+    record ScenarioReport(String name,
+                          long iterations,
+                          long failedIterations,
+                          double iterationsPerSecond,
+                          LatencyRecorder.Summary overall,
+                          Map<String, LatencyRecorder.Summary> steps,
+                          Map<Integer, Long> statuses,
+                          RequestCostSnapshot.DbCost database) {
+    }
+}
@@ -0,0 +1,588 @@
+package com.clinic.loadtest;
+
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.postgresql.copy.CopyManager;
+import org.postgresql.core.BaseConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Seeds N tenants with a few years of clinic and storefront history, streamed
+ * straight into PostgreSQL with {@code COPY}.
+ * <p>
+ * The dataset is a pure function of {@code --seed}, {@code --tenants},
+ * {@code --scale}, {@code --years} and {@code --as-of} (all recorded in the
+ * manifest), so two runs against empty databases produce the same rows. Primary keys
+ * are drawn from each table's own sequence, so inserts by a running application,
+ * during or after seeding, cannot collide with seeded rows.
+ * <p>
+ * Volumes per tenant at {@code --scale=1}: 12 doctors, 10 services, 4000
+ * patients, about five appointments per doctor per working day, treatment
+ * plans for a quarter of the patients with their visits and payments, about
+ * ten expenses a week, 250 products and about five orders a day.
+ */
+public final class LoadTestDataGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadTestDataGenerator.class);
+
+    static final String DEFAULT_MANIFEST = "build/loadtest/dataset.json";
+
+    private static final ZoneId CLINIC_ZONE = ZoneId.of("Asia/Amman");
+    private static final String CURRENCY = "USD";
+    private static final int SLOT_MINUTES = 30;
+    private static final LocalTime DAY_START = LocalTime.of(9, 0);
+    private static final LocalTime DAY_END = LocalTime.of(17, 0);
+    private static final int SLOTS_PER_DAY = 16;
+    private static final int MANIFEST_PATIENT_SAMPLE = 500;
+
+    private static final List<DayOfWeek> WORKING_DAYS = List.of(
+            DayOfWeek.SUNDAY, DayOfWeek.MONDAY, DayOfWeek.TUESDAY, DayOfWeek.WEDNESDAY, DayOfWeek.THURSDAY);
+
+    private static final String[] FIRST_NAMES = {
+            "Ahmad", "Lina", "Omar", "Rania", "Khaled", "Sara", "Yousef", "Noor", "Hamza", "Dana",
+            "Tariq", "Maya", "Faris", "Huda", "Zaid", "Leen", "Sami", "Jana", "Bilal", "Reem"
+    };
+    private static final String[] LAST_NAMES = {
+            "Haddad", "Khoury", "Nasser", "Saleh", "Masri", "Qasem", "Odeh", "Hijazi", "Awad", "Zoubi",
+            "Shami", "Taha", "Rashid", "Halabi", "Jaber"
+    };
+    private static final String[][] SERVICES = {
+            {"general-checkup", "General check-up", "فحص عام"},
+            {"teeth-cleaning", "Teeth cleaning", "تنظيف الأسنان"},
+            {"teeth-whitening", "Teeth whitening", "تبييض الأسنان"},
+            {"dental-implants", "Dental implants", "زراعة الأسنان"},
+            {"orthodontics", "Orthodontics", "تقويم الأسنان"},
+            {"root-canal", "Root canal treatment", "علاج العصب"},
+            {"veneers", "Veneers", "القشور"},
+            {"pediatric-dentistry", "Pediatric dentistry", "طب أسنان الأطفال"},
+            {"gum-treatment", "Gum treatment", "علاج اللثة"},
+            {"oral-surgery", "Oral surgery", "جراحة الفم"}
+    };
+    private static final String[] SPECIALTIES = {
+            "General dentistry", "Orthodontics", "Endodontics", "Periodontics", "Prosthodontics", "Oral surgery"
+    };
+    private static final String[] EXPENSE_CATEGORIES = {
+            "Rent", "Salaries", "Dental supplies", "Lab fees", "Utilities", "Marketing", "Equipment maintenance", "Insurance"
+    };
+    private static final String[] PRODUCT_CATEGORIES = {
+            "Toothbrushes", "Toothpaste", "Floss", "Mouthwash", "Whitening", "Kids", "Orthodontic care",
+            "Electric brushes", "Travel kits", "Denture care", "Sensitive teeth", "Gift sets"
+    };
+    private static final String[] PAYMENT_METHODS = {"CASH", "CARD", "CARD", "POS", "BANK_TRANSFER", "CASH"};
+    private static final String[] PLAN_TIERS = {"BASIC", "PROFESSIONAL", "PROFESSIONAL", "ENTERPRISE"};
+    private static final DateTimeFormatter ORDER_DAY = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final Connection connection;
+    private final CopyManager copyManager;
+    private final long seed;
+    private final double scale;
+    private final int years;
+    private final LocalDate asOf;
+    private final String passwordHash;
+
+    LoadTestDataGenerator(Connection connection, long seed, double scale, int years, LocalDate asOf,
+                          String passwordHash) throws SQLException {
+        this.connection = connection;
+        this.copyManager = new CopyManager(connection.unwrap(BaseConnection.class));
+        this.seed = seed;
+        this.scale = scale;
+        this.years = years;
+        this.asOf = asOf;
+        this.passwordHash = passwordHash;
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        int tenants = options.getInt("tenants", 5);
+        double scale = options.getDouble("scale", 1.0);
+        long seed = options.getLong("seed", 42L);
+        int years = options.getInt("years", 3);
+        // Defaults to today so the booking funnel finds open future slots; pin it to replay a dataset exactly
+        LocalDate asOf = LocalDate.parse(options.get("as-of", LocalDate.now(CLINIC_ZONE).toString()));
+        String slugPrefix = options.get("slug-prefix", "loadtest");
+        String password = options.get("password", "LoadTest123!");
+        Path manifestPath = Path.of(options.get("manifest", DEFAULT_MANIFEST));
+        String url = options.get("jdbc-url", "SPRING_DATASOURCE_URL", "jdbc:postgresql://localhost:5432/clinic");
+        String user = options.get("jdbc-user", "SPRING_DATASOURCE_USERNAME", "postgres");
+        String jdbcPassword = options.get("jdbc-password", "SPRING_DATASOURCE_PASSWORD", "postgres");
+
+        long started = System.nanoTime();
+        try (Connection connection = DriverManager.getConnection(url, user, jdbcPassword)) {
+            connection.setAutoCommit(false);
+            ensureNotSeeded(connection, slugPrefix);
+
+            // One hash for every seeded account; BCrypt per row would dominate the run
+            String passwordHash = new BCryptPasswordEncoder().encode(password);
+            LoadTestDataGenerator generator = new LoadTestDataGenerator(connection, seed, scale, years, asOf, passwordHash);
+
+            List<DatasetManifest.Tenant> seeded = new ArrayList<>(tenants);
+            for (int i = 0; i < tenants; i++) {
+                String slug = String.format(Locale.ROOT, "%s-%03d", slugPrefix, i + 1);
+                DatasetManifest.Tenant tenant = generator.seedTenant(i, slug);
+                connection.commit();
+                seeded.add(tenant);
+                log.info("Seeded tenant {} ({}/{}): {}", slug, i + 1, tenants, tenant.counts());
+            }
+
+            connection.setAutoCommit(true);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("ANALYZE");
+            }
+
+            writeManifest(manifestPath, new DatasetManifest(seed, scale, asOf, password, seeded));
+        }
+        log.info("Seeded {} tenants in {}s; manifest written to {}",
+                tenants, (System.nanoTime() - started) / 1_000_000_000L, manifestPath.toAbsolutePath());
+    }
+
+    static DatasetManifest readManifest(Path path) throws IOException {
+        return manifestMapper().readValue(path.toFile(), DatasetManifest.class);
+    }
+
+    private static void writeManifest(Path path, DatasetManifest manifest) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        manifestMapper().writeValue(path.toFile(), manifest);
+    }
+
+    private static JsonMapper manifestMapper() {
+        return JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .build();
+    }
+
+    private static void ensureNotSeeded(Connection connection, String slugPrefix) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT COUNT(*) FROM tenants WHERE slug LIKE ?")) {
+            statement.setString(1, slugPrefix + "-%");
+            try (ResultSet rs = statement.executeQuery()) {
+                rs.next();
+                if (rs.getLong(1) > 0) {
+                    throw new IllegalStateException("Tenants with slug prefix '" + slugPrefix
+                            + "' already exist; seed into an empty database or pass a different --slug-prefix");
+                }
+            }
+        }
+    }
+
+    DatasetManifest.Tenant seedTenant(int index, String slug) throws SQLException {
+        Random random = new Random(seed * 1_000_003L + index);
+        LocalDate historyStart = asOf.minusYears(years);
+        OffsetDateTime tenantCreated = historyStart.minusDays(7).atTime(10, 0).atZone(CLINIC_ZONE).toOffsetDateTime();
+        String domain = slug + ".loadtest.example";
+
+        long tenantId = reserveIds("tenants", 1)[0];
+        String clinicName = "Load Test Clinic " + slug.substring(slug.lastIndexOf('-') + 1);
+        try (CopyWriter tenants = new CopyWriter(copyManager, "tenants",
+                "id", "slug", "name", "status", "billing_status", "ecommerce_enabled", "created_at", "updated_at")) {
+            tenants.row(tenantId, slug, clinicName, "ACTIVE", "ACTIVE", true, tenantCreated, tenantCreated);
+        }
+        try (CopyWriter settings = new CopyWriter(copyManager, "clinic_settings",
+                "tenant_id", "clinic_name", "currency", "slot_duration_minutes", "timezone", "created_at", "updated_at")) {
+            settings.row(tenantId, clinicName, CURRENCY, SLOT_MINUTES, CLINIC_ZONE.getId(),
+                    tenantCreated.toLocalDateTime(), tenantCreated.toLocalDateTime());
+        }
+        String subscriptionId = "I-" + slug.toUpperCase(Locale.ROOT).replace("-", "");
+        try (CopyWriter subscriptions = new CopyWriter(copyManager, "subscriptions",
+                "tenant_id", "provider", "paypal_subscription_id", "status", "plan_tier",
+                "current_period_start", "current_period_end", "created_at", "updated_at")) {
+            OffsetDateTime periodStart = asOf.withDayOfMonth(1).atStartOfDay(CLINIC_ZONE).toOffsetDateTime();
+            subscriptions.row(tenantId, "paypal", subscriptionId, "ACTIVE", PLAN_TIERS[index % PLAN_TIERS.length],
+                    periodStart, periodStart.plusMonths(1), tenantCreated, tenantCreated);
+        }
+        String adminEmail = "admin@" + domain;
+        try (CopyWriter staff = new CopyWriter(copyManager, "staff_users",
+                "tenant_id", "email", "full_name", "role", "password_hash", "status", "created_at")) {
+            staff.row(tenantId, adminEmail, "Load Test Admin", "ADMIN", passwordHash, "ACTIVE", tenantCreated);
+        }
+
+        long[] serviceIds = seedServices(tenantId, tenantCreated);
+        long[] doctorIds = seedDoctors(tenantId, domain, serviceIds, tenantCreated, random);
+        int patientCount = Math.max(50, (int) Math.round(4000 * scale));
+        long[] patientIds = seedPatients(tenantId, slug, domain, patientCount, historyStart, random);
+        long appointments = seedAppointments(tenantId, doctorIds, serviceIds, patientIds, historyStart, random);
+        long[] planStats = seedTreatmentPlans(tenantId, doctorIds, serviceIds, patientIds, historyStart, random);
+        long expenses = seedExpenses(tenantId, historyStart, random);
+        ProductCatalog catalog = seedCatalog(tenantId, tenantCreated, random);
+        long orders = seedOrders(tenantId, domain, catalog, historyStart, random);
+
+        List<String> patientEmails = new ArrayList<>();
+        for (int n = 0; n < Math.min(MANIFEST_PATIENT_SAMPLE, patientCount); n++) {
+            patientEmails.add(patientEmail(n, domain));
+        }
+        DatasetManifest.Counts counts = new DatasetManifest.Counts(doctorIds.length, patientCount, appointments,
+                planStats[0], planStats[1], expenses, catalog.productIds().length, orders);
+        return new DatasetManifest.Tenant(tenantId, slug, adminEmail, subscriptionId, patientEmails, counts);
+    }
+
+    private long[] seedServices(long tenantId, OffsetDateTime created) throws SQLException {
+        long[] ids = reserveIds("services", SERVICES.length);
+        try (CopyWriter services = new CopyWriter(copyManager, "services",
+                "id", "tenant_id", "slug", "name_en", "name_ar", "summary_en", "created_at")) {
+            for (int i = 0; i < SERVICES.length; i++) {
+                services.row(ids[i], tenantId, SERVICES[i][0], SERVICES[i][1], SERVICES[i][2],
+                        SERVICES[i][1] + " by our experienced team.", created);
+            }
+        }
+        return ids;
+    }
+
+    private long[] seedDoctors(long tenantId, String domain, long[] serviceIds, OffsetDateTime created,
+                               Random random) throws SQLException {
+        int count = Math.max(2, (int) Math.round(12 * scale));
+        long[] ids = reserveIds("doctors", count);
+        try (CopyWriter doctors = new CopyWriter(copyManager, "doctors",
+                "id", "tenant_id", "full_name_en", "full_name_ar", "specialty_en", "bio_en", "locale",
+                "email", "phone", "display_order", "is_active", "created_at");
+             CopyWriter doctorServices = new CopyWriter(copyManager, "doctor_services", "doctor_id", "service_id");
+             CopyWriter availability = new CopyWriter(copyManager, "doctor_availability",
+                     "doctor_id", "recurring_weekly", "day_of_week", "start_time", "end_time", "created_at", "updated_at")) {
+            for (int i = 0; i < count; i++) {
+                String name = "Dr. " + pick(FIRST_NAMES, random) + " " + pick(LAST_NAMES, random);
+                doctors.row(ids[i], tenantId, name, name, SPECIALTIES[i % SPECIALTIES.length],
+                        "Experienced clinician with a focus on patient comfort.", "en",
+                        "doctor" + (i + 1) + "@" + domain, phone(random), i, true, created);
+
+                // Every service stays bookable: doctor i always offers service i mod n, plus a few others
+                List<Long> offered = new ArrayList<>();
+                offered.add(serviceIds[i % serviceIds.length]);
+                while (offered.size() < 4) {
+                    long serviceId = serviceIds[random.nextInt(serviceIds.length)];
+                    if (!offered.contains(serviceId)) {
+                        offered.add(serviceId);
+                    }
+                }
+                for (long serviceId : offered) {
+                    doctorServices.row(ids[i], serviceId);
+                }
+                for (DayOfWeek day : WORKING_DAYS) {
+                    availability.row(ids[i], true, day, DAY_START, DAY_END, created, created);
+                }
+            }
+        }
+        return ids;
+    }
+
+    private long[] seedPatients(long tenantId, String slug, String domain, int count, LocalDate historyStart,
+                              Random random) throws SQLException {
+        long[] globalIds = reserveIds("global_patients", count);
+        long[] ids = reserveIds("patients", count);
+        long historyDays = historyStart.until(asOf, ChronoUnit.DAYS);
+        try (CopyWriter globalPatients = new CopyWriter(copyManager, "global_patients",
+                "id", "external_id", "email", "phone", "password_hash", "auth_provider", "created_at", "updated_at");
+             CopyWriter patients = new CopyWriter(copyManager, "patients",
+                     "id", "tenant_id", "global_patient_id", "external_id", "first_name", "last_name",
+                     "email", "phone", "created_at")) {
+            for (int n = 0; n < count; n++) {
+                String email = patientEmail(n, domain);
+                String phone = phone(random);
+                OffsetDateTime created = historyStart.plusDays(random.nextLong(historyDays))
+                        .atTime(8, 0).atZone(CLINIC_ZONE).toOffsetDateTime();
+                globalPatients.row(globalIds[n], "lt-" + slug + "-g" + n, email, phone, passwordHash,
+                        "LOCAL", created, created);
+                patients.row(ids[n], tenantId, globalIds[n], "lt-" + slug + "-p" + n,
+                        pick(FIRST_NAMES, random), pick(LAST_NAMES, random), email, phone, created);
+            }
+        }
+        return ids;
+    }
+
+    private long seedAppointments(long tenantId, long[] doctorIds, long[] serviceIds, long[] patientIds,
+                                  LocalDate historyStart, Random random) throws SQLException {
+        LocalDate end = asOf.plusDays(30);
+        List<Integer> slots = new ArrayList<>(SLOTS_PER_DAY);
+        for (int s = 0; s < SLOTS_PER_DAY; s++) {
+            slots.add(s);
+        }
+        try (CopyWriter appointments = new CopyWriter(copyManager, "appointments",
+                "tenant_id", "patient_id", "doctor_id", "service_id", "scheduled_at", "status", "booking_mode",
+                "source", "payment_collected", "patient_confirmed", "slot_duration_minutes", "created_at")) {
+            for (LocalDate day = historyStart; !day.isAfter(end); day = day.plusDays(1)) {
+                if (!WORKING_DAYS.contains(day.getDayOfWeek())) {
+                    continue;
+                }
+                boolean past = day.isBefore(asOf);
+                for (long doctorId : doctorIds) {
+                    // 1..9 bookings a day, averaging five
+                    int bookings = 1 + random.nextInt(9);
+                    Collections.shuffle(slots, random);
+                    for (int b = 0; b < bookings; b++) {
+                        OffsetDateTime scheduledAt = day.atTime(DAY_START.plusMinutes((long) slots.get(b) * SLOT_MINUTES))
+                                .atZone(CLINIC_ZONE).toOffsetDateTime();
+                        String status = past ? weighted(random, "COMPLETED", 80, "CANCELLED", 12, "CONFIRMED", 8)
+                                : weighted(random, "SCHEDULED", 70, "CONFIRMED", 25, "CANCELLED", 5);
+                        appointments.row(tenantId, patientIds[random.nextInt(patientIds.length)], doctorId,
+                                serviceIds[random.nextInt(serviceIds.length)], scheduledAt, status, "CLINIC_VISIT",
+                                weighted(random, "WEB", 60, "ADMIN", 30, "PHONE", 10),
+                                past && "COMPLETED".equals(status), !"SCHEDULED".equals(status), SLOT_MINUTES,
+                                scheduledAt.minusDays(1 + random.nextInt(14)));
+                    }
+                }
+            }
+            return appointments.written();
+        }
+    }
+
+    /**
+     * @return {@code [plans, payments]}
+     */
+    private long[] seedTreatmentPlans(long tenantId, long[] doctorIds, long[] serviceIds, long[] patientIds,
+                                      LocalDate historyStart, Random random) throws SQLException {
+        int planCount = patientIds.length / 4;
+        long historyDays = historyStart.until(asOf, ChronoUnit.DAYS);
+        long[] planIds = reserveIds("treatment_plans", planCount);
+
+        // Visits are generated up front so their ids can be reserved in one statement
+        List<Object[]> visits = new ArrayList<>();
+        try (CopyWriter plans = new CopyWriter(copyManager, "treatment_plans",
+                "id", "tenant_id", "patient_id", "doctor_id", "treatment_type_id", "total_price", "currency",
+                "planned_followups", "completed_visits", "status", "followup_cadence",
+                "created_at", "updated_at", "started_at", "completed_at")) {
+            for (int p = 0; p < planCount; p++) {
+                long planId = planIds[p];
+                LocalDateTime started = historyStart.plusDays(random.nextLong(historyDays)).atTime(10, 0);
+                boolean monthly = random.nextInt(3) == 0;
+                int planned = 3 + random.nextInt(6);
+                int done = 0;
+                LocalDateTime visitAt = started;
+                while (done < planned && visitAt.toLocalDate().isBefore(asOf)) {
+                    visits.add(new Object[]{planId, done + 1, visitAt});
+                    done++;
+                    visitAt = monthly ? visitAt.plusMonths(1) : visitAt.plusWeeks(1);
+                }
+                String status = random.nextInt(20) == 0 ? "CANCELLED"
+                        : done == planned ? "COMPLETED" : done > 0 ? "IN_PROGRESS" : "PLANNED";
+                LocalDateTime lastTouched = done > 0 ? (LocalDateTime) visits.get(visits.size() - 1)[2] : started;
+                plans.row(planId, tenantId, patientIds[random.nextInt(patientIds.length)],
+                        doctorIds[random.nextInt(doctorIds.length)], serviceIds[random.nextInt(serviceIds.length)],
+                        money(random, 200, 3000), CURRENCY, planned, done, status, monthly ? "MONTHLY" : "WEEKLY",
+                        started, lastTouched, done > 0 ? started : null,
+                        "COMPLETED".equals(status) ? lastTouched : null);
+            }
+        }
+
+        long[] visitIds = reserveIds("followup_visits", visits.size());
+        try (CopyWriter followups = new CopyWriter(copyManager, "followup_visits",
+                "id", "treatment_plan_id", "visit_number", "visit_date", "created_at", "updated_at");
+             CopyWriter payments = new CopyWriter(copyManager, "payments",
+                     "visit_id", "amount", "currency", "payment_method", "payment_date", "created_at")) {
+            for (int v = 0; v < visits.size(); v++) {
+                Object[] visit = visits.get(v);
+                long visitId = visitIds[v];
+                followups.row(visitId, visit[0], visit[1], visit[2], visit[2], visit[2]);
+                if (random.nextInt(10) < 7) {
+                    payments.row(visitId, money(random, 30, 400), CURRENCY, pick(PAYMENT_METHODS, random),
+                            visit[2], visit[2]);
+                }
+            }
+            return new long[]{planCount, payments.written()};
+        }
+    }
+
+    private long seedExpenses(long tenantId, LocalDate historyStart, Random random) throws SQLException {
+        long[] categoryIds = reserveIds("expense_categories", EXPENSE_CATEGORIES.length);
+        try (CopyWriter categories = new CopyWriter(copyManager, "expense_categories",
+                "id", "tenant_id", "name", "is_system", "is_active")) {
+            for (int c = 0; c < EXPENSE_CATEGORIES.length; c++) {
+                categories.row(categoryIds[c], tenantId, EXPENSE_CATEGORIES[c], false, true);
+            }
+        }
+        int perWeek = Math.max(1, (int) Math.round(10 * scale));
+        try (CopyWriter expenses = new CopyWriter(copyManager, "expenses",
+                "tenant_id", "category_id", "amount", "expense_date", "notes")) {
+            for (LocalDate week = historyStart; week.isBefore(asOf); week = week.plusWeeks(1)) {
+                for (int e = 0; e < perWeek; e++) {
+                    expenses.row(tenantId, categoryIds[random.nextInt(categoryIds.length)],
+                            money(random, 10, 1500), week.plusDays(random.nextInt(7)), "Load test expense");
+                }
+            }
+            return expenses.written();
+        }
+    }
+
+    private record ProductCatalog(long[] productIds, String[] names, String[] skus, BigDecimal[] prices) {
+    }
+
+    private ProductCatalog seedCatalog(long tenantId, OffsetDateTime created, Random random) throws SQLException {
+        long[] categoryIds = reserveIds("categories", PRODUCT_CATEGORIES.length);
+        try (CopyWriter categories = new CopyWriter(copyManager, "categories",
+                "id", "tenant_id", "name", "slug", "sort_order", "is_active", "path", "depth")) {
+            for (int c = 0; c < PRODUCT_CATEGORIES.length; c++) {
+                long id = categoryIds[c];
+                categories.row(id, tenantId, PRODUCT_CATEGORIES[c], slugify(PRODUCT_CATEGORIES[c]), c, true,
+                        "/" + id + "/", 0);
+            }
+        }
+
+        int count = Math.max(10, (int) Math.round(250 * scale));
+        ProductCatalog catalog = new ProductCatalog(reserveIds("products", count), new String[count],
+                new String[count], new BigDecimal[count]);
+        try (CopyWriter products = new CopyWriter(copyManager, "products",
+                "id", "tenant_id", "name", "name_ar", "slug", "sku", "description", "short_description", "status",
+                "product_type", "price", "currency", "has_variants", "is_taxable", "is_visible", "created_at", "updated_at");
+             CopyWriter productCategories = new CopyWriter(copyManager, "product_categories",
+                     "product_id", "category_id", "tenant_id")) {
+            for (int p = 0; p < count; p++) {
+                long id = catalog.productIds()[p];
+                int category = p % PRODUCT_CATEGORIES.length;
+                String name = PRODUCT_CATEGORIES[category] + " item " + (p + 1);
+                catalog.names()[p] = name;
+                catalog.skus()[p] = String.format(Locale.ROOT, "LT-%05d", p + 1);
+                catalog.prices()[p] = money(random, 3, 120);
+                // One in ten products is a draft, so listings exercise the status filter
+                String status = p % 10 == 9 ? "DRAFT" : "ACTIVE";
+                products.row(id, tenantId, name, "منتج " + (p + 1), slugify(name), catalog.skus()[p],
+                        "Everyday " + PRODUCT_CATEGORIES[category].toLowerCase(Locale.ROOT) + " product for home care.",
+                        "Recommended by our dentists", status, "SIMPLE", catalog.prices()[p], CURRENCY,
+                        false, true, true, created, created);
+                productCategories.row(id, categoryIds[category], tenantId);
+                if (random.nextInt(4) == 0) {
+                    int extra = (category + 1 + random.nextInt(PRODUCT_CATEGORIES.length - 1)) % PRODUCT_CATEGORIES.length;
+                    productCategories.row(id, categoryIds[extra], tenantId);
+                }
+            }
+        }
+        return catalog;
+    }
+
+    private long seedOrders(long tenantId, String domain, ProductCatalog catalog, LocalDate historyStart,
+                            Random random) throws SQLException {
+        int perDayMean = Math.max(1, (int) Math.round(5 * scale));
+        List<Object[]> orders = new ArrayList<>();
+        for (LocalDate day = historyStart; day.isBefore(asOf); day = day.plusDays(1)) {
+            int today = random.nextInt(2 * perDayMean + 1);
+            for (int o = 0; o < today; o++) {
+                orders.add(new Object[]{day, o + 1});
+            }
+        }
+
+        long[] orderIds = reserveIds("orders", orders.size());
+        try (CopyWriter orderRows = new CopyWriter(copyManager, "orders",
+                "id", "tenant_id", "order_number", "customer_name", "customer_email", "billing_address_line1",
+                "billing_address_city", "billing_address_country", "status", "subtotal", "tax_amount",
+                "shipping_amount", "total_amount", "currency", "created_at", "updated_at");
+             CopyWriter items = new CopyWriter(copyManager, "order_items",
+                     "order_id", "tenant_id", "product_id", "product_name", "sku", "quantity", "unit_price",
+                     "total_price", "currency", "created_at")) {
+            for (int o = 0; o < orders.size(); o++) {
+                long orderId = orderIds[o];
+                LocalDate day = (LocalDate) orders.get(o)[0];
+                OffsetDateTime createdAt = day.atTime(LocalTime.of(8 + random.nextInt(14), random.nextInt(60)))
+                        .atZone(CLINIC_ZONE).toOffsetDateTime();
+
+                BigDecimal subtotal = BigDecimal.ZERO;
+                int lines = 1 + random.nextInt(4);
+                for (int l = 0; l < lines; l++) {
+                    int p = random.nextInt(catalog.productIds().length);
+                    int quantity = 1 + random.nextInt(3);
+                    BigDecimal lineTotal = catalog.prices()[p].multiply(BigDecimal.valueOf(quantity));
+                    subtotal = subtotal.add(lineTotal);
+                    items.row(orderId, tenantId, catalog.productIds()[p], catalog.names()[p], catalog.skus()[p],
+                            quantity, catalog.prices()[p], lineTotal, CURRENCY, createdAt);
+                }
+                BigDecimal tax = subtotal.multiply(new BigDecimal("0.16")).setScale(2, RoundingMode.HALF_UP);
+                BigDecimal shipping = subtotal.compareTo(new BigDecimal("50")) >= 0 ? BigDecimal.ZERO : new BigDecimal("5.00");
+                String customer = pick(FIRST_NAMES, random) + " " + pick(LAST_NAMES, random);
+                String orderNumber = "LT-" + ORDER_DAY.format(day) + "-" + orders.get(o)[1];
+                orderRows.row(orderId, tenantId, orderNumber, customer, "customer" + o + "@" + domain,
+                        (1 + random.nextInt(200)) + " Rainbow Street", "Amman", "Jordan",
+                        weighted(random, "DELIVERED", 70, "PAID", 10, "CANCELLED", 8, "REFUNDED", 4, "PENDING_PAYMENT", 8),
+                        subtotal, tax, shipping, subtotal.add(tax).add(shipping), CURRENCY, createdAt, createdAt);
+            }
+        }
+        return orders.size();
+    }
+
+    /**
+     * Takes {@code count} ids from the table's serial sequence, one
+     * {@code nextval} each. Every nextval is atomic, so the ids never collide
+     * with rows a running application inserts meanwhile; they are only
+     * consecutive when nothing else draws from the sequence at the same time.
+     * Pooled sequences (increment 50) stay safe too: Hibernate hands out the
+     * ids below each value it draws, never the values drawn here.
+     */
+    private long[] reserveIds(String table, int count) throws SQLException {
+        long[] ids = new long[count];
+        if (count == 0) {
+            return ids;
+        }
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT nextval(pg_get_serial_sequence(?, 'id')) FROM generate_series(1, ?)")) {
+            statement.setString(1, table);
+            statement.setInt(2, count);
+            try (ResultSet rs = statement.executeQuery()) {
+                for (int i = 0; i < count && rs.next(); i++) {
+                    ids[i] = rs.getLong(1);
+                }
+            }
+        }
+        return ids;
+    }
+
+    private static String patientEmail(int n, String domain) {
+        return "patient" + n + "@" + domain;
+    }
+
+    private static String phone(Random random) {
+        return String.format(Locale.ROOT, "+9627%08d", random.nextInt(100_000_000));
+    }
+
+    private static BigDecimal money(Random random, int min, int max) {
+        return BigDecimal.valueOf(min * 100L + random.nextInt((max - min) * 100), 2);
+    }
+
+    private static String slugify(String text) {
+        return text.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]+", "-").replaceAll("(^-|-$)", "");
+    }
+
+    private static String pick(String[] values, Random random) {
+        return values[random.nextInt(values.length)];
+    }
+
+    /**
+     * Picks one of {@code value, weight, value, weight, ...} pairs.
+     */
+    private static String weighted(Random random, Object... valueWeightPairs) {
+        int total = 0;
+        for (int i = 1; i < valueWeightPairs.length; i += 2) {
+            total += (Integer) valueWeightPairs[i];
+        }
+        int roll = random.nextInt(total);
+        for (int i = 0; i < valueWeightPairs.length; i += 2) {
+            roll -= (Integer) valueWeightPairs[i + 1];
+            if (roll < 0) {
+                return (String) valueWeightPairs[i];
+            }
+        }
+        throw new IllegalStateException("Weights must be positive");
+    }
+}
@@ -0,0 +1,88 @@
+package com.clinic.loadtest;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@code --name=value} command-line options for the seeder and the scenario
+ * runner. Options not given on the command line fall back to an environment
+ * variable where one is named, then to the default.
+ */
+final class LoadTestOptions {
+
+    private final Map<String, String> values;
+
+    private LoadTestOptions(Map<String, String> values) {
+        this.values = values;
+    }
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return new LoadTestOptions(values);
+    }
+
+    String get(String name, String defaultValue) {
+        return values.getOrDefault(name, defaultValue);
+    }
+
+    String get(String name, String environmentVariable, String defaultValue) {
+        String value = values.get(name);
+        if (value != null) {
+            return value;
+        }
+        String fromEnvironment = System.getenv(environmentVariable);
+        return fromEnvironment != null && !fromEnvironment.isBlank() ? fromEnvironment : defaultValue;
+    }
+
+    int getInt(String name, int defaultValue) {
+        String value = values.get(name);
+        return value != null ? Integer.parseInt(value) : defaultValue;
+    }
+
+    long getLong(String name, long defaultValue) {
+        String value = values.get(name);
+        return value != null ? Long.parseLong(value) : defaultValue;
+    }
+
+    double getDouble(String name, double defaultValue) {
+        String value = values.get(name);
+        return value != null ? Double.parseDouble(value) : defaultValue;
+    }
+
+    /**
+     * Durations as {@code 90s}, {@code 5m} or ISO-8601 ({@code PT1M30S}).
+     */
+    Duration getDuration(String name, Duration defaultValue) {
+        String value = values.get(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        if (value.startsWith("P") || value.startsWith("p")) {
+            return Duration.parse(value);
+        }
+        long amount = Long.parseLong(value.substring(0, value.length() - 1));
+        return switch (Character.toLowerCase(value.charAt(value.length() - 1))) {
+            case 's' -> Duration.ofSeconds(amount);
+            case 'm' -> Duration.ofMinutes(amount);
+            case 'h' -> Duration.ofHours(amount);
+            default -> throw new IllegalArgumentException("Unsupported duration for --" + name + ": " + value);
+        };
+    }
+
+    List<String> getList(String name, String defaultValue) {
+        return Arrays.stream(get(name, defaultValue).split(","))
+                .map(String::trim)
+                .filter(item -> !item.isEmpty())
+                .toList();
+    }
+}
@@ -0,0 +1,63 @@
+package com.clinic.loadtest;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bursts of PayPal subscription webhooks for the seeded subscriptions, with
+ * about one delivery in five repeating a recent event id the way PayPal
+ * retries do. Signatures are not valid, so this measures the endpoint's
+ * parsing, deduplication and rejection paths rather than state changes.
+ */
+final class PayPalWebhookStormScenario implements LoadScenario {
+
+    private static final String[] EVENT_TYPES = {
+            "BILLING.SUBSCRIPTION.ACTIVATED", "BILLING.SUBSCRIPTION.UPDATED", "PAYMENT.SALE.COMPLETED"
+    };
+    private static final int DUPLICATE_PERCENT = 20;
+    private static final int DUPLICATE_WINDOW = 50;
+
+    private final String path;
+    private final AtomicLong sequence = new AtomicLong();
+
+    PayPalWebhookStormScenario(String path) {
+        this.path = path;
+    }
+
+    @Override
+    public String name() {
+        return "webhooks";
+    }
+
+    @Override
+    public void iterate(ApiClient client, DatasetManifest dataset, Random random) {
+        long next = sequence.incrementAndGet();
+        long eventNumber = next > DUPLICATE_WINDOW && random.nextInt(100) < DUPLICATE_PERCENT
+                ? next - 1 - random.nextInt(DUPLICATE_WINDOW)
+                : next;
+        // Event number fixes tenant and type, so a duplicate is byte-for-byte the original
+        DatasetManifest.Tenant tenant = dataset.tenants().get((int) (eventNumber % dataset.tenants().size()));
+        String eventType = EVENT_TYPES[(int) (eventNumber % EVENT_TYPES.length)];
+        String eventId = "WH-LOADTEST-" + dataset.seed() + "-" + eventNumber;
+        String createTime = Instant.ofEpochSecond(1_700_000_000L + eventNumber).toString();
+
+        Map<String, Object> event = Map.of(
+                "id", eventId,
+                "event_type", eventType,
+                "resource_type", eventType.startsWith("PAYMENT") ? "sale" : "subscription",
+                "create_time", createTime,
+                "resource", Map.of(
+                        "id", tenant.subscriptionId(),
+                        "status", "ACTIVE",
+                        "custom_id", "tenant_" + tenant.id()));
+
+        client.post(eventType, new ApiClient.Caller(null, null, LoadScenario.visitorIp(random)), path, event, Map.of(
+                "PAYPAL-TRANSMISSION-ID", eventId,
+                "PAYPAL-TRANSMISSION-TIME", createTime,
+                "PAYPAL-TRANSMISSION-SIG", "loadtest",
+                "PAYPAL-AUTH-ALGO", "SHA256withRSA",
+                "PAYPAL-CERT-URL", "https://api.sandbox.paypal.com/v1/notifications/certs/CERT-loadtest"));
+    }
+}
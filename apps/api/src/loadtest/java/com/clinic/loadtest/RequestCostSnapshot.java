@@ -0,0 +1,99 @@
+package com.clinic.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-endpoint totals read from {@code GET /saas/metrics/costs?by=endpoint}.
+ * The registry counts since application start, so a scenario's database cost
+ * is the difference between snapshots taken around its measured window.
+ */
+final class RequestCostSnapshot {
+
+    static final String PATH = "/saas/metrics/costs?by=endpoint&sort=statements&limit=100";
+
+    private final Map<String, Totals> byEndpoint;
+
+    private RequestCostSnapshot(Map<String, Totals> byEndpoint) {
+        this.byEndpoint = byEndpoint;
+    }
+
+    static RequestCostSnapshot empty() {
+        return new RequestCostSnapshot(Map.of());
+    }
+
+    static RequestCostSnapshot from(JsonNode costs) {
+        Map<String, Totals> byEndpoint = new HashMap<>();
+        if (costs.isArray()) {
+            for (JsonNode cost : costs) {
+                String key = cost.path("key").asText();
+                // The snapshot calls themselves are not part of any scenario
+                if (key.contains("/saas/")) {
+                    continue;
+                }
+                byEndpoint.put(key, new Totals(
+                        cost.path("requests").asLong(),
+                        cost.path("statements").asLong(),
+                        cost.path("sqlTimeMs").asLong(),
+                        cost.path("nPlusOneRequests").asLong()));
+            }
+        }
+        return new RequestCostSnapshot(byEndpoint);
+    }
+
+    /**
+     * Cost accrued between {@code before} and this snapshot, busiest endpoint
+     * (by statements) first.
+     */
+    DbCost since(RequestCostSnapshot before) {
+        List<EndpointCost> endpoints = new ArrayList<>();
+        long requests = 0;
+        long statements = 0;
+        long sqlTimeMs = 0;
+        long nPlusOne = 0;
+        for (Map.Entry<String, Totals> entry : byEndpoint.entrySet()) {
+            Totals delta = entry.getValue().minus(before.byEndpoint.getOrDefault(entry.getKey(), Totals.ZERO));
+            if (delta.requests() == 0) {
+                continue;
+            }
+            endpoints.add(new EndpointCost(entry.getKey(), delta.requests(), delta.statements(),
+                    ratio(delta.statements(), delta.requests()), delta.sqlTimeMs(), delta.nPlusOneRequests()));
+            requests += delta.requests();
+            statements += delta.statements();
+            sqlTimeMs += delta.sqlTimeMs();
+            nPlusOne += delta.nPlusOneRequests();
+        }
+        endpoints.sort(Comparator.comparingLong(EndpointCost::statements).reversed());
+        return new DbCost(requests, statements, ratio(statements, requests), sqlTimeMs, nPlusOne, endpoints);
+    }
+
+    private static double ratio(long numerator, long denominator) {
+        return denominator == 0 ? 0 : Math.round(numerator * 100.0 / denominator) / 100.0;
+    }
+
+    private record Totals(long requests, long statements, long sqlTimeMs, long nPlusOneRequests) {
+
+        static final Totals ZERO = new Totals(0, 0, 0, 0);
+
+        Totals minus(Totals other) {
+            return new Totals(requests - other.requests, statements - other.statements,
+                    sqlTimeMs - other.sqlTimeMs, nPlusOneRequests - other.nPlusOneRequests);
+        }
+    }
+
+    /**
+     * Database work done by the application while a scenario was measured.
+     */
+    record DbCost(long requests, long statements, double statementsPerRequest, long sqlTimeMs,
+                  long nPlusOneRequests, List<EndpointCost> endpoints) {
+    }
+
+    record EndpointCost(String endpoint, long requests, long statements, double statementsPerRequest,
+                        long sqlTimeMs, long nPlusOneRequests) {
+    }
+}
@@ -0,0 +1,67 @@
+package com.clinic.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Storefront shopper: category tree, a listing page, a product page and
+ * sometimes a search. About a third of shoppers fill a cart, and a quarter of
+ * those check out.
+ */
+final class StorefrontScenario implements LoadScenario {
+
+    private static final String[] SEARCH_TERMS = {"brush", "paste", "floss", "whitening", "kids", "travel", "item 1"};
+    private static final int PAGE_SIZE = 24;
+
+    @Override
+    public String name() {
+        return "storefront";
+    }
+
+    @Override
+    public void iterate(ApiClient client, DatasetManifest dataset, Random random) {
+        DatasetManifest.Tenant tenant = LoadScenario.anyTenant(dataset, random);
+        ApiClient.Caller shopper = new ApiClient.Caller(tenant.slug(), null, LoadScenario.visitorIp(random));
+
+        client.get("category-tree", shopper, "/public/categories/tree");
+        ApiClient.Result listing = client.get("product-list", shopper,
+                "/public/products?page=" + random.nextInt(5) + "&size=" + PAGE_SIZE);
+        JsonNode products = listing.body().has("data") ? listing.body().get("data") : listing.body();
+        if (!products.isArray() || products.isEmpty()) {
+            return;
+        }
+        long productId = products.get(random.nextInt(products.size())).path("id").asLong();
+        client.get("product-detail", shopper, "/public/products/" + productId);
+
+        if (random.nextBoolean()) {
+            client.get("product-search", shopper,
+                    "/public/products/search?q=" + SEARCH_TERMS[random.nextInt(SEARCH_TERMS.length)].replace(" ", "+"));
+        }
+        if (random.nextInt(3) != 0) {
+            return;
+        }
+
+        String sessionId = UUID.randomUUID().toString();
+        String cartQuery = "?slug=" + tenant.slug() + "&session_id=" + sessionId;
+        int lines = 1 + random.nextInt(3);
+        for (int i = 0; i < lines; i++) {
+            long cartProductId = products.get(random.nextInt(products.size())).path("id").asLong();
+            client.post("cart-add", shopper, "/public/cart/items" + cartQuery,
+                    Map.of("productId", cartProductId, "quantity", 1 + random.nextInt(2)));
+        }
+        client.get("cart-view", shopper, "/public/cart" + cartQuery);
+
+        if (random.nextInt(4) == 0) {
+            client.post("checkout", shopper, "/public/orders?tenant=" + tenant.slug(), Map.of(
+                    "sessionId", sessionId,
+                    "customerName", "Load Test Shopper",
+                    "customerEmail", "shopper+" + sessionId.substring(0, 8) + "@loadtest.example",
+                    "billingAddressLine1", "1 Rainbow Street",
+                    "billingAddressCity", "Amman",
+                    "billingAddressCountry", "Jordan"));
+        }
+    }
+}
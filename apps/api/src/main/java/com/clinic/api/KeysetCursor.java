@@ -0,0 +1,64 @@
+package com.clinic.api;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position in a keyset-paginated listing: the sort key and id of the last row
+ * returned. The next page starts strictly after this pair, so page cost does
+ * not grow with depth the way OFFSET does.
+ *
+ * Clients receive it as an opaque URL-safe token and must send it back as is.
+ */
+public record KeysetCursor(String sortKey, long id) {
+
+    private static final String VERSION = "v1";
+
+    public static KeysetCursor of(Instant sortKey, long id) {
+        return new KeysetCursor(sortKey.toString(), id);
+    }
+
+    public static KeysetCursor of(String sortKey, long id) {
+        return new KeysetCursor(sortKey, id);
+    }
+
+    public String encode() {
+        String raw = VERSION + ":" + id + ":" + sortKey;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Parses a token produced by {@link #encode()}.
+     *
+     * @throws ResponseStatusException 400 when the token is malformed
+     */
+    public static KeysetCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":", 3);
+            if (parts.length != 3 || !VERSION.equals(parts[0])) {
+                throw invalid();
+            }
+            return new KeysetCursor(parts[2], Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException e) {
+            throw invalid();
+        }
+    }
+
+    public Instant instantKey() {
+        try {
+            return Instant.parse(sortKey);
+        } catch (DateTimeParseException e) {
+            throw invalid();
+        }
+    }
+
+    private static ResponseStatusException invalid() {
+        return new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+    }
+}
@@ -0,0 +1,78 @@
+package com.clinic.api;
+
+import org.springframework.http.ResponseEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset-paginated listing.
+ *
+ * Endpoints return the items as a plain JSON array, so existing clients keep
+ * working, and the cursor for the following page in the
+ * {@value #NEXT_CURSOR_HEADER} header, absent on the last page.
+ */
+public record KeysetPage<T>(List<T> items, String nextCursor) {
+
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    /**
+     * Builds a page from rows fetched with {@link KeysetPageRequest#fetchWindow()}.
+     * The extra row, if present, is dropped and only signals that a next page exists.
+     */
+    public static <T> KeysetPage<T> of(List<T> rows, KeysetPageRequest request, Function<? super T, KeysetCursor> cursorOf) {
+        if (rows.size() <= request.limit()) {
+            return new KeysetPage<>(List.copyOf(rows), null);
+        }
+        List<T> items = List.copyOf(rows.subList(0, request.limit()));
+        return new KeysetPage<>(items, cursorOf.apply(items.get(items.size() - 1)).encode());
+    }
+
+    /**
+     * Runs a list endpoint's query. A request without cursor and limit gets
+     * the whole list, as before keyset paging: the admin UI does not follow
+     * {@value #NEXT_CURSOR_HEADER}. It is still read one
+     * {@value KeysetPageRequest#MAX_LIMIT}-row page per query, so batch
+     * loads per page stay bounded.
+     */
+    public static <T> KeysetPage<T> list(String cursor, Integer limit,
+                                         Function<KeysetPageRequest, KeysetPage<T>> query) {
+        if ((cursor != null && !cursor.isBlank()) || limit != null) {
+            return query.apply(KeysetPageRequest.of(cursor, limit));
+        }
+        KeysetPage<T> page = query.apply(KeysetPageRequest.of(null, KeysetPageRequest.MAX_LIMIT));
+        if (!page.hasNext()) {
+            return page;
+        }
+        List<T> items = new ArrayList<>(page.items());
+        while (page.hasNext()) {
+            page = query.apply(KeysetPageRequest.of(page.nextCursor(), KeysetPageRequest.MAX_LIMIT));
+            items.addAll(page.items());
+        }
+        return new KeysetPage<>(List.copyOf(items), null);
+    }
+
+    public <R> KeysetPage<R> map(Function<? super T, ? extends R> mapper) {
+        return new KeysetPage<>(items.stream().<R>map(mapper).toList(), nextCursor);
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    public ResponseEntity<List<T>> toResponseEntity() {
+        return toResponseEntity(Function.identity());
+    }
+
+    /**
+     * 200 response whose body wraps the items, e.g. in an {@link ApiResponse}.
+     */
+    public <B> ResponseEntity<B> toResponseEntity(Function<? super List<T>, ? extends B> body) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (hasNext()) {
+            response.header(NEXT_CURSOR_HEADER, nextCursor);
+        }
+        return response.body(body.apply(items));
+    }
+}
@@ -0,0 +1,51 @@
+package com.clinic.api;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Instant;
+
+/**
+ * A keyset page request: where to resume and how many rows to return.
+ *
+ * Repository queries take the resume position as plain parameters; on the
+ * first page the {@code ...Or} accessors return a sentinel that sorts before
+ * every row, so one query serves all pages. Queries fetch
+ * {@link #fetchWindow()}, one row more than the limit, to learn whether
+ * another page follows without counting.
+ */
+public record KeysetPageRequest(KeysetCursor after, int limit) {
+
+    public static final int DEFAULT_LIMIT = 100;
+    public static final int MAX_LIMIT = 500;
+
+    /** Sentinel for descending timestamp keys; later than any stored value. */
+    public static final Instant LATEST = Instant.parse("9999-12-31T00:00:00Z");
+
+    /**
+     * @param cursor token from a previous page, or null/blank for the first page
+     * @param limit  requested page size; defaults to {@value #DEFAULT_LIMIT}, capped at {@value #MAX_LIMIT}
+     * @see KeysetPage#list for requests that send neither
+     */
+    public static KeysetPageRequest of(String cursor, Integer limit) {
+        KeysetCursor after = cursor == null || cursor.isBlank() ? null : KeysetCursor.decode(cursor);
+        int pageLimit = limit == null || limit <= 0 ? DEFAULT_LIMIT : Math.min(limit, MAX_LIMIT);
+        return new KeysetPageRequest(after, pageLimit);
+    }
+
+    public Pageable fetchWindow() {
+        return PageRequest.of(0, limit + 1);
+    }
+
+    public Instant instantKeyOr(Instant first) {
+        return after != null ? after.instantKey() : first;
+    }
+
+    public String stringKeyOr(String first) {
+        return after != null ? after.sortKey() : first;
+    }
+
+    public long idOr(long first) {
+        return after != null ? after.id() : first;
+    }
+}
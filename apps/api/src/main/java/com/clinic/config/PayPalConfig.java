@@ -1,9 +1,7 @@
 package com.clinic.config;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
-import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.client.RestTemplate;
 
 @Configuration
 @ConfigurationProperties(prefix = "paypal")
@@ -15,11 +13,6 @@ public class PayPalConfig {
     private String environment = "sandbox";
     private String baseUrl = "https://api-m.sandbox.paypal.com";
 
-    @Bean
-    public RestTemplate paypalRestTemplate() {
-        return new RestTemplate();
-    }
-
     // Getters and Setters
     public String getClientId() {
         return clientId;
@@ -1,21 +0,0 @@
-package com.clinic.config;
-
-import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
-import org.springframework.web.client.RestTemplate;
-
-/**
- * Configuration for RestTemplate beans.
- */
-@Configuration
-public class RestTemplateConfig {
-
-    @Bean
-    public RestTemplate restTemplate() {
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        factory.setConnectTimeout(30000); // 30 seconds (increased from 10)
-        factory.setReadTimeout(60000);    // 60 seconds (increased from 30)
-        return new RestTemplate(factory);
-    }
-}
@@ -153,8 +153,10 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.GET, "/public/tenant/resolve").permitAll()
                         .requestMatchers(HttpMethod.GET, "/public/appointments/confirm").permitAll()
                         .requestMatchers(HttpMethod.GET, "/public/blogs/**").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/public/images/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/public/carousels/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/public/products/**").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/public/categories/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/public/products/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/api/public/products/**").permitAll()
                         .requestMatchers(HttpMethod.POST, "/public/patient/signup").permitAll()
@@ -0,0 +1,25 @@
+package com.clinic.config.db;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Actuator endpoint ({@code /actuator/connectionholds}) listing connections held
+ * past the watchdog threshold and recent remote calls made inside a transaction.
+ */
+@Component
+@Endpoint(id = "connectionholds")
+public class ConnectionHoldEndpoint {
+
+    private final ConnectionHoldWatchdog watchdog;
+
+    public ConnectionHoldEndpoint(ConnectionHoldWatchdog watchdog) {
+        this.watchdog = watchdog;
+    }
+
+    @ReadOperation
+    public ConnectionHoldWatchdog.Report connectionHolds() {
+        return watchdog.report();
+    }
+}
@@ -0,0 +1,276 @@
+package com.clinic.config.db;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Records how long each JDBC connection is held and who holds it.
+ *
+ * {@link ConnectionTrackingDataSource} calls {@link #checkout()} when a
+ * connection is borrowed and {@link #release(Hold)} when it is returned. The
+ * owner is the Spring transaction name (the {@code @Transactional} method) or,
+ * outside a transaction, the first application frame on the stack. Holds over
+ * the threshold are logged and counted per owner; a periodic scan reports
+ * connections that are still held past the threshold.
+ *
+ * Outbound HTTP calls report in through {@link #onRemoteCall(String, String)},
+ * so a remote call made while the thread holds a connection is counted and
+ * logged, or rejected when the policy is {@code FAIL}.
+ */
+@Component
+public class ConnectionHoldWatchdog {
+
+    private static final Logger log = LoggerFactory.getLogger(ConnectionHoldWatchdog.class);
+
+    static final String HOLD_TIMER = "db.connection.hold";
+    static final String LONG_HOLD_COUNTER = "db.connection.hold.long";
+    static final String REMOTE_CALL_COUNTER = "db.connection.remote.calls";
+
+    private static final String APP_PACKAGE = "com.clinic.";
+    private static final String OWN_PACKAGE = ConnectionHoldWatchdog.class.getPackageName() + ".";
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+
+    private final ConnectionWatchdogProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Timer holdTimer;
+    private final AtomicLong ids = new AtomicLong();
+    private final Map<Long, Hold> open = new ConcurrentHashMap<>();
+    private final ThreadLocal<Deque<Hold>> heldByThread = ThreadLocal.withInitial(ArrayDeque::new);
+    private final Deque<Event> recent = new ArrayDeque<>();
+    private final AtomicInteger openLongHolds = new AtomicInteger();
+
+    public ConnectionHoldWatchdog(ConnectionWatchdogProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.holdTimer = Timer.builder(HOLD_TIMER)
+                .description("Time from borrowing a JDBC connection to returning it")
+                .register(meterRegistry);
+        Gauge.builder("db.connection.hold.open.long", openLongHolds, AtomicInteger::get)
+                .description("Connections held past the threshold at the last scan")
+                .register(meterRegistry);
+        Gauge.builder("db.connection.hold.open", open, Map::size)
+                .description("Connections currently borrowed by the application")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * Start tracking a connection borrowed by the current thread.
+     */
+    public Hold checkout() {
+        Thread thread = Thread.currentThread();
+        Hold hold = new Hold(ids.incrementAndGet(), thread, System.nanoTime(), Instant.now());
+        open.put(hold.id, hold);
+        heldByThread.get().push(hold);
+        return hold;
+    }
+
+    /**
+     * Attribute the hold to the current transaction or caller. Called on the
+     * first statement, because the transaction name is only bound after the
+     * transaction manager has borrowed the connection.
+     */
+    public void attribute(Hold hold) {
+        if (hold.owner == null) {
+            hold.owner = currentOwner();
+        }
+    }
+
+    /**
+     * Stop tracking a connection and record how long it was held.
+     */
+    public void release(Hold hold) {
+        if (hold.released) {
+            return;
+        }
+        hold.released = true;
+        open.remove(hold.id);
+        if (hold.thread == Thread.currentThread()) {
+            heldByThread.get().remove(hold);
+        }
+        attribute(hold);
+
+        long nanos = System.nanoTime() - hold.startNanos;
+        holdTimer.record(nanos, TimeUnit.NANOSECONDS);
+        Duration held = Duration.ofNanos(nanos);
+        if (held.compareTo(properties.getHoldThreshold()) > 0) {
+            Counter.builder(LONG_HOLD_COUNTER)
+                    .description("Connections held longer than the watchdog threshold")
+                    .tag("owner", hold.owner)
+                    .register(meterRegistry)
+                    .increment();
+            if (!hold.reported) {
+                log.warn("Connection held for {} ms by {} on thread {}", held.toMillis(), hold.owner, hold.threadName);
+            }
+            remember(new Event("LONG_HOLD", hold.owner, hold.threadName, hold.startedAt, held.toMillis(), null));
+        }
+    }
+
+    /**
+     * Whether the current thread has a connection checked out.
+     */
+    public boolean isHoldingConnection() {
+        Deque<Hold> held = heldByThread.get();
+        held.removeIf(hold -> hold.released);
+        return !held.isEmpty();
+    }
+
+    /**
+     * Called before every outbound HTTP call. Calls made while the thread holds a
+     * connection keep that connection idle for the full remote latency.
+     *
+     * @throws IllegalStateException if the thread holds a connection and the policy is {@code FAIL}
+     */
+    public void onRemoteCall(String upstream, String operation) {
+        if (!properties.isEnabled() || !isHoldingConnection()) {
+            return;
+        }
+        Hold hold = heldByThread.get().peekFirst();
+        attribute(hold);
+        long heldMillis = Duration.ofNanos(System.nanoTime() - hold.startNanos).toMillis();
+
+        Counter.builder(REMOTE_CALL_COUNTER)
+                .description("Outbound HTTP calls made while holding a JDBC connection")
+                .tag("upstream", upstream)
+                .tag("owner", hold.owner)
+                .register(meterRegistry)
+                .increment();
+        remember(new Event("REMOTE_CALL", hold.owner, hold.threadName, hold.startedAt, heldMillis, upstream + " " + operation));
+        log.warn("{} {} called while holding a connection for {} ({} ms so far)", upstream, operation, hold.owner, heldMillis);
+
+        if (properties.getRemoteCallPolicy() == ConnectionWatchdogProperties.RemoteCallPolicy.FAIL) {
+            throw new IllegalStateException("Remote call to " + upstream + " made while holding a database connection in "
+                    + hold.owner + "; move it outside the transaction");
+        }
+    }
+
+    /**
+     * Report connections that are still held past the threshold, once per hold.
+     */
+    @Scheduled(fixedDelayString = "${clinic.db.watchdog.scan-interval:PT10S}")
+    public void scan() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        long thresholdNanos = properties.getHoldThreshold().toNanos();
+        long now = System.nanoTime();
+        int longHolds = 0;
+        for (Hold hold : open.values()) {
+            long nanos = now - hold.startNanos;
+            if (nanos <= thresholdNanos) {
+                continue;
+            }
+            longHolds++;
+            if (!hold.reported) {
+                hold.reported = true;
+                log.warn("Connection still held after {} ms by {} on thread {}",
+                        TimeUnit.NANOSECONDS.toMillis(nanos), hold.owner != null ? hold.owner : "unattributed", hold.threadName);
+            }
+        }
+        openLongHolds.set(longHolds);
+    }
+
+    /**
+     * Connections currently held past the threshold and the most recent long
+     * holds and remote calls, newest first.
+     */
+    public Report report() {
+        long thresholdNanos = properties.getHoldThreshold().toNanos();
+        long now = System.nanoTime();
+        List<Event> stillOpen = open.values().stream()
+                .filter(hold -> now - hold.startNanos > thresholdNanos)
+                .sorted(Comparator.comparingLong(hold -> hold.startNanos))
+                .map(hold -> new Event("OPEN", hold.owner, hold.threadName, hold.startedAt,
+                        TimeUnit.NANOSECONDS.toMillis(now - hold.startNanos), null))
+                .toList();
+        List<Event> history;
+        synchronized (recent) {
+            history = new ArrayList<>(recent);
+        }
+        return new Report(properties.getHoldThreshold().toMillis(), open.size(), stillOpen, history);
+    }
+
+    private void remember(Event event) {
+        synchronized (recent) {
+            recent.addFirst(event);
+            while (recent.size() > properties.getRecentLimit()) {
+                recent.removeLast();
+            }
+        }
+    }
+
+    static String currentOwner() {
+        String transactionName = TransactionSynchronizationManager.getCurrentTransactionName();
+        if (transactionName != null) {
+            return transactionName;
+        }
+        return STACK_WALKER.walk(frames -> frames
+                .filter(frame -> frame.getClassName().startsWith(APP_PACKAGE)
+                        && !frame.getClassName().startsWith(OWN_PACKAGE)
+                        && !frame.getClassName().contains("$$"))
+                .findFirst()
+                .map(frame -> frame.getClassName() + "." + frame.getMethodName())
+                .orElse("unknown"));
+    }
+
+    /**
+     * One borrowed connection.
+     */
+    public static final class Hold {
+        private final long id;
+        private final Thread thread;
+        private final String threadName;
+        private final long startNanos;
+        private final Instant startedAt;
+        private volatile String owner;
+        private volatile boolean reported;
+        private volatile boolean released;
+
+        private Hold(long id, Thread thread, long startNanos, Instant startedAt) {
+            this.id = id;
+            this.thread = thread;
+            this.threadName = thread.getName();
+            this.startNanos = startNanos;
+            this.startedAt = startedAt;
+        }
+
+        public String getOwner() {
+            return owner;
+        }
+    }
+
+    /**
+     * A long hold or a remote call made while holding a connection.
+     *
+     * @param kind {@code OPEN}, {@code LONG_HOLD} or {@code REMOTE_CALL}
+     * @param remoteCall upstream and operation for {@code REMOTE_CALL} events
+     */
+    public record Event(String kind, String owner, String thread, Instant startedAt, long heldMillis, String remoteCall) {
+    }
+
+    public record Report(long thresholdMillis, int openConnections, List<Event> longHeldNow, List<Event> recent) {
+    }
+}
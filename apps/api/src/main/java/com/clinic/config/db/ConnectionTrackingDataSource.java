@@ -0,0 +1,82 @@
+package com.clinic.config.db;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * DataSource that reports every borrowed connection to the
+ * {@link ConnectionHoldWatchdog}. Connections are wrapped in a proxy that
+ * attributes the hold on the first statement and releases it on close.
+ *
+ * Spring Boot unwraps {@link DelegatingDataSource}, so Hikari pool metrics
+ * still bind to the underlying pool.
+ */
+public class ConnectionTrackingDataSource extends DelegatingDataSource {
+
+    private final ObjectProvider<ConnectionHoldWatchdog> watchdogProvider;
+    private volatile ConnectionHoldWatchdog watchdog;
+
+    public ConnectionTrackingDataSource(DataSource target, ObjectProvider<ConnectionHoldWatchdog> watchdogProvider) {
+        super(target);
+        this.watchdogProvider = watchdogProvider;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return track(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return track(super.getConnection(username, password));
+    }
+
+    private Connection track(Connection connection) {
+        ConnectionHoldWatchdog current = watchdog();
+        if (current == null || !current.isEnabled()) {
+            return connection;
+        }
+        ConnectionHoldWatchdog.Hold hold = current.checkout();
+        return (Connection) Proxy.newProxyInstance(
+                ConnectionTrackingDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "close" -> current.release(hold);
+                        case "createStatement", "prepareStatement", "prepareCall" -> current.attribute(hold);
+                        case "equals" -> {
+                            return proxy == args[0];
+                        }
+                        case "hashCode" -> {
+                            return System.identityHashCode(proxy);
+                        }
+                        default -> {
+                        }
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+
+    /**
+     * The watchdog is looked up on first use: the DataSource is created before
+     * the meter registry the watchdog depends on.
+     */
+    private ConnectionHoldWatchdog watchdog() {
+        ConnectionHoldWatchdog current = watchdog;
+        if (current == null) {
+            current = watchdogProvider.getIfAvailable();
+            watchdog = current;
+        }
+        return current;
+    }
+}
@@ -0,0 +1,29 @@
+package com.clinic.config.db;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the application DataSource in a {@link ConnectionTrackingDataSource}
+ * so every connection checkout is seen by the {@link ConnectionHoldWatchdog}.
+ */
+@Configuration
+public class ConnectionWatchdogConfig {
+
+    @Bean
+    public static BeanPostProcessor connectionTrackingPostProcessor(ObjectProvider<ConnectionHoldWatchdog> watchdog) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ConnectionTrackingDataSource)) {
+                    return new ConnectionTrackingDataSource(dataSource, watchdog);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,80 @@
+package com.clinic.config.db;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the connection-hold watchdog.
+ *
+ * A connection is "held" from the moment it is borrowed from the pool until it
+ * is returned. Holds longer than {@code holdThreshold} are logged with the
+ * owning service method and kept in the {@code connectionholds} actuator report.
+ */
+@Component
+@ConfigurationProperties(prefix = "clinic.db.watchdog")
+public class ConnectionWatchdogProperties {
+
+    /** Track connection checkouts at all. */
+    private boolean enabled = true;
+
+    /** Holds longer than this are reported. */
+    private Duration holdThreshold = Duration.ofSeconds(2);
+
+    /** How often open connections are scanned for holds that are still running. */
+    private Duration scanInterval = Duration.ofSeconds(10);
+
+    /** Number of recent long holds and remote calls kept for the actuator report. */
+    private int recentLimit = 100;
+
+    /** What to do when an outbound HTTP call is made while the thread holds a connection. */
+    private RemoteCallPolicy remoteCallPolicy = RemoteCallPolicy.LOG;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getHoldThreshold() {
+        return holdThreshold;
+    }
+
+    public void setHoldThreshold(Duration holdThreshold) {
+        this.holdThreshold = holdThreshold;
+    }
+
+    public Duration getScanInterval() {
+        return scanInterval;
+    }
+
+    public void setScanInterval(Duration scanInterval) {
+        this.scanInterval = scanInterval;
+    }
+
+    public int getRecentLimit() {
+        return recentLimit;
+    }
+
+    public void setRecentLimit(int recentLimit) {
+        this.recentLimit = recentLimit;
+    }
+
+    public RemoteCallPolicy getRemoteCallPolicy() {
+        return remoteCallPolicy;
+    }
+
+    public void setRemoteCallPolicy(RemoteCallPolicy remoteCallPolicy) {
+        this.remoteCallPolicy = remoteCallPolicy;
+    }
+
+    public enum RemoteCallPolicy {
+        /** Count and log the call. */
+        LOG,
+        /** Count, log and fail the call; used by the test profile to catch regressions. */
+        FAIL
+    }
+}
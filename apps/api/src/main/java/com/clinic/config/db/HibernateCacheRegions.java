@@ -0,0 +1,32 @@
+package com.clinic.config.db;
+
+import java.util.List;
+
+/**
+ * Hibernate second-level cache regions for tenant reference data.
+ *
+ * Every cacheable query in {@link #REFERENCE_QUERIES} takes the tenant id (or
+ * the tenant slug) as a parameter, so the tenant is part of each query-cache
+ * key and one tenant's results can never be served to another.
+ */
+public final class HibernateCacheRegions {
+
+    public static final String TENANT = "reference.tenant";
+    public static final String SERVICE = "reference.service";
+    public static final String DOCTOR = "reference.doctor";
+    public static final String DOCTOR_SERVICES = "reference.doctor.services";
+    public static final String INSURANCE_COMPANY = "reference.insurance-company";
+    public static final String TAG = "reference.tag";
+    public static final String EXPENSE_CATEGORY = "reference.expense-category";
+    public static final String MATERIAL = "reference.material";
+
+    /** Results of tenant-scoped reference list and lookup queries. */
+    public static final String REFERENCE_QUERIES = "reference.queries";
+
+    /** Entity and collection regions. */
+    static final List<String> DOMAIN_REGIONS = List.of(
+            TENANT, SERVICE, DOCTOR, DOCTOR_SERVICES, INSURANCE_COMPANY, TAG, EXPENSE_CATEGORY, MATERIAL);
+
+    private HibernateCacheRegions() {
+    }
+}
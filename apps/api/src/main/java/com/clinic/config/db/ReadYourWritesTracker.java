@@ -0,0 +1,128 @@
+package com.clinic.config.db;
+
+import com.clinic.modules.core.cache.PendingTenantInvalidations;
+import com.clinic.modules.core.cache.TenantContentChangedEvent;
+import com.clinic.security.JwtPrincipal;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Remembers which sessions wrote to the primary recently, so their read-only
+ * transactions are kept off the replicas until replication has caught up.
+ *
+ * A session is the authenticated user (audience, tenant and subject of the
+ * JWT). Anonymous callers are only tracked for the rest of the current
+ * request. The record is kept per node: a user whose next request lands on
+ * another node is protected by the replica lag guard only.
+ *
+ * Tenants whose cached content was just invalidated are tracked as well. The
+ * read that refills the cache would otherwise run on a replica that has not
+ * replayed the write yet and cache the old content for the full TTL, so all
+ * of the tenant's reads stay on the primary until any replica in rotation
+ * must have caught up.
+ */
+public class ReadYourWritesTracker {
+
+    static final String REQUEST_ATTRIBUTE = ReadYourWritesTracker.class.getName() + ".wrote";
+
+    private final Cache<String, Boolean> recentWriters;
+    private final Cache<Long, Boolean> recentTenantWrites;
+    private final Supplier<Long> currentTenant;
+    private final PendingTenantInvalidations pendingTenantWrites =
+            new PendingTenantInvalidations(PendingTenantInvalidations.Phase.COMMIT, this::recordTenantWrite);
+
+    /**
+     * @param tenantWindow how long a tenant's reads stay on the primary after
+     *                     its cached content was invalidated
+     * @param currentTenant supplies the current request's tenant, or null
+     *                      outside a tenant request
+     */
+    public ReadYourWritesTracker(Duration window, Duration tenantWindow, long maxSessions,
+                                 Supplier<Long> currentTenant) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(maxSessions)
+                .build();
+        this.recentTenantWrites = Caffeine.newBuilder()
+                .expireAfterWrite(tenantWindow)
+                .maximumSize(maxSessions)
+                .build();
+        this.currentTenant = currentTenant;
+    }
+
+    /**
+     * Record that the current session has just written to the primary.
+     */
+    public void recordWrite() {
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        if (request != null) {
+            request.setAttribute(REQUEST_ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+        }
+        String session = currentSession();
+        if (session != null) {
+            recentWriters.put(session, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * Whether the current session wrote within the read-your-writes window.
+     */
+    public boolean hasRecentWrite() {
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        if (request != null && request.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) != null) {
+            return true;
+        }
+        String session = currentSession();
+        return session != null && recentWriters.getIfPresent(session) != null;
+    }
+
+    /**
+     * Pin the tenant to the primary from now until the window has passed after
+     * the writing transaction commits; caches invalidate on commit, so the
+     * window has to start no later than that.
+     */
+    @EventListener
+    public void onTenantContentChanged(TenantContentChangedEvent event) {
+        recordTenantWrite(event.getTenantId());
+        pendingTenantWrites.add(event.getTenantId());
+    }
+
+    /**
+     * Record that cached content of the tenant has just been invalidated.
+     */
+    public void recordTenantWrite(Long tenantId) {
+        if (tenantId != null) {
+            recentTenantWrites.put(tenantId, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * Whether the current request's tenant had cached content invalidated
+     * within the tenant window.
+     */
+    public boolean hasRecentTenantWrite() {
+        Long tenantId = currentTenant.get();
+        return tenantId != null && recentTenantWrites.getIfPresent(tenantId) != null;
+    }
+
+    static String currentSession() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        if (authentication.getPrincipal() instanceof JwtPrincipal principal) {
+            return principal.audience() + ":" + principal.tenantId() + ":" + principal.subject();
+        }
+        return authentication.getName();
+    }
+}
@@ -0,0 +1,200 @@
+package com.clinic.config.db;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Picks the read replica for each read-only transaction.
+ *
+ * Replicas are used round-robin while their replay lag, measured every
+ * {@code lag-check-interval}, stays within {@code max-lag}. A replica that is
+ * behind or unreachable gets no reads until a later check finds it caught up;
+ * replicas start out of rotation until their first check. Sessions that wrote
+ * recently ({@link ReadYourWritesTracker}), tenants whose cached content was
+ * just invalidated, and reads arriving while no replica is in rotation go to
+ * the primary.
+ */
+public class ReplicaRouter implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRouter.class);
+
+    static final String ROUTING_COUNTER = "db.routing.reads";
+
+    /**
+     * Seconds since the last replayed transaction, or 0 when the replica has
+     * replayed everything it received and is still streaming. A server that
+     * is not in recovery (a stand-in for a replica in development) reports 0.
+     */
+    static final String LAG_SQL = """
+            SELECT CASE
+                     WHEN NOT pg_is_in_recovery() THEN 0
+                     WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn()
+                          AND EXISTS (SELECT 1 FROM pg_stat_wal_receiver) THEN 0
+                     ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+                   END
+            """;
+
+    private final List<Replica> replicas = new ArrayList<>();
+    private final ReadYourWritesTracker tracker;
+    private final double maxLagSeconds;
+    private final LagProbe lagProbe;
+    private final AtomicInteger next = new AtomicInteger();
+    private final Counter replicaReads;
+    private final Counter readYourWritesReads;
+    private final Counter tenantWriteReads;
+    private final Counter unavailableReads;
+
+    public ReplicaRouter(Map<String, DataSource> replicas, ReadYourWritesTracker tracker, Duration maxLag,
+                         MeterRegistry meterRegistry) {
+        this(replicas, tracker, maxLag, meterRegistry, ReplicaRouter::queryLag);
+    }
+
+    ReplicaRouter(Map<String, DataSource> replicas, ReadYourWritesTracker tracker, Duration maxLag,
+                  MeterRegistry meterRegistry, LagProbe lagProbe) {
+        this.tracker = tracker;
+        this.maxLagSeconds = maxLag.toMillis() / 1000.0;
+        this.lagProbe = lagProbe;
+        replicas.forEach((name, dataSource) -> {
+            Replica replica = new Replica(name, dataSource);
+            this.replicas.add(replica);
+            Gauge.builder("db.replica.lag", replica, r -> r.lagSeconds)
+                    .description("Replay lag of the read replica at the last check; NaN when unreachable")
+                    .baseUnit("seconds")
+                    .tag("replica", name)
+                    .register(meterRegistry);
+            Gauge.builder("db.replica.available", replica, r -> r.available ? 1 : 0)
+                    .description("Whether the read replica is taking reads")
+                    .tag("replica", name)
+                    .register(meterRegistry);
+        });
+        this.replicaReads = routingCounter(meterRegistry, "replica", "in-rotation");
+        this.readYourWritesReads = routingCounter(meterRegistry, "primary", "read-your-writes");
+        this.tenantWriteReads = routingCounter(meterRegistry, "primary", "tenant-cache-refill");
+        this.unavailableReads = routingCounter(meterRegistry, "primary", "no-replica");
+    }
+
+    private static Counter routingCounter(MeterRegistry registry, String target, String reason) {
+        return Counter.builder(ROUTING_COUNTER)
+                .description("Read-only transactions by the database they were sent to")
+                .tags("target", target, "reason", reason)
+                .register(registry);
+    }
+
+    /**
+     * The replica to run the current read-only transaction on, or empty when
+     * it has to run on the primary.
+     */
+    public Optional<DataSource> route() {
+        if (tracker.hasRecentWrite()) {
+            readYourWritesReads.increment();
+            return Optional.empty();
+        }
+        if (tracker.hasRecentTenantWrite()) {
+            tenantWriteReads.increment();
+            return Optional.empty();
+        }
+        int size = replicas.size();
+        int start = size == 0 ? 0 : Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.available) {
+                replicaReads.increment();
+                return Optional.of(replica.dataSource);
+            }
+        }
+        unavailableReads.increment();
+        return Optional.empty();
+    }
+
+    /**
+     * Record that the current session wrote to the primary.
+     */
+    public void recordWrite() {
+        tracker.recordWrite();
+    }
+
+    @Scheduled(fixedDelayString = "${clinic.db.replicas.lag-check-interval:PT2S}")
+    public void checkLag() {
+        for (Replica replica : replicas) {
+            try {
+                replica.update(lagProbe.lagSeconds(replica.dataSource), maxLagSeconds);
+            } catch (SQLException | RuntimeException e) {
+                replica.unreachable(e);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    static double queryLag(DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(LAG_SQL)) {
+            resultSet.next();
+            return resultSet.getDouble(1);
+        }
+    }
+
+    @FunctionalInterface
+    interface LagProbe {
+        double lagSeconds(DataSource dataSource) throws SQLException;
+    }
+
+    private static final class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        private volatile double lagSeconds = Double.NaN;
+        private volatile boolean available;
+        private boolean reachable = true;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        private void update(double lag, double maxLag) {
+            boolean inRotation = lag <= maxLag;
+            if (inRotation && !available) {
+                log.info("Read replica {} in rotation, lag {}s", name, lag);
+            } else if (!inRotation && (available || Double.isNaN(lagSeconds))) {
+                log.warn("Read replica {} taken out of rotation: lag {}s exceeds {}s", name, lag, maxLag);
+            }
+            lagSeconds = lag;
+            available = inRotation;
+            reachable = true;
+        }
+
+        private void unreachable(Exception e) {
+            if (reachable) {
+                log.warn("Read replica {} unreachable, reads go to the primary: {}", name, e.getMessage());
+            }
+            lagSeconds = Double.NaN;
+            available = false;
+            reachable = false;
+        }
+    }
+}
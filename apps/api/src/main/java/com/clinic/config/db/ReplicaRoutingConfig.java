@@ -0,0 +1,127 @@
+package com.clinic.config.db;
+
+import com.clinic.modules.core.tenant.TenantContext;
+import com.clinic.modules.core.tenant.TenantContextHolder;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sends read-only transactions to read replicas when
+ * {@code clinic.db.replicas.enabled} is set: wraps the application DataSource
+ * in a {@link ReplicaRoutingDataSource} and builds one Hikari pool per
+ * replica URL.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "clinic.db.replicas", name = "enabled", havingValue = "true")
+public class ReplicaRoutingConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRoutingConfig.class);
+
+    @Bean
+    public static RoutingPostProcessor replicaRoutingPostProcessor(ObjectProvider<ReplicaRouter> router) {
+        return new RoutingPostProcessor(router);
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(ReplicaRoutingProperties properties,
+                                                       ObjectProvider<TenantContextHolder> tenantContextHolder) {
+        // A replica in rotation was within max-lag at its last check, so it may be
+        // up to one check interval further behind by now
+        Duration tenantWindow = properties.getMaxLag().plus(properties.getLagCheckInterval());
+        return new ReadYourWritesTracker(properties.getReadYourWritesWindow(), tenantWindow,
+                properties.getMaxTrackedSessions(),
+                () -> tenantContextHolder.getObject().findTenant().map(TenantContext::tenantId).orElse(null));
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReplicaRouter replicaRouter(ReplicaRoutingProperties properties,
+                                       DataSourceProperties dataSourceProperties,
+                                       Environment environment,
+                                       ReadYourWritesTracker tracker,
+                                       MeterRegistry meterRegistry) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        List<String> urls = properties.getUrls();
+        for (int i = 0; i < urls.size(); i++) {
+            String name = "replica-" + (i + 1);
+            replicas.put(name, replicaPool(name, urls.get(i).trim(), properties, dataSourceProperties, environment,
+                    meterRegistry));
+        }
+        if (replicas.isEmpty()) {
+            log.warn("Read replica routing is enabled but clinic.db.replicas.urls is empty; all reads go to the primary");
+        }
+        return new ReplicaRouter(replicas, tracker, properties.getMaxLag(), meterRegistry);
+    }
+
+    private static HikariDataSource replicaPool(String name,
+                                                String url,
+                                                ReplicaRoutingProperties properties,
+                                                DataSourceProperties primary,
+                                                Environment environment,
+                                                MeterRegistry meterRegistry) {
+        HikariConfig config = new HikariConfig();
+        // Same timeouts and driver properties (statement_timeout, ...) as the primary pool
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(config));
+        config.setPoolName("clinic-db-" + name);
+        config.setJdbcUrl(url);
+        config.setUsername(StringUtils.hasText(properties.getUsername())
+                ? properties.getUsername() : primary.determineUsername());
+        config.setPassword(StringUtils.hasText(properties.getPassword())
+                ? properties.getPassword() : primary.determinePassword());
+        config.setMaximumPoolSize(properties.getMaximumPoolSize());
+        config.setReadOnly(true);
+        // Tells replica sessions apart in pg_stat_activity
+        config.addDataSourceProperty("ApplicationName", "clinic-api-" + name);
+        // Start without the replica; the lag check keeps it out of rotation until it answers
+        config.setInitializationFailTimeout(-1);
+        config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return new HikariDataSource(config);
+    }
+
+    /**
+     * Ordered, so it wraps the primary pool before the connection-tracking
+     * and statement-profiling post-processors do; their wrappers then cover
+     * replica connections too.
+     */
+    public static class RoutingPostProcessor implements BeanPostProcessor, Ordered {
+
+        private final ObjectProvider<ReplicaRouter> router;
+
+        RoutingPostProcessor(ObjectProvider<ReplicaRouter> router) {
+            this.router = router;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof DataSource dataSource && !(bean instanceof ReplicaRoutingDataSource)) {
+                return new ReplicaRoutingDataSource(dataSource, router);
+            }
+            return bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+    }
+}
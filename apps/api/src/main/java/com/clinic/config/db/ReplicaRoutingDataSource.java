@@ -0,0 +1,140 @@
+package com.clinic.config.db;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * DataSource that runs read-only transactions on a read replica picked by the
+ * {@link ReplicaRouter} and everything else on the primary.
+ *
+ * Connections are fetched lazily, on the first statement: the transaction
+ * manager marks the connection read-only only after borrowing it, so the
+ * choice of database cannot be made any earlier. Primary connections that
+ * ran anything other than a SELECT report a write to the router when they are
+ * closed, which keeps the session on the primary for the read-your-writes
+ * window.
+ *
+ * Until the router is available (early in startup) all connections come from
+ * the primary.
+ */
+public class ReplicaRoutingDataSource extends LazyConnectionDataSourceProxy {
+
+    private final ObjectProvider<ReplicaRouter> routerProvider;
+    private volatile ReplicaRouter router;
+
+    public ReplicaRoutingDataSource(DataSource primary, ObjectProvider<ReplicaRouter> routerProvider) {
+        this.routerProvider = routerProvider;
+        setTargetDataSource(new WriteTrackingDataSource(primary));
+        setReadOnlyDataSource(new ReadOnlyDataSource(primary));
+        // Hikari and PostgreSQL defaults; known up front, so asking for them
+        // does not borrow a connection from the primary before routing
+        setDefaultAutoCommit(true);
+        setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+    }
+
+    private ReplicaRouter router() {
+        ReplicaRouter current = router;
+        if (current == null) {
+            current = routerProvider.getIfAvailable();
+            router = current;
+        }
+        return current;
+    }
+
+    private static boolean isSelect(String sql) {
+        return sql != null && sql.stripLeading().regionMatches(true, 0, "select", 0, 6);
+    }
+
+    /**
+     * Read-only side: a replica when the router has one in rotation, else the
+     * primary.
+     */
+    private final class ReadOnlyDataSource extends AbstractDataSource {
+
+        private final DataSource primary;
+
+        private ReadOnlyDataSource(DataSource primary) {
+            this.primary = primary;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return target().getConnection();
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return target().getConnection(username, password);
+        }
+
+        private DataSource target() {
+            ReplicaRouter current = router();
+            return current == null ? primary : current.route().orElse(primary);
+        }
+    }
+
+    /**
+     * Read-write side: the primary, with connections watched for writes.
+     */
+    private final class WriteTrackingDataSource extends DelegatingDataSource {
+
+        private WriteTrackingDataSource(DataSource primary) {
+            super(primary);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return track(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return track(super.getConnection(username, password));
+        }
+
+        private Connection track(Connection connection) {
+            ReplicaRouter current = router();
+            if (current == null) {
+                return connection;
+            }
+            boolean[] wrote = new boolean[1];
+            return (Connection) Proxy.newProxyInstance(
+                    ReplicaRoutingDataSource.class.getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        switch (method.getName()) {
+                            // The SQL of a plain Statement is only known on execute; assume it writes
+                            case "createStatement" -> wrote[0] = true;
+                            case "prepareStatement", "prepareCall" -> wrote[0] |= !isSelect((String) args[0]);
+                            case "close" -> {
+                                if (wrote[0]) {
+                                    wrote[0] = false;
+                                    current.recordWrite();
+                                }
+                            }
+                            case "equals" -> {
+                                return proxy == args[0];
+                            }
+                            case "hashCode" -> {
+                                return System.identityHashCode(proxy);
+                            }
+                            default -> {
+                            }
+                        }
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getTargetException();
+                        }
+                    });
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.clinic.config.db;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration properties for routing read-only transactions to read
+ * replicas.
+ *
+ * Replica pools inherit the {@code spring.datasource.hikari} settings of the
+ * primary pool. Username and password fall back to {@code spring.datasource.*}
+ * when left empty.
+ */
+@Component
+@ConfigurationProperties(prefix = "clinic.db.replicas")
+public class ReplicaRoutingProperties {
+
+    /** Route {@code @Transactional(readOnly = true)} work to the replicas at all. */
+    private boolean enabled = false;
+
+    /** JDBC URL of each replica. */
+    private List<String> urls = new ArrayList<>();
+
+    private String username;
+
+    private String password;
+
+    /** Connections per replica pool. */
+    private int maximumPoolSize = 10;
+
+    /** Replicas further behind the primary than this get no reads until they catch up. */
+    private Duration maxLag = Duration.ofSeconds(5);
+
+    /** How often each replica's replay lag is measured. */
+    private Duration lagCheckInterval = Duration.ofSeconds(2);
+
+    /**
+     * How long a session keeps reading from the primary after it wrote.
+     * Should be at least {@code maxLag}.
+     */
+    private Duration readYourWritesWindow = Duration.ofSeconds(10);
+
+    /** Upper bound on sessions remembered as having written recently. */
+    private long maxTrackedSessions = 100_000;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public List<String> getUrls() {
+        return urls;
+    }
+
+    public void setUrls(List<String> urls) {
+        this.urls = urls;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public void setPassword(String password) {
+        this.password = password;
+    }
+
+    public int getMaximumPoolSize() {
+        return maximumPoolSize;
+    }
+
+    public void setMaximumPoolSize(int maximumPoolSize) {
+        this.maximumPoolSize = maximumPoolSize;
+    }
+
+    public Duration getMaxLag() {
+        return maxLag;
+    }
+
+    public void setMaxLag(Duration maxLag) {
+        this.maxLag = maxLag;
+    }
+
+    public Duration getLagCheckInterval() {
+        return lagCheckInterval;
+    }
+
+    public void setLagCheckInterval(Duration lagCheckInterval) {
+        this.lagCheckInterval = lagCheckInterval;
+    }
+
+    public Duration getReadYourWritesWindow() {
+        return readYourWritesWindow;
+    }
+
+    public void setReadYourWritesWindow(Duration readYourWritesWindow) {
+        this.readYourWritesWindow = readYourWritesWindow;
+    }
+
+    public long getMaxTrackedSessions() {
+        return maxTrackedSessions;
+    }
+
+    public void setMaxTrackedSessions(long maxTrackedSessions) {
+        this.maxTrackedSessions = maxTrackedSessions;
+    }
+}
@@ -0,0 +1,64 @@
+package com.clinic.config.db;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Backs the Hibernate second-level cache with Caffeine through JCache.
+ *
+ * Regions are created up front with bounded size and TTL; Hibernate is handed
+ * this CacheManager instead of resolving its own. Switching the cache on or
+ * off is done with the {@code hibernate.cache.*} JPA properties.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(SecondLevelCacheProperties properties) {
+        // A URI of our own per context, so test contexts sharing a JVM do not share regions
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("clinic:hibernate-cache/" + UUID.randomUUID()), getClass().getClassLoader());
+
+        for (String region : HibernateCacheRegions.DOMAIN_REGIONS) {
+            cacheManager.createCache(region, region(properties.getEntityTtl(), properties.getEntityMaxEntries()));
+        }
+        cacheManager.createCache(HibernateCacheRegions.REFERENCE_QUERIES,
+                region(properties.getQueryTtl(), properties.getQueryMaxEntries()));
+        cacheManager.createCache(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME,
+                region(properties.getQueryTtl(), properties.getQueryMaxEntries()));
+        // One entry per table; must never expire ahead of the query results that depend on it
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, region(null, 0));
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheManagerCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    private static CaffeineConfiguration<Object, Object> region(Duration ttl, long maxEntries) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        // Hibernate stores immutable disassembled state, so copying on every get/put buys nothing
+        configuration.setStoreByValue(false);
+        configuration.setStatisticsEnabled(true);
+        if (ttl != null) {
+            configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        }
+        if (maxEntries > 0) {
+            configuration.setMaximumSize(OptionalLong.of(maxEntries));
+        }
+        return configuration;
+    }
+}
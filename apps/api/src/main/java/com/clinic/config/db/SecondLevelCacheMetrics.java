@@ -0,0 +1,74 @@
+package com.clinic.config.db;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Publishes per-region Hibernate second-level cache hits, misses, puts and
+ * hit ratio to Micrometer, read from Hibernate statistics
+ * ({@code hibernate.generate_statistics}) when the registry is scraped.
+ */
+@Component
+public class SecondLevelCacheMetrics {
+
+    public SecondLevelCacheMetrics(EntityManagerFactory entityManagerFactory, MeterRegistry meterRegistry) {
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        Statistics statistics = sessionFactory.getStatistics();
+        if (!statistics.isStatisticsEnabled() || !sessionFactory.getSessionFactoryOptions().isSecondLevelCacheEnabled()) {
+            return;
+        }
+        for (String region : HibernateCacheRegions.DOMAIN_REGIONS) {
+            register(meterRegistry, region, "domain", statistics, stats -> stats.getDomainDataRegionStatistics(region));
+        }
+        register(meterRegistry, HibernateCacheRegions.REFERENCE_QUERIES, "query", statistics,
+                stats -> stats.getQueryRegionStatistics(HibernateCacheRegions.REFERENCE_QUERIES));
+    }
+
+    private static void register(MeterRegistry registry, String region, String kind, Statistics statistics,
+                                 Function<Statistics, CacheRegionStatistics> regionStatistics) {
+        FunctionCounter.builder("hibernate.cache.region.requests", statistics,
+                        value(regionStatistics, CacheRegionStatistics::getHitCount))
+                .description("Second-level cache lookups")
+                .tags("region", region, "kind", kind, "result", "hit")
+                .register(registry);
+        FunctionCounter.builder("hibernate.cache.region.requests", statistics,
+                        value(regionStatistics, CacheRegionStatistics::getMissCount))
+                .description("Second-level cache lookups")
+                .tags("region", region, "kind", kind, "result", "miss")
+                .register(registry);
+        FunctionCounter.builder("hibernate.cache.region.puts", statistics,
+                        value(regionStatistics, CacheRegionStatistics::getPutCount))
+                .description("Entries put into the second-level cache")
+                .tags("region", region, "kind", kind)
+                .register(registry);
+        Gauge.builder("hibernate.cache.region.hit.ratio", statistics, stats -> hitRatio(regionStatistics.apply(stats)))
+                .description("Share of second-level cache lookups served from the cache since startup")
+                .tags("region", region, "kind", kind)
+                .register(registry);
+    }
+
+    private static ToDoubleFunction<Statistics> value(Function<Statistics, CacheRegionStatistics> regionStatistics,
+                                                      ToDoubleFunction<CacheRegionStatistics> metric) {
+        return stats -> {
+            CacheRegionStatistics region = regionStatistics.apply(stats);
+            return region == null ? 0 : metric.applyAsDouble(region);
+        };
+    }
+
+    static double hitRatio(CacheRegionStatistics region) {
+        if (region == null) {
+            return 0;
+        }
+        long lookups = region.getHitCount() + region.getMissCount();
+        return lookups == 0 ? 0 : (double) region.getHitCount() / lookups;
+    }
+}
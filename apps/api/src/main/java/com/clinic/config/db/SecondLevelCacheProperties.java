@@ -0,0 +1,63 @@
+package com.clinic.config.db;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the Hibernate second-level cache regions in
+ * {@link HibernateCacheRegions}.
+ *
+ * Writes through this node's EntityManager update or evict cached entries
+ * immediately; the TTLs bound how long writes made on other nodes can go
+ * unseen, since each node has its own in-process cache.
+ */
+@Component
+@ConfigurationProperties(prefix = "clinic.db.second-level-cache")
+public class SecondLevelCacheProperties {
+
+    /** How long a cached entity or collection is kept after it was loaded or written. */
+    private Duration entityTtl = Duration.ofMinutes(5);
+
+    /** Maximum entries per entity or collection region. */
+    private long entityMaxEntries = 10_000;
+
+    /** How long a cached query result is kept. */
+    private Duration queryTtl = Duration.ofMinutes(1);
+
+    /** Maximum entries per query results region. */
+    private long queryMaxEntries = 5_000;
+
+    public Duration getEntityTtl() {
+        return entityTtl;
+    }
+
+    public void setEntityTtl(Duration entityTtl) {
+        this.entityTtl = entityTtl;
+    }
+
+    public long getEntityMaxEntries() {
+        return entityMaxEntries;
+    }
+
+    public void setEntityMaxEntries(long entityMaxEntries) {
+        this.entityMaxEntries = entityMaxEntries;
+    }
+
+    public Duration getQueryTtl() {
+        return queryTtl;
+    }
+
+    public void setQueryTtl(Duration queryTtl) {
+        this.queryTtl = queryTtl;
+    }
+
+    public long getQueryMaxEntries() {
+        return queryMaxEntries;
+    }
+
+    public void setQueryMaxEntries(long queryMaxEntries) {
+        this.queryMaxEntries = queryMaxEntries;
+    }
+}
@@ -0,0 +1,16 @@
+package com.clinic.config.http;
+
+import org.springframework.web.client.ResourceAccessException;
+
+/**
+ * Thrown when an upstream already has its maximum number of calls in flight.
+ *
+ * Extends {@link ResourceAccessException} so existing RestTemplate error
+ * handling treats a rejected call like any other I/O failure.
+ */
+public class BulkheadFullException extends ResourceAccessException {
+
+    public BulkheadFullException(String upstream, int maxConcurrentCalls) {
+        super("Upstream '" + upstream + "' is saturated (" + maxConcurrentCalls + " calls in flight)");
+    }
+}
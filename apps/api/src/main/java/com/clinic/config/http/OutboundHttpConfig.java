@@ -0,0 +1,154 @@
+package com.clinic.config.http;
+
+import com.clinic.modules.core.payment.PayPalAccessTokenManager;
+import com.clinic.modules.core.payment.PayPalTokenRenewalInterceptor;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * RestTemplate beans for outbound calls, one per upstream.
+ *
+ * Each upstream gets its own pooled Apache HttpClient, so keep-alive connections
+ * are reused across requests and a slow upstream cannot exhaust another
+ * upstream's pool. Requests go through {@link UpstreamGuardInterceptor} for the
+ * bulkhead and latency timers. Pool usage is published as
+ * {@code http.client.pool.*} gauges.
+ */
+@Configuration
+public class OutboundHttpConfig implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboundHttpConfig.class);
+
+    public static final String PAYPAL = "paypal";
+    public static final String CLOUDFLARE = "cloudflare";
+    public static final String SENDGRID = "sendgrid";
+    public static final String DEFAULT = "default";
+
+    private final OutboundHttpProperties properties;
+    private final UpstreamGuards guards;
+    private final MeterRegistry meterRegistry;
+    private final List<CloseableHttpClient> clients = new CopyOnWriteArrayList<>();
+
+    public OutboundHttpConfig(OutboundHttpProperties properties, UpstreamGuards guards, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.guards = guards;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * PayPal RestTemplate. A call whose bearer token PayPal rejects is retried
+     * once with a fresh token, inside the same bulkhead slot.
+     */
+    @Bean
+    public RestTemplate paypalRestTemplate(ObjectProvider<PayPalAccessTokenManager> accessTokenManager) {
+        RestTemplate restTemplate = restTemplateFor(PAYPAL);
+        restTemplate.getInterceptors().add(new PayPalTokenRenewalInterceptor(accessTokenManager::getObject));
+        return restTemplate;
+    }
+
+    @Bean
+    public RestTemplate cloudflareRestTemplate() {
+        return restTemplateFor(CLOUDFLARE);
+    }
+
+    /**
+     * Cloudflare RestTemplate for image uploads. Interceptors make RestTemplate
+     * buffer the whole request body in memory, so this one has none and streams
+     * multipart bodies from their source; callers run requests through the
+     * cloudflare {@link UpstreamGuard} themselves.
+     */
+    @Bean
+    public RestTemplate cloudflareUploadRestTemplate() {
+        CloseableHttpClient httpClient = pooledClient(CLOUDFLARE + "-upload", properties.forUpstream(CLOUDFLARE), meterRegistry);
+        clients.add(httpClient);
+        return new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+    }
+
+    /**
+     * General purpose RestTemplate for upstreams without a dedicated pool.
+     */
+    @Bean
+    public RestTemplate restTemplate() {
+        return restTemplateFor(DEFAULT);
+    }
+
+    @Override
+    public void destroy() {
+        for (CloseableHttpClient client : clients) {
+            try {
+                client.close();
+            } catch (IOException e) {
+                log.warn("Failed to close outbound HTTP client: {}", e.getMessage());
+            }
+        }
+    }
+
+    RestTemplate restTemplateFor(String upstream) {
+        CloseableHttpClient httpClient = pooledClient(upstream, properties.forUpstream(upstream), meterRegistry);
+        clients.add(httpClient);
+
+        RestTemplate restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+        restTemplate.getInterceptors().add(new UpstreamGuardInterceptor(guards.forUpstream(upstream)));
+        return restTemplate;
+    }
+
+    static CloseableHttpClient pooledClient(String upstream, OutboundHttpProperties.Upstream settings,
+                                            MeterRegistry meterRegistry) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(settings.getMaxConnections())
+                .setMaxConnPerRoute(settings.getMaxConnections())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(settings.getConnectTimeout().toMillis()))
+                        .setSocketTimeout(Timeout.ofMilliseconds(settings.getResponseTimeout().toMillis()))
+                        .setTimeToLive(TimeValue.ofMilliseconds(settings.getTimeToLive().toMillis()))
+                        .build())
+                .build();
+
+        Gauge.builder("http.client.pool.leased", connectionManager, cm -> cm.getTotalStats().getLeased())
+                .tag("upstream", upstream)
+                .description("Pooled connections currently in use")
+                .register(meterRegistry);
+        Gauge.builder("http.client.pool.available", connectionManager, cm -> cm.getTotalStats().getAvailable())
+                .tag("upstream", upstream)
+                .description("Idle pooled connections ready for reuse")
+                .register(meterRegistry);
+        Gauge.builder("http.client.pool.pending", connectionManager, cm -> cm.getTotalStats().getPending())
+                .tag("upstream", upstream)
+                .description("Requests waiting for a pooled connection")
+                .register(meterRegistry);
+
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.ofMilliseconds(settings.getConnectionRequestTimeout().toMillis()))
+                .setResponseTimeout(Timeout.ofMilliseconds(settings.getResponseTimeout().toMillis()))
+                .build();
+
+        // Retries are left to callers: PayPal and Cloudflare POSTs are not idempotent
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(settings.getIdleTimeout().toMillis()))
+                .disableAutomaticRetries()
+                .build();
+    }
+}
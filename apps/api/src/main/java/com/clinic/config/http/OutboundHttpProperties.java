@@ -0,0 +1,139 @@
+package com.clinic.config.http;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Configuration properties for outbound HTTP clients.
+ *
+ * Each upstream (paypal, cloudflare, sendgrid, ...) gets its own connection pool,
+ * timeouts and bulkhead. Upstreams without an explicit entry use {@code defaults}.
+ */
+@Component
+@ConfigurationProperties(prefix = "outbound-http")
+public class OutboundHttpProperties {
+
+    private Upstream defaults = new Upstream();
+    private Map<String, Upstream> upstreams = new HashMap<>();
+
+    /**
+     * Returns the settings for the named upstream, falling back to the defaults.
+     */
+    public Upstream forUpstream(String name) {
+        return upstreams.getOrDefault(name, defaults);
+    }
+
+    public Upstream getDefaults() {
+        return defaults;
+    }
+
+    public void setDefaults(Upstream defaults) {
+        this.defaults = defaults;
+    }
+
+    public Map<String, Upstream> getUpstreams() {
+        return upstreams;
+    }
+
+    public void setUpstreams(Map<String, Upstream> upstreams) {
+        this.upstreams = upstreams;
+    }
+
+    /**
+     * Pool, timeout and bulkhead settings for one upstream.
+     */
+    public static class Upstream {
+
+        /** TCP + TLS connect timeout. */
+        private Duration connectTimeout = Duration.ofSeconds(5);
+
+        /** Maximum wait for response data once the request is sent. */
+        private Duration responseTimeout = Duration.ofSeconds(30);
+
+        /** Maximum wait for a pooled connection to become free. */
+        private Duration connectionRequestTimeout = Duration.ofSeconds(2);
+
+        /** Maximum pooled connections to the upstream. */
+        private int maxConnections = 20;
+
+        /** Maximum calls in flight at once; further calls wait up to bulkheadWait, then fail. */
+        private int maxConcurrentCalls = 20;
+
+        /** How long a call may wait for a free bulkhead slot. */
+        private Duration bulkheadWait = Duration.ofMillis(500);
+
+        /** Idle connections are closed after this long. */
+        private Duration idleTimeout = Duration.ofSeconds(30);
+
+        /** Connections are never reused after this age, so DNS changes are picked up. */
+        private Duration timeToLive = Duration.ofMinutes(5);
+
+        public Duration getConnectTimeout() {
+            return connectTimeout;
+        }
+
+        public void setConnectTimeout(Duration connectTimeout) {
+            this.connectTimeout = connectTimeout;
+        }
+
+        public Duration getResponseTimeout() {
+            return responseTimeout;
+        }
+
+        public void setResponseTimeout(Duration responseTimeout) {
+            this.responseTimeout = responseTimeout;
+        }
+
+        public Duration getConnectionRequestTimeout() {
+            return connectionRequestTimeout;
+        }
+
+        public void setConnectionRequestTimeout(Duration connectionRequestTimeout) {
+            this.connectionRequestTimeout = connectionRequestTimeout;
+        }
+
+        public int getMaxConnections() {
+            return maxConnections;
+        }
+
+        public void setMaxConnections(int maxConnections) {
+            this.maxConnections = maxConnections;
+        }
+
+        public int getMaxConcurrentCalls() {
+            return maxConcurrentCalls;
+        }
+
+        public void setMaxConcurrentCalls(int maxConcurrentCalls) {
+            this.maxConcurrentCalls = maxConcurrentCalls;
+        }
+
+        public Duration getBulkheadWait() {
+            return bulkheadWait;
+        }
+
+        public void setBulkheadWait(Duration bulkheadWait) {
+            this.bulkheadWait = bulkheadWait;
+        }
+
+        public Duration getIdleTimeout() {
+            return idleTimeout;
+        }
+
+        public void setIdleTimeout(Duration idleTimeout) {
+            this.idleTimeout = idleTimeout;
+        }
+
+        public Duration getTimeToLive() {
+            return timeToLive;
+        }
+
+        public void setTimeToLive(Duration timeToLive) {
+            this.timeToLive = timeToLive;
+        }
+    }
+}
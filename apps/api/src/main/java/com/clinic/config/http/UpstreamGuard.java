@@ -0,0 +1,165 @@
+package com.clinic.config.http;
+
+import com.clinic.config.db.ConnectionHoldWatchdog;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.ToIntFunction;
+
+/**
+ * Bulkhead and latency timer for calls to one upstream.
+ *
+ * Every call is recorded in the {@code http.client.upstream} timer tagged with
+ * upstream, operation and outcome. Calls beyond the concurrency limit wait
+ * briefly for a slot and are then rejected, so one slow upstream cannot take
+ * over all request threads.
+ *
+ * A call holds its slot until it ends. {@link #execute} ends it when the call
+ * returns, which suits clients that have read the whole response by then; for
+ * streamed responses use {@link #begin} and end the call once the body is closed.
+ *
+ * When a {@link ConnectionHoldWatchdog} is given, each call first checks that
+ * the calling thread is not holding a database connection.
+ */
+public class UpstreamGuard {
+
+    static final String TIMER_NAME = "http.client.upstream";
+
+    private final String upstream;
+    private final int maxConcurrentCalls;
+    private final Duration bulkheadWait;
+    private final Semaphore permits;
+    private final MeterRegistry meterRegistry;
+    private final ConnectionHoldWatchdog watchdog;
+
+    public UpstreamGuard(String upstream, int maxConcurrentCalls, Duration bulkheadWait, MeterRegistry meterRegistry) {
+        this(upstream, maxConcurrentCalls, bulkheadWait, meterRegistry, null);
+    }
+
+    public UpstreamGuard(String upstream, int maxConcurrentCalls, Duration bulkheadWait, MeterRegistry meterRegistry,
+                         ConnectionHoldWatchdog watchdog) {
+        this.watchdog = watchdog;
+        this.upstream = upstream;
+        this.maxConcurrentCalls = maxConcurrentCalls;
+        this.bulkheadWait = bulkheadWait;
+        this.permits = new Semaphore(maxConcurrentCalls, true);
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder("http.client.upstream.in.flight", permits, p -> maxConcurrentCalls - p.availablePermits())
+                .tag("upstream", upstream)
+                .description("Calls currently in flight to the upstream")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Run a call through the bulkhead and record its latency and outcome.
+     *
+     * @param operation low-cardinality operation name, e.g. {@code POST /v2/checkout/orders}
+     * @param call the call to run
+     * @param statusOf extracts the HTTP status from the result; a value below 100 counts as an error
+     * @throws BulkheadFullException if no slot frees up within the configured wait
+     * @throws IllegalStateException if the thread holds a database connection and the watchdog policy is {@code FAIL}
+     */
+    public <T, E extends Exception> T execute(String operation, UpstreamCall<T, E> call, ToIntFunction<T> statusOf) throws E {
+        InFlightCall inFlight = begin(operation);
+        int status = -1;
+        try {
+            T result = call.call();
+            status = statusOf.applyAsInt(result);
+            return result;
+        } finally {
+            inFlight.end(status);
+        }
+    }
+
+    /**
+     * Take a slot for a call whose end the caller signals itself.
+     *
+     * @throws BulkheadFullException if no slot frees up within the configured wait
+     * @throws IllegalStateException if the thread holds a database connection and the watchdog policy is {@code FAIL}
+     */
+    public InFlightCall begin(String operation) {
+        if (watchdog != null) {
+            watchdog.onRemoteCall(upstream, operation);
+        }
+        if (!tryAcquire()) {
+            record(operation, "REJECTED", 0);
+            throw new BulkheadFullException(upstream, maxConcurrentCalls);
+        }
+        return new InFlightCall(operation);
+    }
+
+    public String getUpstream() {
+        return upstream;
+    }
+
+    private boolean tryAcquire() {
+        try {
+            return permits.tryAcquire(bulkheadWait.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void record(String operation, String outcome, long nanos) {
+        Timer.builder(TIMER_NAME)
+                .description("Latency of outbound calls by upstream and operation")
+                .tag("upstream", upstream)
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static String outcomeOf(int status) {
+        if (status < 100) {
+            return "ERROR";
+        }
+        if (status >= 500) {
+            return "SERVER_ERROR";
+        }
+        if (status >= 400) {
+            return "CLIENT_ERROR";
+        }
+        return "SUCCESS";
+    }
+
+    /**
+     * A call holding a bulkhead slot. Ending it frees the slot and records the
+     * time since {@link #begin}; only the first end counts.
+     */
+    public final class InFlightCall {
+
+        private final String operation;
+        private final long start = System.nanoTime();
+        private final AtomicBoolean ended = new AtomicBoolean();
+
+        private InFlightCall(String operation) {
+            this.operation = operation;
+        }
+
+        /**
+         * @param status the HTTP status of the response; a value below 100 counts as an error
+         */
+        public void end(int status) {
+            if (ended.compareAndSet(false, true)) {
+                permits.release();
+                record(operation, outcomeOf(status), System.nanoTime() - start);
+            }
+        }
+    }
+
+    /**
+     * A call that may throw a checked exception.
+     */
+    @FunctionalInterface
+    public interface UpstreamCall<T, E extends Exception> {
+        T call() throws E;
+    }
+}
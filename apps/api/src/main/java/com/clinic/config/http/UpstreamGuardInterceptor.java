@@ -0,0 +1,126 @@
+package com.clinic.config.http;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.regex.Pattern;
+
+/**
+ * RestTemplate interceptor that runs every request through an {@link UpstreamGuard}.
+ *
+ * The operation tag is the method plus the request path with ids replaced by
+ * {@code {id}}, which keeps the number of timer series bounded.
+ *
+ * The call keeps its bulkhead slot, and its timer keeps running, until the
+ * response is closed: the body is still being read from the socket after
+ * {@code execute} returns. RestTemplate closes every response once it has
+ * been extracted.
+ */
+public class UpstreamGuardInterceptor implements ClientHttpRequestInterceptor {
+
+    private static final Pattern NUMERIC = Pattern.compile("\\d+");
+    private static final Pattern CONTAINS_DIGIT = Pattern.compile(".*\\d.*");
+    private static final int MIN_ID_LENGTH = 6;
+
+    private final UpstreamGuard guard;
+
+    public UpstreamGuardInterceptor(UpstreamGuard guard) {
+        this.guard = guard;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        String operation = request.getMethod().name() + " " + normalizePath(request.getURI().getPath());
+        UpstreamGuard.InFlightCall call = guard.begin(operation);
+        ClientHttpResponse response;
+        try {
+            response = execution.execute(request, body);
+        } catch (IOException | RuntimeException | Error e) {
+            call.end(-1);
+            throw e;
+        }
+        return new GuardedResponse(response, call, statusOf(response));
+    }
+
+    /**
+     * Replaces id-like path segments: all-digit segments, and segments of six or
+     * more characters that contain a digit. Version segments such as {@code v2} are kept.
+     */
+    static String normalizePath(String path) {
+        if (path == null || path.isEmpty()) {
+            return "/";
+        }
+        String[] segments = path.split("/", -1);
+        StringBuilder normalized = new StringBuilder();
+        for (int i = 0; i < segments.length; i++) {
+            if (i > 0) {
+                normalized.append('/');
+            }
+            String segment = segments[i];
+            boolean isId = NUMERIC.matcher(segment).matches()
+                    || (segment.length() >= MIN_ID_LENGTH && CONTAINS_DIGIT.matcher(segment).matches());
+            normalized.append(isId ? "{id}" : segment);
+        }
+        return normalized.toString();
+    }
+
+    private static int statusOf(ClientHttpResponse response) {
+        try {
+            return response.getStatusCode().value();
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Ends the guarded call when the response is closed.
+     */
+    private static final class GuardedResponse implements ClientHttpResponse {
+
+        private final ClientHttpResponse delegate;
+        private final UpstreamGuard.InFlightCall call;
+        private final int status;
+
+        GuardedResponse(ClientHttpResponse delegate, UpstreamGuard.InFlightCall call, int status) {
+            this.delegate = delegate;
+            this.call = call;
+            this.status = status;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            return delegate.getBody();
+        }
+
+        @Override
+        public void close() {
+            try {
+                delegate.close();
+            } finally {
+                call.end(status);
+            }
+        }
+    }
+}
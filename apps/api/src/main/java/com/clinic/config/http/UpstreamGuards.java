@@ -0,0 +1,40 @@
+package com.clinic.config.http;
+
+import com.clinic.config.db.ConnectionHoldWatchdog;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds one {@link UpstreamGuard} per upstream name, so the bulkhead is shared
+ * by every client that talks to the same upstream.
+ */
+@Component
+public class UpstreamGuards {
+
+    private final OutboundHttpProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ConnectionHoldWatchdog watchdog;
+    private final Map<String, UpstreamGuard> guards = new ConcurrentHashMap<>();
+
+    public UpstreamGuards(OutboundHttpProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, null);
+    }
+
+    @Autowired
+    public UpstreamGuards(OutboundHttpProperties properties, MeterRegistry meterRegistry, ConnectionHoldWatchdog watchdog) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.watchdog = watchdog;
+    }
+
+    public UpstreamGuard forUpstream(String upstream) {
+        return guards.computeIfAbsent(upstream, name -> {
+            OutboundHttpProperties.Upstream settings = properties.forUpstream(name);
+            return new UpstreamGuard(name, settings.getMaxConcurrentCalls(), settings.getBulkheadWait(), meterRegistry, watchdog);
+        });
+    }
+}
@@ -0,0 +1,114 @@
+package com.clinic.config.observability;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Running cost totals per tenant and per endpoint since startup, for the
+ * top-N reports on the SaaS dashboard.
+ *
+ * Endpoints are keyed by method and route template, so the number of keys is
+ * bounded by the number of mappings and tenants.
+ */
+@Component
+public class RequestCostRegistry {
+
+    public enum Dimension {
+        TENANT,
+        ENDPOINT
+    }
+
+    public enum SortBy {
+        /** Total request time. */
+        TIME,
+        /** Total time spent in SQL. */
+        SQL_TIME,
+        /** Total JDBC statements. */
+        STATEMENTS
+    }
+
+    private final Map<String, Totals> byTenant = new ConcurrentHashMap<>();
+    private final Map<String, Totals> byEndpoint = new ConcurrentHashMap<>();
+
+    void record(String tenant, String endpoint, long elapsedNanos, int statements, long sqlNanos, boolean repeatedStatement) {
+        byTenant.computeIfAbsent(tenant, key -> new Totals()).add(elapsedNanos, statements, sqlNanos, repeatedStatement);
+        byEndpoint.computeIfAbsent(endpoint, key -> new Totals()).add(elapsedNanos, statements, sqlNanos, repeatedStatement);
+    }
+
+    /**
+     * The costliest tenants or endpoints, most expensive first.
+     */
+    public List<RequestCost> top(Dimension dimension, SortBy sortBy, int limit) {
+        Map<String, Totals> totals = dimension == Dimension.TENANT ? byTenant : byEndpoint;
+        return totals.entrySet().stream()
+                .map(entry -> entry.getValue().toCost(entry.getKey()))
+                .sorted(comparator(sortBy).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    private static Comparator<RequestCost> comparator(SortBy sortBy) {
+        return switch (sortBy) {
+            case TIME -> Comparator.comparingLong(RequestCost::totalTimeMs);
+            case SQL_TIME -> Comparator.comparingLong(RequestCost::sqlTimeMs);
+            case STATEMENTS -> Comparator.comparingLong(RequestCost::statements);
+        };
+    }
+
+    private static final class Totals {
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder elapsedNanos = new LongAdder();
+        private final LongAdder statements = new LongAdder();
+        private final LongAdder sqlNanos = new LongAdder();
+        private final LongAdder repeatedStatementRequests = new LongAdder();
+
+        void add(long elapsed, int statementCount, long sql, boolean repeatedStatement) {
+            requests.increment();
+            elapsedNanos.add(elapsed);
+            statements.add(statementCount);
+            sqlNanos.add(sql);
+            if (repeatedStatement) {
+                repeatedStatementRequests.increment();
+            }
+        }
+
+        RequestCost toCost(String key) {
+            long count = requests.sum();
+            long totalMs = TimeUnit.NANOSECONDS.toMillis(elapsedNanos.sum());
+            long statementCount = statements.sum();
+            return new RequestCost(
+                    key,
+                    count,
+                    totalMs,
+                    count > 0 ? (double) totalMs / count : 0d,
+                    statementCount,
+                    count > 0 ? (double) statementCount / count : 0d,
+                    TimeUnit.NANOSECONDS.toMillis(sqlNanos.sum()),
+                    repeatedStatementRequests.sum()
+            );
+        }
+    }
+
+    /**
+     * Accumulated cost of one tenant or endpoint.
+     *
+     * @param nPlusOneRequests requests that ran one statement at least the N+1 threshold times
+     */
+    public record RequestCost(
+            String key,
+            long requests,
+            long totalTimeMs,
+            double avgTimeMs,
+            long statements,
+            double avgStatements,
+            long sqlTimeMs,
+            long nPlusOneRequests
+    ) {
+    }
+}
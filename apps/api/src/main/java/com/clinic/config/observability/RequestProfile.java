@@ -0,0 +1,70 @@
+package com.clinic.config.observability;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Statements run by one request, on the request thread.
+ *
+ * SQL text is kept per distinct statement (whitespace collapsed, bind values
+ * are already placeholders) to spot the same query run once per row. Work
+ * handed to other threads is not included.
+ */
+final class RequestProfile {
+
+    /** Distinct statements remembered per request; later ones are still counted. */
+    private static final int MAX_DISTINCT_STATEMENTS = 256;
+
+    private final long startNanos = System.nanoTime();
+    private final Map<String, Integer> executionsBySql = new HashMap<>();
+    private int statements;
+    private long sqlNanos;
+
+    void record(String sql, long nanos) {
+        statements++;
+        sqlNanos += nanos;
+        if (sql == null) {
+            return;
+        }
+        String key = normalize(sql);
+        if (executionsBySql.size() < MAX_DISTINCT_STATEMENTS || executionsBySql.containsKey(key)) {
+            executionsBySql.merge(key, 1, Integer::sum);
+        }
+    }
+
+    /**
+     * Time spent fetching rows of a statement already counted.
+     */
+    void recordFetch(long nanos) {
+        sqlNanos += nanos;
+    }
+
+    long startNanos() {
+        return startNanos;
+    }
+
+    int statements() {
+        return statements;
+    }
+
+    long sqlNanos() {
+        return sqlNanos;
+    }
+
+    /**
+     * The statement run most often in this request, or null if none was run.
+     */
+    Map.Entry<String, Integer> mostRepeated() {
+        Map.Entry<String, Integer> top = null;
+        for (Map.Entry<String, Integer> entry : executionsBySql.entrySet()) {
+            if (top == null || entry.getValue() > top.getValue()) {
+                top = entry;
+            }
+        }
+        return top;
+    }
+
+    static String normalize(String sql) {
+        return sql.strip().replaceAll("\\s+", " ");
+    }
+}
@@ -0,0 +1,131 @@
+package com.clinic.config.observability;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Profiles the HTTP request running on the current thread.
+ *
+ * {@link RequestProfilingFilter} opens a profile with {@link #begin()} and
+ * closes it with {@link #complete}; in between, {@link StatementProfilingDataSource}
+ * reports every JDBC execution through {@link #onStatement(String, long)} and
+ * the time spent fetching result rows through {@link #onFetch(long)}.
+ * Completed requests feed per tenant/route meters, the
+ * {@link RequestCostRegistry} and the slow-request and N+1 logs.
+ */
+@Component
+public class RequestProfiler {
+
+    private static final Logger log = LoggerFactory.getLogger(RequestProfiler.class);
+
+    static final String STATEMENTS_SUMMARY = "http.server.requests.statements";
+    static final String SQL_TIMER = "http.server.requests.sql";
+    static final String REPEATED_STATEMENT_COUNTER = "http.server.requests.nplusone";
+
+    private final RequestProfilingProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final RequestCostRegistry costRegistry;
+    private final ThreadLocal<RequestProfile> current = new ThreadLocal<>();
+
+    public RequestProfiler(RequestProfilingProperties properties,
+                           MeterRegistry meterRegistry,
+                           RequestCostRegistry costRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.costRegistry = costRegistry;
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * Whether a request is being profiled on this thread; statements are only
+     * wrapped when it is.
+     */
+    boolean isActive() {
+        return current.get() != null;
+    }
+
+    void begin() {
+        current.set(new RequestProfile());
+    }
+
+    void onStatement(String sql, long nanos) {
+        RequestProfile profile = current.get();
+        if (profile != null) {
+            profile.record(sql, nanos);
+        }
+    }
+
+    void onFetch(long nanos) {
+        RequestProfile profile = current.get();
+        if (profile != null) {
+            profile.recordFetch(nanos);
+        }
+    }
+
+    /**
+     * Close the current profile and record it.
+     *
+     * @param tenant tenant id, or {@code none} for requests outside a tenant
+     * @param route  route template such as {@code /admin/doctors/{id}}
+     */
+    void complete(String tenant, String method, String route, int status) {
+        RequestProfile profile = current.get();
+        current.remove();
+        if (profile == null) {
+            return;
+        }
+        long elapsedNanos = System.nanoTime() - profile.startNanos();
+        String endpoint = method + " " + route;
+
+        Map.Entry<String, Integer> repeated = profile.mostRepeated();
+        boolean nPlusOne = repeated != null && repeated.getValue() >= properties.getRepeatedStatementThreshold();
+
+        Tags tags = Tags.of("uri", route, "method", method);
+        if (properties.isTenantTag()) {
+            tags = tags.and("tenant", tenant);
+        }
+        DistributionSummary.builder(STATEMENTS_SUMMARY)
+                .description("JDBC statements run per HTTP request")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(profile.statements());
+        Timer.builder(SQL_TIMER)
+                .description("Time spent executing JDBC statements and fetching their rows per HTTP request")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(profile.sqlNanos(), TimeUnit.NANOSECONDS);
+        costRegistry.record(tenant, endpoint, elapsedNanos, profile.statements(), profile.sqlNanos(), nPlusOne);
+
+        if (nPlusOne) {
+            Counter.builder(REPEATED_STATEMENT_COUNTER)
+                    .description("Requests that ran one statement at least the N+1 threshold times")
+                    .tags("uri", route, "method", method)
+                    .register(meterRegistry)
+                    .increment();
+            log.warn("Possible N+1 in {} (tenant {}): statement ran {} times: {}",
+                    endpoint, tenant, repeated.getValue(), abbreviate(repeated.getKey()));
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        if (elapsedMillis > properties.getSlowThreshold().toMillis()) {
+            log.warn("Slow request {} (tenant {}) -> {} in {} ms: {} statements, {} ms in SQL",
+                    endpoint, tenant, status, elapsedMillis, profile.statements(),
+                    TimeUnit.NANOSECONDS.toMillis(profile.sqlNanos()));
+        }
+    }
+
+    private static String abbreviate(String sql) {
+        return sql.length() <= 200 ? sql : sql.substring(0, 200) + "...";
+    }
+}
@@ -0,0 +1,33 @@
+package com.clinic.config.observability;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Wires request profiling: wraps the application DataSource in a
+ * {@link StatementProfilingDataSource}.
+ *
+ * The {@code http.server.requests} timers are left without a tenant tag: they
+ * publish a percentiles histogram, so a tag per tenant would multiply every
+ * bucket series. Tenant costs come from {@link RequestCostRegistry}.
+ */
+@Configuration
+public class RequestProfilingConfig {
+
+    @Bean
+    public static BeanPostProcessor statementProfilingPostProcessor(ObjectProvider<RequestProfiler> profiler) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof StatementProfilingDataSource)) {
+                    return new StatementProfilingDataSource(dataSource, profiler);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,60 @@
+package com.clinic.config.observability;
+
+import com.clinic.modules.core.tenant.TenantContext;
+import com.clinic.modules.core.tenant.TenantContextHolder;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Opens a {@link RequestProfiler} profile around each request.
+ *
+ * Runs just inside {@code TenantResolutionFilter}, so the tenant is known when
+ * the request completes.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+public class RequestProfilingFilter extends OncePerRequestFilter {
+
+    static final String NO_TENANT = "none";
+    static final String UNKNOWN_ROUTE = "UNKNOWN";
+
+    private final RequestProfiler profiler;
+    private final TenantContextHolder tenantContextHolder;
+
+    public RequestProfilingFilter(RequestProfiler profiler, TenantContextHolder tenantContextHolder) {
+        this.profiler = profiler;
+        this.tenantContextHolder = tenantContextHolder;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !profiler.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        profiler.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            String tenant = tenantContextHolder.findTenant()
+                    .map(TenantContext::tenantId)
+                    .map(String::valueOf)
+                    .orElse(NO_TENANT);
+            Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            profiler.complete(tenant, request.getMethod(), route != null ? route.toString() : UNKNOWN_ROUTE,
+                    response.getStatus());
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.clinic.config.observability;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for per-request profiling.
+ *
+ * Every HTTP request counts the JDBC statements it runs and the time spent in
+ * them. Requests slower than {@code slowThreshold} are logged with those
+ * numbers, and a request that runs the same SQL {@code repeatedStatementThreshold}
+ * times or more is flagged as a likely N+1.
+ */
+@Component
+@ConfigurationProperties(prefix = "clinic.observability.requests")
+public class RequestProfilingProperties {
+
+    /** Profile requests at all. */
+    private boolean enabled = true;
+
+    /** Requests slower than this are logged. */
+    private Duration slowThreshold = Duration.ofSeconds(1);
+
+    /** Executions of one SQL statement within a request that flag it as an N+1. */
+    private int repeatedStatementThreshold = 10;
+
+    /**
+     * Also tag the per-request statement and SQL meters with the tenant id.
+     * Off by default: it multiplies their series by the number of tenants.
+     * Per-tenant totals are always available from /saas/metrics/costs.
+     */
+    private boolean tenantTag = false;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getSlowThreshold() {
+        return slowThreshold;
+    }
+
+    public void setSlowThreshold(Duration slowThreshold) {
+        this.slowThreshold = slowThreshold;
+    }
+
+    public int getRepeatedStatementThreshold() {
+        return repeatedStatementThreshold;
+    }
+
+    public void setRepeatedStatementThreshold(int repeatedStatementThreshold) {
+        this.repeatedStatementThreshold = repeatedStatementThreshold;
+    }
+
+    public boolean isTenantTag() {
+        return tenantTag;
+    }
+
+    public void setTenantTag(boolean tenantTag) {
+        this.tenantTag = tenantTag;
+    }
+}
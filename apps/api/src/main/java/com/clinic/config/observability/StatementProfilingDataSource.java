@@ -0,0 +1,157 @@
+package com.clinic.config.observability;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+
+/**
+ * DataSource that times every JDBC execution made while a request is being
+ * profiled and reports it to the {@link RequestProfiler}.
+ *
+ * SQL time is the time spent in {@code execute*} calls plus the time spent
+ * moving through their result sets, where the driver fetches rows beyond the
+ * first batch. Time the application spends between rows is not counted.
+ *
+ * Works below Hibernate, so JdbcTemplate queries are counted too. Connections
+ * borrowed outside a profiled request, e.g. by scheduled jobs, are returned
+ * unwrapped. A batch counts as one statement.
+ */
+public class StatementProfilingDataSource extends DelegatingDataSource {
+
+    /** ResultSet methods that may wait for the driver to fetch more rows. */
+    private static final Set<String> ROW_MOVES = Set.of("next", "previous", "absolute", "relative", "first", "last");
+
+    private final ObjectProvider<RequestProfiler> profilerProvider;
+    private volatile RequestProfiler profiler;
+
+    public StatementProfilingDataSource(DataSource target, ObjectProvider<RequestProfiler> profilerProvider) {
+        super(target);
+        this.profilerProvider = profilerProvider;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return profile(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return profile(super.getConnection(username, password));
+    }
+
+    private Connection profile(Connection connection) {
+        RequestProfiler current = profiler();
+        if (current == null || !current.isActive()) {
+            return connection;
+        }
+        return (Connection) Proxy.newProxyInstance(
+                StatementProfilingDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "createStatement" ->
+                            wrap(current, (Statement) invoke(connection, method, args), Statement.class, null);
+                    case "prepareStatement" ->
+                            wrap(current, (Statement) invoke(connection, method, args), PreparedStatement.class, (String) args[0]);
+                    case "prepareCall" ->
+                            wrap(current, (Statement) invoke(connection, method, args), CallableStatement.class, (String) args[0]);
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    default -> invoke(connection, method, args);
+                });
+    }
+
+    private static Object wrap(RequestProfiler profiler, Statement statement, Class<? extends Statement> type, String preparedSql) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                default -> {
+                    if (!method.getName().startsWith("execute")) {
+                        return timeFetches(profiler, invoke(statement, method, args));
+                    }
+                }
+            }
+            String sql = preparedSql != null ? preparedSql
+                    : args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+            long start = System.nanoTime();
+            Object result;
+            try {
+                result = invoke(statement, method, args);
+            } finally {
+                profiler.onStatement(sql, System.nanoTime() - start);
+            }
+            return timeFetches(profiler, result);
+        };
+        return Proxy.newProxyInstance(StatementProfilingDataSource.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    /**
+     * Wraps result sets (from executeQuery, getResultSet or getGeneratedKeys)
+     * so row fetches count as SQL time; other values are returned as they are.
+     */
+    private static Object timeFetches(RequestProfiler profiler, Object result) {
+        if (!(result instanceof ResultSet resultSet)) {
+            return result;
+        }
+        InvocationHandler handler = (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                default -> {
+                    if (!ROW_MOVES.contains(method.getName())) {
+                        return invoke(resultSet, method, args);
+                    }
+                }
+            }
+            long start = System.nanoTime();
+            try {
+                return invoke(resultSet, method, args);
+            } finally {
+                profiler.onFetch(System.nanoTime() - start);
+            }
+        };
+        return Proxy.newProxyInstance(StatementProfilingDataSource.class.getClassLoader(),
+                new Class<?>[]{ResultSet.class}, handler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    /**
+     * The profiler is looked up on first use: the DataSource is created before
+     * the meter registry the profiler depends on.
+     */
+    private RequestProfiler profiler() {
+        RequestProfiler current = profiler;
+        if (current == null) {
+            current = profilerProvider.getIfAvailable();
+            profiler = current;
+        }
+        return current;
+    }
+}
@@ -1,5 +1,6 @@
 package com.clinic.modules.admin.auth;
 
+import com.clinic.modules.core.email.SendGridClientFactory;
 import com.sendgrid.Method;
 import com.sendgrid.Request;
 import com.sendgrid.Response;
@@ -33,8 +34,9 @@ public class PasswordResetEmailService {
             @Value("${security.email.from-email}") String fromEmail,
             @Value("${security.email.from-name}") String fromName,
             @Value("${security.email.enabled}") boolean emailEnabled,
-            @Value("${app.admin-url}") String adminBaseUrl) {
-        this.sendGrid = new SendGrid(sendGridApiKey);
+            @Value("${app.admin-url}") String adminBaseUrl,
+            SendGridClientFactory sendGridClientFactory) {
+        this.sendGrid = sendGridClientFactory.create(sendGridApiKey);
         this.fromEmail = fromEmail;
         this.fromName = fromName;
         this.emailEnabled = emailEnabled;
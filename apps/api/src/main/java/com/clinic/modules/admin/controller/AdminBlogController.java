@@ -1,5 +1,6 @@
 package com.clinic.modules.admin.controller;
 
+import com.clinic.api.KeysetPage;
 import com.clinic.modules.admin.dto.BlogRequest;
 import com.clinic.modules.admin.dto.BlogResponse;
 import com.clinic.modules.admin.service.BlogService;
@@ -29,18 +30,19 @@ public class AdminBlogController {
     }
 
     /**
-     * Get all blogs (all statuses)
-     * GET /admin/blogs
+     * Get a page of blogs (all statuses), newest first, without content.
+     * GET /admin/blogs?cursor=&limit=
+     * The next page's cursor is returned in the X-Next-Cursor header.
+     * Without cursor and limit, all blogs are returned.
      */
     @GetMapping
     @PreAuthorize("@permissionService.canView('blogs')")
     public ResponseEntity<List<BlogResponse>> getAllBlogs(
-            @RequestParam(required = false) String locale
+            @RequestParam(required = false) String locale,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit
     ) {
-        if (locale != null && !locale.isEmpty()) {
-            return ResponseEntity.ok(blogService.getAllBlogsByLocale(locale));
-        }
-        return ResponseEntity.ok(blogService.getAllBlogs());
+        return KeysetPage.list(cursor, limit, page -> blogService.getBlogs(locale, page)).toResponseEntity();
     }
 
     /**
@@ -2,6 +2,7 @@ package com.clinic.modules.admin.controller;
 
 import com.clinic.api.ApiResponse;
 import com.clinic.api.ApiResponseFactory;
+import com.clinic.api.KeysetPage;
 import com.clinic.modules.admin.dto.DoctorAdminResponse;
 import com.clinic.modules.admin.dto.DoctorUpsertRequest;
 import com.clinic.modules.admin.service.DoctorAdminService;
@@ -24,19 +25,24 @@ public class DoctorAdminController {
         this.doctorAdminService = doctorAdminService;
     }
 
+    /**
+     * A page of doctors ordered by name; the next page's cursor is returned in
+     * the X-Next-Cursor header. Without cursor and limit, all of them.
+     */
     @GetMapping
     @PreAuthorize("@permissionService.canView('doctors')")
-    public ResponseEntity<ApiResponse<List<DoctorAdminResponse>>> listDoctors() {
-        List<DoctorAdminResponse> doctors = doctorAdminService.listDoctors();
-        return ResponseEntity.ok(
-                ApiResponseFactory.success(
+    public ResponseEntity<ApiResponse<List<DoctorAdminResponse>>> listDoctors(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit
+    ) {
+        return KeysetPage.list(cursor, limit, doctorAdminService::listDoctors)
+                .toResponseEntity(doctors -> ApiResponseFactory.success(
                         "DOCTORS_LISTED",
                         "Doctors fetched successfully.",
                         doctors,
                         Map.of("count", doctors.size()),
                         null
-                )
-        );
+                ));
     }
 
     @GetMapping("/{id}")
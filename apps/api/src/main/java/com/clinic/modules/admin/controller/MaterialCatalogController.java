@@ -1,5 +1,6 @@
 package com.clinic.modules.admin.controller;
 
+import com.clinic.api.KeysetPage;
 import com.clinic.modules.admin.dto.MaterialCatalogRequest;
 import com.clinic.modules.admin.dto.MaterialCatalogResponse;
 import com.clinic.modules.admin.service.MaterialCatalogService;
@@ -47,17 +48,19 @@ public class MaterialCatalogController {
     }
 
     /**
-     * Get all materials (active and inactive).
-     * GET /admin/materials
+     * Get a page of materials (active and inactive) ordered by name.
+     * GET /admin/materials?cursor=&limit=
+     * The next page's cursor is returned in the X-Next-Cursor header.
+     * Without cursor and limit, all materials are returned.
      */
     @GetMapping
     public ResponseEntity<List<MaterialCatalogResponse>> getAllMaterials(
-            @RequestParam(required = false, defaultValue = "false") boolean activeOnly
+            @RequestParam(required = false, defaultValue = "false") boolean activeOnly,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit
     ) {
-        List<MaterialCatalogResponse> response = activeOnly
-                ? materialCatalogService.getActiveMaterials()
-                : materialCatalogService.getAllMaterials();
-        return ResponseEntity.ok(response);
+        return KeysetPage.list(cursor, limit, page -> materialCatalogService.getMaterials(activeOnly, page))
+                .toResponseEntity();
     }
 
     /**
@@ -1,5 +1,6 @@
 package com.clinic.modules.admin.controller;
 
+import com.clinic.api.KeysetPageRequest;
 import com.clinic.modules.admin.dto.*;
 import com.clinic.modules.admin.service.TreatmentPlanService;
 import com.clinic.modules.core.treatment.TreatmentPlanStatus;
@@ -57,29 +58,22 @@ public class TreatmentPlanController {
     }
 
     /**
-     * Get all treatment plans.
-     * GET /admin/treatment-plans
+     * Get a page of treatment plans, newest first.
+     * GET /admin/treatment-plans?cursor=...&limit=100
+     * The cursor of the next page is returned in the X-Next-Cursor header;
+     * clients follow it until it is absent.
      */
     @GetMapping
     @PreAuthorize("@permissionService.canView('treatmentPlans')")
     public ResponseEntity<List<TreatmentPlanResponse>> getAllTreatmentPlans(
             @RequestParam(required = false) Long patientId,
             @RequestParam(required = false) Long doctorId,
-            @RequestParam(required = false) TreatmentPlanStatus status
+            @RequestParam(required = false) TreatmentPlanStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit
     ) {
-        List<TreatmentPlanResponse> response;
-
-        if (patientId != null) {
-            response = treatmentPlanService.getTreatmentPlansByPatient(patientId);
-        } else if (doctorId != null) {
-            response = treatmentPlanService.getTreatmentPlansByDoctor(doctorId);
-        } else if (status != null) {
-            response = treatmentPlanService.getTreatmentPlansByStatus(status);
-        } else {
-            response = treatmentPlanService.getAllTreatmentPlans();
-        }
-
-        return ResponseEntity.ok(response);
+        return treatmentPlanService.listTreatmentPlans(patientId, doctorId, status, KeysetPageRequest.of(cursor, limit))
+                .toResponseEntity();
     }
 
     /**
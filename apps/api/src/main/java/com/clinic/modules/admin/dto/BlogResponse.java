@@ -2,6 +2,7 @@ package com.clinic.modules.admin.dto;
 
 import com.clinic.modules.core.blog.BlogEntity;
 import com.clinic.modules.core.blog.BlogStatus;
+import com.clinic.modules.core.blog.BlogSummaryView;
 
 import java.time.Instant;
 
@@ -53,6 +54,33 @@ public class BlogResponse {
         return response;
     }
 
+    /**
+     * List-view response; {@code content} is left null.
+     */
+    public static BlogResponse fromSummary(BlogSummaryView view) {
+        BlogResponse response = new BlogResponse();
+        response.setId(view.id());
+        response.setTitle(view.title());
+        response.setSlug(view.slug());
+        response.setExcerpt(view.excerpt());
+        response.setFeaturedImage(view.featuredImage());
+        response.setAuthorId(view.authorId());
+        response.setAuthorName(view.authorName());
+        response.setMetaTitle(view.metaTitle());
+        response.setMetaDescription(view.metaDescription());
+        response.setMetaKeywords(view.metaKeywords());
+        response.setOgTitle(view.ogTitle());
+        response.setOgDescription(view.ogDescription());
+        response.setOgImage(view.ogImage());
+        response.setStatus(view.status());
+        response.setPublishedAt(view.publishedAt());
+        response.setViewCount(view.viewCount());
+        response.setLocale(view.locale());
+        response.setCreatedAt(view.createdAt());
+        response.setUpdatedAt(view.updatedAt());
+        return response;
+    }
+
     // Getters and Setters
     public Long getId() {
         return id;
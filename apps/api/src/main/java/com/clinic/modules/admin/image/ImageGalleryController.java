@@ -48,13 +48,16 @@ public class ImageGalleryController {
     }
 
     /**
-     * Get gallery with images.
+     * Get gallery with one page of images. Pass the returned nextCursor to fetch the next page.
      */
     @GetMapping("/{galleryId}")
     @PreAuthorize("hasRole('ADMIN') or @permissionService.hasPermission('galleries', 'VIEW')")
-    public ResponseEntity<ApiResponse<ImageGalleryService.GalleryWithImages>> getGallery(@PathVariable String galleryId) {
+    public ResponseEntity<ApiResponse<ImageGalleryService.GalleryWithImages>> getGallery(
+            @PathVariable String galleryId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
         try {
-            ImageGalleryService.GalleryWithImages gallery = galleryService.getGalleryWithImages(galleryId);
+            ImageGalleryService.GalleryWithImages gallery = galleryService.getGalleryWithImages(galleryId, cursor, limit);
             if (gallery == null) {
                 return ResponseEntity.notFound().build();
             }
@@ -128,14 +131,16 @@ public class ImageGalleryController {
     }
 
     /**
-     * Search images by tags.
+     * Search images by tags (any match), newest first, one page at a time.
      */
     @GetMapping("/search")
     @PreAuthorize("hasRole('ADMIN') or @permissionService.hasPermission('galleries', 'VIEW')")
-    public ResponseEntity<ApiResponse<List<ImageGalleryService.ImageMetadata>>> searchImages(
-            @RequestParam List<String> tags) {
+    public ResponseEntity<ApiResponse<ImageGalleryService.ImagePage>> searchImages(
+            @RequestParam List<String> tags,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
         try {
-            List<ImageGalleryService.ImageMetadata> images = galleryService.searchImagesByTags(tags);
+            ImageGalleryService.ImagePage images = galleryService.searchImagesByTags(tags, cursor, limit);
             return ResponseEntity.ok(ApiResponseFactory.success("SUCCESS", "Images found", images));
         } catch (Exception e) {
             log.error("Error searching images by tags: {}", tags, e);
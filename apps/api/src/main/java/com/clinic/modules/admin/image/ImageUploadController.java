@@ -2,6 +2,7 @@ package com.clinic.modules.admin.image;
 
 import com.clinic.api.ApiResponse;
 import com.clinic.api.ApiResponseFactory;
+import com.clinic.modules.core.image.BulkImageUploadService;
 import com.clinic.modules.core.image.ImageUploadService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -24,10 +25,16 @@ public class ImageUploadController {
 
     private static final Logger log = LoggerFactory.getLogger(ImageUploadController.class);
 
+    private static final int MAX_BULK_FILES = 20;
+    private static final int MAX_BULK_JOB_FILES = 50;
+
     private final ImageUploadService imageUploadService;
+    private final BulkImageUploadService bulkImageUploadService;
 
-    public ImageUploadController(ImageUploadService imageUploadService) {
+    public ImageUploadController(ImageUploadService imageUploadService,
+                                 BulkImageUploadService bulkImageUploadService) {
         this.imageUploadService = imageUploadService;
+        this.bulkImageUploadService = bulkImageUploadService;
     }
 
     /**
@@ -72,45 +79,43 @@ public class ImageUploadController {
     }
 
     /**
-     * Upload multiple images in bulk.
+     * Upload multiple images in bulk. Files are uploaded concurrently.
+     * With async=true the upload runs as a background job and the response
+     * carries a job id to poll; use this for large batches.
      * Requires ADMIN role or permission to edit the relevant module.
      */
     @PostMapping("/bulk-upload")
     @PreAuthorize("hasRole('ADMIN') or @permissionService.hasPermission('doctors', 'EDIT') or @permissionService.hasPermission('services', 'EDIT')")
-    public ResponseEntity<ApiResponse<BulkUploadResponse>> uploadImages(
+    public ResponseEntity<ApiResponse<?>> uploadImages(
             @RequestParam("files") List<MultipartFile> files,
-            @RequestParam(value = "metadata", required = false) String metadata) {
+            @RequestParam(value = "metadata", required = false) String metadata,
+            @RequestParam(value = "async", defaultValue = "false") boolean async) {
 
         try {
-            log.info("Received bulk image upload request: {} files", files.size());
+            log.info("Received bulk image upload request: {} files, async={}", files.size(), async);
 
             if (files.isEmpty()) {
                 return ResponseEntity.badRequest()
                         .body(ApiResponseFactory.errorWithType("INVALID_REQUEST", "No files provided", null));
             }
 
-            if (files.size() > 10) {
+            int maxFiles = async ? MAX_BULK_JOB_FILES : MAX_BULK_FILES;
+            if (files.size() > maxFiles) {
                 return ResponseEntity.badRequest()
-                        .body(ApiResponseFactory.errorWithType("TOO_MANY_FILES", "Maximum 10 files allowed per bulk upload", null));
+                        .body(ApiResponseFactory.errorWithType("TOO_MANY_FILES",
+                                String.format("Maximum %d files allowed per bulk upload", maxFiles), null));
             }
 
-            ImageUploadService.BulkUploadResponse response = imageUploadService.uploadImages(files, metadata);
+            if (async) {
+                BulkImageUploadService.BulkUploadJobStatus job = bulkImageUploadService.submit(files, metadata);
+                return ResponseEntity.status(HttpStatus.ACCEPTED)
+                        .body(ApiResponseFactory.success("ACCEPTED", "Bulk upload started", toDto(job)));
+            }
+
+            ImageUploadService.BulkUploadResponse response = bulkImageUploadService.uploadAll(files, metadata);
 
             BulkUploadResponse dto = new BulkUploadResponse(
-                    response.results().stream()
-                            .map(result -> new BulkUploadResult(
-                                    result.index(),
-                                    result.filename(),
-                                    result.success(),
-                                    result.errorMessage(),
-                                    result.response() != null ? new ImageUploadResponse(
-                                            result.response().imageId(),
-                                            result.response().filename(),
-                                            result.response().publicUrl(),
-                                            result.response().variants()
-                                    ) : null
-                            ))
-                            .toList(),
+                    response.results().stream().map(this::toDto).toList(),
                     response.successCount(),
                     response.failureCount()
             );
@@ -129,6 +134,18 @@ public class ImageUploadController {
         }
     }
 
+    /**
+     * Poll a background bulk upload. Results are listed as they complete.
+     */
+    @GetMapping("/bulk-upload/{jobId}")
+    @PreAuthorize("hasRole('ADMIN') or @permissionService.hasPermission('doctors', 'EDIT') or @permissionService.hasPermission('services', 'EDIT')")
+    public ResponseEntity<ApiResponse<BulkUploadJobResponse>> getBulkUploadJob(@PathVariable String jobId) {
+        return bulkImageUploadService.getJob(jobId)
+                .map(job -> ResponseEntity.ok(ApiResponseFactory.success("SUCCESS", "Bulk upload status retrieved", toDto(job))))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(ApiResponseFactory.errorWithType("NOT_FOUND", "Bulk upload job not found", null)));
+    }
+
     /**
      * Get image variants for a specific image.
      */
@@ -176,6 +193,33 @@ public class ImageUploadController {
         }
     }
 
+    private BulkUploadResult toDto(ImageUploadService.ImageUploadResult result) {
+        return new BulkUploadResult(
+                result.index(),
+                result.filename(),
+                result.success(),
+                result.errorMessage(),
+                result.response() != null ? new ImageUploadResponse(
+                        result.response().imageId(),
+                        result.response().filename(),
+                        result.response().publicUrl(),
+                        result.response().variants()
+                ) : null
+        );
+    }
+
+    private BulkUploadJobResponse toDto(BulkImageUploadService.BulkUploadJobStatus job) {
+        return new BulkUploadJobResponse(
+                job.jobId(),
+                job.status(),
+                job.total(),
+                job.completed(),
+                job.successCount(),
+                job.failureCount(),
+                job.results().stream().map(this::toDto).toList()
+        );
+    }
+
     /**
      * Response DTO for image upload.
      */
@@ -205,4 +249,17 @@ public class ImageUploadController {
             String errorMessage,
             ImageUploadResponse response
     ) {}
+
+    /**
+     * Response DTO for a background bulk upload.
+     */
+    public record BulkUploadJobResponse(
+            String jobId,
+            String status,
+            int total,
+            int completed,
+            int successCount,
+            int failureCount,
+            List<BulkUploadResult> results
+    ) {}
 }
@@ -2,6 +2,7 @@ package com.clinic.modules.admin.insurance;
 
 import com.clinic.api.ApiResponse;
 import com.clinic.api.ApiResponseFactory;
+import com.clinic.api.KeysetPage;
 import com.clinic.modules.admin.insurance.dto.InsuranceCompanyRequest;
 import com.clinic.modules.admin.insurance.dto.InsuranceCompanyResponse;
 import jakarta.validation.Valid;
@@ -23,10 +24,18 @@ public class InsuranceCompanyController {
         this.insuranceCompanyService = insuranceCompanyService;
     }
 
+    /**
+     * A page of insurance companies ordered by name; the next page's cursor is
+     * returned in the X-Next-Cursor header. Without cursor and limit, all of them.
+     */
     @GetMapping
-    public ResponseEntity<ApiResponse<List<InsuranceCompanyResponse>>> getAllInsuranceCompanies() {
-        List<InsuranceCompanyResponse> companies = insuranceCompanyService.getAllInsuranceCompanies();
-        return ResponseEntity.ok(ApiResponseFactory.success("SUCCESS", "Insurance companies retrieved successfully", companies));
+    public ResponseEntity<ApiResponse<List<InsuranceCompanyResponse>>> getAllInsuranceCompanies(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit
+    ) {
+        return KeysetPage.list(cursor, limit, insuranceCompanyService::getInsuranceCompanies)
+                .toResponseEntity(companies -> ApiResponseFactory.success(
+                        "SUCCESS", "Insurance companies retrieved successfully", companies));
     }
 
     @GetMapping("/{id}")
@@ -1,9 +1,13 @@
 package com.clinic.modules.admin.insurance;
 
+import com.clinic.api.KeysetCursor;
+import com.clinic.api.KeysetPage;
+import com.clinic.api.KeysetPageRequest;
 import com.clinic.modules.admin.insurance.dto.InsuranceCompanyRequest;
 import com.clinic.modules.admin.insurance.dto.InsuranceCompanyResponse;
 import com.clinic.modules.core.insurance.InsuranceCompanyEntity;
 import com.clinic.modules.core.insurance.InsuranceCompanyRepository;
+import com.clinic.modules.core.insurance.InsuranceCompanyView;
 import com.clinic.modules.core.tenant.TenantContextHolder;
 import com.clinic.modules.core.tenant.TenantService;
 import org.springframework.stereotype.Service;
@@ -28,13 +32,30 @@ public class InsuranceCompanyService {
         this.tenantService = tenantService;
     }
 
+    /**
+     * A page of insurance companies ordered by English name.
+     */
     @Transactional(readOnly = true)
-    public List<InsuranceCompanyResponse> getAllInsuranceCompanies() {
+    public KeysetPage<InsuranceCompanyResponse> getInsuranceCompanies(KeysetPageRequest page) {
         Long tenantId = tenantContextHolder.requireTenantId();
-        return insuranceCompanyRepository.findAllByTenantId(tenantId)
-                .stream()
-                .map(this::mapToResponse)
-                .toList();
+        List<InsuranceCompanyView> rows = insuranceCompanyRepository.findViewPage(
+                tenantId, page.stringKeyOr(""), page.idOr(0L), page.fetchWindow());
+        return KeysetPage.of(rows, page, row -> KeysetCursor.of(row.nameEn(), row.id()))
+                .map(row -> new InsuranceCompanyResponse(
+                        row.id(),
+                        row.nameEn(),
+                        row.nameAr(),
+                        row.logoUrl(),
+                        row.websiteUrl(),
+                        row.phone(),
+                        row.email(),
+                        row.descriptionEn(),
+                        row.descriptionAr(),
+                        row.isActive(),
+                        row.displayOrder(),
+                        row.createdAt(),
+                        row.updatedAt()
+                ));
     }
 
     @Transactional(readOnly = true)
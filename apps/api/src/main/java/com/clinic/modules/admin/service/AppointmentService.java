@@ -15,8 +15,8 @@ import com.clinic.modules.core.patient.PatientEntity;
 import com.clinic.modules.core.patient.PatientRepository;
 import com.clinic.modules.core.service.ClinicServiceEntity;
 import com.clinic.modules.core.service.ClinicServiceRepository;
-import com.clinic.modules.core.settings.ClinicSettingsEntity;
-import com.clinic.modules.core.settings.ClinicSettingsRepository;
+import com.clinic.modules.core.settings.ClinicSettingsCache;
+import com.clinic.modules.core.settings.ClinicSettingsSnapshot;
 import com.clinic.modules.core.tenant.TenantContextHolder;
 import com.clinic.modules.core.tenant.TenantEntity;
 import com.clinic.modules.core.tenant.TenantService;
@@ -52,7 +52,7 @@ public class AppointmentService {
     private final TreatmentPlanRepository treatmentPlanRepository;
     private final EmailService emailService;
     private final NotificationService notificationService;
-    private final ClinicSettingsRepository clinicSettingsRepository;
+    private final ClinicSettingsCache clinicSettingsCache;
     private final ClinicTimezoneConfig clinicTimezoneConfig;
     private final TenantContextHolder tenantContextHolder;
     private final TenantService tenantService;
@@ -67,7 +67,7 @@ public class AppointmentService {
                               TreatmentPlanRepository treatmentPlanRepository,
                               EmailService emailService,
                               NotificationService notificationService,
-                              ClinicSettingsRepository clinicSettingsRepository,
+                              ClinicSettingsCache clinicSettingsCache,
                               ClinicTimezoneConfig clinicTimezoneConfig,
                               TenantContextHolder tenantContextHolder,
                               TenantService tenantService,
@@ -79,7 +79,7 @@ public class AppointmentService {
         this.treatmentPlanRepository = treatmentPlanRepository;
         this.emailService = emailService;
         this.notificationService = notificationService;
-        this.clinicSettingsRepository = clinicSettingsRepository;
+        this.clinicSettingsCache = clinicSettingsCache;
         this.clinicTimezoneConfig = clinicTimezoneConfig;
         this.tenantContextHolder = tenantContextHolder;
         this.tenantService = tenantService;
@@ -546,8 +546,8 @@ public class AppointmentService {
         if (existing != null && existing >= 5 && existing <= 240) {
             return existing;
         }
-        ClinicSettingsEntity settings = requireSettings();
-        Integer duration = settings.getSlotDurationMinutes();
+        ClinicSettingsSnapshot settings = requireSettings();
+        Integer duration = settings.slotDurationMinutes();
         if (duration != null && duration >= 5 && duration <= 240) {
             return duration;
         }
@@ -555,14 +555,14 @@ public class AppointmentService {
     }
 
     private String resolveVirtualConsultationMeetingLink() {
-        ClinicSettingsEntity settings = requireSettings();
-        String link = settings.getVirtualConsultationMeetingLink();
+        ClinicSettingsSnapshot settings = requireSettings();
+        String link = settings.virtualConsultationMeetingLink();
         return (link != null && !link.isBlank()) ? link : null;
     }
 
-    private ClinicSettingsEntity requireSettings() {
+    private ClinicSettingsSnapshot requireSettings() {
         Long tenantId = tenantContextHolder.requireTenantId();
-        return clinicSettingsRepository.findByTenantId(tenantId)
+        return clinicSettingsCache.get(tenantId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Clinic settings not configured"));
     }
 
@@ -1,13 +1,19 @@
 package com.clinic.modules.admin.service;
 
+import com.clinic.api.KeysetCursor;
+import com.clinic.api.KeysetPage;
+import com.clinic.api.KeysetPageRequest;
 import com.clinic.modules.admin.dto.BlogRequest;
 import com.clinic.modules.admin.dto.BlogResponse;
 import com.clinic.modules.core.blog.BlogEntity;
 import com.clinic.modules.core.blog.BlogRepository;
 import com.clinic.modules.core.blog.BlogStatus;
+import com.clinic.modules.core.blog.BlogSummaryView;
+import com.clinic.modules.core.cache.TenantContentChangedEvent;
 import com.clinic.modules.core.tenant.TenantContextHolder;
 import com.clinic.modules.core.tenant.TenantService;
 import jakarta.transaction.Transactional;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
@@ -20,33 +26,32 @@ public class BlogService {
     private final BlogRepository blogRepository;
     private final TenantService tenantService;
     private final TenantContextHolder tenantContextHolder;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public BlogService(BlogRepository blogRepository, TenantService tenantService, TenantContextHolder tenantContextHolder) {
+    public BlogService(BlogRepository blogRepository, TenantService tenantService, TenantContextHolder tenantContextHolder,
+                       ApplicationEventPublisher eventPublisher) {
         this.blogRepository = blogRepository;
         this.tenantService = tenantService;
         this.tenantContextHolder = tenantContextHolder;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
-     * Get all blogs (admin view - includes all statuses)
+     * Get a page of blogs, newest first (admin view - includes all statuses).
+     * Content is omitted; fetch a single blog for it.
+     *
+     * @param locale only blogs in this locale, or null for all
      */
-    public List<BlogResponse> getAllBlogs() {
+    public KeysetPage<BlogResponse> getBlogs(String locale, KeysetPageRequest page) {
         Long tenantId = tenantContextHolder.requireTenantId();
-        return blogRepository.findAllByTenantId(tenantId).stream()
-                .map(BlogResponse::fromEntity)
-                .collect(Collectors.toList());
-    }
-
-    /**
-     * Get all blogs by locale (admin view)
-     */
-    public List<BlogResponse> getAllBlogsByLocale(String locale) {
-        Long tenantId = tenantContextHolder.requireTenantId();
-        // Filter by tenant first, then by locale in memory
-        return blogRepository.findAllByTenantId(tenantId).stream()
-                .filter(blog -> locale.equals(blog.getLocale()))
-                .map(BlogResponse::fromEntity)
-                .collect(Collectors.toList());
+        List<BlogSummaryView> rows = blogRepository.findSummaryPage(
+                tenantId,
+                locale == null || locale.isEmpty() ? null : locale,
+                page.instantKeyOr(KeysetPageRequest.LATEST),
+                page.idOr(Long.MAX_VALUE),
+                page.fetchWindow());
+        return KeysetPage.of(rows, page, row -> KeysetCursor.of(row.createdAt(), row.id()))
+                .map(BlogResponse::fromSummary);
     }
 
     /**
@@ -95,8 +100,10 @@ public class BlogService {
                 .filter(b -> b.getStatus() == BlogStatus.PUBLISHED)
                 .orElseThrow(() -> new RuntimeException("Published blog not found with slug: " + slug));
 
-        // Increment view count
+        // Increment view count; the bulk update skips entity listeners, and the public list shows the count
         blogRepository.incrementViewCount(blog.getId());
+        eventPublisher.publishEvent(
+                new TenantContentChangedEvent(this, tenantId, TenantContentChangedEvent.Area.PUBLIC_CONTENT));
 
         return BlogResponse.fromEntity(blog);
     }
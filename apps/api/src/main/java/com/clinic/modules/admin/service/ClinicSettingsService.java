@@ -3,8 +3,10 @@ package com.clinic.modules.admin.service;
 import com.clinic.config.ClinicTimezoneConfig;
 import com.clinic.modules.admin.dto.ClinicSettingsResponse;
 import com.clinic.modules.admin.dto.ClinicSettingsUpdateRequest;
+import com.clinic.modules.core.settings.ClinicSettingsCache;
 import com.clinic.modules.core.settings.ClinicSettingsEntity;
 import com.clinic.modules.core.settings.ClinicSettingsRepository;
+import com.clinic.modules.core.settings.ClinicSettingsSnapshot;
 import com.clinic.modules.core.tenant.TenantContextHolder;
 import com.clinic.modules.core.tenant.TenantService;
 import com.clinic.modules.ecommerce.service.EcommerceFeatureService;
@@ -23,6 +25,7 @@ import java.util.Locale;
 public class ClinicSettingsService {
 
     private final ClinicSettingsRepository settingsRepository;
+    private final ClinicSettingsCache clinicSettingsCache;
     private final ClinicTimezoneConfig clinicTimezoneConfig;
     private final TenantContextHolder tenantContextHolder;
     private final TenantService tenantService;
@@ -50,11 +53,13 @@ public class ClinicSettingsService {
     private Boolean defaultEmailEnabled;
 
     public ClinicSettingsService(ClinicSettingsRepository settingsRepository,
+                                 ClinicSettingsCache clinicSettingsCache,
                                  ClinicTimezoneConfig clinicTimezoneConfig,
                                  TenantContextHolder tenantContextHolder,
                                  TenantService tenantService,
                                  EcommerceFeatureService ecommerceFeatureService) {
         this.settingsRepository = settingsRepository;
+        this.clinicSettingsCache = clinicSettingsCache;
         this.clinicTimezoneConfig = clinicTimezoneConfig;
         this.tenantContextHolder = tenantContextHolder;
         this.tenantService = tenantService;
@@ -62,8 +67,9 @@ public class ClinicSettingsService {
     }
 
     public ClinicSettingsResponse getSettings() {
-        ClinicSettingsEntity settings = loadOrCreateSettings();
         Long tenantId = tenantContextHolder.requireTenantId();
+        ClinicSettingsSnapshot settings = clinicSettingsCache.get(tenantId)
+                .orElseGet(() -> ClinicSettingsSnapshot.from(createDefaultSettings(tenantId)));
         boolean ecommerceEnabled = ecommerceFeatureService.isEcommerceEnabled(tenantId);
 
         return mapToResponse(settings, ecommerceEnabled);
@@ -243,7 +249,7 @@ public class ClinicSettingsService {
 
         ClinicSettingsEntity saved = settingsRepository.save(settings);
         boolean finalEcommerceEnabled = ecommerceFeatureService.isEcommerceEnabled(tenantId);
-        return mapToResponse(saved, finalEcommerceEnabled);
+        return mapToResponse(ClinicSettingsSnapshot.from(saved), finalEcommerceEnabled);
     }
 
     private ClinicSettingsEntity loadOrCreateSettings() {
@@ -286,62 +292,62 @@ public class ClinicSettingsService {
         return settingsRepository.save(settings);
     }
 
-    private ClinicSettingsResponse mapToResponse(ClinicSettingsEntity entity, boolean ecommerceEnabled) {
+    private ClinicSettingsResponse mapToResponse(ClinicSettingsSnapshot settings, boolean ecommerceEnabled) {
         var workingHours = new ClinicSettingsResponse.WorkingHours(
-                entity.getMondayHours(),
-                entity.getTuesdayHours(),
-                entity.getWednesdayHours(),
-                entity.getThursdayHours(),
-                entity.getFridayHours(),
-                entity.getSaturdayHours(),
-                entity.getSundayHours()
+                settings.mondayHours(),
+                settings.tuesdayHours(),
+                settings.wednesdayHours(),
+                settings.thursdayHours(),
+                settings.fridayHours(),
+                settings.saturdayHours(),
+                settings.sundayHours()
         );
 
         var socialMedia = new ClinicSettingsResponse.SocialMedia(
-                entity.getFacebookUrl(),
-                entity.getInstagramUrl(),
-                entity.getTwitterUrl(),
-                entity.getLinkedinUrl()
+                settings.facebookUrl(),
+                settings.instagramUrl(),
+                settings.twitterUrl(),
+                settings.linkedinUrl()
         );
 
-        String resolvedPaypalEnvironment = resolveOrDefault(entity.getPaypalEnvironment(), paypalEnvironment);
-        String resolvedPaypalClientId = resolveOrDefault(entity.getPaypalClientId(), paypalClientId);
-        String resolvedPaypalClientSecret = resolveOrDefault(entity.getPaypalClientSecret(), paypalClientSecret);
+        String resolvedPaypalEnvironment = resolveOrDefault(settings.paypalEnvironment(), paypalEnvironment);
+        String resolvedPaypalClientId = resolveOrDefault(settings.paypalClientId(), paypalClientId);
+        String resolvedPaypalClientSecret = resolveOrDefault(settings.paypalClientSecret(), paypalClientSecret);
         // Do not expose env defaults for email credentials; return only tenant-set values or null
-        String resolvedSendgridKey = StringUtils.hasText(entity.getSendgridApiKey()) ? entity.getSendgridApiKey() : null;
-        String resolvedEmailFrom = StringUtils.hasText(entity.getEmailFrom()) ? entity.getEmailFrom() : null;
-        String resolvedEmailFromName = StringUtils.hasText(entity.getEmailFromName()) ? entity.getEmailFromName() : null;
-        Boolean resolvedEmailEnabled = entity.getEmailEnabled();
-        String resolvedTimezone = resolveOrDefault(entity.getTimezone(), clinicTimezoneConfig.getZoneId());
-        Boolean resolvedReminderEnabled = entity.getReminderEnabled();
-        Integer resolvedReminderHours = entity.getReminderHoursBefore();
+        String resolvedSendgridKey = StringUtils.hasText(settings.sendgridApiKey()) ? settings.sendgridApiKey() : null;
+        String resolvedEmailFrom = StringUtils.hasText(settings.emailFrom()) ? settings.emailFrom() : null;
+        String resolvedEmailFromName = StringUtils.hasText(settings.emailFromName()) ? settings.emailFromName() : null;
+        Boolean resolvedEmailEnabled = settings.emailEnabled();
+        String resolvedTimezone = resolveOrDefault(settings.timezone(), clinicTimezoneConfig.getZoneId());
+        Boolean resolvedReminderEnabled = settings.reminderEnabled();
+        Integer resolvedReminderHours = settings.reminderHoursBefore();
 
         return new ClinicSettingsResponse(
-                entity.getId(),
-                entity.getClinicName(),
-                entity.getPhone(),
-                entity.getEmail(),
-                entity.getAddress(),
-                entity.getCity(),
-                entity.getState(),
-                entity.getZipCode(),
-                entity.getCountry(),
-                entity.getCurrency(),
-                entity.getLocale(),
-                resolveCurrencySymbol(entity.getCurrency(), entity.getLocale()),
-                entity.getLogoUrl(),
-                entity.getLogoImageId(),
-                entity.getFaviconUrl(),
-                entity.getFaviconImageId(),
+                settings.id(),
+                settings.clinicName(),
+                settings.phone(),
+                settings.email(),
+                settings.address(),
+                settings.city(),
+                settings.state(),
+                settings.zipCode(),
+                settings.country(),
+                settings.currency(),
+                settings.locale(),
+                resolveCurrencySymbol(settings.currency(), settings.locale()),
+                settings.logoUrl(),
+                settings.logoImageId(),
+                settings.faviconUrl(),
+                settings.faviconImageId(),
                 workingHours,
                 socialMedia,
-                entity.getVirtualConsultationFee(),
-                entity.getVirtualConsultationMeetingLink(),
-                entity.getSlotDurationMinutes(),
+                settings.virtualConsultationFee(),
+                settings.virtualConsultationMeetingLink(),
+                settings.slotDurationMinutes(),
                 resolvedPaypalEnvironment,
                 resolvedPaypalClientId,
                 resolvedPaypalClientSecret,
-                entity.getExchangeRates(),
+                settings.exchangeRates(),
                 resolvedTimezone,
                 resolvedSendgridKey,
                 resolvedEmailFrom,
@@ -349,20 +355,18 @@ public class ClinicSettingsService {
                 resolvedEmailEnabled,
                 resolvedReminderEnabled,
                 resolvedReminderHours,
-                entity.getHeroMediaType(),
-                entity.getHeroImageUrl(),
-                entity.getHeroVideoId(),
+                settings.heroMediaType(),
+                settings.heroImageUrl(),
+                settings.heroVideoId(),
                 new ClinicSettingsResponse.WhyChoose(
-                        localizedText(entity.getWhyChooseTitleEn(), entity.getWhyChooseTitleAr()),
-                        localizedText(entity.getWhyChooseSubtitleEn(), entity.getWhyChooseSubtitleAr()),
-                        entity.getWhyChooseFeatures() == null
-                                ? List.of()
-                                : entity.getWhyChooseFeatures().stream()
+                        localizedText(settings.whyChooseTitleEn(), settings.whyChooseTitleAr()),
+                        localizedText(settings.whyChooseSubtitleEn(), settings.whyChooseSubtitleAr()),
+                        settings.whyChooseFeatures().stream()
                                 .map(feature -> new ClinicSettingsResponse.WhyChooseFeature(
-                                        feature.getKey(),
-                                        localizedText(feature.getTitleEn(), feature.getTitleAr()),
-                                        localizedText(feature.getDescriptionEn(), feature.getDescriptionAr()),
-                                        feature.getIcon()
+                                        feature.key(),
+                                        localizedText(feature.titleEn(), feature.titleAr()),
+                                        localizedText(feature.descriptionEn(), feature.descriptionAr()),
+                                        feature.icon()
                                 ))
                                 .toList()
                 ),
@@ -2,6 +2,7 @@ package com.clinic.modules.admin.service;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.http.*;
@@ -31,7 +32,7 @@ public class CloudflareImageService {
     @Value("${security.cloudflare.images.delivery-url}")
     private String deliveryUrl;
 
-    public CloudflareImageService(RestTemplate restTemplate) {
+    public CloudflareImageService(@Qualifier("cloudflareRestTemplate") RestTemplate restTemplate) {
         this.restTemplate = restTemplate;
     }
 
@@ -17,18 +17,27 @@ import com.clinic.modules.core.treatment.PaymentRepository;
 import com.clinic.modules.core.treatment.TreatmentPlanPaymentEntity;
 import com.clinic.modules.core.treatment.TreatmentPlanPaymentRepository;
 import com.clinic.modules.core.tenant.TenantContextHolder;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.*;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 public class DashboardService {
 
+    /** Days ahead, including today, searched for a doctor's next slot. */
+    private static final int NEXT_SLOT_DAYS = 7;
+
     private final AppointmentRepository appointmentRepository;
     private final PatientRepository patientRepository;
     private final PaymentRepository paymentRepository;
@@ -37,6 +46,7 @@ public class DashboardService {
     private final DoctorAvailabilityRepository doctorAvailabilityRepository;
     private final FinanceAggregationService financeAggregationService;
     private final TenantContextHolder tenantContextHolder;
+    private final Cache<TeamOnCallKey, List<TeamOnCallResponse>> teamOnCallCache;
 
     public DashboardService(AppointmentRepository appointmentRepository,
                             PatientRepository patientRepository,
@@ -45,7 +55,8 @@ public class DashboardService {
                             DoctorRepository doctorRepository,
                             DoctorAvailabilityRepository doctorAvailabilityRepository,
                             FinanceAggregationService financeAggregationService,
-                            TenantContextHolder tenantContextHolder) {
+                            TenantContextHolder tenantContextHolder,
+                            @Value("${clinic.dashboard.team-on-call-ttl:PT15S}") Duration teamOnCallTtl) {
         this.appointmentRepository = appointmentRepository;
         this.patientRepository = patientRepository;
         this.paymentRepository = paymentRepository;
@@ -54,6 +65,10 @@ public class DashboardService {
         this.doctorAvailabilityRepository = doctorAvailabilityRepository;
         this.financeAggregationService = financeAggregationService;
         this.tenantContextHolder = tenantContextHolder;
+        this.teamOnCallCache = Caffeine.newBuilder()
+                .expireAfterWrite(teamOnCallTtl)
+                .maximumSize(10_000)
+                .build();
     }
 
     @Transactional(readOnly = true)
@@ -132,22 +147,50 @@ public class DashboardService {
     }
 
     /**
-     * Get list of doctors on call (active doctors with their current status)
+     * Get list of doctors on call (active doctors with their current status).
+     *
+     * Computed from one load of the doctors' availability for the coming week
+     * and one query for doctors with a confirmed appointment around now, then
+     * cached per tenant for a few seconds since the admin UI polls it.
      */
     @Transactional(readOnly = true)
     public List<TeamOnCallResponse> getTeamOnCall(ZoneId zoneId) {
         Long tenantId = tenantContextHolder.requireTenantId();
+        return teamOnCallCache.get(new TeamOnCallKey(tenantId, zoneId), key -> computeTeamOnCall(tenantId, zoneId));
+    }
 
+    private List<TeamOnCallResponse> computeTeamOnCall(Long tenantId, ZoneId zoneId) {
         // Get all active doctors for this tenant
         List<DoctorEntity> activeDoctors = doctorRepository.findAllByTenantIdAndIsActiveTrue(tenantId);
+        if (activeDoctors.isEmpty()) {
+            return List.of();
+        }
 
         Instant now = Instant.now();
         LocalDate today = LocalDate.now(zoneId);
+        List<Long> doctorIds = activeDoctors.stream().map(DoctorEntity::getId).toList();
+
+        Map<Long, List<DoctorAvailabilityEntity>> availabilityByDoctor = doctorAvailabilityRepository
+                .findByDoctorIdsWithinDates(doctorIds, today, today.plusDays(NEXT_SLOT_DAYS - 1))
+                .stream()
+                .collect(Collectors.groupingBy(avail -> avail.getDoctor().getId()));
+
+        // Doctors with a confirmed appointment within 30 minutes of now
+        Set<Long> doctorsInClinic = new HashSet<>(appointmentRepository
+                .findDoctorIdsByTenantIdAndStatusAndScheduledAtBetween(
+                        tenantId,
+                        AppointmentStatus.CONFIRMED,
+                        now.minus(Duration.ofMinutes(30)),
+                        now.plus(Duration.ofMinutes(30))
+                ));
 
         return activeDoctors.stream()
                 .map(doctor -> {
                     // Determine status and next slot
-                    StatusAndSlot statusAndSlot = determineStatusAndNextSlot(doctor, now, today, zoneId);
+                    StatusAndSlot statusAndSlot = determineStatusAndNextSlot(
+                            availabilityByDoctor.getOrDefault(doctor.getId(), List.of()),
+                            doctorsInClinic.contains(doctor.getId()),
+                            now, today, zoneId);
 
                     return new TeamOnCallResponse(
                             doctor.getId(),
@@ -157,79 +200,54 @@ public class DashboardService {
                             statusAndSlot.nextSlot()
                     );
                 })
-                .collect(Collectors.toList());
+                .toList();
     }
 
+    private record TeamOnCallKey(Long tenantId, ZoneId zoneId) {}
+
     private record StatusAndSlot(String status, Instant nextSlot) {}
 
     /**
      * Determine the current status of a doctor and their next available slot
+     *
+     * @param availabilities the doctor's weekly availability and date-specific availability for the coming week
      */
-    private StatusAndSlot determineStatusAndNextSlot(DoctorEntity doctor, Instant now, LocalDate today, ZoneId zoneId) {
-        Long tenantId = tenantContextHolder.requireTenantId();
-
-        // Check if doctor has an active appointment right now
-        Instant nowMinus30Min = now.minus(Duration.ofMinutes(30));
-        Instant nowPlus30Min = now.plus(Duration.ofMinutes(30));
-
-        long activeAppointments = appointmentRepository
-                .countByTenantIdAndStatusAndScheduledAtBetween(
-                        tenantId,
-                        AppointmentStatus.CONFIRMED,
-                        nowMinus30Min,
-                        nowPlus30Min
-                );
-
-        if (activeAppointments > 0) {
+    private StatusAndSlot determineStatusAndNextSlot(List<DoctorAvailabilityEntity> availabilities,
+                                                     boolean inClinic,
+                                                     Instant now,
+                                                     LocalDate today,
+                                                     ZoneId zoneId) {
+        if (inClinic) {
             // Doctor is in clinic, find next slot after current appointment
-            Instant nextSlot = findNextSlot(doctor, nowPlus30Min, today, zoneId);
+            Instant nextSlot = findNextSlot(availabilities, now.plus(Duration.ofMinutes(30)), today, zoneId);
             return new StatusAndSlot("In clinic", nextSlot);
         }
 
-        // Check if doctor has availability today
-        DayOfWeek dayOfWeek = today.getDayOfWeek();
-        List<DoctorAvailabilityEntity> availabilitiesToday = doctorAvailabilityRepository
-                .findByDoctorIdAndRecurringWeeklyTrueAndDayOfWeek(doctor.getId(), dayOfWeek);
-
-        // Also check for specific date availability
-        List<DoctorAvailabilityEntity> specificAvailabilities = doctorAvailabilityRepository
-                .findByDoctorIdAndSpecificDate(doctor.getId(), today);
-
-        boolean hasAvailabilityToday = !availabilitiesToday.isEmpty() || !specificAvailabilities.isEmpty();
+        // Check if doctor has weekly or date-specific availability today
+        boolean hasAvailabilityToday = availabilities.stream().anyMatch(avail -> appliesOn(avail, today));
 
+        Instant nextSlot = findNextSlot(availabilities, now, today, zoneId);
         if (hasAvailabilityToday) {
-            Instant nextSlot = findNextSlot(doctor, now, today, zoneId);
             return new StatusAndSlot("Available", nextSlot);
         }
 
-        // Find next availability in future
-        Instant nextSlot = findNextSlot(doctor, now, today, zoneId);
+        // Next availability is in the future
         return new StatusAndSlot("Off duty", nextSlot);
     }
 
     /**
-     * Find the next available slot for a doctor
+     * Find the next available slot for a doctor within the coming week
      */
-    private Instant findNextSlot(DoctorEntity doctor, Instant after, LocalDate startDate, ZoneId zoneId) {
-        // Check next 7 days for availability
-        for (int i = 0; i < 7; i++) {
+    private Instant findNextSlot(List<DoctorAvailabilityEntity> availabilities,
+                                 Instant after,
+                                 LocalDate startDate,
+                                 ZoneId zoneId) {
+        for (int i = 0; i < NEXT_SLOT_DAYS; i++) {
             LocalDate checkDate = startDate.plusDays(i);
-            DayOfWeek dayOfWeek = checkDate.getDayOfWeek();
-
-            // Get recurring weekly availabilities
-            List<DoctorAvailabilityEntity> weeklyAvailabilities = doctorAvailabilityRepository
-                    .findByDoctorIdAndRecurringWeeklyTrueAndDayOfWeek(doctor.getId(), dayOfWeek);
-
-            // Get specific date availabilities
-            List<DoctorAvailabilityEntity> specificAvailabilities = doctorAvailabilityRepository
-                    .findByDoctorIdAndSpecificDate(doctor.getId(), checkDate);
-
-            // Combine both lists
-            List<DoctorAvailabilityEntity> allAvailabilities = new java.util.ArrayList<>(weeklyAvailabilities);
-            allAvailabilities.addAll(specificAvailabilities);
 
             // Find earliest slot on this date
-            Optional<Instant> earliestSlot = allAvailabilities.stream()
+            Optional<Instant> earliestSlot = availabilities.stream()
+                    .filter(avail -> appliesOn(avail, checkDate))
                     .map(avail -> avail.getStartTime().atDate(checkDate).atZone(zoneId).toInstant())
                     .filter(instant -> instant.isAfter(after))
                     .min(Instant::compareTo);
@@ -241,4 +259,9 @@ public class DashboardService {
 
         return null;
     }
+
+    private static boolean appliesOn(DoctorAvailabilityEntity avail, LocalDate date) {
+        return (avail.isRecurringWeekly() && avail.getDayOfWeek() == date.getDayOfWeek())
+                || date.equals(avail.getSpecificDate());
+    }
 }
@@ -1,9 +1,14 @@
 package com.clinic.modules.admin.service;
 
+import com.clinic.api.KeysetCursor;
+import com.clinic.api.KeysetPage;
+import com.clinic.api.KeysetPageRequest;
 import com.clinic.modules.admin.dto.DoctorAdminResponse;
 import com.clinic.modules.admin.dto.DoctorUpsertRequest;
 import com.clinic.modules.core.doctor.DoctorEntity;
+import com.clinic.modules.core.doctor.DoctorListView;
 import com.clinic.modules.core.doctor.DoctorRepository;
+import com.clinic.modules.core.doctor.DoctorServiceView;
 import com.clinic.modules.core.service.ClinicServiceEntity;
 import com.clinic.modules.core.service.ClinicServiceRepository;
 import com.clinic.modules.core.tenant.TenantContextHolder;
@@ -18,6 +23,7 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.util.*;
+import java.util.stream.Collectors;
 
 @Service
 public class DoctorAdminService {
@@ -43,13 +49,53 @@ public class DoctorAdminService {
         this.subscriptionRepository = subscriptionRepository;
     }
 
+    /**
+     * A page of doctors ordered by English name, with their services. Bios are
+     * left out of list responses; {@link #getDoctor(Long)} returns them.
+     */
     @Transactional(readOnly = true)
-    public List<DoctorAdminResponse> listDoctors() {
+    public KeysetPage<DoctorAdminResponse> listDoctors(KeysetPageRequest page) {
         Long tenantId = currentTenantId();
-        return doctorRepository.findAllWithServices(tenantId)
+        List<DoctorListView> rows = doctorRepository.findListPage(
+                tenantId, page.stringKeyOr(""), page.idOr(0L), page.fetchWindow());
+        KeysetPage<DoctorListView> doctors = KeysetPage.of(rows, page, row -> KeysetCursor.of(row.fullNameEn(), row.id()));
+        if (doctors.items().isEmpty()) {
+            return new KeysetPage<>(List.of(), null);
+        }
+
+        Map<Long, List<DoctorAdminResponse.ServiceReference>> servicesByDoctor = doctorRepository
+                .findServiceViewsByDoctorIds(doctors.items().stream().map(DoctorListView::id).toList())
                 .stream()
-                .map(this::toResponse)
-                .toList();
+                .sorted(Comparator.comparing(DoctorServiceView::nameEn, Comparator.nullsLast(String::compareToIgnoreCase)))
+                .collect(Collectors.groupingBy(
+                        DoctorServiceView::doctorId,
+                        Collectors.mapping(
+                                service -> new DoctorAdminResponse.ServiceReference(
+                                        service.serviceId(),
+                                        service.slug(),
+                                        service.nameEn()
+                                ),
+                                Collectors.toList()
+                        )
+                ));
+
+        return doctors.map(row -> new DoctorAdminResponse(
+                row.id(),
+                row.fullNameEn(),
+                row.fullNameAr(),
+                row.specialtyEn(),
+                row.specialtyAr(),
+                null,
+                null,
+                row.imageUrl(),
+                row.email(),
+                row.phone(),
+                row.displayOrder(),
+                row.isActive(),
+                decodeLocales(row.localeCodes()),
+                servicesByDoctor.getOrDefault(row.id(), List.of()),
+                row.createdAt()
+        ));
     }
 
     @Transactional(readOnly = true)
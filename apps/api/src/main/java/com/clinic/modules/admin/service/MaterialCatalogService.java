@@ -1,19 +1,23 @@
 package com.clinic.modules.admin.service;
 
+import com.clinic.api.KeysetCursor;
+import com.clinic.api.KeysetPage;
+import com.clinic.api.KeysetPageRequest;
 import com.clinic.modules.admin.dto.MaterialCatalogRequest;
 import com.clinic.modules.admin.dto.MaterialCatalogResponse;
 import com.clinic.modules.core.service.CurrencyConversionService;
+import com.clinic.modules.core.service.FxRateTable;
 import com.clinic.modules.core.settings.ClinicSettingsRepository;
 import com.clinic.modules.core.tenant.TenantContextHolder;
 import com.clinic.modules.core.tenant.TenantService;
 import com.clinic.modules.core.treatment.MaterialCatalogEntity;
 import com.clinic.modules.core.treatment.MaterialCatalogRepository;
+import com.clinic.modules.core.treatment.MaterialCatalogView;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Service for managing material catalog.
@@ -91,28 +95,32 @@ public class MaterialCatalogService {
     }
 
     /**
-     * Get all active materials.
+     * Get a page of materials ordered by name.
+     *
+     * @param activeOnly only active materials when true
      */
     @Transactional(readOnly = true)
-    public List<MaterialCatalogResponse> getActiveMaterials() {
+    public KeysetPage<MaterialCatalogResponse> getMaterials(boolean activeOnly, KeysetPageRequest page) {
         Long tenantId = tenantContextHolder.requireTenantId();
-        
-        return materialCatalogRepository.findAllByTenantId(tenantId).stream()
-                .filter(MaterialCatalogEntity::getActive)
-                .map(this::toResponse)
-                .collect(Collectors.toList());
-    }
+        List<MaterialCatalogView> rows = materialCatalogRepository.findViewPage(
+                tenantId, activeOnly, page.stringKeyOr(""), page.idOr(0L), page.fetchWindow());
 
-    /**
-     * Get all materials (active and inactive).
-     */
-    @Transactional(readOnly = true)
-    public List<MaterialCatalogResponse> getAllMaterials() {
-        Long tenantId = tenantContextHolder.requireTenantId();
-        
-        return materialCatalogRepository.findAllByTenantId(tenantId).stream()
-                .map(this::toResponse)
-                .collect(Collectors.toList());
+        String clinicCurrency = currencyConversionService.getClinicCurrency();
+        FxRateTable rates = currencyConversionService.getRateTable();
+        return KeysetPage.of(rows, page, row -> KeysetCursor.of(row.name(), row.id()))
+                .map(row -> new MaterialCatalogResponse(
+                        row.id(),
+                        row.name(),
+                        row.description(),
+                        row.unitCost(),
+                        row.currency(),
+                        rates.convert(row.unitCost(), row.currency(), clinicCurrency),
+                        clinicCurrency,
+                        row.unitOfMeasure(),
+                        row.active(),
+                        row.createdAt(),
+                        row.updatedAt()
+                ));
     }
 
     /**
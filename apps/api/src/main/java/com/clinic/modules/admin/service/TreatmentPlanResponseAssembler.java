@@ -0,0 +1,287 @@
+package com.clinic.modules.admin.service;
+
+import com.clinic.modules.admin.dto.FollowUpVisitResponse;
+import com.clinic.modules.admin.dto.MaterialUsageResponse;
+import com.clinic.modules.admin.dto.PaymentResponse;
+import com.clinic.modules.admin.dto.ScheduledFollowUpResponse;
+import com.clinic.modules.admin.dto.TreatmentPlanResponse;
+import com.clinic.modules.core.appointment.AppointmentRepository;
+import com.clinic.modules.core.appointment.AppointmentStatus;
+import com.clinic.modules.core.appointment.FollowUpAppointmentView;
+import com.clinic.modules.core.service.CurrencyConversionService;
+import com.clinic.modules.core.service.FxRateTable;
+import com.clinic.modules.core.treatment.FollowUpVisitEntity;
+import com.clinic.modules.core.treatment.FollowUpVisitRepository;
+import com.clinic.modules.core.treatment.TreatmentPlanEntity;
+import com.clinic.modules.core.treatment.TreatmentPlanPaymentEntity;
+import com.clinic.modules.core.treatment.TreatmentPlanRepository;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Builds {@link TreatmentPlanResponse}s.
+ *
+ * For a list of plans, visits, visit payments, material usages (with their
+ * materials), direct payments and follow-up appointments are loaded for all
+ * plans at once, so a page costs five queries whatever its size instead of
+ * several per plan. The plans' patient, doctor and treatment type are expected
+ * to be fetched with the plans.
+ */
+@Component
+public class TreatmentPlanResponseAssembler {
+
+    private final TreatmentPlanRepository treatmentPlanRepository;
+    private final FollowUpVisitRepository followUpVisitRepository;
+    private final AppointmentRepository appointmentRepository;
+    private final CurrencyConversionService currencyConversionService;
+
+    public TreatmentPlanResponseAssembler(TreatmentPlanRepository treatmentPlanRepository,
+                                          FollowUpVisitRepository followUpVisitRepository,
+                                          AppointmentRepository appointmentRepository,
+                                          CurrencyConversionService currencyConversionService) {
+        this.treatmentPlanRepository = treatmentPlanRepository;
+        this.followUpVisitRepository = followUpVisitRepository;
+        this.appointmentRepository = appointmentRepository;
+        this.currencyConversionService = currencyConversionService;
+    }
+
+    /**
+     * Responses for managed plans, in the given order. Must run inside the
+     * transaction that loaded the plans.
+     */
+    public List<TreatmentPlanResponse> toResponses(List<TreatmentPlanEntity> plans) {
+        if (plans.isEmpty()) {
+            return List.of();
+        }
+        List<Long> planIds = plans.stream().map(TreatmentPlanEntity::getId).toList();
+
+        // Each query initializes one collection on the entities already in the persistence context
+        treatmentPlanRepository.fetchFollowUpVisits(planIds);
+        treatmentPlanRepository.fetchDirectPayments(planIds);
+        followUpVisitRepository.fetchPaymentsByTreatmentPlanIds(planIds);
+        followUpVisitRepository.fetchMaterialUsagesByTreatmentPlanIds(planIds);
+
+        Map<Long, List<FollowUpAppointmentView>> appointmentsByPlan = appointmentRepository
+                .findFollowUpViewsByTreatmentPlanIds(planIds).stream()
+                .collect(Collectors.groupingBy(FollowUpAppointmentView::treatmentPlanId));
+
+        String clinicCurrency = currencyConversionService.getClinicCurrency();
+        FxRateTable rates = currencyConversionService.getRateTable();
+        return plans.stream()
+                .map(plan -> toResponse(plan, appointmentsByPlan.getOrDefault(plan.getId(), List.of()),
+                        clinicCurrency, rates))
+                .toList();
+    }
+
+    /**
+     * Response for a single plan; its collections are loaded lazily.
+     */
+    public TreatmentPlanResponse toResponse(TreatmentPlanEntity plan) {
+        List<FollowUpAppointmentView> appointments = appointmentRepository
+                .findFollowUpViewsByTreatmentPlanIds(List.of(plan.getId()));
+        return toResponse(plan, appointments, currencyConversionService.getClinicCurrency(),
+                currencyConversionService.getRateTable());
+    }
+
+    /**
+     * Convert entity to response DTO with all calculated fields.
+     *
+     * @param appointments the plan's follow-up appointments ordered by visit number
+     */
+    private TreatmentPlanResponse toResponse(TreatmentPlanEntity plan,
+                                             List<FollowUpAppointmentView> appointments,
+                                             String clinicCurrency,
+                                             FxRateTable rates) {
+        var appointmentIdByVisitNumber = appointments.stream()
+                .filter(appt -> appt.followUpVisitNumber() != null)
+                .collect(Collectors.toMap(
+                        FollowUpAppointmentView::followUpVisitNumber,
+                        FollowUpAppointmentView::id,
+                        (existing, duplicate) -> existing
+                ));
+
+        List<FollowUpVisitResponse> visits = plan.getFollowUpVisits().stream()
+                .sorted(Comparator.comparing(
+                        FollowUpVisitEntity::getVisitNumber,
+                        Comparator.nullsLast(Integer::compare)
+                ))
+                .map(visit -> toVisitResponse(visit, appointmentIdByVisitNumber.get(visit.getVisitNumber()),
+                        clinicCurrency, rates))
+                .collect(Collectors.toList());
+
+        List<ScheduledFollowUpResponse> scheduledFollowUps = appointments.stream()
+                .filter(appt -> appt.status() != AppointmentStatus.CANCELLED)
+                .map(appt -> new ScheduledFollowUpResponse(
+                        appt.id(),
+                        appt.followUpVisitNumber(),
+                        appt.scheduledAt(),
+                        appt.status().name(),
+                        appt.bookingMode().name(),
+                        appt.paymentCollected(),
+                        appt.patientAttended()
+                ))
+                .collect(Collectors.toList());
+
+        // Convert treatment plan price
+        BigDecimal convertedTotalPrice = rates.convert(
+                plan.getTotalPrice(),
+                plan.getCurrency(),
+                clinicCurrency
+        );
+
+        // Calculate totals from visit-level converted values (properly handles multi-currency)
+        BigDecimal convertedTotalPaid = visits.stream()
+                .map(FollowUpVisitResponse::totalPaymentsThisVisit)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        // Add direct payments (converted to clinic currency)
+        BigDecimal convertedDirectPayments = rates.convertAll(
+                plan.getDirectPayments(),
+                TreatmentPlanPaymentEntity::getAmount,
+                TreatmentPlanPaymentEntity::getCurrency,
+                clinicCurrency
+        );
+
+        convertedTotalPaid = convertedTotalPaid.add(convertedDirectPayments);
+
+        BigDecimal convertedTotalMaterialsCost = visits.stream()
+                .map(FollowUpVisitResponse::totalMaterialsCostThisVisit)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        // Calculate derived values using converted amounts
+        BigDecimal convertedDiscountAmount = plan.getDiscountAmount() != null
+                ? rates.convert(plan.getDiscountAmount(), plan.getCurrency(), clinicCurrency)
+                : BigDecimal.ZERO;
+
+        BigDecimal convertedRemainingBalance = convertedTotalPrice
+                .subtract(convertedDiscountAmount)
+                .subtract(convertedTotalPaid);
+
+        BigDecimal convertedExpectedPaymentPerVisit = plan.calculateRemainingVisits() > 0
+                ? convertedRemainingBalance.divide(
+                        BigDecimal.valueOf(plan.calculateRemainingVisits()),
+                        2,
+                        RoundingMode.HALF_UP)
+                : BigDecimal.ZERO;
+
+        BigDecimal convertedNetRevenue = convertedTotalPaid.subtract(convertedTotalMaterialsCost);
+
+        return new TreatmentPlanResponse(
+                plan.getId(),
+                plan.getPatient().getId(),
+                plan.getPatient().getFirstName() + " " + plan.getPatient().getLastName(),
+                plan.getDoctor().getId(),
+                plan.getDoctor().getFullName(),
+                plan.getTreatmentType().getId(),
+                plan.getTreatmentType().getNameEn(),
+                plan.getTotalPrice(),
+                plan.getCurrency(),
+                plan.getPlannedFollowups(),
+                plan.getFollowUpCadence(),
+                plan.getCompletedVisits(),
+                plan.getStatus(),
+                plan.getNotes(),
+                plan.getDiscountAmount(),
+                plan.getDiscountReason(),
+                plan.getCreatedAt(),
+                plan.getUpdatedAt(),
+                plan.getStartedAt(),
+                plan.getCompletedAt(),
+                plan.calculateTotalPaid(),
+                plan.calculateRemainingBalance(),
+                plan.calculateRemainingVisits(),
+                plan.calculateExpectedPaymentPerVisit(),
+                plan.calculateTotalMaterialsCost(),
+                plan.calculateNetRevenue(),
+                convertedTotalPrice,
+                clinicCurrency,
+                convertedTotalPaid,
+                convertedRemainingBalance,
+                convertedExpectedPaymentPerVisit,
+                convertedTotalMaterialsCost,
+                convertedNetRevenue,
+                visits,
+                scheduledFollowUps
+        );
+    }
+
+    /**
+     * Convert visit entity to response DTO.
+     */
+    private FollowUpVisitResponse toVisitResponse(FollowUpVisitEntity visit, Long appointmentId,
+                                                  String clinicCurrency, FxRateTable rates) {
+        List<PaymentResponse> payments = visit.getPayments().stream()
+                .map(p -> {
+                    BigDecimal convertedAmount = rates.convert(
+                            p.getAmount(),
+                            p.getCurrency(),
+                            clinicCurrency
+                    );
+                    return new PaymentResponse(
+                            p.getId(),
+                            p.getAmount(),
+                            p.getCurrency(),
+                            convertedAmount,
+                            clinicCurrency,
+                            p.getPaymentMethod(),
+                            p.getTransactionReference(),
+                            p.getPaymentDate(),
+                            p.getNotes(),
+                            p.getCreatedAt()
+                    );
+                })
+                .collect(Collectors.toList());
+
+        List<MaterialUsageResponse> materials = visit.getMaterialUsages().stream()
+                .map(m -> {
+                    BigDecimal totalCost = m.getUnitCost().multiply(m.getQuantity());
+                    BigDecimal convertedTotalCost = rates.convert(
+                            totalCost,
+                            m.getMaterial().getCurrency(),
+                            clinicCurrency
+                    );
+                    return new MaterialUsageResponse(
+                            m.getId(),
+                            m.getMaterial().getId(),
+                            m.getMaterial().getName(),
+                            m.getQuantity(),
+                            m.getUnitCost(),
+                            m.getMaterial().getCurrency(),
+                            totalCost,
+                            convertedTotalCost,
+                            clinicCurrency,
+                            m.getNotes(),
+                            m.getCreatedAt()
+                    );
+                })
+                .collect(Collectors.toList());
+
+        BigDecimal totalPayments = payments.stream()
+                .map(PaymentResponse::convertedAmount)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        BigDecimal totalMaterials = materials.stream()
+                .map(MaterialUsageResponse::convertedTotalCost)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        return new FollowUpVisitResponse(
+                visit.getId(),
+                visit.getVisitNumber(),
+                appointmentId,
+                visit.getVisitDate(),
+                visit.getNotes(),
+                visit.getPerformedProcedures(),
+                visit.getCreatedAt(),
+                payments,
+                materials,
+                totalPayments,
+                totalMaterials
+        );
+    }
+}
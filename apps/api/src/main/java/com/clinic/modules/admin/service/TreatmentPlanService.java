@@ -1,5 +1,8 @@
 package com.clinic.modules.admin.service;
 
+import com.clinic.api.KeysetCursor;
+import com.clinic.api.KeysetPage;
+import com.clinic.api.KeysetPageRequest;
 import com.clinic.modules.admin.dto.*;
 import com.clinic.modules.core.appointment.AppointmentEntity;
 import com.clinic.modules.core.appointment.AppointmentMode;
@@ -12,8 +15,8 @@ import com.clinic.modules.core.patient.PatientRepository;
 import com.clinic.modules.core.service.ClinicServiceEntity;
 import com.clinic.modules.core.service.ClinicServiceRepository;
 import com.clinic.modules.core.service.CurrencyConversionService;
-import com.clinic.modules.core.settings.ClinicSettingsEntity;
-import com.clinic.modules.core.settings.ClinicSettingsRepository;
+import com.clinic.modules.core.settings.ClinicSettingsCache;
+import com.clinic.modules.core.settings.ClinicSettingsSnapshot;
 import com.clinic.modules.core.tenant.TenantContextHolder;
 import com.clinic.modules.core.treatment.*;
 import org.springframework.http.HttpStatus;
@@ -22,7 +25,6 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
@@ -51,10 +53,11 @@ public class TreatmentPlanService {
     private final DoctorRepository doctorRepository;
     private final ClinicServiceRepository clinicServiceRepository;
     private final AppointmentRepository appointmentRepository;
-    private final ClinicSettingsRepository clinicSettingsRepository;
+    private final ClinicSettingsCache clinicSettingsCache;
     private final CurrencyConversionService currencyConversionService;
     private final TenantContextHolder tenantContextHolder;
     private final com.clinic.modules.core.tenant.TenantService tenantService;
+    private final TreatmentPlanResponseAssembler responseAssembler;
 
     private static final int DEFAULT_SLOT_DURATION_MINUTES = 30;
     private static final ZoneId CLINIC_ZONE = ZoneId.of("Asia/Amman");
@@ -70,10 +73,11 @@ public class TreatmentPlanService {
             DoctorRepository doctorRepository,
             ClinicServiceRepository clinicServiceRepository,
             AppointmentRepository appointmentRepository,
-            ClinicSettingsRepository clinicSettingsRepository,
+            ClinicSettingsCache clinicSettingsCache,
             CurrencyConversionService currencyConversionService,
             TenantContextHolder tenantContextHolder,
-            com.clinic.modules.core.tenant.TenantService tenantService
+            com.clinic.modules.core.tenant.TenantService tenantService,
+            TreatmentPlanResponseAssembler responseAssembler
     ) {
         this.treatmentPlanRepository = treatmentPlanRepository;
         this.treatmentPlanPaymentRepository = treatmentPlanPaymentRepository;
@@ -83,10 +87,11 @@ public class TreatmentPlanService {
         this.doctorRepository = doctorRepository;
         this.clinicServiceRepository = clinicServiceRepository;
         this.appointmentRepository = appointmentRepository;
-        this.clinicSettingsRepository = clinicSettingsRepository;
+        this.clinicSettingsCache = clinicSettingsCache;
         this.currencyConversionService = currencyConversionService;
         this.tenantContextHolder = tenantContextHolder;
         this.tenantService = tenantService;
+        this.responseAssembler = responseAssembler;
     }
 
     /**
@@ -138,7 +143,7 @@ public class TreatmentPlanService {
 
         syncFollowUpAppointmentPlaceholders(saved);
 
-        return toResponse(saved);
+        return responseAssembler.toResponse(saved);
     }
 
     /**
@@ -149,51 +154,24 @@ public class TreatmentPlanService {
         Long tenantId = tenantContextHolder.requireTenantId();
         TreatmentPlanEntity plan = treatmentPlanRepository.findByIdAndTenantId(id, tenantId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Treatment plan not found"));
-        return toResponse(plan);
+        return responseAssembler.toResponse(plan);
     }
 
     /**
-     * Get all treatment plans for a patient.
+     * A page of treatment plans, newest first, optionally narrowed to a
+     * patient, doctor and/or status.
      */
     @Transactional(readOnly = true)
-    public List<TreatmentPlanResponse> getTreatmentPlansByPatient(Long patientId) {
+    public KeysetPage<TreatmentPlanResponse> listTreatmentPlans(Long patientId, Long doctorId,
+                                                                TreatmentPlanStatus status,
+                                                                KeysetPageRequest page) {
         Long tenantId = tenantContextHolder.requireTenantId();
-        return treatmentPlanRepository.findByTenantIdAndPatientId(tenantId, patientId).stream()
-                .map(this::toResponse)
-                .collect(Collectors.toList());
-    }
-
-    /**
-     * Get all treatment plans for a doctor.
-     */
-    @Transactional(readOnly = true)
-    public List<TreatmentPlanResponse> getTreatmentPlansByDoctor(Long doctorId) {
-        Long tenantId = tenantContextHolder.requireTenantId();
-        return treatmentPlanRepository.findByTenantIdAndDoctorId(tenantId, doctorId).stream()
-                .map(this::toResponse)
-                .collect(Collectors.toList());
-    }
-
-    /**
-     * Get all treatment plans by status.
-     */
-    @Transactional(readOnly = true)
-    public List<TreatmentPlanResponse> getTreatmentPlansByStatus(TreatmentPlanStatus status) {
-        Long tenantId = tenantContextHolder.requireTenantId();
-        return treatmentPlanRepository.findByTenantIdAndStatus(tenantId, status).stream()
-                .map(this::toResponse)
-                .collect(Collectors.toList());
-    }
-
-    /**
-     * Get all treatment plans.
-     */
-    @Transactional(readOnly = true)
-    public List<TreatmentPlanResponse> getAllTreatmentPlans() {
-        Long tenantId = tenantContextHolder.requireTenantId();
-        return treatmentPlanRepository.findAllByTenantId(tenantId).stream()
-                .map(this::toResponse)
-                .collect(Collectors.toList());
+        List<TreatmentPlanEntity> rows = treatmentPlanRepository.findKeysetPage(
+                tenantId, patientId, doctorId, status,
+                page.instantKeyOr(KeysetPageRequest.LATEST), page.idOr(Long.MAX_VALUE), page.fetchWindow());
+        KeysetPage<TreatmentPlanEntity> plans = KeysetPage.of(rows, page,
+                plan -> KeysetCursor.of(plan.getCreatedAt(), plan.getId()));
+        return new KeysetPage<>(responseAssembler.toResponses(plans.items()), plans.nextCursor());
     }
 
     /**
@@ -230,7 +208,7 @@ public class TreatmentPlanService {
         plan.updatePlan(request.totalPrice(), request.plannedFollowups(), request.followUpCadence(), request.notes());
         syncFollowUpAppointmentPlaceholders(plan);
 
-        return toResponse(plan);
+        return responseAssembler.toResponse(plan);
     }
 
     /**
@@ -258,7 +236,7 @@ public class TreatmentPlanService {
 
         plan.applyDiscount(request.discountAmount(), request.discountReason());
 
-        return toResponse(plan);
+        return responseAssembler.toResponse(plan);
     }
 
     /**
@@ -359,7 +337,7 @@ public class TreatmentPlanService {
         );
         plan.getAuditLogs().add(auditLog);
 
-        return toResponse(plan);
+        return responseAssembler.toResponse(plan);
     }
 
     /**
@@ -456,7 +434,7 @@ public class TreatmentPlanService {
         );
         plan.getAuditLogs().add(auditLog);
 
-        return toResponse(plan);
+        return responseAssembler.toResponse(plan);
     }
 
     /**
@@ -482,7 +460,7 @@ public class TreatmentPlanService {
         cancelOpenFollowUpAppointments(plan, plan.getCompletedVisits());
         plan.complete();
 
-        return toResponse(plan);
+        return responseAssembler.toResponse(plan);
     }
 
     /**
@@ -508,205 +486,7 @@ public class TreatmentPlanService {
         cancelOpenFollowUpAppointments(plan, plan.getCompletedVisits());
         plan.cancel(reason);
 
-        return toResponse(plan);
-    }
-
-    /**
-     * Convert entity to response DTO with all calculated fields.
-     */
-    private TreatmentPlanResponse toResponse(TreatmentPlanEntity plan) {
-        List<AppointmentEntity> appointments = appointmentRepository
-                .findByTreatmentPlanIdOrderByFollowUpVisitNumberAsc(plan.getId());
-
-        var appointmentIdByVisitNumber = appointments.stream()
-                .filter(appt -> appt.getFollowUpVisitNumber() != null)
-                .collect(Collectors.toMap(
-                        AppointmentEntity::getFollowUpVisitNumber,
-                        AppointmentEntity::getId,
-                        (existing, duplicate) -> existing
-                ));
-
-        List<FollowUpVisitResponse> visits = plan.getFollowUpVisits().stream()
-                .sorted(Comparator.comparing(
-                        FollowUpVisitEntity::getVisitNumber,
-                        Comparator.nullsLast(Integer::compare)
-                ))
-                .map(visit -> toVisitResponse(visit, appointmentIdByVisitNumber.get(visit.getVisitNumber())))
-                .collect(Collectors.toList());
-
-        List<ScheduledFollowUpResponse> scheduledFollowUps = appointments.stream()
-                .filter(appt -> appt.getStatus() != AppointmentStatus.CANCELLED)
-                .map(appt -> new ScheduledFollowUpResponse(
-                        appt.getId(),
-                        appt.getFollowUpVisitNumber(),
-                        appt.getScheduledAt(),
-                        appt.getStatus().name(),
-                        appt.getBookingMode().name(),
-                        appt.isPaymentCollected(),
-                        appt.getPatientAttended()
-                ))
-                .collect(Collectors.toList());
-
-        // Calculate converted prices in clinic currency
-        String clinicCurrency = currencyConversionService.getClinicCurrency();
-
-        // Convert treatment plan price
-        BigDecimal convertedTotalPrice = currencyConversionService.convert(
-                plan.getTotalPrice(),
-                plan.getCurrency(),
-                clinicCurrency
-        );
-
-        // Calculate totals from visit-level converted values (properly handles multi-currency)
-        BigDecimal convertedTotalPaid = visits.stream()
-                .map(FollowUpVisitResponse::totalPaymentsThisVisit)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        // Add direct payments (converted to clinic currency)
-        BigDecimal convertedDirectPayments = plan.getDirectPayments().stream()
-                .map(payment -> currencyConversionService.convert(
-                        payment.getAmount(),
-                        payment.getCurrency(),
-                        clinicCurrency
-                ))
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        convertedTotalPaid = convertedTotalPaid.add(convertedDirectPayments);
-
-        BigDecimal convertedTotalMaterialsCost = visits.stream()
-                .map(FollowUpVisitResponse::totalMaterialsCostThisVisit)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        // Calculate derived values using converted amounts
-        BigDecimal convertedDiscountAmount = plan.getDiscountAmount() != null
-                ? currencyConversionService.convert(plan.getDiscountAmount(), plan.getCurrency(), clinicCurrency)
-                : BigDecimal.ZERO;
-
-        BigDecimal convertedRemainingBalance = convertedTotalPrice
-                .subtract(convertedDiscountAmount)
-                .subtract(convertedTotalPaid);
-
-        BigDecimal convertedExpectedPaymentPerVisit = plan.calculateRemainingVisits() > 0
-                ? convertedRemainingBalance.divide(
-                        BigDecimal.valueOf(plan.calculateRemainingVisits()),
-                        2,
-                        RoundingMode.HALF_UP)
-                : BigDecimal.ZERO;
-
-        BigDecimal convertedNetRevenue = convertedTotalPaid.subtract(convertedTotalMaterialsCost);
-
-        return new TreatmentPlanResponse(
-                plan.getId(),
-                plan.getPatient().getId(),
-                plan.getPatient().getFirstName() + " " + plan.getPatient().getLastName(),
-                plan.getDoctor().getId(),
-                plan.getDoctor().getFullName(),
-                plan.getTreatmentType().getId(),
-                plan.getTreatmentType().getNameEn(),
-                plan.getTotalPrice(),
-                plan.getCurrency(),
-                plan.getPlannedFollowups(),
-                plan.getFollowUpCadence(),
-                plan.getCompletedVisits(),
-                plan.getStatus(),
-                plan.getNotes(),
-                plan.getDiscountAmount(),
-                plan.getDiscountReason(),
-                plan.getCreatedAt(),
-                plan.getUpdatedAt(),
-                plan.getStartedAt(),
-                plan.getCompletedAt(),
-                plan.calculateTotalPaid(),
-                plan.calculateRemainingBalance(),
-                plan.calculateRemainingVisits(),
-                plan.calculateExpectedPaymentPerVisit(),
-                plan.calculateTotalMaterialsCost(),
-                plan.calculateNetRevenue(),
-                convertedTotalPrice,
-                clinicCurrency,
-                convertedTotalPaid,
-                convertedRemainingBalance,
-                convertedExpectedPaymentPerVisit,
-                convertedTotalMaterialsCost,
-                convertedNetRevenue,
-                visits,
-                scheduledFollowUps
-        );
-    }
-
-    /**
-     * Convert visit entity to response DTO.
-     */
-    private FollowUpVisitResponse toVisitResponse(FollowUpVisitEntity visit, Long appointmentId) {
-        String clinicCurrency = currencyConversionService.getClinicCurrency();
-
-        List<PaymentResponse> payments = visit.getPayments().stream()
-                .map(p -> {
-                    BigDecimal convertedAmount = currencyConversionService.convert(
-                            p.getAmount(),
-                            p.getCurrency(),
-                            clinicCurrency
-                    );
-                    return new PaymentResponse(
-                            p.getId(),
-                            p.getAmount(),
-                            p.getCurrency(),
-                            convertedAmount,
-                            clinicCurrency,
-                            p.getPaymentMethod(),
-                            p.getTransactionReference(),
-                            p.getPaymentDate(),
-                            p.getNotes(),
-                            p.getCreatedAt()
-                    );
-                })
-                .collect(Collectors.toList());
-
-        List<MaterialUsageResponse> materials = visit.getMaterialUsages().stream()
-                .map(m -> {
-                    BigDecimal totalCost = m.getUnitCost().multiply(m.getQuantity());
-                    BigDecimal convertedTotalCost = currencyConversionService.convert(
-                            totalCost,
-                            m.getMaterial().getCurrency(),
-                            clinicCurrency
-                    );
-                    return new MaterialUsageResponse(
-                            m.getId(),
-                            m.getMaterial().getId(),
-                            m.getMaterial().getName(),
-                            m.getQuantity(),
-                            m.getUnitCost(),
-                            m.getMaterial().getCurrency(),
-                            totalCost,
-                            convertedTotalCost,
-                            clinicCurrency,
-                            m.getNotes(),
-                            m.getCreatedAt()
-                    );
-                })
-                .collect(Collectors.toList());
-
-        BigDecimal totalPayments = payments.stream()
-                .map(PaymentResponse::convertedAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        BigDecimal totalMaterials = materials.stream()
-                .map(MaterialUsageResponse::convertedTotalCost)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        return new FollowUpVisitResponse(
-                visit.getId(),
-                visit.getVisitNumber(),
-                appointmentId,
-                visit.getVisitDate(),
-                visit.getNotes(),
-                visit.getPerformedProcedures(),
-                visit.getCreatedAt(),
-                payments,
-                materials,
-                totalPayments,
-                totalMaterials
-        );
+        return responseAssembler.toResponse(plan);
     }
 
     private void syncFollowUpAppointmentPlaceholders(TreatmentPlanEntity plan) {
@@ -849,8 +629,8 @@ public class TreatmentPlanService {
     }
 
     private int getDefaultSlotDurationMinutes() {
-        ClinicSettingsEntity settings = requireSettings();
-        Integer duration = settings.getSlotDurationMinutes();
+        ClinicSettingsSnapshot settings = requireSettings();
+        Integer duration = settings.slotDurationMinutes();
         if (duration != null && duration >= 5 && duration <= 240) {
             return duration;
         }
@@ -964,7 +744,7 @@ public class TreatmentPlanService {
         // Save the treatment plan (updatedAt will be set automatically by @PreUpdate)
         treatmentPlanRepository.save(treatmentPlan);
 
-        return toResponse(treatmentPlan);
+        return responseAssembler.toResponse(treatmentPlan);
     }
 
     /**
@@ -1025,14 +805,14 @@ public class TreatmentPlanService {
      * Defaults to USD if not configured.
      */
     private String getClinicCurrency() {
-        ClinicSettingsEntity settings = requireSettings();
-        String currency = settings.getCurrency();
+        ClinicSettingsSnapshot settings = requireSettings();
+        String currency = settings.currency();
         return (currency != null && !currency.isBlank()) ? currency : "USD";
     }
 
-    private ClinicSettingsEntity requireSettings() {
+    private ClinicSettingsSnapshot requireSettings() {
         Long tenantId = tenantContextHolder.requireTenantId();
-        return clinicSettingsRepository.findByTenantId(tenantId)
+        return clinicSettingsCache.get(tenantId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Clinic settings not configured"));
     }
 }
@@ -1,5 +1,6 @@
 package com.clinic.modules.admin.staff.controller;
 
+import com.clinic.api.KeysetPage;
 import com.clinic.modules.admin.staff.dto.*;
 import com.clinic.modules.admin.staff.service.StaffManagementService;
 import jakarta.validation.Valid;
@@ -35,13 +36,16 @@ public class StaffManagementController {
     }
 
     /**
-     * Get all staff members.
+     * Get a page of staff members, newest first. The next page's cursor is
+     * returned in the X-Next-Cursor header. Without cursor and limit, all of them.
      */
     @GetMapping
     @PreAuthorize("hasAnyRole('ADMIN', 'RECEPTIONIST')")
-    public ResponseEntity<List<StaffResponse>> getAllStaff() {
-        List<StaffResponse> staff = staffManagementService.getAllStaff();
-        return ResponseEntity.ok(staff);
+    public ResponseEntity<List<StaffResponse>> getAllStaff(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit
+    ) {
+        return KeysetPage.list(cursor, limit, staffManagementService::getStaff).toResponseEntity();
     }
 
     /**
@@ -0,0 +1,20 @@
+package com.clinic.modules.admin.staff.model;
+
+import java.time.Instant;
+
+/**
+ * The staff user columns shown in list views, with the linked doctor's name
+ * and specialty when there is one.
+ */
+public record StaffUserView(
+        Long id,
+        String email,
+        String fullName,
+        StaffRole role,
+        StaffStatus status,
+        Instant createdAt,
+        Long doctorId,
+        String doctorName,
+        String doctorSpecialty
+) {
+}
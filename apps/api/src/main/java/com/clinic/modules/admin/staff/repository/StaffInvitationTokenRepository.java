@@ -4,9 +4,11 @@ import com.clinic.modules.admin.staff.model.StaffInvitationToken;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -29,6 +31,12 @@ public interface StaffInvitationTokenRepository extends JpaRepository<StaffInvit
     @Query("SELECT t FROM StaffInvitationToken t WHERE t.staffUserId = :staffUserId AND t.usedAt IS NULL ORDER BY t.createdAt DESC")
     Optional<StaffInvitationToken> findLatestUnusedTokenByStaffUserId(Long staffUserId);
 
+    /**
+     * Ids of the given staff users that have an unused, unexpired invitation.
+     */
+    @Query("SELECT DISTINCT t.staffUserId FROM StaffInvitationToken t WHERE t.staffUserId IN :staffUserIds AND t.usedAt IS NULL AND t.expiresAt > :now")
+    List<Long> findStaffUserIdsWithValidInvitation(@Param("staffUserIds") Collection<Long> staffUserIds, @Param("now") Instant now);
+
     /**
      * Delete expired invitation tokens.
      */
@@ -4,6 +4,8 @@ import com.clinic.modules.admin.staff.model.StaffPermissions;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -14,6 +16,11 @@ public interface StaffPermissionsRepository extends JpaRepository<StaffPermissio
      */
     Optional<StaffPermissions> findByStaffUserId(Long staffUserId);
 
+    /**
+     * Find permissions of several staff users.
+     */
+    List<StaffPermissions> findByStaffUserIdIn(Collection<Long> staffUserIds);
+
     /**
      * Check if permissions exist for a staff user.
      */
@@ -1,11 +1,13 @@
 package com.clinic.modules.admin.staff.repository;
 
 import com.clinic.modules.admin.staff.model.StaffUser;
+import com.clinic.modules.admin.staff.model.StaffUserView;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,6 +25,25 @@ public interface StaffUserRepository extends JpaRepository<StaffUser, Long> {
 
     long countByTenantId(Long tenantId);
 
+    /**
+     * Keyset page of the tenant's staff, newest first, starting after
+     * ({@code afterCreatedAt}, {@code afterId}).
+     */
+    @Query("""
+            select new com.clinic.modules.admin.staff.model.StaffUserView(
+                s.id, s.email, s.fullName, s.role, s.status, s.createdAt,
+                d.id, coalesce(d.fullNameEn, d.fullNameAr), coalesce(d.specialtyEn, d.specialtyAr))
+            from StaffUser s
+            left join s.doctor d
+            where s.tenant.id = :tenantId
+              and (s.createdAt < :afterCreatedAt or (s.createdAt = :afterCreatedAt and s.id < :afterId))
+            order by s.createdAt desc, s.id desc
+            """)
+    List<StaffUserView> findViewPage(@Param("tenantId") Long tenantId,
+                                     @Param("afterCreatedAt") Instant afterCreatedAt,
+                                     @Param("afterId") long afterId,
+                                     Pageable pageable);
+
     @Query("""
             select s from StaffUser s
             where s.tenant.id = :tenantId
@@ -1,5 +1,8 @@
 package com.clinic.modules.admin.staff.service;
 
+import com.clinic.api.KeysetCursor;
+import com.clinic.api.KeysetPage;
+import com.clinic.api.KeysetPageRequest;
 import com.clinic.modules.admin.staff.dto.*;
 import com.clinic.modules.admin.staff.model.*;
 import com.clinic.modules.admin.staff.repository.StaffInvitationTokenRepository;
@@ -24,8 +27,13 @@ import org.springframework.http.HttpStatus;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Service for managing staff members, their permissions, and invitations.
@@ -138,16 +146,41 @@ public class StaffManagementService {
     }
 
     /**
-     * Get all staff members.
+     * Get a page of staff members, newest first. Permissions and pending
+     * invitations are loaded for the whole page at once.
      */
     @Transactional(readOnly = true)
-    public List<StaffResponse> getAllStaff() {
-        log.debug("Fetching all staff members");
-        List<StaffUser> staffUsers = staffUserRepository.findAllByTenantId(currentTenantId());
-
-        return staffUsers.stream()
-                .map(this::mapToStaffResponseWithPermissions)
-                .toList();
+    public KeysetPage<StaffResponse> getStaff(KeysetPageRequest page) {
+        log.debug("Fetching staff members page");
+        List<StaffUserView> rows = staffUserRepository.findViewPage(
+                currentTenantId(),
+                page.instantKeyOr(KeysetPageRequest.LATEST),
+                page.idOr(Long.MAX_VALUE),
+                page.fetchWindow());
+        KeysetPage<StaffUserView> staffPage = KeysetPage.of(rows, page, row -> KeysetCursor.of(row.createdAt(), row.id()));
+
+        List<Long> staffIds = staffPage.items().stream().map(StaffUserView::id).toList();
+        if (staffIds.isEmpty()) {
+            return new KeysetPage<>(List.of(), null);
+        }
+        Map<Long, StaffPermissions> permissionsByStaffId = staffPermissionsRepository.findByStaffUserIdIn(staffIds).stream()
+                .collect(Collectors.toMap(StaffPermissions::getStaffUserId, Function.identity()));
+        Set<Long> pendingInvitations = new HashSet<>(
+                invitationTokenRepository.findStaffUserIdsWithValidInvitation(staffIds, Instant.now()));
+
+        return staffPage.map(row -> new StaffResponse(
+                row.id(),
+                row.email(),
+                row.fullName(),
+                row.role(),
+                row.status(),
+                mapToModulePermissionsDto(permissionsByStaffId.getOrDefault(row.id(), new StaffPermissions(row.id()))),
+                pendingInvitations.contains(row.id()),
+                row.createdAt(),
+                row.doctorId() != null
+                        ? new StaffResponse.DoctorInfo(row.doctorId(), row.doctorName(), row.doctorSpecialty())
+                        : null
+        ));
     }
 
     /**
@@ -1,11 +1,15 @@
 package com.clinic.modules.admin.translation.controller;
 
-import com.clinic.modules.admin.translation.dto.TranslationResponse;
 import com.clinic.modules.admin.translation.dto.TranslationUpsertRequest;
 import com.clinic.modules.core.translation.TenantTranslationService;
+import com.clinic.modules.core.translation.TranslationBundle;
 import jakarta.validation.Valid;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -19,12 +23,28 @@ public class TenantTranslationAdminController {
         this.translationService = translationService;
     }
 
+    /**
+     * Returns the merged translations as a pre-serialized bundle. Clients that
+     * send the bundle's ETag back in If-None-Match get a 304 without a body.
+     */
     @GetMapping
-    public ResponseEntity<List<TranslationResponse>> listTranslations(
+    public ResponseEntity<byte[]> listTranslations(
             @RequestParam(name = "namespace", required = false) String namespace,
-            @RequestParam(name = "locale", required = false) String locale
+            @RequestParam(name = "locale", required = false) String locale,
+            WebRequest webRequest
     ) {
-        return ResponseEntity.ok(translationService.getTranslations(namespace, locale));
+        TranslationBundle bundle = translationService.getTranslationBundle(namespace, locale);
+        if (webRequest.checkNotModified(bundle.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(bundle.etag())
+                    .cacheControl(CacheControl.noCache().cachePrivate())
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(bundle.etag())
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(bundle.json());
     }
 
     @PutMapping
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -96,6 +97,17 @@ public interface AppointmentRepository extends JpaRepository<AppointmentEntity,
             """)
     List<AppointmentEntity> findByTenantIdAndScheduledAtBetween(@Param("tenantId") Long tenantId, @Param("start") Instant start, @Param("end") Instant end);
 
+    @Query("""
+            select distinct a.doctor.id from AppointmentEntity a
+            where a.tenant.id = :tenantId
+              and a.status = :status
+              and a.scheduledAt between :start and :end
+            """)
+    List<Long> findDoctorIdsByTenantIdAndStatusAndScheduledAtBetween(@Param("tenantId") Long tenantId,
+                                                                     @Param("status") AppointmentStatus status,
+                                                                     @Param("start") Instant start,
+                                                                     @Param("end") Instant end);
+
     @Query("""
             select coalesce(count(a), 0) from AppointmentEntity a
             where a.status = com.clinic.modules.core.appointment.AppointmentStatus.COMPLETED
@@ -128,6 +140,20 @@ public interface AppointmentRepository extends JpaRepository<AppointmentEntity,
 
     List<AppointmentEntity> findByTreatmentPlanIdOrderByFollowUpVisitNumberAsc(Long treatmentPlanId);
 
+    /**
+     * Follow-up appointment summaries for several treatment plans in one query,
+     * without loading the appointments' patient, doctor and service.
+     */
+    @Query("""
+            select new com.clinic.modules.core.appointment.FollowUpAppointmentView(
+                a.treatmentPlan.id, a.id, a.followUpVisitNumber, a.scheduledAt, a.status,
+                a.bookingMode, a.paymentCollected, a.patientAttended)
+            from AppointmentEntity a
+            where a.treatmentPlan.id in :treatmentPlanIds
+            order by a.followUpVisitNumber asc, a.id asc
+            """)
+    List<FollowUpAppointmentView> findFollowUpViewsByTreatmentPlanIds(@Param("treatmentPlanIds") Collection<Long> treatmentPlanIds);
+
     List<AppointmentEntity> findByTenantIdAndTreatmentPlanIdOrderByFollowUpVisitNumberAsc(Long tenantId, Long treatmentPlanId);
 
     Optional<AppointmentEntity> findByTreatmentPlanIdAndFollowUpVisitNumber(Long treatmentPlanId, Integer followUpVisitNumber);
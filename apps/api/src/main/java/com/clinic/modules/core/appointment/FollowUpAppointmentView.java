@@ -0,0 +1,19 @@
+package com.clinic.modules.core.appointment;
+
+import java.time.Instant;
+
+/**
+ * The fields of a treatment-plan follow-up appointment needed to build a
+ * treatment plan response.
+ */
+public record FollowUpAppointmentView(
+        Long treatmentPlanId,
+        Long id,
+        Integer followUpVisitNumber,
+        Instant scheduledAt,
+        AppointmentStatus status,
+        AppointmentMode bookingMode,
+        boolean paymentCollected,
+        Boolean patientAttended
+) {
+}
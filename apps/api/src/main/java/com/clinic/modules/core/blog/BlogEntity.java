@@ -1,10 +1,12 @@
 package com.clinic.modules.core.blog;
 
+import com.clinic.modules.core.cache.TenantContentChangeListener;
 import com.clinic.modules.core.tenant.TenantEntity;
 import jakarta.persistence.*;
 import java.time.Instant;
 
 @Entity
+@EntityListeners(TenantContentChangeListener.class)
 @Table(name = "blogs", uniqueConstraints = {
     @UniqueConstraint(name = "idx_blogs_tenant_slug", columnNames = {"tenant_id", "slug"})
 })
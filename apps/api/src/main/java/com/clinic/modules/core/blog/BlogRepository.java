@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,6 +23,27 @@ public interface BlogRepository extends JpaRepository<BlogEntity, Long> {
 
     List<BlogEntity> findAllByTenantIdAndStatus(Long tenantId, BlogStatus status);
 
+    /**
+     * Keyset page of the tenant's posts, newest first, starting after
+     * ({@code afterCreatedAt}, {@code afterId}).
+     */
+    @Query("""
+            select new com.clinic.modules.core.blog.BlogSummaryView(
+                b.id, b.title, b.slug, b.excerpt, b.featuredImage, b.authorId, b.authorName,
+                b.metaTitle, b.metaDescription, b.metaKeywords, b.ogTitle, b.ogDescription, b.ogImage,
+                b.status, b.publishedAt, b.viewCount, b.locale, b.createdAt, b.updatedAt)
+            from BlogEntity b
+            where b.tenant.id = :tenantId
+              and (:locale is null or b.locale = :locale)
+              and (b.createdAt < :afterCreatedAt or (b.createdAt = :afterCreatedAt and b.id < :afterId))
+            order by b.createdAt desc, b.id desc
+            """)
+    List<BlogSummaryView> findSummaryPage(@Param("tenantId") Long tenantId,
+                                          @Param("locale") String locale,
+                                          @Param("afterCreatedAt") Instant afterCreatedAt,
+                                          @Param("afterId") long afterId,
+                                          Pageable pageable);
+
     // Legacy methods (to be deprecated or updated to use tenant filtering)
     Optional<BlogEntity> findBySlug(String slug);
 
@@ -0,0 +1,29 @@
+package com.clinic.modules.core.blog;
+
+import java.time.Instant;
+
+/**
+ * A blog post without its content, for list views.
+ */
+public record BlogSummaryView(
+        Long id,
+        String title,
+        String slug,
+        String excerpt,
+        String featuredImage,
+        Long authorId,
+        String authorName,
+        String metaTitle,
+        String metaDescription,
+        String metaKeywords,
+        String ogTitle,
+        String ogDescription,
+        String ogImage,
+        BlogStatus status,
+        Instant publishedAt,
+        Long viewCount,
+        String locale,
+        Instant createdAt,
+        Instant updatedAt
+) {
+}
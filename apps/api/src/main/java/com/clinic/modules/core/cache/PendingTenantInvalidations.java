@@ -0,0 +1,71 @@
+package com.clinic.modules.core.cache;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Collects the tenants whose cached data a transaction changed and invalidates
+ * each of them once when the transaction ends, or immediately when no
+ * transaction is active.
+ *
+ * Repeated writes in one transaction register a single synchronization.
+ */
+public final class PendingTenantInvalidations {
+
+    /**
+     * When the invalidation runs.
+     */
+    public enum Phase {
+        /** After a successful commit; a rollback leaves the cache alone. */
+        COMMIT,
+        /** After commit or rollback, for caches that may have read uncommitted rows. */
+        COMPLETION
+    }
+
+    private final Phase phase;
+    private final Consumer<Long> invalidation;
+
+    public PendingTenantInvalidations(Phase phase, Consumer<Long> invalidation) {
+        this.phase = phase;
+        this.invalidation = invalidation;
+    }
+
+    public void add(Long tenantId) {
+        if (tenantId == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidation.accept(tenantId);
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        Set<Long> pending = (Set<Long>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Set<Long> tenantIds = new LinkedHashSet<>();
+            TransactionSynchronizationManager.bindResource(this, tenantIds);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    if (phase == Phase.COMMIT) {
+                        tenantIds.forEach(invalidation);
+                    }
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(PendingTenantInvalidations.this);
+                    if (phase == Phase.COMPLETION) {
+                        tenantIds.forEach(invalidation);
+                    }
+                }
+            });
+            pending = tenantIds;
+        }
+        pending.add(tenantId);
+    }
+}
@@ -0,0 +1,72 @@
+package com.clinic.modules.core.cache;
+
+import com.clinic.modules.core.blog.BlogEntity;
+import com.clinic.modules.core.doctor.DoctorEntity;
+import com.clinic.modules.core.insurance.InsuranceCompanyEntity;
+import com.clinic.modules.core.service.ClinicServiceEntity;
+import com.clinic.modules.core.settings.ClinicSettingsEntity;
+import com.clinic.modules.core.tenant.TenantEntity;
+import com.clinic.modules.core.translation.TenantTranslationEntity;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA entity listener that publishes a {@link TenantContentChangedEvent}
+ * whenever content served by the public endpoints is written.
+ *
+ * Caches in other modules listen for the event, so core entities do not
+ * depend on them. Collection writes are routed here by
+ * {@link TenantContentCollectionListener}. JPQL bulk updates bypass both, so
+ * code issuing them publishes the event itself.
+ */
+@Component
+public class TenantContentChangeListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public TenantContentChangeListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onContentChange(Object entity) {
+        TenantEntity tenant = tenantOf(entity);
+        if (tenant != null) {
+            TenantContentChangedEvent.Area area = entity instanceof TenantTranslationEntity
+                    ? TenantContentChangedEvent.Area.TRANSLATIONS
+                    : TenantContentChangedEvent.Area.PUBLIC_CONTENT;
+            eventPublisher.publishEvent(new TenantContentChangedEvent(this, tenant.getId(), area));
+        }
+    }
+
+    private TenantEntity tenantOf(Object entity) {
+        // Tenant flags such as ecommerceEnabled show up in the public settings
+        if (entity instanceof TenantEntity tenant) {
+            return tenant;
+        }
+        if (entity instanceof ClinicSettingsEntity settings) {
+            return settings.getTenant();
+        }
+        if (entity instanceof TenantTranslationEntity translation) {
+            return translation.getTenant();
+        }
+        if (entity instanceof ClinicServiceEntity service) {
+            return service.getTenant();
+        }
+        if (entity instanceof DoctorEntity doctor) {
+            return doctor.getTenant();
+        }
+        if (entity instanceof InsuranceCompanyEntity insuranceCompany) {
+            return insuranceCompany.getTenant();
+        }
+        if (entity instanceof BlogEntity blog) {
+            return blog.getTenant();
+        }
+        return null;
+    }
+}
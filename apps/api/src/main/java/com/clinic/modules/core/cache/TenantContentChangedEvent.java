@@ -0,0 +1,48 @@
+package com.clinic.modules.core.cache;
+
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Event published when a write changes data that per-tenant caches hold.
+ *
+ * It is published synchronously inside the writing transaction; caches react
+ * by invalidating the tenant once that transaction commits.
+ */
+public class TenantContentChangedEvent extends ApplicationEvent {
+
+    /**
+     * The kind of data the write touched.
+     */
+    public enum Area {
+        /** Settings, services, doctors, insurance companies, blogs and tenant flags. */
+        PUBLIC_CONTENT,
+        /** Tenant translation overrides. */
+        TRANSLATIONS,
+        /** Products, variants and categories. */
+        CATALOG
+    }
+
+    private final Long tenantId;
+    private final Area area;
+
+    /**
+     * Create a new TenantContentChangedEvent.
+     *
+     * @param source the object that made or observed the write
+     * @param tenantId the tenant whose data changed
+     * @param area the kind of data that changed
+     */
+    public TenantContentChangedEvent(Object source, Long tenantId, Area area) {
+        super(source);
+        this.tenantId = tenantId;
+        this.area = area;
+    }
+
+    public Long getTenantId() {
+        return tenantId;
+    }
+
+    public Area getArea() {
+        return area;
+    }
+}
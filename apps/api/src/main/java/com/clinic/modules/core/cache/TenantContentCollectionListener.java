@@ -0,0 +1,61 @@
+package com.clinic.modules.core.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.AbstractCollectionEvent;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCollectionRecreateEvent;
+import org.hibernate.event.spi.PostCollectionRecreateEventListener;
+import org.hibernate.event.spi.PostCollectionRemoveEvent;
+import org.hibernate.event.spi.PostCollectionRemoveEventListener;
+import org.hibernate.event.spi.PostCollectionUpdateEvent;
+import org.hibernate.event.spi.PostCollectionUpdateEventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hibernate listener that hands collection writes to {@link TenantContentChangeListener}.
+ *
+ * JPA callbacks only fire for the owning entity's own columns, so changing a
+ * doctor's services (the doctor_services join table) would otherwise leave
+ * the cached public doctor and service responses stale.
+ */
+@Component
+public class TenantContentCollectionListener implements PostCollectionRecreateEventListener,
+        PostCollectionUpdateEventListener, PostCollectionRemoveEventListener {
+
+    private final TenantContentChangeListener contentChangeListener;
+
+    public TenantContentCollectionListener(TenantContentChangeListener contentChangeListener,
+                                           EntityManagerFactory entityManagerFactory) {
+        this.contentChangeListener = contentChangeListener;
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COLLECTION_RECREATE, this);
+        registry.appendListeners(EventType.POST_COLLECTION_UPDATE, this);
+        registry.appendListeners(EventType.POST_COLLECTION_REMOVE, this);
+    }
+
+    @Override
+    public void onPostRecreateCollection(PostCollectionRecreateEvent event) {
+        onCollectionChange(event);
+    }
+
+    @Override
+    public void onPostUpdateCollection(PostCollectionUpdateEvent event) {
+        onCollectionChange(event);
+    }
+
+    @Override
+    public void onPostRemoveCollection(PostCollectionRemoveEvent event) {
+        onCollectionChange(event);
+    }
+
+    private void onCollectionChange(AbstractCollectionEvent event) {
+        Object owner = event.getAffectedOwnerOrNull();
+        if (owner != null) {
+            contentChangeListener.onContentChange(owner);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.clinic.modules.core.cache;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-tenant generation numbers for caches that key entries by generation.
+ *
+ * Bumping a tenant's generation makes every entry stored under an older one
+ * unreachable at once, without scanning the cache; those entries age out
+ * through the cache's size bound and TTL. Caches bump after the writing
+ * transaction commits (see {@link PendingTenantInvalidations}), so a value
+ * computed concurrently with the write is stored under the old generation and
+ * never served again.
+ */
+public final class TenantGenerations {
+
+    private final Map<Long, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    public long current(Long tenantId) {
+        return generation(tenantId).get();
+    }
+
+    /**
+     * Move the tenant to a new generation, returning it.
+     */
+    public long bump(Long tenantId) {
+        return generation(tenantId).incrementAndGet();
+    }
+
+    private AtomicLong generation(Long tenantId) {
+        return generations.computeIfAbsent(tenantId, id -> new AtomicLong());
+    }
+}
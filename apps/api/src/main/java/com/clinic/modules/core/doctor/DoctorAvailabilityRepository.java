@@ -7,6 +7,7 @@ import org.springframework.data.repository.query.Param;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -42,5 +43,18 @@ public interface DoctorAvailabilityRepository extends JpaRepository<DoctorAvaila
                                                          @Param("startTime") LocalTime startTime,
                                                          @Param("endTime") LocalTime endTime);
 
+    /**
+     * All weekly availability of the given doctors plus their date-specific
+     * availability between {@code from} and {@code to}, inclusive.
+     */
+    @Query("""
+            select a from DoctorAvailabilityEntity a
+            where a.doctor.id in :doctorIds
+              and (a.recurringWeekly = true or a.specificDate between :from and :to)
+            """)
+    List<DoctorAvailabilityEntity> findByDoctorIdsWithinDates(@Param("doctorIds") Collection<Long> doctorIds,
+                                                              @Param("from") LocalDate from,
+                                                              @Param("to") LocalDate to);
+
     Optional<DoctorAvailabilityEntity> findByIdAndDoctorId(Long id, Long doctorId);
 }
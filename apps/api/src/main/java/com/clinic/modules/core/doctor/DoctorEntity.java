@@ -1,8 +1,12 @@
 package com.clinic.modules.core.doctor;
 
+import com.clinic.config.db.HibernateCacheRegions;
+import com.clinic.modules.core.cache.TenantContentChangeListener;
 import com.clinic.modules.core.service.ClinicServiceEntity;
 import com.clinic.modules.core.tenant.TenantEntity;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.Instant;
 import java.util.HashSet;
@@ -10,7 +14,10 @@ import java.util.Objects;
 import java.util.Set;
 
 @Entity
+@EntityListeners(TenantContentChangeListener.class)
 @Table(name = "doctors")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheRegions.DOCTOR)
 public class DoctorEntity {
 
     @Id
@@ -67,6 +74,7 @@ public class DoctorEntity {
     private TenantEntity tenant;
 
     @ManyToMany
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheRegions.DOCTOR_SERVICES)
     @JoinTable(
             name = "doctor_services",
             joinColumns = @JoinColumn(name = "doctor_id"),
@@ -0,0 +1,22 @@
+package com.clinic.modules.core.doctor;
+
+import java.time.Instant;
+
+/**
+ * The doctor columns shown in admin list views; bios are left out.
+ */
+public record DoctorListView(
+        Long id,
+        String fullNameEn,
+        String fullNameAr,
+        String specialtyEn,
+        String specialtyAr,
+        String imageUrl,
+        String email,
+        String phone,
+        Integer displayOrder,
+        Boolean isActive,
+        String localeCodes,
+        Instant createdAt
+) {
+}
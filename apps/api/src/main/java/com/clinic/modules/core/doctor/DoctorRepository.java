@@ -1,29 +1,72 @@
 package com.clinic.modules.core.doctor;
 
+import com.clinic.config.db.HibernateCacheRegions;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface DoctorRepository extends JpaRepository<DoctorEntity, Long> {
 
     // Tenant-filtered query methods using Spring Data JPA naming conventions
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = HibernateCacheRegions.REFERENCE_QUERIES)
+    })
     List<DoctorEntity> findAllByTenantIdAndIsActiveTrue(Long tenantId);
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = HibernateCacheRegions.REFERENCE_QUERIES)
+    })
     Optional<DoctorEntity> findByIdAndTenantId(Long id, Long tenantId);
 
     Optional<DoctorEntity> findByTenantIdAndEmail(Long tenantId, String email);
 
     // Custom query methods with tenant filtering
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = HibernateCacheRegions.REFERENCE_QUERIES)
+    })
     @Query("select distinct d from DoctorEntity d join d.services s where s.slug = :slug and s.tenant.id = :tenantId and d.tenant.id = :tenantId")
     List<DoctorEntity> findAllByServiceSlug(@Param("slug") String slug, @Param("tenantId") Long tenantId);
 
     @Query("select distinct d from DoctorEntity d left join fetch d.services where d.tenant.id = :tenantId order by d.fullNameEn asc")
     List<DoctorEntity> findAllWithServices(@Param("tenantId") Long tenantId);
 
+    /**
+     * Keyset page of the tenant's doctors ordered by English name, starting
+     * after ({@code afterName}, {@code afterId}).
+     */
+    @Query("""
+            select new com.clinic.modules.core.doctor.DoctorListView(
+                d.id, d.fullNameEn, d.fullNameAr, d.specialtyEn, d.specialtyAr, d.imageUrl, d.email, d.phone,
+                d.displayOrder, d.isActive, d.localeCodes, d.createdAt)
+            from DoctorEntity d
+            where d.tenant.id = :tenantId
+              and (d.fullNameEn > :afterName or (d.fullNameEn = :afterName and d.id > :afterId))
+            order by d.fullNameEn asc, d.id asc
+            """)
+    List<DoctorListView> findListPage(@Param("tenantId") Long tenantId,
+                                      @Param("afterName") String afterName,
+                                      @Param("afterId") long afterId,
+                                      Pageable pageable);
+
+    @Query("""
+            select new com.clinic.modules.core.doctor.DoctorServiceView(d.id, s.id, s.slug, s.nameEn)
+            from DoctorEntity d
+            join d.services s
+            where d.id in :doctorIds
+            """)
+    List<DoctorServiceView> findServiceViewsByDoctorIds(@Param("doctorIds") Collection<Long> doctorIds);
+
     @Query("""
             select d from DoctorEntity d
             where d.tenant.id = :tenantId
@@ -0,0 +1,12 @@
+package com.clinic.modules.core.doctor;
+
+/**
+ * A service offered by a doctor, as shown next to the doctor in list views.
+ */
+public record DoctorServiceView(
+        Long doctorId,
+        Long serviceId,
+        String slug,
+        String nameEn
+) {
+}
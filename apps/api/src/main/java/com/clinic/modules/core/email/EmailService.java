@@ -1,8 +1,8 @@
 package com.clinic.modules.core.email;
 
 import com.clinic.config.SecurityProperties;
-import com.clinic.modules.core.settings.ClinicSettingsEntity;
-import com.clinic.modules.core.settings.ClinicSettingsRepository;
+import com.clinic.modules.core.settings.ClinicSettingsCache;
+import com.clinic.modules.core.settings.ClinicSettingsSnapshot;
 import com.clinic.modules.core.tenant.TenantContextHolder;
 import com.clinic.modules.core.tenant.TenantService;
 import com.clinic.modules.core.tenant.TenantEntity;
@@ -28,18 +28,21 @@ public class EmailService {
     private static final Logger log = LoggerFactory.getLogger(EmailService.class);
 
     private final SecurityProperties securityProperties;
-    private final ClinicSettingsRepository clinicSettingsRepository;
+    private final ClinicSettingsCache clinicSettingsCache;
     private final TenantContextHolder tenantContextHolder;
     private final TenantService tenantService;
+    private final SendGridClientFactory sendGridClientFactory;
 
     public EmailService(SecurityProperties securityProperties,
-                        ClinicSettingsRepository clinicSettingsRepository,
+                        ClinicSettingsCache clinicSettingsCache,
                         TenantContextHolder tenantContextHolder,
-                        TenantService tenantService) {
+                        TenantService tenantService,
+                        SendGridClientFactory sendGridClientFactory) {
         this.securityProperties = securityProperties;
-        this.clinicSettingsRepository = clinicSettingsRepository;
+        this.clinicSettingsCache = clinicSettingsCache;
         this.tenantContextHolder = tenantContextHolder;
         this.tenantService = tenantService;
+        this.sendGridClientFactory = sendGridClientFactory;
     }
 
     public void sendAppointmentConfirmation(
@@ -52,7 +55,7 @@ public class EmailService {
             String consultationType,
             String confirmationLink
     ) {
-        ClinicSettingsEntity settings = currentClinicSettings();
+        ClinicSettingsSnapshot settings = currentClinicSettings();
         if (!isEmailEnabled(settings)) {
             log.info("Email sending is disabled. Would have sent confirmation email to {}", toEmail);
             return;
@@ -82,7 +85,7 @@ public class EmailService {
             String appointmentDate,
             String appointmentTime
     ) {
-        ClinicSettingsEntity settings = currentClinicSettings();
+        ClinicSettingsSnapshot settings = currentClinicSettings();
         if (!isEmailEnabled(settings)) {
             log.info("Email sending is disabled. Would have sent cancellation email to {}", toEmail);
             return;
@@ -108,7 +111,7 @@ public class EmailService {
      * Send a custom HTML email using current clinic settings (SendGrid).
      */
     public void sendCustomEmail(String toEmail, String subject, String htmlContent) {
-        ClinicSettingsEntity settings = currentClinicSettings();
+        ClinicSettingsSnapshot settings = currentClinicSettings();
         if (!isEmailEnabled(settings)) {
             log.info("Email sending is disabled. Would have sent custom email to {}", toEmail);
             return;
@@ -135,7 +138,7 @@ public class EmailService {
             ZonedDateTime appointmentEndTime,
             String meetingLink
     ) {
-        ClinicSettingsEntity settings = currentClinicSettings();
+        ClinicSettingsSnapshot settings = currentClinicSettings();
         if (!isEmailEnabled(settings)) {
             log.info("Email sending is disabled. Would have sent virtual consultation email to {}", toEmail);
             return;
@@ -199,7 +202,7 @@ public class EmailService {
         sendEmailWithAttachment(settings, client, toEmail, subject, htmlContent, icsContent, "appointment.ics");
     }
 
-    private void sendEmail(ClinicSettingsEntity settings, SendGrid client,
+    private void sendEmail(ClinicSettingsSnapshot settings, SendGrid client,
                            String toEmail, String subject, String htmlContent) {
         try {
             Email from = new Email(resolveFromEmail(settings), resolveFromName(settings));
@@ -225,7 +228,7 @@ public class EmailService {
         }
     }
 
-    private void sendEmailWithAttachment(ClinicSettingsEntity settings, SendGrid client,
+    private void sendEmailWithAttachment(ClinicSettingsSnapshot settings, SendGrid client,
                                          String toEmail, String subject, String htmlContent,
                                          String attachmentContent, String attachmentFilename) {
         try {
@@ -261,28 +264,28 @@ public class EmailService {
         }
     }
 
-    private ClinicSettingsEntity currentClinicSettings() {
+    private ClinicSettingsSnapshot currentClinicSettings() {
         try {
             Long tenantId = tenantContextHolder.requireTenantId();
-            return clinicSettingsRepository.findByTenantId(tenantId).orElse(null);
+            return clinicSettingsCache.get(tenantId).orElse(null);
         } catch (IllegalStateException ex) {
             return null;
         }
     }
 
-    private boolean isEmailEnabled(ClinicSettingsEntity settings) {
-        Boolean enabled = settings != null ? settings.getEmailEnabled() : null;
+    private boolean isEmailEnabled(ClinicSettingsSnapshot settings) {
+        Boolean enabled = settings != null ? settings.emailEnabled() : null;
         boolean allowed = enabled != null ? enabled : securityProperties.email().enabled();
         // Allow env fallback even if tenant has no SendGrid key; key presence is checked when building the client.
         return allowed;
     }
 
-    private SendGrid resolveSendGridClient(ClinicSettingsEntity settings) {
+    private SendGrid resolveSendGridClient(ClinicSettingsSnapshot settings) {
         String apiKey = resolveSendgridApiKey(settings);
-        return StringUtils.hasText(apiKey) ? new SendGrid(apiKey) : null;
+        return StringUtils.hasText(apiKey) ? sendGridClientFactory.create(apiKey) : null;
     }
 
-    private String resolveSendgridApiKey(ClinicSettingsEntity settings) {
+    private String resolveSendgridApiKey(ClinicSettingsSnapshot settings) {
         String key = securityProperties.email().sendgridApiKey();
         if (StringUtils.hasText(key)) {
             return key.trim();
@@ -296,7 +299,7 @@ public class EmailService {
         return null;
     }
 
-    private String resolveFromEmail(ClinicSettingsEntity settings) {
+    private String resolveFromEmail(ClinicSettingsSnapshot settings) {
         String envFrom = securityProperties.email().fromEmail();
         if (StringUtils.hasText(envFrom)) {
             return envFrom.trim();
@@ -312,7 +315,7 @@ public class EmailService {
         return "no-reply@localhost";
     }
 
-    private String resolveFromName(ClinicSettingsEntity settings) {
+    private String resolveFromName(ClinicSettingsSnapshot settings) {
         try {
             Long tenantId = tenantContextHolder.requireTenantId();
             TenantEntity tenant = tenantService.requireTenant(tenantId);
@@ -332,15 +335,15 @@ public class EmailService {
         if (StringUtils.hasText(rawEnvFromName)) {
             return rawEnvFromName.trim();
         }
-        if (settings != null && StringUtils.hasText(settings.getEmailFromName())) {
-            return settings.getEmailFromName().trim();
+        if (settings != null && StringUtils.hasText(settings.emailFromName())) {
+            return settings.emailFromName().trim();
         }
         return "Clinic";
     }
 
-    private String resolveLogoUrl(ClinicSettingsEntity settings) {
-        if (settings != null && StringUtils.hasText(settings.getLogoUrl())) {
-            return settings.getLogoUrl().trim();
+    private String resolveLogoUrl(ClinicSettingsSnapshot settings) {
+        if (settings != null && StringUtils.hasText(settings.logoUrl())) {
+            return settings.logoUrl().trim();
         }
         return null;
     }
@@ -573,7 +576,7 @@ public class EmailService {
             String setupUrl,
             long validityDays
     ) {
-        ClinicSettingsEntity settings = currentClinicSettings();
+        ClinicSettingsSnapshot settings = currentClinicSettings();
         if (!isEmailEnabled(settings)) {
             log.info("Email sending is disabled. Would have sent staff invitation to {}", toEmail);
             return;
@@ -0,0 +1,70 @@
+package com.clinic.modules.core.email;
+
+import com.clinic.config.http.OutboundHttpConfig;
+import com.clinic.config.http.OutboundHttpProperties;
+import com.clinic.config.http.UpstreamGuard;
+import com.clinic.config.http.UpstreamGuards;
+import com.sendgrid.Client;
+import com.sendgrid.Request;
+import com.sendgrid.Response;
+import com.sendgrid.SendGrid;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creates SendGrid clients that share one pooled HTTP client.
+ *
+ * {@code new SendGrid(apiKey)} opens a fresh HTTP client per instance, so every
+ * email paid for a new TLS handshake. Clients from this factory reuse pooled
+ * connections and run each call through the sendgrid {@link UpstreamGuard}.
+ * The SendGrid SDK is built on Apache HttpClient 4, so the pool is configured
+ * here rather than in {@link OutboundHttpConfig}.
+ */
+@Component
+public class SendGridClientFactory implements DisposableBean {
+
+    private final CloseableHttpClient httpClient;
+    private final UpstreamGuard guard;
+
+    public SendGridClientFactory(OutboundHttpProperties properties, UpstreamGuards guards) {
+        OutboundHttpProperties.Upstream settings = properties.forUpstream(OutboundHttpConfig.SENDGRID);
+        this.httpClient = HttpClients.custom()
+                .setMaxConnTotal(settings.getMaxConnections())
+                .setMaxConnPerRoute(settings.getMaxConnections())
+                .setConnectionTimeToLive(settings.getTimeToLive().toMillis(), TimeUnit.MILLISECONDS)
+                .evictExpiredConnections()
+                .evictIdleConnections(settings.getIdleTimeout().toMillis(), TimeUnit.MILLISECONDS)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectTimeout((int) settings.getConnectTimeout().toMillis())
+                        .setSocketTimeout((int) settings.getResponseTimeout().toMillis())
+                        .setConnectionRequestTimeout((int) settings.getConnectionRequestTimeout().toMillis())
+                        .build())
+                .disableAutomaticRetries()
+                .build();
+        this.guard = guards.forUpstream(OutboundHttpConfig.SENDGRID);
+    }
+
+    /**
+     * Returns a SendGrid client for the given API key backed by the shared pool.
+     */
+    public SendGrid create(String apiKey) {
+        return new SendGrid(apiKey, new Client(httpClient)) {
+            @Override
+            public Response api(Request request) throws IOException {
+                String operation = request.getMethod() + " /" + request.getEndpoint();
+                return guard.execute(operation, () -> super.api(request), Response::getStatusCode);
+            }
+        };
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        httpClient.close();
+    }
+}
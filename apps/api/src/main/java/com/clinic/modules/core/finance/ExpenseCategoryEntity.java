@@ -1,10 +1,13 @@
 package com.clinic.modules.core.finance;
 
+import com.clinic.config.db.HibernateCacheRegions;
 import com.clinic.modules.core.tenant.TenantEntity;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.Instant;
 import java.util.Objects;
 
@@ -14,6 +17,8 @@ import java.util.Objects;
  */
 @Entity
 @Table(name = "expense_categories")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheRegions.EXPENSE_CATEGORY)
 public class ExpenseCategoryEntity {
 
     @Id
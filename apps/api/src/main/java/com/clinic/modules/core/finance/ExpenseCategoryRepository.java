@@ -1,7 +1,11 @@
 package com.clinic.modules.core.finance;
 
+import com.clinic.config.db.HibernateCacheRegions;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -22,6 +26,10 @@ public interface ExpenseCategoryRepository extends JpaRepository<ExpenseCategory
      * @param isActive the active status filter
      * @return list of active expense categories
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = HibernateCacheRegions.REFERENCE_QUERIES)
+    })
     List<ExpenseCategoryEntity> findByTenantIdAndIsActiveOrderByNameAsc(Long tenantId, Boolean isActive);
 
     /**
@@ -30,6 +38,10 @@ public interface ExpenseCategoryRepository extends JpaRepository<ExpenseCategory
      * @param tenantId the tenant ID
      * @return list of all expense categories for the tenant
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = HibernateCacheRegions.REFERENCE_QUERIES)
+    })
     List<ExpenseCategoryEntity> findByTenantIdOrderByNameAsc(Long tenantId);
 
     /**
@@ -60,6 +72,10 @@ public interface ExpenseCategoryRepository extends JpaRepository<ExpenseCategory
      * @param id       the category ID
      * @return optional containing the category if found
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = HibernateCacheRegions.REFERENCE_QUERIES)
+    })
     Optional<ExpenseCategoryEntity> findByTenantIdAndId(Long tenantId, Long id);
 
     /**
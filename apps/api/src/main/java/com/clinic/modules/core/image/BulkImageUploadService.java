@@ -0,0 +1,250 @@
+package com.clinic.modules.core.image;
+
+import com.clinic.modules.core.image.ImageUploadService.BulkUploadResponse;
+import com.clinic.modules.core.image.ImageUploadService.ImageFile;
+import com.clinic.modules.core.image.ImageUploadService.ImageUploadException;
+import com.clinic.modules.core.image.ImageUploadService.ImageUploadResult;
+import com.clinic.modules.core.tenant.TenantContextHolder;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Uploads batches of images to Cloudflare concurrently.
+ *
+ * Each file is uploaded on its own virtual thread, so retry back-off sleeps do
+ * not hold a platform thread. A per-tenant semaphore caps how many uploads one
+ * tenant has in flight; the cloudflare bulkhead still caps the total. Large
+ * batches can run as a background job whose results are polled as they
+ * complete. Job files are staged to disk first, because multipart parts are
+ * deleted when the request ends.
+ */
+@Service
+public class BulkImageUploadService implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkImageUploadService.class);
+
+    private final ImageUploadService imageUploadService;
+    private final TenantContextHolder tenantContextHolder;
+    private final int perTenantParallelism;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<Long, Semaphore> tenantPermits = new ConcurrentHashMap<>();
+    private final Cache<String, BulkUploadJob> jobs;
+
+    public BulkImageUploadService(ImageUploadService imageUploadService,
+                                  TenantContextHolder tenantContextHolder,
+                                  @Value("${clinic.images.bulk-upload.per-tenant-parallelism:4}") int perTenantParallelism,
+                                  @Value("${clinic.images.bulk-upload.job-retention:PT1H}") Duration jobRetention) {
+        this.imageUploadService = imageUploadService;
+        this.tenantContextHolder = tenantContextHolder;
+        this.perTenantParallelism = perTenantParallelism;
+        this.jobs = Caffeine.newBuilder()
+                .expireAfterWrite(jobRetention)
+                .maximumSize(1_000)
+                .build();
+    }
+
+    /**
+     * Upload all files concurrently and wait for every result.
+     *
+     * @return results in the order the files were given
+     */
+    public BulkUploadResponse uploadAll(List<MultipartFile> files, String metadata) {
+        Long tenantId = tenantContextHolder.requireTenantId();
+        List<ImageFile> images = files.stream().map(ImageFile::of).toList();
+
+        BulkUploadJob job = new BulkUploadJob(UUID.randomUUID().toString(), tenantId, images.size());
+        run(job, images, metadata).join();
+
+        BulkUploadJobStatus status = job.status();
+        List<ImageUploadResult> results = new ArrayList<>(status.results());
+        results.sort(Comparator.comparingInt(ImageUploadResult::index));
+        return new BulkUploadResponse(results, status.successCount(), status.failureCount());
+    }
+
+    /**
+     * Stage the files to disk and upload them in the background.
+     *
+     * @return the job's initial status; poll {@link #getJob(String)} for progress
+     */
+    public BulkUploadJobStatus submit(List<MultipartFile> files, String metadata) {
+        Long tenantId = tenantContextHolder.requireTenantId();
+        BulkUploadJob job = new BulkUploadJob(UUID.randomUUID().toString(), tenantId, files.size());
+
+        Path stagingDirectory;
+        try {
+            stagingDirectory = Files.createTempDirectory("bulk-upload-" + job.id);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not create staging directory for bulk upload", e);
+        }
+
+        List<ImageFile> images = new ArrayList<>();
+        for (int i = 0; i < files.size(); i++) {
+            images.add(stage(files.get(i), stagingDirectory.resolve(i + ".upload")));
+        }
+
+        jobs.put(job.id, job);
+        run(job, images, metadata).whenComplete((ignored, error) -> deleteQuietly(stagingDirectory));
+        log.info("Bulk upload job {} accepted for tenant {}: {} files", job.id, tenantId, files.size());
+        return job.status();
+    }
+
+    /**
+     * Current status of a job started by the current tenant.
+     */
+    public Optional<BulkUploadJobStatus> getJob(String jobId) {
+        Long tenantId = tenantContextHolder.requireTenantId();
+        return Optional.ofNullable(jobs.getIfPresent(jobId))
+                .filter(job -> job.tenantId.equals(tenantId))
+                .map(BulkUploadJob::status);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private CompletableFuture<Void> run(BulkUploadJob job, List<ImageFile> images, String metadata) {
+        Semaphore permits = tenantPermits.computeIfAbsent(job.tenantId, id -> new Semaphore(perTenantParallelism));
+        CompletableFuture<?>[] uploads = new CompletableFuture<?>[images.size()];
+        for (int i = 0; i < images.size(); i++) {
+            int index = i;
+            ImageFile image = images.get(i);
+            uploads[i] = CompletableFuture.runAsync(() -> job.record(upload(index, image, metadata, permits)), executor);
+        }
+        return CompletableFuture.allOf(uploads).whenComplete((ignored, error) -> job.finish());
+    }
+
+    private ImageUploadResult upload(int index, ImageFile image, String metadata, Semaphore permits) {
+        if (image.content() == null) {
+            return new ImageUploadResult(index, image.filename(), false, "File could not be staged for upload", null);
+        }
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new ImageUploadResult(index, image.filename(), false, "Upload interrupted", null);
+        }
+        try {
+            ImageUploadService.ImageUploadResponse response = imageUploadService.uploadImage(image, metadata, false);
+            log.info("Bulk upload success: {} (index {})", image.filename(), index);
+            return new ImageUploadResult(index, image.filename(), true, null, response);
+        } catch (ImageUploadException e) {
+            log.error("Bulk upload failed: {} (index {}): {}", image.filename(), index, e.getMessage());
+            return new ImageUploadResult(index, image.filename(), false, e.getMessage(), null);
+        } catch (RuntimeException e) {
+            log.error("Bulk upload failed: {} (index {})", image.filename(), index, e);
+            return new ImageUploadResult(index, image.filename(), false, "Unexpected error during upload", null);
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Move the part to our own file. For parts the container already spooled to
+     * disk this is a rename, not a copy through the heap.
+     */
+    private ImageFile stage(MultipartFile file, Path target) {
+        String filename = file.getOriginalFilename();
+        try {
+            file.transferTo(target);
+        } catch (IOException | IllegalStateException e) {
+            log.warn("Could not stage {} for bulk upload: {}", filename, e.getMessage());
+            return new ImageFile(filename, file.getContentType(), file.getSize(), null);
+        }
+        FileSystemResource content = new FileSystemResource(target) {
+            @Override
+            public String getFilename() {
+                return filename;
+            }
+        };
+        return new ImageFile(filename, file.getContentType(), file.getSize(), content);
+    }
+
+    private static void deleteQuietly(Path directory) {
+        try (var paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        } catch (IOException e) {
+            log.warn("Could not delete bulk upload staging directory {}: {}", directory, e.getMessage());
+        }
+    }
+
+    /**
+     * Progress of a bulk upload. Results are listed in completion order.
+     */
+    public record BulkUploadJobStatus(
+            String jobId,
+            String status,
+            int total,
+            int completed,
+            int successCount,
+            int failureCount,
+            Instant createdAt,
+            Instant completedAt,
+            List<ImageUploadResult> results
+    ) {}
+
+    private static final class BulkUploadJob {
+
+        private final String id;
+        private final Long tenantId;
+        private final int total;
+        private final Instant createdAt = Instant.now();
+        private final List<ImageUploadResult> results = new CopyOnWriteArrayList<>();
+        private volatile Instant completedAt;
+
+        private BulkUploadJob(String id, Long tenantId, int total) {
+            this.id = id;
+            this.tenantId = tenantId;
+            this.total = total;
+        }
+
+        void record(ImageUploadResult result) {
+            results.add(result);
+        }
+
+        void finish() {
+            completedAt = Instant.now();
+        }
+
+        BulkUploadJobStatus status() {
+            List<ImageUploadResult> snapshot = List.copyOf(results);
+            int successCount = (int) snapshot.stream().filter(ImageUploadResult::success).count();
+            return new BulkUploadJobStatus(
+                    id,
+                    completedAt != null ? "COMPLETED" : "RUNNING",
+                    total,
+                    snapshot.size(),
+                    successCount,
+                    snapshot.size() - successCount,
+                    createdAt,
+                    completedAt,
+                    snapshot
+            );
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.clinic.modules.core.image;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@Entity
+@Table(name = "gallery_images", uniqueConstraints = {
+        @UniqueConstraint(name = "ux_gallery_images_tenant_image", columnNames = {"tenant_id", "image_id"})
+})
+public class GalleryImageEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "tenant_id", nullable = false, updatable = false)
+    private Long tenantId;
+
+    @Column(name = "gallery_id", nullable = false)
+    private UUID galleryId;
+
+    @Column(name = "image_id", nullable = false, length = 100, updatable = false)
+    private String imageId;
+
+    @Column(name = "title", length = 255)
+    private String title;
+
+    @Column(name = "description", columnDefinition = "TEXT")
+    private String description;
+
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "tags", nullable = false, columnDefinition = "text[]")
+    private String[] tags = new String[0];
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    protected GalleryImageEntity() {
+    }
+
+    public GalleryImageEntity(Long tenantId, UUID galleryId, String imageId) {
+        this.tenantId = tenantId;
+        this.galleryId = galleryId;
+        this.imageId = imageId;
+    }
+
+    @PrePersist
+    public void onCreate() {
+        this.createdAt = Instant.now();
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getTenantId() {
+        return tenantId;
+    }
+
+    public UUID getGalleryId() {
+        return galleryId;
+    }
+
+    public void setGalleryId(UUID galleryId) {
+        this.galleryId = galleryId;
+    }
+
+    public String getImageId() {
+        return imageId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public List<String> getTags() {
+        return List.of(tags);
+    }
+
+    public void setTags(List<String> tags) {
+        this.tags = tags.toArray(String[]::new);
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+}
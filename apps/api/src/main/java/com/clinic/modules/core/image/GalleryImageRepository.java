@@ -0,0 +1,28 @@
+package com.clinic.modules.core.image;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface GalleryImageRepository extends JpaRepository<GalleryImageEntity, Long> {
+
+    Optional<GalleryImageEntity> findByTenantIdAndImageId(Long tenantId, String imageId);
+
+    /**
+     * One page of a gallery in insertion order, starting after the given row id.
+     * Served by idx_gallery_images_gallery_id, so the cost is O(page) whatever
+     * the gallery size.
+     */
+    @Query("SELECT i FROM GalleryImageEntity i WHERE i.galleryId = :galleryId AND i.id > :afterId ORDER BY i.id")
+    List<GalleryImageEntity> findPage(@Param("galleryId") UUID galleryId, @Param("afterId") long afterId, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM GalleryImageEntity i WHERE i.tenantId = :tenantId AND i.galleryId = :galleryId AND i.imageId = :imageId")
+    int deleteFromGallery(@Param("tenantId") Long tenantId, @Param("galleryId") UUID galleryId, @Param("imageId") String imageId);
+}
@@ -0,0 +1,73 @@
+package com.clinic.modules.core.image;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Tag search over gallery images.
+ *
+ * {@code tags && ?} is answered by the (tenant_id, tags) GIN index from
+ * V20250616_003__create_image_galleries.sql, so only the tenant's images that
+ * carry one of the tags are read. Pages are keyed on the row id, newest first.
+ */
+@Repository
+public class GalleryImageSearchRepository {
+
+    private static final String SEARCH_SQL = """
+            SELECT image_id, title, description, tags, gallery_id, created_at, id
+            FROM gallery_images
+            WHERE tenant_id = ? AND tags && ? AND id < ?
+            ORDER BY id DESC
+            LIMIT ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public GalleryImageSearchRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Images of the tenant tagged with any of the given tags.
+     *
+     * @param beforeId only rows with a smaller id are returned; {@code Long.MAX_VALUE} for the first page
+     * @param limit maximum number of rows
+     */
+    public List<TaggedImage> findByAnyTag(Long tenantId, List<String> tags, long beforeId, int limit) {
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(SEARCH_SQL);
+            statement.setLong(1, tenantId);
+            statement.setArray(2, connection.createArrayOf("text", tags.toArray()));
+            statement.setLong(3, beforeId);
+            statement.setInt(4, limit);
+            return statement;
+        }, (rs, rowNum) -> map(rs));
+    }
+
+    private static TaggedImage map(ResultSet rs) throws SQLException {
+        Array tags = rs.getArray("tags");
+        return new TaggedImage(
+                rs.getLong("id"),
+                new ImageGalleryService.ImageMetadata(
+                        rs.getString("image_id"),
+                        rs.getString("title"),
+                        rs.getString("description"),
+                        tags != null ? List.of((String[]) tags.getArray()) : List.of(),
+                        rs.getObject("gallery_id", UUID.class).toString(),
+                        rs.getTimestamp("created_at").toInstant()
+                ));
+    }
+
+    /**
+     * A search hit with the row id used as the paging cursor.
+     */
+    public record TaggedImage(long rowId, ImageGalleryService.ImageMetadata metadata) {
+    }
+}
@@ -0,0 +1,89 @@
+package com.clinic.modules.core.image;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Table(name = "image_galleries")
+public class ImageGalleryEntity {
+
+    @Id
+    private UUID id;
+
+    @Column(name = "tenant_id", nullable = false, updatable = false)
+    private Long tenantId;
+
+    @Column(name = "name", nullable = false, length = 200)
+    private String name;
+
+    @Column(name = "description", columnDefinition = "TEXT")
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "gallery_type", nullable = false, length = 30)
+    private ImageGalleryService.GalleryType type;
+
+    /**
+     * Kept in step with gallery_images by {@link ImageGalleryRepository#adjustImageCount}.
+     */
+    @Column(name = "image_count", nullable = false)
+    private int imageCount;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @Column(name = "modified_at", nullable = false)
+    private Instant modifiedAt;
+
+    protected ImageGalleryEntity() {
+    }
+
+    public ImageGalleryEntity(Long tenantId, String name, String description, ImageGalleryService.GalleryType type) {
+        this.id = UUID.randomUUID();
+        this.tenantId = tenantId;
+        this.name = name;
+        this.description = description;
+        this.type = type;
+    }
+
+    @PrePersist
+    public void onCreate() {
+        Instant now = Instant.now();
+        this.createdAt = now;
+        this.modifiedAt = now;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public Long getTenantId() {
+        return tenantId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public ImageGalleryService.GalleryType getType() {
+        return type;
+    }
+
+    public int getImageCount() {
+        return imageCount;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getModifiedAt() {
+        return modifiedAt;
+    }
+}
@@ -0,0 +1,26 @@
+package com.clinic.modules.core.image;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface ImageGalleryRepository extends JpaRepository<ImageGalleryEntity, UUID> {
+
+    Optional<ImageGalleryEntity> findByIdAndTenantId(UUID id, Long tenantId);
+
+    List<ImageGalleryEntity> findByTenantIdAndTypeOrderByModifiedAtDesc(Long tenantId, ImageGalleryService.GalleryType type);
+
+    /**
+     * Adds {@code delta} to the gallery's image count and touches its modified time,
+     * as a single UPDATE so concurrent changes don't lose counts.
+     */
+    @Modifying
+    @Query("UPDATE ImageGalleryEntity g SET g.imageCount = g.imageCount + :delta, g.modifiedAt = :now WHERE g.id = :galleryId")
+    int adjustImageCount(@Param("galleryId") UUID galleryId, @Param("delta") int delta, @Param("now") Instant now);
+}
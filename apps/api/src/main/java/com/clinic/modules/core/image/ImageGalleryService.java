@@ -1,166 +1,279 @@
 package com.clinic.modules.core.image;
 
+import com.clinic.modules.core.tenant.TenantContextHolder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
-import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
+import java.time.Instant;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 
 /**
  * Service for managing image galleries and collections.
+ *
+ * Galleries and image metadata are stored per tenant (image_galleries,
+ * gallery_images). Gallery contents and tag searches are read a page at a
+ * time with an opaque cursor, so a request costs O(page) however large the
+ * gallery is.
  */
 @Service
 public class ImageGalleryService {
 
     private static final Logger log = LoggerFactory.getLogger(ImageGalleryService.class);
 
-    // In-memory storage for demo purposes - replace with database in production
-    private final Map<String, ImageGallery> galleries = new ConcurrentHashMap<>();
-    private final Map<String, ImageMetadata> imageMetadata = new ConcurrentHashMap<>();
+    static final int DEFAULT_PAGE_SIZE = 50;
+    static final int MAX_PAGE_SIZE = 200;
+
+    private final ImageGalleryRepository galleryRepository;
+    private final GalleryImageRepository imageRepository;
+    private final GalleryImageSearchRepository searchRepository;
+    private final TenantContextHolder tenantContextHolder;
+
+    public ImageGalleryService(ImageGalleryRepository galleryRepository,
+                               GalleryImageRepository imageRepository,
+                               GalleryImageSearchRepository searchRepository,
+                               TenantContextHolder tenantContextHolder) {
+        this.galleryRepository = galleryRepository;
+        this.imageRepository = imageRepository;
+        this.searchRepository = searchRepository;
+        this.tenantContextHolder = tenantContextHolder;
+    }
 
     /**
      * Create a new image gallery.
      */
+    @Transactional
     public ImageGallery createGallery(String name, String description, GalleryType type) {
-        String galleryId = UUID.randomUUID().toString();
-        ImageGallery gallery = new ImageGallery(
-                galleryId,
+        Long tenantId = tenantContextHolder.requireTenantId();
+        ImageGalleryEntity gallery = galleryRepository.save(new ImageGalleryEntity(
+                tenantId,
                 name,
                 description,
-                type,
-                new ArrayList<>(),
-                LocalDateTime.now(),
-                LocalDateTime.now()
-        );
-        galleries.put(galleryId, gallery);
-        log.info("Created gallery: {} ({})", name, galleryId);
-        return gallery;
+                type != null ? type : GalleryType.GENERAL
+        ));
+        log.info("Created gallery: {} ({})", name, gallery.getId());
+        return toGallery(gallery);
     }
 
     /**
-     * Add image to gallery with metadata.
+     * Add image to gallery with metadata. An image already in another gallery
+     * of the tenant is moved.
      */
+    @Transactional
     public void addImageToGallery(String galleryId, String imageId, String title, String description, List<String> tags) {
-        ImageGallery gallery = galleries.get(galleryId);
-        if (gallery == null) {
-            throw new IllegalArgumentException("Gallery not found: " + galleryId);
+        Long tenantId = tenantContextHolder.requireTenantId();
+        ImageGalleryEntity gallery = findGallery(tenantId, galleryId)
+                .orElseThrow(() -> new IllegalArgumentException("Gallery not found: " + galleryId));
+        if (imageId == null || imageId.isBlank()) {
+            throw new IllegalArgumentException("Image ID is required");
         }
 
-        ImageMetadata metadata = new ImageMetadata(
-                imageId,
-                title,
-                description,
-                tags,
-                galleryId,
-                LocalDateTime.now()
-        );
-
-        imageMetadata.put(imageId, metadata);
-        gallery.imageIds().add(imageId);
-        
-        // Update gallery modified time
-        ImageGallery updatedGallery = new ImageGallery(
-                gallery.id(),
-                gallery.name(),
-                gallery.description(),
-                gallery.type(),
-                gallery.imageIds(),
-                gallery.createdAt(),
-                LocalDateTime.now()
-        );
-        galleries.put(galleryId, updatedGallery);
+        Instant now = Instant.now();
+        Optional<GalleryImageEntity> existing = imageRepository.findByTenantIdAndImageId(tenantId, imageId);
+        GalleryImageEntity image = existing.orElseGet(() -> new GalleryImageEntity(tenantId, gallery.getId(), imageId));
+        if (existing.isEmpty()) {
+            galleryRepository.adjustImageCount(gallery.getId(), 1, now);
+        } else if (!image.getGalleryId().equals(gallery.getId())) {
+            galleryRepository.adjustImageCount(image.getGalleryId(), -1, now);
+            galleryRepository.adjustImageCount(gallery.getId(), 1, now);
+            image.setGalleryId(gallery.getId());
+        } else {
+            galleryRepository.adjustImageCount(gallery.getId(), 0, now);
+        }
+        image.setTitle(title);
+        image.setDescription(description);
+        image.setTags(normalizeTags(tags));
+        imageRepository.save(image);
 
         log.info("Added image {} to gallery {}", imageId, galleryId);
     }
 
     /**
-     * Get gallery with image metadata.
+     * Get a gallery with one page of its images, in the order they were added.
+     *
+     * @param cursor {@link GalleryWithImages#nextCursor()} of the previous page, or null for the first page
+     * @param limit page size, capped at {@value #MAX_PAGE_SIZE}
+     * @return the gallery page, or null if the gallery does not exist
      */
-    public GalleryWithImages getGalleryWithImages(String galleryId) {
-        ImageGallery gallery = galleries.get(galleryId);
-        if (gallery == null) {
+    @Transactional(readOnly = true)
+    public GalleryWithImages getGalleryWithImages(String galleryId, String cursor, Integer limit) {
+        Long tenantId = tenantContextHolder.requireTenantId();
+        Optional<ImageGalleryEntity> gallery = findGallery(tenantId, galleryId);
+        if (gallery.isEmpty()) {
             return null;
         }
 
-        List<ImageMetadata> images = gallery.imageIds().stream()
-                .map(imageMetadata::get)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
+        int pageSize = pageSize(limit);
+        List<GalleryImageEntity> rows = imageRepository.findPage(
+                gallery.get().getId(), decodeCursor(cursor, 0L), PageRequest.of(0, pageSize + 1));
+        boolean hasMore = rows.size() > pageSize;
+        List<GalleryImageEntity> page = hasMore ? rows.subList(0, pageSize) : rows;
 
-        return new GalleryWithImages(gallery, images);
+        List<ImageMetadata> images = page.stream().map(ImageGalleryService::toMetadata).toList();
+        String nextCursor = hasMore ? encodeCursor(page.get(page.size() - 1).getId()) : null;
+        return new GalleryWithImages(toGallery(gallery.get()), images, nextCursor);
     }
 
     /**
      * Get all galleries by type.
      */
+    @Transactional(readOnly = true)
     public List<ImageGallery> getGalleriesByType(GalleryType type) {
-        return galleries.values().stream()
-                .filter(gallery -> gallery.type() == type)
-                .sorted((a, b) -> b.modifiedAt().compareTo(a.modifiedAt()))
-                .collect(Collectors.toList());
+        Long tenantId = tenantContextHolder.requireTenantId();
+        return galleryRepository.findByTenantIdAndTypeOrderByModifiedAtDesc(tenantId, type).stream()
+                .map(ImageGalleryService::toGallery)
+                .toList();
     }
 
     /**
-     * Search images by tags.
+     * Search images tagged with any of the given tags, newest first.
+     *
+     * @param cursor {@link ImagePage#nextCursor()} of the previous page, or null for the first page
      */
-    public List<ImageMetadata> searchImagesByTags(List<String> tags) {
-        return imageMetadata.values().stream()
-                .filter(metadata -> metadata.tags().stream().anyMatch(tags::contains))
-                .sorted((a, b) -> b.createdAt().compareTo(a.createdAt()))
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public ImagePage searchImagesByTags(List<String> tags, String cursor, Integer limit) {
+        Long tenantId = tenantContextHolder.requireTenantId();
+        List<String> normalized = normalizeTags(tags);
+        if (normalized.isEmpty()) {
+            return new ImagePage(List.of(), null);
+        }
+
+        int pageSize = pageSize(limit);
+        List<GalleryImageSearchRepository.TaggedImage> rows = searchRepository.findByAnyTag(
+                tenantId, normalized, decodeCursor(cursor, Long.MAX_VALUE), pageSize + 1);
+        boolean hasMore = rows.size() > pageSize;
+        List<GalleryImageSearchRepository.TaggedImage> page = hasMore ? rows.subList(0, pageSize) : rows;
+
+        List<ImageMetadata> images = page.stream().map(GalleryImageSearchRepository.TaggedImage::metadata).toList();
+        String nextCursor = hasMore ? encodeCursor(page.get(page.size() - 1).rowId()) : null;
+        return new ImagePage(images, nextCursor);
     }
 
     /**
      * Remove image from gallery.
      */
+    @Transactional
     public void removeImageFromGallery(String galleryId, String imageId) {
-        ImageGallery gallery = galleries.get(galleryId);
-        if (gallery != null) {
-            gallery.imageIds().remove(imageId);
-            imageMetadata.remove(imageId);
+        Long tenantId = tenantContextHolder.requireTenantId();
+        Optional<ImageGalleryEntity> gallery = findGallery(tenantId, galleryId);
+        if (gallery.isPresent() && imageRepository.deleteFromGallery(tenantId, gallery.get().getId(), imageId) > 0) {
+            galleryRepository.adjustImageCount(gallery.get().getId(), -1, Instant.now());
             log.info("Removed image {} from gallery {}", imageId, galleryId);
         }
     }
 
     /**
-     * Delete gallery.
+     * Delete gallery. Its image metadata is removed by the foreign key cascade.
      */
+    @Transactional
     public void deleteGallery(String galleryId) {
-        ImageGallery gallery = galleries.remove(galleryId);
-        if (gallery != null) {
-            // Remove all image metadata for this gallery
-            gallery.imageIds().forEach(imageMetadata::remove);
+        Long tenantId = tenantContextHolder.requireTenantId();
+        findGallery(tenantId, galleryId).ifPresent(gallery -> {
+            galleryRepository.delete(gallery);
             log.info("Deleted gallery: {}", galleryId);
-        }
+        });
     }
 
     /**
      * Get image metadata.
      */
+    @Transactional(readOnly = true)
     public ImageMetadata getImageMetadata(String imageId) {
-        return imageMetadata.get(imageId);
+        Long tenantId = tenantContextHolder.requireTenantId();
+        return imageRepository.findByTenantIdAndImageId(tenantId, imageId)
+                .map(ImageGalleryService::toMetadata)
+                .orElse(null);
     }
 
     /**
      * Update image metadata.
      */
+    @Transactional
     public void updateImageMetadata(String imageId, String title, String description, List<String> tags) {
-        ImageMetadata existing = imageMetadata.get(imageId);
-        if (existing != null) {
-            ImageMetadata updated = new ImageMetadata(
-                    imageId,
-                    title,
-                    description,
-                    tags,
-                    existing.galleryId(),
-                    existing.createdAt()
-            );
-            imageMetadata.put(imageId, updated);
+        Long tenantId = tenantContextHolder.requireTenantId();
+        imageRepository.findByTenantIdAndImageId(tenantId, imageId).ifPresent(image -> {
+            image.setTitle(title);
+            image.setDescription(description);
+            image.setTags(normalizeTags(tags));
             log.info("Updated metadata for image: {}", imageId);
+        });
+    }
+
+    private Optional<ImageGalleryEntity> findGallery(Long tenantId, String galleryId) {
+        UUID id;
+        try {
+            id = UUID.fromString(galleryId);
+        } catch (IllegalArgumentException | NullPointerException e) {
+            return Optional.empty();
+        }
+        return galleryRepository.findByIdAndTenantId(id, tenantId);
+    }
+
+    private static int pageSize(Integer limit) {
+        if (limit == null || limit <= 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(limit, MAX_PAGE_SIZE);
+    }
+
+    /**
+     * Trimmed, de-duplicated, non-blank tags in their original order.
+     */
+    static List<String> normalizeTags(List<String> tags) {
+        if (tags == null) {
+            return List.of();
+        }
+        Set<String> normalized = new LinkedHashSet<>();
+        for (String tag : tags) {
+            if (tag != null && !tag.isBlank()) {
+                normalized.add(tag.trim());
+            }
         }
+        return List.copyOf(normalized);
+    }
+
+    static String encodeCursor(long rowId) {
+        return Long.toString(rowId, 36);
+    }
+
+    static long decodeCursor(String cursor, long firstPage) {
+        if (cursor == null || cursor.isBlank()) {
+            return firstPage;
+        }
+        try {
+            return Long.parseLong(cursor, 36);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
+
+    private static ImageGallery toGallery(ImageGalleryEntity entity) {
+        return new ImageGallery(
+                entity.getId().toString(),
+                entity.getName(),
+                entity.getDescription(),
+                entity.getType(),
+                entity.getImageCount(),
+                entity.getCreatedAt(),
+                entity.getModifiedAt()
+        );
+    }
+
+    private static ImageMetadata toMetadata(GalleryImageEntity entity) {
+        return new ImageMetadata(
+                entity.getImageId(),
+                entity.getTitle(),
+                entity.getDescription(),
+                entity.getTags(),
+                entity.getGalleryId().toString(),
+                entity.getCreatedAt()
+        );
     }
 
     // Data classes
@@ -169,9 +282,9 @@ public class ImageGalleryService {
             String name,
             String description,
             GalleryType type,
-            List<String> imageIds,
-            LocalDateTime createdAt,
-            LocalDateTime modifiedAt
+            int imageCount,
+            Instant createdAt,
+            Instant modifiedAt
     ) {}
 
     public record ImageMetadata(
@@ -180,12 +293,24 @@ public class ImageGalleryService {
             String description,
             List<String> tags,
             String galleryId,
-            LocalDateTime createdAt
+            Instant createdAt
     ) {}
 
+    /**
+     * A gallery and one page of its images; {@code nextCursor} is null on the last page.
+     */
     public record GalleryWithImages(
             ImageGallery gallery,
-            List<ImageMetadata> images
+            List<ImageMetadata> images,
+            String nextCursor
+    ) {}
+
+    /**
+     * One page of images; {@code nextCursor} is null on the last page.
+     */
+    public record ImagePage(
+            List<ImageMetadata> images,
+            String nextCursor
     ) {}
 
     public enum GalleryType {
@@ -196,4 +321,4 @@ public class ImageGalleryService {
         CERTIFICATES,
         GENERAL
     }
-}
\ No newline at end of file
+}
@@ -1,12 +1,19 @@
 package com.clinic.modules.core.image;
 
 import com.clinic.config.CloudflareImageProperties;
+import com.clinic.config.http.OutboundHttpConfig;
+import com.clinic.config.http.UpstreamGuard;
+import com.clinic.config.http.UpstreamGuards;
+import com.clinic.modules.core.image.storage.ImageStorageProperties;
+import com.clinic.modules.core.image.storage.StoredImageService;
 import com.clinic.modules.core.settings.ClinicSettingsRepository;
 import com.clinic.modules.core.tenant.TenantContextHolder;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.io.Resource;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
@@ -17,13 +24,14 @@ import org.springframework.web.multipart.MultipartFile;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
-import java.util.Base64;
 
 
 
 /**
  * Service for uploading images to Cloudflare Images API.
  * Reads credentials from database settings first, falls back to environment variables.
+ * With a self-hosted storage backend (or Cloudflare mock mode) images are kept in
+ * {@link StoredImageService} and served by this application instead.
  */
 @Service
 public class ImageUploadService {
@@ -34,19 +42,31 @@ public class ImageUploadService {
     private final ClinicSettingsRepository settingsRepository;
     private final TenantContextHolder tenantContextHolder;
     private final RestTemplate restTemplate;
+    private final RestTemplate uploadRestTemplate;
+    private final UpstreamGuard cloudflareGuard;
     private final ObjectMapper objectMapper;
+    private final StoredImageService storedImageService;
+    private final ImageStorageProperties storageProperties;
 
     public ImageUploadService(
             CloudflareImageProperties cloudflareProperties,
             ClinicSettingsRepository settingsRepository,
-            RestTemplate restTemplate,
+            @Qualifier("cloudflareRestTemplate") RestTemplate restTemplate,
+            @Qualifier("cloudflareUploadRestTemplate") RestTemplate uploadRestTemplate,
+            UpstreamGuards upstreamGuards,
             ObjectMapper objectMapper,
-            TenantContextHolder tenantContextHolder) {
+            TenantContextHolder tenantContextHolder,
+            StoredImageService storedImageService,
+            ImageStorageProperties storageProperties) {
         this.cloudflareProperties = cloudflareProperties;
         this.settingsRepository = settingsRepository;
         this.restTemplate = restTemplate;
+        this.uploadRestTemplate = uploadRestTemplate;
+        this.cloudflareGuard = upstreamGuards.forUpstream(OutboundHttpConfig.CLOUDFLARE);
         this.objectMapper = objectMapper;
         this.tenantContextHolder = tenantContextHolder;
+        this.storedImageService = storedImageService;
+        this.storageProperties = storageProperties;
     }
 
 
@@ -63,14 +83,28 @@ public class ImageUploadService {
      * @throws ImageUploadException if upload fails
      */
     public ImageUploadResponse uploadImage(MultipartFile file, String metadata, boolean requireSignedUrls) throws ImageUploadException {
+        if (file == null) {
+            throw new ImageUploadException("File is empty or null");
+        }
+        return uploadImage(ImageFile.of(file), metadata, requireSignedUrls);
+    }
+
+    /**
+     * Upload an image from any readable source. The body is streamed from the
+     * source rather than held in memory, and re-read on retries.
+     */
+    public ImageUploadResponse uploadImage(ImageFile file, String metadata, boolean requireSignedUrls) throws ImageUploadException {
         validateFile(file);
 
-        try {
-            if (cloudflareProperties.isMockMode()) {
-                log.warn("Cloudflare mockMode enabled - returning data URI instead of uploading");
-                return createMockUploadResponse(file);
-            }
+        if (storageProperties.isSelfHosted()) {
+            return storeSelfHosted(file);
+        }
+        if (cloudflareProperties.isMockMode()) {
+            log.warn("Cloudflare mockMode enabled - storing image locally instead of uploading");
+            return storeSelfHosted(file);
+        }
 
+        try {
             CloudflareCredentials credentials = getCloudflareCredentials();
 
             String uploadUrl = String.format("%s/accounts/%s/images/v1",
@@ -82,7 +116,7 @@ public class ImageUploadService {
             headers.setBearerAuth(credentials.apiToken());
 
             MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
-            body.add("file", file.getResource());
+            body.add("file", file.content());
             if (metadata != null && !metadata.isEmpty()) {
                 body.add("metadata", metadata);
             }
@@ -91,7 +125,7 @@ public class ImageUploadService {
             HttpEntity<MultiValueMap<String, Object>> requestEntity = new HttpEntity<>(body, headers);
 
             log.info("Uploading image to Cloudflare: filename={}, size={} bytes",
-                    file.getOriginalFilename(), file.getSize());
+                    file.filename(), file.size());
 
             ResponseEntity<String> response = uploadWithRetry(uploadUrl, requestEntity);
 
@@ -104,8 +138,8 @@ public class ImageUploadService {
         } catch (Exception e) {
             // Fall back only if mock mode is enabled; otherwise surface the error
             if (cloudflareProperties.isMockMode() && isAuthOrConnectivityError(e)) {
-                log.warn("Cloudflare upload failed (auth/connectivity). Mock mode enabled, returning mock upload: {}", e.getMessage());
-                return createMockUploadResponse(file);
+                log.warn("Cloudflare upload failed (auth/connectivity). Mock mode enabled, storing image locally: {}", e.getMessage());
+                return storeSelfHosted(file);
             }
 
             log.error("Error uploading image to Cloudflare", e);
@@ -120,35 +154,6 @@ public class ImageUploadService {
         return uploadImage(file, metadata, false);
     }
 
-    /**
-     * Upload multiple images in bulk.
-     *
-     * @param files List of image files to upload
-     * @param metadata Optional metadata for all images
-     * @return List of ImageUploadResponse containing results for each upload
-     */
-    public BulkUploadResponse uploadImages(List<MultipartFile> files, String metadata) {
-        List<ImageUploadResult> results = new ArrayList<>();
-        int successCount = 0;
-        int failureCount = 0;
-
-        for (int i = 0; i < files.size(); i++) {
-            MultipartFile file = files.get(i);
-            try {
-                ImageUploadResponse response = uploadImage(file, metadata, false);
-                results.add(new ImageUploadResult(i, file.getOriginalFilename(), true, null, response));
-                successCount++;
-                log.info("Bulk upload success: {} ({}/{})", file.getOriginalFilename(), i + 1, files.size());
-            } catch (ImageUploadException e) {
-                results.add(new ImageUploadResult(i, file.getOriginalFilename(), false, e.getMessage(), null));
-                failureCount++;
-                log.error("Bulk upload failed: {} ({}/{}): {}", file.getOriginalFilename(), i + 1, files.size(), e.getMessage());
-            }
-        }
-
-        return new BulkUploadResponse(results, successCount, failureCount);
-    }
-
     /**
      * Get image variants for different use cases.
      *
@@ -156,8 +161,8 @@ public class ImageUploadService {
      * @return Map of variant names to URLs
      */
     public Map<String, String> getImageVariants(String imageId) {
-        if (cloudflareProperties.isMockMode()) {
-            return Collections.emptyMap();
+        if (storageProperties.isSelfHosted() || cloudflareProperties.isMockMode()) {
+            return storedImageService.variantUrls(imageId);
         }
 
         Map<String, String> variants = new HashMap<>();
@@ -224,6 +229,14 @@ public class ImageUploadService {
      * @throws ImageUploadException if deletion fails
      */
     public void deleteImage(String imageId) throws ImageUploadException {
+        if (storageProperties.isSelfHosted() || cloudflareProperties.isMockMode()) {
+            try {
+                storedImageService.delete(imageId);
+                return;
+            } catch (IOException e) {
+                throw new ImageUploadException("Failed to delete image: " + e.getMessage(), e);
+            }
+        }
         try {
             String deleteUrl = String.format("%s/accounts/%s/images/v1/%s",
                     cloudflareProperties.getBaseUrl(),
@@ -256,13 +269,13 @@ public class ImageUploadService {
         }
     }
 
-    private void validateFile(MultipartFile file) throws ImageUploadException {
-        if (file == null || file.isEmpty()) {
+    private void validateFile(ImageFile file) throws ImageUploadException {
+        if (file == null || file.size() == 0) {
             throw new ImageUploadException("File is empty or null");
         }
 
         // Check file size
-        if (file.getSize() > cloudflareProperties.getMaxFileSizeBytes()) {
+        if (file.size() > cloudflareProperties.getMaxFileSizeBytes()) {
             throw new ImageUploadException(
                     String.format("File size exceeds maximum allowed size of %d MB",
                             cloudflareProperties.getMaxFileSizeMb())
@@ -270,7 +283,7 @@ public class ImageUploadService {
         }
 
         // Check file extension
-        String originalFilename = file.getOriginalFilename();
+        String originalFilename = file.filename();
         if (originalFilename == null || !hasValidExtension(originalFilename)) {
             throw new ImageUploadException(
                     "Invalid file type. Allowed types: " + cloudflareProperties.getAllowedExtensions()
@@ -278,7 +291,7 @@ public class ImageUploadService {
         }
 
         // Check content type
-        String contentType = file.getContentType();
+        String contentType = file.contentType();
         if (contentType == null || !contentType.startsWith("image/")) {
             throw new ImageUploadException("File must be an image");
         }
@@ -306,11 +319,10 @@ public class ImageUploadService {
         for (int attempt = 1; attempt <= maxRetries; attempt++) {
             try {
                 log.info("Upload attempt {} of {}", attempt, maxRetries);
-                return restTemplate.exchange(
-                        uploadUrl,
-                        HttpMethod.POST,
-                        requestEntity,
-                        String.class
+                return cloudflareGuard.execute(
+                        "POST /accounts/{id}/images/v1",
+                        () -> uploadRestTemplate.exchange(uploadUrl, HttpMethod.POST, requestEntity, String.class),
+                        response -> response.getStatusCode().value()
                 );
             } catch (Exception e) {
                 log.warn("Upload attempt {} failed: {}", attempt, e.getMessage());
@@ -357,19 +369,13 @@ public class ImageUploadService {
         return new ImageUploadResponse(id, filename, publicUrl, imageVariants);
     }
 
-    private ImageUploadResponse createMockUploadResponse(MultipartFile file) throws ImageUploadException {
+    private ImageUploadResponse storeSelfHosted(ImageFile file) throws ImageUploadException {
         try {
-            byte[] bytes = file.getBytes();
-            String mimeType = Optional.ofNullable(file.getContentType())
-                    .filter(ct -> ct.startsWith("image/"))
-                    .orElse("image/png");
-            String base64 = Base64.getEncoder().encodeToString(bytes);
-            String dataUri = "data:" + mimeType + ";base64," + base64;
-            String id = UUID.randomUUID().toString();
-            Map<String, String> variants = Map.of("public", dataUri);
-            return new ImageUploadResponse(id, file.getOriginalFilename(), dataUri, variants);
+            return storedImageService.store(file);
+        } catch (StoredImageService.UnsupportedImageFormatException e) {
+            throw new ImageUploadException(e.getMessage(), e);
         } catch (IOException e) {
-            throw new ImageUploadException("Failed to create mock upload response", e);
+            throw new ImageUploadException("Failed to store image: " + e.getMessage(), e);
         }
     }
 
@@ -411,6 +417,21 @@ public class ImageUploadService {
         }
     }
 
+    /**
+     * An image to upload: its client-side name and type, and a re-readable source
+     * for the bytes (a multipart part or a staged file on disk).
+     */
+    public record ImageFile(
+            String filename,
+            String contentType,
+            long size,
+            Resource content
+    ) {
+        public static ImageFile of(MultipartFile file) {
+            return new ImageFile(file.getOriginalFilename(), file.getContentType(), file.getSize(), file.getResource());
+        }
+    }
+
     /**
      * Response object for bulk upload operations.
      */
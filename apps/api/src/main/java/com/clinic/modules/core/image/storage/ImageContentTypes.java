@@ -0,0 +1,76 @@
+package com.clinic.modules.core.image.storage;
+
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * The raster formats self-hosted images may be stored and served as.
+ *
+ * The type is taken from the file's leading bytes, never from the client's
+ * Content-Type or file name: anything that renders as a document in the
+ * browser (SVG, HTML) would otherwise be stored XSS on the API origin.
+ */
+public final class ImageContentTypes {
+
+    static final String JPEG = "image/jpeg";
+    static final String PNG = "image/png";
+    static final String WEBP = "image/webp";
+    static final String GIF = "image/gif";
+
+    private static final Set<String> SERVABLE = Set.of(JPEG, PNG, WEBP, GIF);
+    private static final String FALLBACK = "application/octet-stream";
+    private static final int HEADER_LENGTH = 12;
+
+    private ImageContentTypes() {
+    }
+
+    /**
+     * The format of the content, or empty if it is not one of the allowed ones.
+     */
+    public static Optional<String> detect(Resource content) throws IOException {
+        try (InputStream in = content.getInputStream()) {
+            return detect(in.readNBytes(HEADER_LENGTH));
+        }
+    }
+
+    static Optional<String> detect(byte[] header) {
+        if (startsWith(header, 0, (byte) 0xFF, (byte) 0xD8, (byte) 0xFF)) {
+            return Optional.of(JPEG);
+        }
+        if (startsWith(header, 0, (byte) 0x89, (byte) 'P', (byte) 'N', (byte) 'G', (byte) 0x0D, (byte) 0x0A,
+                (byte) 0x1A, (byte) 0x0A)) {
+            return Optional.of(PNG);
+        }
+        if (startsWith(header, 0, ascii("GIF87a")) || startsWith(header, 0, ascii("GIF89a"))) {
+            return Optional.of(GIF);
+        }
+        if (startsWith(header, 0, ascii("RIFF")) && startsWith(header, 8, ascii("WEBP"))) {
+            return Optional.of(WEBP);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * The type to send for a stored object: its own type when it is an allowed
+     * format, otherwise a download type (objects stored before uploads were
+     * sniffed may carry any client-supplied type).
+     */
+    public static String servable(String contentType) {
+        return contentType != null && SERVABLE.contains(contentType) ? contentType : FALLBACK;
+    }
+
+    private static boolean startsWith(byte[] header, int offset, byte... prefix) {
+        return header.length >= offset + prefix.length
+                && Arrays.equals(header, offset, offset + prefix.length, prefix, 0, prefix.length);
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+}
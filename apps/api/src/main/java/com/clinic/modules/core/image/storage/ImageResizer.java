@@ -0,0 +1,171 @@
+package com.clinic.modules.core.image.storage;
+
+import com.clinic.config.CloudflareImageProperties;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.Optional;
+
+/**
+ * Renders {@link ImageVariant}s with ImageIO, the way Cloudflare's
+ * {@code fit=crop} and {@code fit=scale-down} options do: images are never
+ * enlarged, crops are centred.
+ *
+ * Large originals are decoded with source subsampling so a 40-megapixel photo
+ * is not fully decoded to make a thumbnail. WebP output needs an ImageIO WebP
+ * writer on the classpath; without one, WebP variants are encoded as JPEG (or
+ * PNG for images with transparency) and labelled with that content type.
+ */
+@Component
+public class ImageResizer {
+
+    private final CloudflareImageProperties cloudflareProperties;
+
+    public ImageResizer(CloudflareImageProperties cloudflareProperties) {
+        this.cloudflareProperties = cloudflareProperties;
+    }
+
+    /**
+     * Writes the variant of {@code source} to {@code target}.
+     *
+     * @return the content type written, or empty if ImageIO cannot decode the source
+     */
+    public Optional<String> resize(Path source, ImageVariant variant, Path target) throws IOException {
+        BufferedImage image = decode(source, variant);
+        if (image == null) {
+            return Optional.empty();
+        }
+
+        BufferedImage resized = render(image, variant);
+        boolean alpha = resized.getColorModel().hasAlpha();
+        String contentType;
+        if (variant.webp() && ImageIO.getImageWritersByMIMEType("image/webp").hasNext()) {
+            contentType = "image/webp";
+        } else {
+            contentType = alpha ? "image/png" : "image/jpeg";
+        }
+        encode(resized, contentType, target);
+        return Optional.of(contentType);
+    }
+
+    private BufferedImage decode(Path source, ImageVariant variant) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(source.toFile())) {
+            if (input == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                ImageReadParam param = reader.getDefaultReadParam();
+                int step = subsampling(reader.getWidth(0), reader.getHeight(0), variant);
+                if (step > 1) {
+                    param.setSourceSubsampling(step, step, 0, 0);
+                }
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * Largest subsampling step that still decodes at least twice the target size,
+     * leaving the final downscale enough pixels to filter.
+     */
+    static int subsampling(int width, int height, ImageVariant variant) {
+        if (variant.isOriginal()) {
+            return 1;
+        }
+        int step = Math.min(width / (variant.width() * 2), height / (variant.height() * 2));
+        return Math.max(1, step);
+    }
+
+    static BufferedImage render(BufferedImage image, ImageVariant variant) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        double scale;
+        int outWidth;
+        int outHeight;
+        if (variant.crop()) {
+            scale = Math.min(1.0, Math.max((double) variant.width() / width, (double) variant.height() / height));
+            outWidth = Math.min(variant.width(), (int) Math.round(width * scale));
+            outHeight = Math.min(variant.height(), (int) Math.round(height * scale));
+        } else {
+            scale = Math.min(1.0, Math.min((double) variant.width() / width, (double) variant.height() / height));
+            outWidth = (int) Math.round(width * scale);
+            outHeight = (int) Math.round(height * scale);
+        }
+        outWidth = Math.max(1, outWidth);
+        outHeight = Math.max(1, outHeight);
+
+        // Region of the source that ends up in the output, centred for crops
+        int sourceWidth = Math.min(width, (int) Math.round(outWidth / scale));
+        int sourceHeight = Math.min(height, (int) Math.round(outHeight / scale));
+        BufferedImage current = image.getSubimage((width - sourceWidth) / 2, (height - sourceHeight) / 2,
+                sourceWidth, sourceHeight);
+
+        int type = image.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        // Halve in steps before the final pass; a single large bicubic downscale aliases
+        while (current.getWidth() / 2 >= outWidth && current.getHeight() / 2 >= outHeight) {
+            current = draw(current, current.getWidth() / 2, current.getHeight() / 2, type,
+                    RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        }
+        return draw(current, outWidth, outHeight, type, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+    }
+
+    private static BufferedImage draw(BufferedImage source, int width, int height, int type, Object interpolation) {
+        BufferedImage target = new BufferedImage(width, height, type);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, interpolation);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private void encode(BufferedImage image, String contentType, Path target) throws IOException {
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByMIMEType(contentType);
+        if (!writers.hasNext()) {
+            throw new IOException("No ImageIO writer for " + contentType);
+        }
+        ImageWriter writer = writers.next();
+        Files.deleteIfExists(target);
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(target.toFile())) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if (param.canWriteCompressed() && !"image/png".equals(contentType)) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                String[] types = param.getCompressionTypes();
+                if (types != null && types.length > 0 && param.getCompressionType() == null) {
+                    param.setCompressionType(types[0]);
+                }
+                param.setCompressionQuality(cloudflareProperties.getImageQuality() / 100f);
+            }
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.clinic.modules.core.image.storage;
+
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Blob store for original images uploaded when Cloudflare Images is not used.
+ *
+ * Keys are slash-separated relative paths made of letters, digits, '.', '_'
+ * and '-'. Implementations must be safe for concurrent use.
+ */
+public interface ImageStorage {
+
+    /**
+     * Stores the content under the key, replacing any existing object.
+     * The content is streamed; it is not buffered in memory.
+     */
+    void put(String key, Resource content, long size, String contentType) throws IOException;
+
+    /**
+     * Returns the object's metadata, or empty if there is no object under the key.
+     */
+    Optional<StoredObject> stat(String key) throws IOException;
+
+    /**
+     * Opens the object's bytes. The caller closes the stream.
+     *
+     * @throws java.nio.file.NoSuchFileException if there is no object under the key
+     */
+    InputStream open(String key) throws IOException;
+
+    /**
+     * Deletes the object. Deleting a missing key is not an error.
+     */
+    void delete(String key) throws IOException;
+
+    /**
+     * The object's file when the backend keeps it on local disk, so callers
+     * can serve it without copying it first.
+     */
+    default Optional<Path> localPath(String key) {
+        return Optional.empty();
+    }
+
+    /**
+     * Metadata of a stored object.
+     */
+    record StoredObject(String key, long size, String contentType, Instant lastModified) {}
+
+    static String requireValidKey(String key) {
+        if (key == null || key.isEmpty() || key.startsWith("/") || key.contains("..")
+                || !key.matches("[A-Za-z0-9._/-]+")) {
+            throw new IllegalArgumentException("Invalid storage key: " + key);
+        }
+        return key;
+    }
+}
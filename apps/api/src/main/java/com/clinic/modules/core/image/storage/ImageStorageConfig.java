@@ -0,0 +1,24 @@
+package com.clinic.modules.core.image.storage;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+/**
+ * Selects the {@link ImageStorage} backend. The local store is also used by the
+ * cloudflare backend when Cloudflare mock mode is on; it and the variant cache
+ * create their directories on first write, so with Cloudflare proper nothing
+ * is written to local disk.
+ */
+@Configuration
+public class ImageStorageConfig {
+
+    @Bean
+    public ImageStorage imageStorage(ImageStorageProperties properties) {
+        if ("s3".equalsIgnoreCase(properties.getBackend())) {
+            return new S3ImageStorage(properties.getS3());
+        }
+        return new LocalImageStorage(Path.of(properties.getLocal().getRoot()));
+    }
+}
@@ -0,0 +1,167 @@
+package com.clinic.modules.core.image.storage;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Where uploaded images live when they are not sent to Cloudflare Images, and
+ * how resized variants are cached.
+ */
+@Component
+@ConfigurationProperties(prefix = "clinic.images.storage")
+public class ImageStorageProperties {
+
+    /**
+     * cloudflare: upload to Cloudflare Images (mock mode falls back to the local store).
+     * local: keep originals on local disk and serve variants from this application.
+     * s3: keep originals in an S3-compatible bucket and serve variants from this application.
+     */
+    private String backend = "cloudflare";
+
+    /**
+     * Base URL of the delivery endpoint, used to build image URLs.
+     */
+    private String publicBaseUrl = "/public/images";
+
+    private final Local local = new Local();
+    private final S3 s3 = new S3();
+    private final Cache cache = new Cache();
+
+    /**
+     * Whether images are stored and served by this application rather than Cloudflare.
+     */
+    public boolean isSelfHosted() {
+        return "local".equalsIgnoreCase(backend) || "s3".equalsIgnoreCase(backend);
+    }
+
+    public String getBackend() {
+        return backend;
+    }
+
+    public void setBackend(String backend) {
+        this.backend = backend;
+    }
+
+    public String getPublicBaseUrl() {
+        return publicBaseUrl;
+    }
+
+    public void setPublicBaseUrl(String publicBaseUrl) {
+        this.publicBaseUrl = publicBaseUrl;
+    }
+
+    public Local getLocal() {
+        return local;
+    }
+
+    public S3 getS3() {
+        return s3;
+    }
+
+    public Cache getCache() {
+        return cache;
+    }
+
+    public static class Local {
+
+        private String root = "data/images";
+
+        public String getRoot() {
+            return root;
+        }
+
+        public void setRoot(String root) {
+            this.root = root;
+        }
+    }
+
+    public static class S3 {
+
+        /**
+         * Endpoint override for S3-compatible stores such as MinIO; empty for AWS.
+         */
+        private String endpoint;
+        private String region = "us-east-1";
+        private String bucket = "clinic-images";
+        private String prefix = "";
+        /**
+         * Static credentials; when empty the default AWS credentials chain is used.
+         */
+        private String accessKey;
+        private String secretKey;
+
+        public String getEndpoint() {
+            return endpoint;
+        }
+
+        public void setEndpoint(String endpoint) {
+            this.endpoint = endpoint;
+        }
+
+        public String getRegion() {
+            return region;
+        }
+
+        public void setRegion(String region) {
+            this.region = region;
+        }
+
+        public String getBucket() {
+            return bucket;
+        }
+
+        public void setBucket(String bucket) {
+            this.bucket = bucket;
+        }
+
+        public String getPrefix() {
+            return prefix;
+        }
+
+        public void setPrefix(String prefix) {
+            this.prefix = prefix;
+        }
+
+        public String getAccessKey() {
+            return accessKey;
+        }
+
+        public void setAccessKey(String accessKey) {
+            this.accessKey = accessKey;
+        }
+
+        public String getSecretKey() {
+            return secretKey;
+        }
+
+        public void setSecretKey(String secretKey) {
+            this.secretKey = secretKey;
+        }
+    }
+
+    public static class Cache {
+
+        /**
+         * Directory for generated variants and originals fetched from remote storage.
+         */
+        private String directory = "data/image-cache";
+        private DataSize maxSize = DataSize.ofGigabytes(2);
+
+        public String getDirectory() {
+            return directory;
+        }
+
+        public void setDirectory(String directory) {
+            this.directory = directory;
+        }
+
+        public DataSize getMaxSize() {
+            return maxSize;
+        }
+
+        public void setMaxSize(DataSize maxSize) {
+            this.maxSize = maxSize;
+        }
+    }
+}
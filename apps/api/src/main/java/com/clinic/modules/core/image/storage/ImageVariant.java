@@ -0,0 +1,72 @@
+package com.clinic.modules.core.image.storage;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Named image sizes, matching the Cloudflare variants advertised by
+ * {@code ImageUploadService#getImageVariants}.
+ */
+public enum ImageVariant {
+
+    THUMBNAIL("thumbnail", 150, 150, true, false),
+    SMALL("small", 300, 300, false, false),
+    MEDIUM("medium", 600, 600, false, false),
+    LARGE("large", 1200, 1200, false, false),
+    HERO("hero", 1920, 1080, true, false),
+    PUBLIC("public", 0, 0, false, false),
+    THUMBNAIL_WEBP("thumbnail_webp", 150, 150, true, true),
+    SMALL_WEBP("small_webp", 300, 300, false, true),
+    MEDIUM_WEBP("medium_webp", 600, 600, false, true),
+    LARGE_WEBP("large_webp", 1200, 1200, false, true);
+
+    private final String variantName;
+    private final int width;
+    private final int height;
+    private final boolean crop;
+    private final boolean webp;
+
+    ImageVariant(String variantName, int width, int height, boolean crop, boolean webp) {
+        this.variantName = variantName;
+        this.width = width;
+        this.height = height;
+        this.crop = crop;
+        this.webp = webp;
+    }
+
+    public static Optional<ImageVariant> fromName(String name) {
+        return Arrays.stream(values())
+                .filter(variant -> variant.variantName.equals(name))
+                .findFirst();
+    }
+
+    public String variantName() {
+        return variantName;
+    }
+
+    public int width() {
+        return width;
+    }
+
+    public int height() {
+        return height;
+    }
+
+    /**
+     * Crop to fill the box exactly; otherwise scale down to fit inside it.
+     */
+    public boolean crop() {
+        return crop;
+    }
+
+    public boolean webp() {
+        return webp;
+    }
+
+    /**
+     * The original image, served as uploaded.
+     */
+    public boolean isOriginal() {
+        return width == 0;
+    }
+}
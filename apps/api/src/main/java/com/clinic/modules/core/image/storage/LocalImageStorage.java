@@ -0,0 +1,97 @@
+package com.clinic.modules.core.image.storage;
+
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+
+/**
+ * Stores images as files under a root directory. The content type is kept in
+ * a {@code .type} file next to each object.
+ */
+public class LocalImageStorage implements ImageStorage {
+
+    private static final String TYPE_SUFFIX = ".type";
+
+    private final Path root;
+
+    /**
+     * Directories are created by the first {@link #put}, so a deployment that
+     * never stores an image locally leaves no trace on disk.
+     */
+    public LocalImageStorage(Path root) {
+        this.root = root.toAbsolutePath().normalize();
+    }
+
+    @Override
+    public void put(String key, Resource content, long size, String contentType) throws IOException {
+        Path target = resolve(key);
+        Files.createDirectories(target.getParent());
+        // Write next to the target and rename, so readers never see a partial file
+        Path temp = Files.createTempFile(target.getParent(), ".upload-", ".tmp");
+        try {
+            try (InputStream in = content.getInputStream()) {
+                Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+            }
+            Files.writeString(typeFile(target), contentType != null ? contentType : "application/octet-stream",
+                    StandardCharsets.UTF_8);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public Optional<StoredObject> stat(String key) throws IOException {
+        Path file = resolve(key);
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        Path typeFile = typeFile(file);
+        String contentType = Files.exists(typeFile)
+                ? Files.readString(typeFile, StandardCharsets.UTF_8).trim()
+                : "application/octet-stream";
+        return Optional.of(new StoredObject(key, Files.size(file), contentType,
+                Files.getLastModifiedTime(file).toInstant()));
+    }
+
+    @Override
+    public InputStream open(String key) throws IOException {
+        Path file = resolve(key);
+        if (!Files.isRegularFile(file)) {
+            throw new NoSuchFileException(key);
+        }
+        return Files.newInputStream(file);
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        Path file = resolve(key);
+        Files.deleteIfExists(file);
+        Files.deleteIfExists(typeFile(file));
+    }
+
+    @Override
+    public Optional<Path> localPath(String key) {
+        Path file = resolve(key);
+        return Files.isRegularFile(file) ? Optional.of(file) : Optional.empty();
+    }
+
+    private Path resolve(String key) {
+        Path file = root.resolve(ImageStorage.requireValidKey(key)).normalize();
+        if (!file.startsWith(root)) {
+            throw new IllegalArgumentException("Invalid storage key: " + key);
+        }
+        return file;
+    }
+
+    private static Path typeFile(Path file) {
+        return file.resolveSibling(file.getFileName() + TYPE_SUFFIX);
+    }
+}
@@ -0,0 +1,127 @@
+package com.clinic.modules.core.image.storage;
+
+import org.springframework.core.io.Resource;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.NoSuchFileException;
+import java.util.Optional;
+
+/**
+ * Stores images in an S3-compatible bucket (AWS S3, MinIO, R2, ...).
+ * Path-style addressing is used when an endpoint override is configured,
+ * which is what MinIO expects.
+ */
+public class S3ImageStorage implements ImageStorage, AutoCloseable {
+
+    private final S3Client s3;
+    private final String bucket;
+    private final String prefix;
+
+    public S3ImageStorage(ImageStorageProperties.S3 settings) {
+        S3ClientBuilder builder = S3Client.builder()
+                .region(Region.of(settings.getRegion()))
+                .credentialsProvider(credentials(settings));
+        if (settings.getEndpoint() != null && !settings.getEndpoint().isBlank()) {
+            builder.endpointOverride(URI.create(settings.getEndpoint()))
+                    .forcePathStyle(true);
+        }
+        this.s3 = builder.build();
+        this.bucket = settings.getBucket();
+        this.prefix = settings.getPrefix() == null || settings.getPrefix().isBlank()
+                ? ""
+                : settings.getPrefix().replaceAll("/+$", "") + "/";
+    }
+
+    @Override
+    public void put(String key, Resource content, long size, String contentType) throws IOException {
+        PutObjectRequest request = PutObjectRequest.builder()
+                .bucket(bucket)
+                .key(objectKey(key))
+                .contentType(contentType)
+                .contentLength(size)
+                .build();
+        try (InputStream in = content.getInputStream()) {
+            s3.putObject(request, RequestBody.fromInputStream(in, size));
+        } catch (S3Exception e) {
+            throw new IOException("Failed to store " + key + ": " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public Optional<StoredObject> stat(String key) throws IOException {
+        try {
+            HeadObjectResponse head = s3.headObject(HeadObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(objectKey(key))
+                    .build());
+            return Optional.of(new StoredObject(key, head.contentLength(), head.contentType(), head.lastModified()));
+        } catch (NoSuchKeyException e) {
+            return Optional.empty();
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                return Optional.empty();
+            }
+            throw new IOException("Failed to read metadata of " + key + ": " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public InputStream open(String key) throws IOException {
+        try {
+            return s3.getObject(GetObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(objectKey(key))
+                    .build());
+        } catch (NoSuchKeyException e) {
+            throw new NoSuchFileException(key);
+        } catch (S3Exception e) {
+            throw new IOException("Failed to read " + key + ": " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        try {
+            s3.deleteObject(DeleteObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(objectKey(key))
+                    .build());
+        } catch (S3Exception e) {
+            throw new IOException("Failed to delete " + key + ": " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void close() {
+        s3.close();
+    }
+
+    private String objectKey(String key) {
+        return prefix + ImageStorage.requireValidKey(key);
+    }
+
+    private static AwsCredentialsProvider credentials(ImageStorageProperties.S3 settings) {
+        if (settings.getAccessKey() != null && !settings.getAccessKey().isBlank()) {
+            return StaticCredentialsProvider.create(
+                    AwsBasicCredentials.create(settings.getAccessKey(), settings.getSecretKey()));
+        }
+        return DefaultCredentialsProvider.create();
+    }
+}
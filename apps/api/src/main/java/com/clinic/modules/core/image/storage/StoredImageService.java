@@ -0,0 +1,188 @@
+package com.clinic.modules.core.image.storage;
+
+import com.clinic.config.CloudflareImageProperties;
+import com.clinic.modules.core.image.ImageUploadService.ImageFile;
+import com.clinic.modules.core.image.ImageUploadService.ImageUploadResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Stores uploaded images in {@link ImageStorage} and resolves their variants
+ * to files on local disk for the public delivery endpoint.
+ */
+@Service
+public class StoredImageService {
+
+    private static final Logger log = LoggerFactory.getLogger(StoredImageService.class);
+
+    private static final String ORIGINALS = "originals/";
+    private static final String ORIGINAL_CACHE_KEY = "original";
+    private static final Pattern IMAGE_ID = Pattern.compile("[A-Za-z0-9-]{1,64}");
+
+    private final ImageStorage storage;
+    private final VariantDiskCache diskCache;
+    private final ImageResizer resizer;
+    private final ImageStorageProperties storageProperties;
+    private final CloudflareImageProperties cloudflareProperties;
+
+    public StoredImageService(ImageStorage storage,
+                              VariantDiskCache diskCache,
+                              ImageResizer resizer,
+                              ImageStorageProperties storageProperties,
+                              CloudflareImageProperties cloudflareProperties) {
+        this.storage = storage;
+        this.diskCache = diskCache;
+        this.resizer = resizer;
+        this.storageProperties = storageProperties;
+        this.cloudflareProperties = cloudflareProperties;
+    }
+
+    /**
+     * Stores the original and returns URLs for its variants. Variants are
+     * rendered on first request. The stored type is sniffed from the bytes;
+     * the client's Content-Type is ignored.
+     *
+     * @throws UnsupportedImageFormatException if the file is not JPEG, PNG, WebP or GIF
+     */
+    public ImageUploadResponse store(ImageFile file) throws IOException {
+        String contentType = ImageContentTypes.detect(file.content())
+                .orElseThrow(() -> new UnsupportedImageFormatException(
+                        "Unsupported image format. Allowed formats: JPEG, PNG, WebP, GIF"));
+        String imageId = UUID.randomUUID().toString();
+        storage.put(ORIGINALS + imageId, file.content(), file.size(), contentType);
+        log.info("Stored image {} ({} bytes) in {} storage", imageId, file.size(), storageProperties.getBackend());
+        return new ImageUploadResponse(imageId, file.filename(), url(imageId, ImageVariant.PUBLIC), variantUrls(imageId));
+    }
+
+    /**
+     * URLs of the variants, mirroring the Cloudflare variant set.
+     */
+    public Map<String, String> variantUrls(String imageId) {
+        Map<String, String> variants = new LinkedHashMap<>();
+        for (ImageVariant variant : ImageVariant.values()) {
+            if (!variant.webp() || cloudflareProperties.isAutoOptimize()) {
+                variants.put(variant.variantName(), url(imageId, variant));
+            }
+        }
+        return variants;
+    }
+
+    public void delete(String imageId) throws IOException {
+        if (!IMAGE_ID.matcher(imageId).matches()) {
+            return;
+        }
+        storage.delete(ORIGINALS + imageId);
+        diskCache.invalidatePrefix(imageId + "/");
+    }
+
+    /**
+     * Resolves a variant to a file on local disk, rendering it if needed.
+     *
+     * A variant already in the disk cache is served without asking storage
+     * about the original (an S3 HEAD per request otherwise). Deleting an image
+     * drops its variants on this node; other nodes keep serving theirs until
+     * evicted, which the year-long immutable Cache-Control allows anyway.
+     *
+     * @return empty if the image or variant does not exist
+     */
+    public Optional<DeliverableImage> resolve(String imageId, String variantName) throws IOException {
+        Optional<ImageVariant> variant = ImageVariant.fromName(variantName);
+        if (variant.isEmpty() || !IMAGE_ID.matcher(imageId).matches()) {
+            return Optional.empty();
+        }
+        String originalKey = ORIGINALS + imageId;
+        Optional<Path> localOriginal = storage.localPath(originalKey);
+        if (variant.get().isOriginal() && localOriginal.isPresent()) {
+            // Local backend: the stored file is served as is, and stat is a local lookup
+            return storage.stat(originalKey).map(stored -> new DeliverableImage(localOriginal.get(), stored.size(),
+                    stored.contentType(), stored.lastModified()));
+        }
+
+        String cacheKey = imageId + "/" + (variant.get().isOriginal() ? ORIGINAL_CACHE_KEY : variant.get().variantName());
+        Optional<VariantDiskCache.CachedFile> cached = diskCache.getIfPresent(cacheKey);
+        if (cached.isPresent()) {
+            return Optional.of(deliverable(cached.get()));
+        }
+
+        Optional<ImageStorage.StoredObject> original = storage.stat(originalKey);
+        if (original.isEmpty()) {
+            return Optional.empty();
+        }
+        ImageStorage.StoredObject stored = original.get();
+
+        Path source;
+        if (localOriginal.isPresent()) {
+            source = localOriginal.get();
+        } else {
+            VariantDiskCache.CachedFile downloaded = diskCache.get(imageId + "/" + ORIGINAL_CACHE_KEY,
+                    target -> download(originalKey, stored, target));
+            if (variant.get().isOriginal()) {
+                return Optional.of(deliverable(downloaded));
+            }
+            source = downloaded.path();
+        }
+
+        VariantDiskCache.CachedFile rendered = diskCache.get(cacheKey, target -> {
+            Optional<String> contentType = resizer.resize(source, variant.get(), target);
+            if (contentType.isPresent()) {
+                return contentType.get();
+            }
+            // Not decodable by ImageIO (e.g. animated or vector formats): serve the original
+            Files.copy(source, target, StandardCopyOption.REPLACE_EXISTING);
+            return stored.contentType();
+        });
+        return Optional.of(deliverable(rendered));
+    }
+
+    private static DeliverableImage deliverable(VariantDiskCache.CachedFile file) {
+        return new DeliverableImage(file.path(), file.size(), file.contentType(), file.lastModified());
+    }
+
+    private String download(String key, ImageStorage.StoredObject stored, Path target) throws IOException {
+        try (InputStream in = storage.open(key)) {
+            Files.copy(in, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+        return stored.contentType();
+    }
+
+    private String url(String imageId, ImageVariant variant) {
+        String base = storageProperties.getPublicBaseUrl().replaceAll("/+$", "");
+        return base + "/" + imageId + "/" + variant.variantName();
+    }
+
+    /**
+     * The uploaded bytes are not one of the formats images may be served as.
+     */
+    public static class UnsupportedImageFormatException extends IOException {
+        public UnsupportedImageFormatException(String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * A variant ready to be sent from local disk.
+     */
+    public record DeliverableImage(Path path, long size, String contentType, Instant lastModified) {
+
+        /**
+         * Strong validator: the variant name is part of the URL and files are
+         * only ever replaced, so size and mtime identify the content.
+         */
+        public String etag() {
+            return "\"" + Long.toHexString(size) + "-" + Long.toHexString(lastModified.toEpochMilli()) + "\"";
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.clinic.modules.core.image.storage;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Size-bounded disk cache of generated image variants (and of originals
+ * fetched from remote storage).
+ *
+ * The index is a Caffeine cache weighed by file size; evicting an entry
+ * deletes its file. Concurrent requests for a missing entry share a single
+ * render. Files left from a previous run are re-indexed at startup, so a
+ * restart does not re-render every variant.
+ *
+ * Every render is written to a temp file and renamed to a name of its own,
+ * {@code <key with '/' replaced by "__">~<nonce>.<ext>}, where the extension
+ * records the content type. A re-render after eviction therefore never
+ * touches the file of the entry it replaces, and the listener only deletes
+ * the file its entry wrote. Deletion waits {@link #DELETE_GRACE}: a request
+ * that resolved the entry just before eviction may not have opened the file
+ * yet (Tomcat's sendfile opens it after the servlet returns). Once opened,
+ * unlinking it does not disturb the reader.
+ *
+ * The directory is created by the first write.
+ */
+@Component
+public class VariantDiskCache {
+
+    private static final Logger log = LoggerFactory.getLogger(VariantDiskCache.class);
+
+    private static final Map<String, String> EXTENSIONS = Map.of(
+            "image/jpeg", "jpg",
+            "image/png", "png",
+            "image/webp", "webp",
+            "image/gif", "gif",
+            "image/avif", "avif",
+            "image/svg+xml", "svg");
+
+    static final Duration DELETE_GRACE = Duration.ofMinutes(1);
+
+    private static final char NONCE_SEPARATOR = '~';
+
+    private final Path directory;
+    private final Cache<String, CachedFile> files;
+
+    public VariantDiskCache(ImageStorageProperties properties) throws IOException {
+        this(Path.of(properties.getCache().getDirectory()), properties.getCache().getMaxSize().toBytes(),
+                ForkJoinPool.commonPool(), DELETE_GRACE);
+    }
+
+    VariantDiskCache(Path directory, long maxBytes, Executor executor, Duration deleteGrace) throws IOException {
+        this.directory = directory.toAbsolutePath().normalize();
+        Executor deleter = deleteGrace.isZero()
+                ? executor
+                : CompletableFuture.delayedExecutor(deleteGrace.toMillis(), TimeUnit.MILLISECONDS, executor);
+        this.files = Caffeine.newBuilder()
+                .executor(executor)
+                .maximumWeight(maxBytes)
+                .weigher((String key, CachedFile file) -> (int) Math.min(Integer.MAX_VALUE, Math.max(1, file.size())))
+                .removalListener((String key, CachedFile file, RemovalCause cause) -> {
+                    if (file != null) {
+                        deleter.execute(() -> deleteQuietly(file.path()));
+                    }
+                })
+                .recordStats()
+                .build();
+        if (Files.isDirectory(this.directory)) {
+            reindex();
+        }
+    }
+
+    /**
+     * Returns the cached file for the key, rendering it with {@code writer} on a miss.
+     */
+    public CachedFile get(String key, VariantWriter writer) throws IOException {
+        try {
+            return files.get(key, k -> {
+                try {
+                    return write(k, writer);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Returns the cached file for the key without rendering it.
+     */
+    public Optional<CachedFile> getIfPresent(String key) {
+        return Optional.ofNullable(files.getIfPresent(key));
+    }
+
+    /**
+     * Drops every entry whose key starts with the prefix, deleting the files.
+     */
+    public void invalidatePrefix(String prefix) {
+        files.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    long weightedSize() {
+        files.cleanUp();
+        return files.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0)).orElse(0L);
+    }
+
+    private CachedFile write(String key, VariantWriter writer) throws IOException {
+        String base = fileBaseName(key);
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, ".render-", ".tmp");
+        try {
+            String contentType = writer.write(temp);
+            String nonce = Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, 36);
+            Path target = directory.resolve(base + NONCE_SEPARATOR + nonce + "."
+                    + EXTENSIONS.getOrDefault(contentType, "bin"));
+            // No REPLACE_EXISTING: a name collision fails the render instead of overwriting another entry's file
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            return new CachedFile(target, Files.size(target), contentType,
+                    Files.getLastModifiedTime(target).toInstant());
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private void reindex() throws IOException {
+        try (Stream<Path> entries = Files.list(directory)) {
+            entries.filter(Files::isRegularFile).forEach(file -> {
+                String name = file.getFileName().toString();
+                int dot = name.lastIndexOf('.');
+                if (name.startsWith(".") || dot <= 0) {
+                    // Leftover temp file from an interrupted render
+                    deleteQuietly(file);
+                    return;
+                }
+                String extension = name.substring(dot + 1);
+                String contentType = EXTENSIONS.entrySet().stream()
+                        .filter(entry -> entry.getValue().equals(extension))
+                        .map(Map.Entry::getKey)
+                        .findFirst()
+                        .orElse("application/octet-stream");
+                String base = name.substring(0, dot);
+                int separator = base.lastIndexOf(NONCE_SEPARATOR);
+                // Files written before renders got their own names have no nonce
+                String key = (separator >= 0 ? base.substring(0, separator) : base).replace("__", "/");
+                try {
+                    CachedFile cached = new CachedFile(file, Files.size(file), contentType,
+                            Files.getLastModifiedTime(file).toInstant());
+                    // A file whose deletion was still pending at shutdown loses to the newer render
+                    CachedFile existing = files.getIfPresent(key);
+                    if (existing != null && !cached.lastModified().isAfter(existing.lastModified())) {
+                        deleteQuietly(file);
+                        return;
+                    }
+                    files.put(key, cached);
+                } catch (IOException e) {
+                    deleteQuietly(file);
+                }
+            });
+        }
+        log.info("Indexed {} cached image variants in {}", files.estimatedSize(), directory);
+    }
+
+    private static String fileBaseName(String key) {
+        ImageStorage.requireValidKey(key);
+        if (key.contains("__")) {
+            throw new IllegalArgumentException("Invalid cache key: " + key);
+        }
+        return key.replace("/", "__");
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete cached image {}: {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * Renders an entry into the given file and returns its content type.
+     */
+    @FunctionalInterface
+    public interface VariantWriter {
+        String write(Path target) throws IOException;
+    }
+
+    public record CachedFile(Path path, long size, String contentType, Instant lastModified) {}
+}
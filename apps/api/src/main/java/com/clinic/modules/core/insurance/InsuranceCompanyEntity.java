@@ -1,12 +1,19 @@
 package com.clinic.modules.core.insurance;
 
+import com.clinic.config.db.HibernateCacheRegions;
+import com.clinic.modules.core.cache.TenantContentChangeListener;
 import com.clinic.modules.core.tenant.TenantEntity;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.Instant;
 import java.util.Objects;
 
 @Entity
+@EntityListeners(TenantContentChangeListener.class)
 @Table(name = "insurance_companies")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheRegions.INSURANCE_COMPANY)
 public class InsuranceCompanyEntity {
 
     @Id
@@ -1,8 +1,12 @@
 package com.clinic.modules.core.insurance;
 
+import com.clinic.config.db.HibernateCacheRegions;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -15,8 +19,30 @@ public interface InsuranceCompanyRepository extends JpaRepository<InsuranceCompa
     /**
      * Find all insurance companies for a specific tenant
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = HibernateCacheRegions.REFERENCE_QUERIES)
+    })
     List<InsuranceCompanyEntity> findAllByTenantId(Long tenantId);
 
+    /**
+     * Keyset page of the tenant's insurance companies ordered by English name,
+     * starting after ({@code afterName}, {@code afterId}).
+     */
+    @Query("""
+            select new com.clinic.modules.core.insurance.InsuranceCompanyView(
+                i.id, i.nameEn, i.nameAr, i.logoUrl, i.websiteUrl, i.phone, i.email,
+                i.descriptionEn, i.descriptionAr, i.isActive, i.displayOrder, i.createdAt, i.updatedAt)
+            from InsuranceCompanyEntity i
+            where i.tenant.id = :tenantId
+              and (i.nameEn > :afterName or (i.nameEn = :afterName and i.id > :afterId))
+            order by i.nameEn asc, i.id asc
+            """)
+    List<InsuranceCompanyView> findViewPage(@Param("tenantId") Long tenantId,
+                                            @Param("afterName") String afterName,
+                                            @Param("afterId") long afterId,
+                                            Pageable pageable);
+
     /**
      * Find insurance company by ID and tenant ID
      */
@@ -36,6 +62,10 @@ public interface InsuranceCompanyRepository extends JpaRepository<InsuranceCompa
     /**
      * Find all active insurance companies for a tenant ordered by display order
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = HibernateCacheRegions.REFERENCE_QUERIES)
+    })
     List<InsuranceCompanyEntity> findByTenantIdAndIsActiveTrueOrderByDisplayOrderAsc(Long tenantId);
 
     /**
@@ -0,0 +1,23 @@
+package com.clinic.modules.core.insurance;
+
+import java.time.Instant;
+
+/**
+ * The insurance company columns shown in list views.
+ */
+public record InsuranceCompanyView(
+        Long id,
+        String nameEn,
+        String nameAr,
+        String logoUrl,
+        String websiteUrl,
+        String phone,
+        String email,
+        String descriptionEn,
+        String descriptionAr,
+        Boolean isActive,
+        Integer displayOrder,
+        Instant createdAt,
+        Instant updatedAt
+) {
+}
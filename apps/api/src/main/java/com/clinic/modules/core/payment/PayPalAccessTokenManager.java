@@ -0,0 +1,302 @@
+package com.clinic.modules.core.payment;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Caches PayPal OAuth access tokens for every PayPal call site.
+ *
+ * Tokens are keyed by client id and API base URL (which identifies the
+ * environment) and kept for PayPal's {@code expires_in}. Once 80% of the
+ * lifetime has passed, the next caller still gets the cached token while a
+ * refresh runs in the background. Concurrent fetches for the same key and
+ * secret are coalesced into one request to PayPal. A token PayPal rejects
+ * before it expires is replaced through {@link #replaceRejectedToken(String)},
+ * which {@link PayPalTokenRenewalInterceptor} calls on a 401.
+ */
+@Component
+public class PayPalAccessTokenManager implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(PayPalAccessTokenManager.class);
+
+    private static final String TOKEN_ENDPOINT = "/v1/oauth2/token";
+    private static final Duration DEFAULT_LIFETIME = Duration.ofHours(9);
+    private static final Duration MAX_EXPIRY_SKEW = Duration.ofMinutes(1);
+    private static final double REFRESH_AT_FRACTION = 0.8;
+    private static final Duration REFRESH_RETRY_DELAY = Duration.ofSeconds(30);
+
+    private final RestTemplate restTemplate;
+    private final Executor refreshExecutor;
+    private final Clock clock;
+    private final Map<TokenKey, CachedToken> tokens = new ConcurrentHashMap<>();
+    private final Map<FetchKey, CompletableFuture<CachedToken>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter cacheHits;
+    private final Counter cacheMisses;
+    private final Counter fetchSuccesses;
+    private final Counter fetchFailures;
+    private final Counter rejections;
+
+    @Autowired
+    public PayPalAccessTokenManager(@Qualifier("paypalRestTemplate") RestTemplate restTemplate,
+                                    MeterRegistry meterRegistry) {
+        this(restTemplate, meterRegistry, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "paypal-token-refresh");
+            thread.setDaemon(true);
+            return thread;
+        }), Clock.systemUTC());
+    }
+
+    PayPalAccessTokenManager(RestTemplate restTemplate, MeterRegistry meterRegistry,
+                             Executor refreshExecutor, Clock clock) {
+        this.restTemplate = restTemplate;
+        this.refreshExecutor = refreshExecutor;
+        this.clock = clock;
+        this.cacheHits = Counter.builder("paypal.access_token.lookups")
+                .tag("result", "hit")
+                .description("PayPal access token lookups served from cache")
+                .register(meterRegistry);
+        this.cacheMisses = Counter.builder("paypal.access_token.lookups")
+                .tag("result", "miss")
+                .description("PayPal access token lookups that had to wait for a fetch")
+                .register(meterRegistry);
+        this.fetchSuccesses = Counter.builder("paypal.access_token.fetches")
+                .tag("outcome", "success")
+                .description("Access tokens requested from PayPal")
+                .register(meterRegistry);
+        this.fetchFailures = Counter.builder("paypal.access_token.fetches")
+                .tag("outcome", "failure")
+                .description("Access tokens requested from PayPal")
+                .register(meterRegistry);
+        this.rejections = Counter.builder("paypal.access_token.rejections")
+                .description("Cached access tokens PayPal rejected before they expired")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns a valid access token for the given credentials.
+     *
+     * @param clientId PayPal client id
+     * @param clientSecret PayPal client secret
+     * @param baseUrl PayPal API base URL (sandbox or live)
+     * @return access token
+     * @throws IllegalStateException if no cached token is usable and PayPal refuses the credentials
+     */
+    public String getAccessToken(String clientId, String clientSecret, String baseUrl) {
+        TokenKey key = new TokenKey(clientId, baseUrl);
+        String fingerprint = fingerprint(clientSecret);
+        Instant now = clock.instant();
+
+        CachedToken cached = tokens.get(key);
+        if (cached != null && cached.secretFingerprint().equals(fingerprint) && now.isBefore(cached.expiresAt())) {
+            cacheHits.increment();
+            if (!now.isBefore(cached.refreshAt())) {
+                refresh(key, clientSecret, fingerprint, true);
+            }
+            return cached.token();
+        }
+
+        cacheMisses.increment();
+        return await(refresh(key, clientSecret, fingerprint, false));
+    }
+
+    /**
+     * Drops a cached token PayPal answered with 401, e.g. after the app's
+     * credentials were revoked and restored, and fetches a new one with the
+     * same credentials.
+     *
+     * @param rejectedToken the bearer token PayPal rejected
+     * @return the new access token, or null if the rejected token is no longer
+     *         cached because another caller already replaced it
+     * @throws IllegalStateException if PayPal refuses the credentials
+     */
+    public String replaceRejectedToken(String rejectedToken) {
+        for (Map.Entry<TokenKey, CachedToken> entry : tokens.entrySet()) {
+            CachedToken cached = entry.getValue();
+            if (cached.token().equals(rejectedToken) && tokens.remove(entry.getKey(), cached)) {
+                rejections.increment();
+                logger.warn("PayPal rejected the cached access token for client {}, fetching a new one",
+                        entry.getKey().clientId());
+                return await(refresh(entry.getKey(), cached.clientSecret(), cached.secretFingerprint(), false));
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void destroy() {
+        if (refreshExecutor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    private static String await(CompletableFuture<CachedToken> fetch) {
+        try {
+            return fetch.join().token();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IllegalStateException illegalState) {
+                throw illegalState;
+            }
+            throw new IllegalStateException("Failed to retrieve PayPal access token", e.getCause());
+        }
+    }
+
+    /**
+     * Starts a fetch for the key and secret unless one is already running, and
+     * returns the in-flight result. A caller with a rotated secret never joins
+     * a fetch made with the old one. Blocking callers fetch on their own thread;
+     * proactive refreshes run on the refresh executor.
+     */
+    private CompletableFuture<CachedToken> refresh(TokenKey key, String clientSecret, String fingerprint,
+                                                   boolean background) {
+        FetchKey fetchKey = new FetchKey(key, fingerprint);
+        CompletableFuture<CachedToken> created = new CompletableFuture<>();
+        CompletableFuture<CachedToken> existing = inFlight.putIfAbsent(fetchKey, created);
+        if (existing != null) {
+            return existing;
+        }
+
+        Runnable task = () -> {
+            try {
+                CachedToken token = fetch(key, clientSecret, fingerprint);
+                tokens.put(key, token);
+                created.complete(token);
+            } catch (Throwable e) {
+                // Errors too: callers joined on the future would otherwise wait forever
+                if (background && e instanceof RuntimeException) {
+                    logger.warn("Background refresh of PayPal access token failed for client {}: {}",
+                            key.clientId(), e.getMessage());
+                    // Keep serving the current token and retry later rather than on every call
+                    Instant retryAt = clock.instant().plus(REFRESH_RETRY_DELAY);
+                    tokens.computeIfPresent(key, (k, token) -> token.withRefreshAt(retryAt));
+                }
+                created.completeExceptionally(e);
+                if (e instanceof Error error) {
+                    throw error;
+                }
+            } finally {
+                inFlight.remove(fetchKey, created);
+            }
+        };
+
+        if (background) {
+            refreshExecutor.execute(task);
+        } else {
+            task.run();
+        }
+        return created;
+    }
+
+    private CachedToken fetch(TokenKey key, String clientSecret, String fingerprint) {
+        try {
+            String auth = key.clientId() + ":" + clientSecret;
+            String encodedAuth = Base64.getEncoder().encodeToString(auth.getBytes(StandardCharsets.UTF_8));
+
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
+            headers.set("Authorization", "Basic " + encodedAuth);
+
+            HttpEntity<String> request = new HttpEntity<>("grant_type=client_credentials", headers);
+
+            Instant requestedAt = clock.instant();
+            ResponseEntity<Map> response = restTemplate.exchange(
+                    key.baseUrl() + TOKEN_ENDPOINT,
+                    HttpMethod.POST,
+                    request,
+                    Map.class
+            );
+
+            Map<?, ?> body = response.getBody();
+            Object token = body != null ? body.get("access_token") : null;
+            if (response.getStatusCode() != HttpStatus.OK || !(token instanceof String accessToken) || accessToken.isBlank()) {
+                throw new IllegalStateException("PayPal returned no access token (status " + response.getStatusCode() + ")");
+            }
+
+            Duration lifetime = lifetimeOf(body.get("expires_in"));
+            Duration skew = lifetime.dividedBy(10).compareTo(MAX_EXPIRY_SKEW) < 0 ? lifetime.dividedBy(10) : MAX_EXPIRY_SKEW;
+            fetchSuccesses.increment();
+            logger.debug("Fetched PayPal access token for client {} valid for {}", key.clientId(), lifetime);
+            return new CachedToken(
+                    accessToken,
+                    clientSecret,
+                    fingerprint,
+                    requestedAt.plusMillis((long) (lifetime.toMillis() * REFRESH_AT_FRACTION)),
+                    requestedAt.plus(lifetime).minus(skew)
+            );
+        } catch (IllegalStateException e) {
+            fetchFailures.increment();
+            throw e;
+        } catch (RuntimeException e) {
+            fetchFailures.increment();
+            logger.error("Failed to get PayPal access token for client {}", key.clientId(), e);
+            throw new IllegalStateException("Failed to retrieve PayPal access token", e);
+        }
+    }
+
+    private static Duration lifetimeOf(Object expiresIn) {
+        if (expiresIn instanceof Number seconds && seconds.longValue() > 0) {
+            return Duration.ofSeconds(seconds.longValue());
+        }
+        if (expiresIn instanceof String text && !text.isBlank()) {
+            try {
+                return Duration.ofSeconds(Long.parseLong(text.trim()));
+            } catch (NumberFormatException ignored) {
+                // fall through to the default lifetime
+            }
+        }
+        return DEFAULT_LIFETIME;
+    }
+
+    private static String fingerprint(String secret) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(secret.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private record TokenKey(String clientId, String baseUrl) {}
+
+    private record FetchKey(TokenKey key, String secretFingerprint) {}
+
+    /**
+     * A cached token. The secret fingerprint makes a rotated secret miss the cache;
+     * the secret itself is kept so a rejected token can be replaced without the caller.
+     */
+    private record CachedToken(String token, String clientSecret, String secretFingerprint,
+                               Instant refreshAt, Instant expiresAt) {
+
+        CachedToken withRefreshAt(Instant newRefreshAt) {
+            return new CachedToken(token, clientSecret, secretFingerprint, newRefreshAt, expiresAt);
+        }
+    }
+}
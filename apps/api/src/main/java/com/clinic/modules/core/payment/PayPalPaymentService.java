@@ -14,8 +14,8 @@ import com.clinic.modules.core.patient.PatientEntity;
 import com.clinic.modules.core.patient.PatientRepository;
 import com.clinic.modules.core.service.ClinicServiceEntity;
 import com.clinic.modules.core.service.ClinicServiceRepository;
-import com.clinic.modules.core.settings.ClinicSettingsEntity;
-import com.clinic.modules.core.settings.ClinicSettingsRepository;
+import com.clinic.modules.core.settings.ClinicSettingsCache;
+import com.clinic.modules.core.settings.ClinicSettingsSnapshot;
 import com.clinic.modules.core.tenant.TenantContextHolder;
 import com.clinic.modules.core.tenant.TenantService;
 import org.slf4j.Logger;
@@ -43,7 +43,7 @@ public class PayPalPaymentService {
     private final PatientRepository patientRepository;
     private final DoctorRepository doctorRepository;
     private final ClinicServiceRepository serviceRepository;
-    private final ClinicSettingsRepository settingsRepository;
+    private final ClinicSettingsCache clinicSettingsCache;
     private final EmailService emailService;
     private final NotificationService notificationService;
     private final PayPalService payPalService;
@@ -56,7 +56,7 @@ public class PayPalPaymentService {
                          PatientRepository patientRepository,
                          DoctorRepository doctorRepository,
                          ClinicServiceRepository serviceRepository,
-                         ClinicSettingsRepository settingsRepository,
+                         ClinicSettingsCache clinicSettingsCache,
                          EmailService emailService,
                          NotificationService notificationService,
                          PayPalService payPalService,
@@ -67,7 +67,7 @@ public class PayPalPaymentService {
         this.patientRepository = patientRepository;
         this.doctorRepository = doctorRepository;
         this.serviceRepository = serviceRepository;
-        this.settingsRepository = settingsRepository;
+        this.clinicSettingsCache = clinicSettingsCache;
         this.emailService = emailService;
         this.notificationService = notificationService;
         this.payPalService = payPalService;
@@ -88,9 +88,9 @@ public class PayPalPaymentService {
             ClinicServiceEntity service = requireServiceForTenant(serviceId);
 
             // Get clinic settings for fee
-            ClinicSettingsEntity settings = requireSettings();
+            ClinicSettingsSnapshot settings = requireSettings();
 
-            BigDecimal fee = settings.getVirtualConsultationFee();
+            BigDecimal fee = settings.virtualConsultationFee();
             if (fee == null || fee.compareTo(BigDecimal.ZERO) <= 0) {
                 throw new IllegalArgumentException("Virtual consultation fee not configured");
             }
@@ -235,12 +235,12 @@ public class PayPalPaymentService {
             ClinicServiceEntity service = resolveDefaultServiceForTenant();
 
             // Determine slot duration and meeting link from clinic settings
-            ClinicSettingsEntity settings = requireSettings();
-            int slotDurationMinutes = settings.getSlotDurationMinutes() != null
-                    ? settings.getSlotDurationMinutes()
+            ClinicSettingsSnapshot settings = requireSettings();
+            int slotDurationMinutes = settings.slotDurationMinutes() != null
+                    ? settings.slotDurationMinutes()
                     : 30;
-            String meetingLink = StringUtils.hasText(settings.getVirtualConsultationMeetingLink())
-                    ? settings.getVirtualConsultationMeetingLink()
+            String meetingLink = StringUtils.hasText(settings.virtualConsultationMeetingLink())
+                    ? settings.virtualConsultationMeetingLink()
                     : null;
 
             // Create appointment
@@ -282,9 +282,9 @@ public class PayPalPaymentService {
         }
     }
 
-    private ClinicSettingsEntity requireSettings() {
+    private ClinicSettingsSnapshot requireSettings() {
         Long tenantId = tenantContextHolder.requireTenantId();
-        return settingsRepository.findByTenantId(tenantId)
+        return clinicSettingsCache.get(tenantId)
                 .orElseThrow(() -> new IllegalStateException("Clinic settings not configured for tenant " + tenantId));
     }
 
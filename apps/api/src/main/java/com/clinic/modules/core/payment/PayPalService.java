@@ -1,19 +1,19 @@
 package com.clinic.modules.core.payment;
 
 import com.clinic.config.PayPalConfig;
-import com.clinic.modules.core.settings.ClinicSettingsRepository;
+import com.clinic.modules.core.settings.ClinicSettingsCache;
 import com.clinic.modules.core.tenant.TenantContextHolder;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
 import java.math.BigDecimal;
-import java.util.Base64;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -27,20 +27,23 @@ public class PayPalService {
     private final PayPalConfig payPalConfig;
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
-    private final ClinicSettingsRepository settingsRepository;
+    private final ClinicSettingsCache clinicSettingsCache;
     private final TenantContextHolder tenantContextHolder;
+    private final PayPalAccessTokenManager accessTokenManager;
 
     @Autowired
     public PayPalService(PayPalConfig payPalConfig,
-                         RestTemplate paypalRestTemplate,
+                         @Qualifier("paypalRestTemplate") RestTemplate paypalRestTemplate,
                          ObjectMapper objectMapper,
-                         ClinicSettingsRepository settingsRepository,
-                         TenantContextHolder tenantContextHolder) {
+                         ClinicSettingsCache clinicSettingsCache,
+                         TenantContextHolder tenantContextHolder,
+                         PayPalAccessTokenManager accessTokenManager) {
         this.payPalConfig = payPalConfig;
         this.restTemplate = paypalRestTemplate;
         this.objectMapper = objectMapper;
-        this.settingsRepository = settingsRepository;
+        this.clinicSettingsCache = clinicSettingsCache;
         this.tenantContextHolder = tenantContextHolder;
+        this.accessTokenManager = accessTokenManager;
     }
 
     public String createOrder(BigDecimal amount, String currency, Map<String, Object> metadata) {
@@ -169,34 +172,7 @@ public class PayPalService {
     }
 
     private String getAccessToken(PayPalCredentials credentials, String baseUrl) {
-        try {
-            String auth = credentials.clientId() + ":" + credentials.clientSecret();
-            String encodedAuth = Base64.getEncoder().encodeToString(auth.getBytes());
-            
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
-            headers.set("Authorization", "Basic " + encodedAuth);
-            
-            String body = "grant_type=client_credentials";
-            HttpEntity<String> entity = new HttpEntity<>(body, headers);
-            
-            ResponseEntity<String> response = restTemplate.postForEntity(
-                baseUrl + "/v1/oauth2/token",
-                entity,
-                String.class
-            );
-            
-            if (response.getStatusCode() == HttpStatus.OK) {
-                JsonNode responseJson = objectMapper.readTree(response.getBody());
-                return responseJson.get("access_token").asText();
-            } else {
-                throw new RuntimeException("Failed to get PayPal access token");
-            }
-            
-        } catch (Exception e) {
-            logger.error("Error getting PayPal access token", e);
-            throw new RuntimeException("Failed to get PayPal access token: " + e.getMessage());
-        }
+        return accessTokenManager.getAccessToken(credentials.clientId(), credentials.clientSecret(), baseUrl);
     }
 
     private Map<String, Object> createOrderRequest(BigDecimal amount, String currency, Map<String, Object> metadata) {
@@ -237,12 +213,12 @@ public class PayPalService {
 
     private PayPalCredentials resolveCredentials() {
         Long tenantId = tenantContextHolder.requireTenantId();
-        var settingsOpt = settingsRepository.findByTenantId(tenantId);
+        var settingsOpt = clinicSettingsCache.get(tenantId);
         if (settingsOpt.isPresent()) {
             var settings = settingsOpt.get();
-            String dbClientId = settings.getPaypalClientId();
-            String dbClientSecret = settings.getPaypalClientSecret();
-            String dbEnvironment = settings.getPaypalEnvironment();
+            String dbClientId = settings.paypalClientId();
+            String dbClientSecret = settings.paypalClientSecret();
+            String dbEnvironment = settings.paypalEnvironment();
 
             if (StringUtils.hasText(dbClientId) && StringUtils.hasText(dbClientSecret)) {
                 String environment = StringUtils.hasText(dbEnvironment) ? dbEnvironment : payPalConfig.getEnvironment();
@@ -0,0 +1,71 @@
+package com.clinic.modules.core.payment;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.support.HttpRequestWrapper;
+
+import java.io.IOException;
+import java.util.function.Supplier;
+
+/**
+ * PayPal RestTemplate interceptor that retries a call once when PayPal rejects
+ * its bearer token with 401.
+ *
+ * Cached tokens can be revoked before {@code expires_in} runs out. The
+ * rejected token is handed to {@link PayPalAccessTokenManager}, and the call is
+ * repeated with the replacement, so every PayPal call site recovers without
+ * handling 401 itself. Token requests use basic auth and are left alone. When
+ * no replacement is available the original 401 is returned.
+ */
+public class PayPalTokenRenewalInterceptor implements ClientHttpRequestInterceptor {
+
+    private static final Logger logger = LoggerFactory.getLogger(PayPalTokenRenewalInterceptor.class);
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    // Resolved per call: the token manager itself uses the PayPal RestTemplate
+    private final Supplier<PayPalAccessTokenManager> accessTokenManager;
+
+    public PayPalTokenRenewalInterceptor(Supplier<PayPalAccessTokenManager> accessTokenManager) {
+        this.accessTokenManager = accessTokenManager;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        ClientHttpResponse response = execution.execute(request, body);
+        String authorization = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (response.getStatusCode().value() != HttpStatus.UNAUTHORIZED.value()
+                || authorization == null || !authorization.startsWith(BEARER_PREFIX)) {
+            return response;
+        }
+
+        String replacement;
+        try {
+            replacement = accessTokenManager.get().replaceRejectedToken(authorization.substring(BEARER_PREFIX.length()));
+        } catch (IllegalStateException e) {
+            logger.warn("Could not replace rejected PayPal access token: {}", e.getMessage());
+            return response;
+        }
+        if (replacement == null) {
+            return response;
+        }
+
+        response.close();
+        HttpHeaders headers = new HttpHeaders();
+        headers.putAll(request.getHeaders());
+        headers.setBearerAuth(replacement);
+        return execution.execute(new HttpRequestWrapper(request) {
+            @Override
+            public HttpHeaders getHeaders() {
+                return headers;
+            }
+        }, body);
+    }
+}
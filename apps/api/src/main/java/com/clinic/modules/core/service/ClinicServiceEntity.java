@@ -1,8 +1,12 @@
 package com.clinic.modules.core.service;
 
+import com.clinic.config.db.HibernateCacheRegions;
+import com.clinic.modules.core.cache.TenantContentChangeListener;
 import com.clinic.modules.core.doctor.DoctorEntity;
 import com.clinic.modules.core.tenant.TenantEntity;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.Instant;
 import java.util.HashSet;
@@ -10,7 +14,10 @@ import java.util.Objects;
 import java.util.Set;
 
 @Entity
+@EntityListeners(TenantContentChangeListener.class)
 @Table(name = "services")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheRegions.SERVICE)
 public class ClinicServiceEntity {
 
     @Id
@@ -1,8 +1,12 @@
 package com.clinic.modules.core.service;
 
+import com.clinic.config.db.HibernateCacheRegions;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.util.Collection;
@@ -11,10 +15,22 @@ import java.util.Optional;
 
 public interface ClinicServiceRepository extends JpaRepository<ClinicServiceEntity, Long> {
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = HibernateCacheRegions.REFERENCE_QUERIES)
+    })
     Optional<ClinicServiceEntity> findBySlugAndTenantId(String slug, Long tenantId);
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = HibernateCacheRegions.REFERENCE_QUERIES)
+    })
     Optional<ClinicServiceEntity> findByIdAndTenantId(Long id, Long tenantId);
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = HibernateCacheRegions.REFERENCE_QUERIES)
+    })
     List<ClinicServiceEntity> findByTenantIdOrderByNameEnAsc(Long tenantId);
 
     Optional<ClinicServiceEntity> findFirstByTenantIdOrderByCreatedAtAsc(Long tenantId);
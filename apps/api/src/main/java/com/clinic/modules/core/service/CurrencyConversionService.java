@@ -1,70 +1,120 @@
 package com.clinic.modules.core.service;
 
+import com.clinic.modules.core.settings.ClinicSettingsCache;
 import com.clinic.modules.core.settings.ClinicSettingsEntity;
 import com.clinic.modules.core.settings.ClinicSettingsRepository;
+import com.clinic.modules.core.settings.ClinicSettingsSnapshot;
 import com.clinic.modules.core.tenant.TenantContextHolder;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.Collection;
 import java.util.Map;
+import java.util.function.Function;
 
 /**
  * Service for converting between currencies using exchange rates.
  * Rates are stored relative to USD as the base currency.
+ *
+ * Each tenant's rates are compiled into an {@link FxRateTable} once per
+ * settings snapshot. The table is rebuilt when {@link ClinicSettingsCache}
+ * hands out a new snapshot, which happens after any settings write, so callers
+ * converting many amounts should fetch the table once with
+ * {@link #getRateTable()} and convert against it.
  */
 @Service
 public class CurrencyConversionService {
 
     private final ClinicSettingsRepository clinicSettingsRepository;
+    private final ClinicSettingsCache clinicSettingsCache;
     private final TenantContextHolder tenantContextHolder;
+    private final Cache<Long, CompiledRates> rateTables = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .build();
 
     public CurrencyConversionService(ClinicSettingsRepository clinicSettingsRepository,
+                                     ClinicSettingsCache clinicSettingsCache,
                                      TenantContextHolder tenantContextHolder) {
         this.clinicSettingsRepository = clinicSettingsRepository;
+        this.clinicSettingsCache = clinicSettingsCache;
         this.tenantContextHolder = tenantContextHolder;
     }
 
     public BigDecimal convert(BigDecimal amount, String fromCurrency, String toCurrency) {
-        if (amount == null || amount.compareTo(BigDecimal.ZERO) == 0) {
+        if (amount == null || amount.signum() == 0) {
             return BigDecimal.ZERO;
         }
         if (fromCurrency.equalsIgnoreCase(toCurrency)) {
-            return amount.setScale(2, RoundingMode.HALF_UP);
+            return amount.setScale(FxRateTable.AMOUNT_SCALE, RoundingMode.HALF_UP);
         }
+        return getRateTable().convert(amount, fromCurrency, toCurrency);
+    }
 
-        Map<String, BigDecimal> rates = getExchangeRates();
-        BigDecimal fromRate = rates.getOrDefault(fromCurrency, BigDecimal.ONE);
-        BigDecimal toRate = rates.getOrDefault(toCurrency, BigDecimal.ONE);
+    /**
+     * Sum of many amounts converted to {@code toCurrency}, resolving the rate
+     * table once.
+     */
+    public <T> BigDecimal convertAll(Collection<? extends T> items,
+                                     Function<? super T, BigDecimal> amount,
+                                     Function<? super T, String> currency,
+                                     String toCurrency) {
+        if (items.isEmpty()) {
+            return BigDecimal.ZERO;
+        }
+        return getRateTable().convertAll(items, amount, currency, toCurrency);
+    }
 
-        BigDecimal converted = amount
-                .multiply(fromRate)
-                .divide(toRate, 4, RoundingMode.HALF_UP);
-        return converted.setScale(2, RoundingMode.HALF_UP);
+    /**
+     * The current tenant's compiled rate table.
+     */
+    public FxRateTable getRateTable() {
+        ClinicSettingsSnapshot snapshot = requireSnapshot();
+        CompiledRates cached = rateTables.getIfPresent(snapshot.tenantId());
+        if (cached != null && cached.source() == snapshot) {
+            return cached.table();
+        }
+        FxRateTable table = FxRateTable.of(ratesOf(snapshot));
+        rateTables.put(snapshot.tenantId(), new CompiledRates(snapshot, table));
+        return table;
     }
 
     public String getClinicCurrency() {
-        return requireSettings().getCurrency();
+        return requireSnapshot().currency();
     }
 
     public Map<String, BigDecimal> getExchangeRates() {
-        Map<String, BigDecimal> rates = requireSettings().getExchangeRates();
-        if (rates == null || rates.isEmpty()) {
-            return getDefaultRates();
-        }
-        return rates;
+        return ratesOf(requireSnapshot());
     }
 
     public void updateExchangeRates(Map<String, BigDecimal> rates) {
         ClinicSettingsEntity settings = requireSettings();
         settings.setExchangeRates(rates);
         clinicSettingsRepository.save(settings);
+        // The settings listener evicts the snapshot after commit; drop the table now
+        rateTables.invalidate(settings.getTenant().getId());
     }
 
     public BigDecimal getRate(String currencyCode) {
-        return getExchangeRates().getOrDefault(currencyCode, BigDecimal.ONE);
+        return getRateTable().getRate(currencyCode);
+    }
+
+    private Map<String, BigDecimal> ratesOf(ClinicSettingsSnapshot snapshot) {
+        Map<String, BigDecimal> rates = snapshot.exchangeRates();
+        if (rates == null || rates.isEmpty()) {
+            return getDefaultRates();
+        }
+        return rates;
+    }
+
+    private ClinicSettingsSnapshot requireSnapshot() {
+        Long tenantId = tenantContextHolder.requireTenantId();
+        return clinicSettingsCache.get(tenantId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Clinic settings not configured"));
     }
 
     private ClinicSettingsEntity requireSettings() {
@@ -86,4 +136,11 @@ public class CurrencyConversionService {
                 "GBP", new BigDecimal("1.267")
         );
     }
+
+    /**
+     * A rate table together with the snapshot it was built from; reused only
+     * while the settings cache keeps returning that same snapshot instance.
+     */
+    private record CompiledRates(ClinicSettingsSnapshot source, FxRateTable table) {
+    }
 }
@@ -0,0 +1,100 @@
+package com.clinic.modules.core.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Immutable table of exchange rates for one tenant.
+ *
+ * Rates are given relative to USD; the cross rate for every pair of known
+ * currencies is computed once at {@link #CROSS_RATE_SCALE} decimal places, so
+ * a conversion is one map lookup and one multiplication. Currencies without a
+ * rate are treated as worth one USD, as before.
+ */
+public final class FxRateTable {
+
+    /** Decimal places kept for precomputed cross rates. */
+    public static final int CROSS_RATE_SCALE = 10;
+
+    /** Decimal places of converted amounts. */
+    public static final int AMOUNT_SCALE = 2;
+
+    private final Map<String, BigDecimal> usdRates;
+    private final Map<String, Map<String, BigDecimal>> crossRates;
+
+    private FxRateTable(Map<String, BigDecimal> usdRates) {
+        this.usdRates = Map.copyOf(usdRates);
+        Map<String, Map<String, BigDecimal>> cross = new HashMap<>();
+        this.usdRates.forEach((from, fromRate) -> {
+            Map<String, BigDecimal> row = new HashMap<>();
+            this.usdRates.forEach((to, toRate) -> row.put(to, crossRate(fromRate, toRate)));
+            cross.put(from, Map.copyOf(row));
+        });
+        this.crossRates = Map.copyOf(cross);
+    }
+
+    /**
+     * Builds a table from rates relative to USD. Null entries are skipped.
+     */
+    public static FxRateTable of(Map<String, BigDecimal> usdRates) {
+        Map<String, BigDecimal> rates = new HashMap<>();
+        usdRates.forEach((currency, rate) -> {
+            if (currency != null && rate != null && rate.signum() > 0) {
+                rates.put(currency, rate);
+            }
+        });
+        return new FxRateTable(rates);
+    }
+
+    public BigDecimal convert(BigDecimal amount, String fromCurrency, String toCurrency) {
+        if (amount == null || amount.signum() == 0) {
+            return BigDecimal.ZERO;
+        }
+        if (fromCurrency.equalsIgnoreCase(toCurrency)) {
+            return amount.setScale(AMOUNT_SCALE, RoundingMode.HALF_UP);
+        }
+        return amount.multiply(crossRate(fromCurrency, toCurrency))
+                .setScale(AMOUNT_SCALE, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Sum of the items' amounts converted to {@code toCurrency}. Each amount is
+     * rounded as {@link #convert} would before adding, so the result equals
+     * summing individual conversions.
+     */
+    public <T> BigDecimal convertAll(Collection<? extends T> items,
+                                     Function<? super T, BigDecimal> amount,
+                                     Function<? super T, String> currency,
+                                     String toCurrency) {
+        BigDecimal total = BigDecimal.ZERO;
+        for (T item : items) {
+            total = total.add(convert(amount.apply(item), currency.apply(item), toCurrency));
+        }
+        return total;
+    }
+
+    public BigDecimal crossRate(String fromCurrency, String toCurrency) {
+        Map<String, BigDecimal> row = crossRates.get(fromCurrency);
+        BigDecimal rate = row != null ? row.get(toCurrency) : null;
+        if (rate != null) {
+            return rate;
+        }
+        return crossRate(getRate(fromCurrency), getRate(toCurrency));
+    }
+
+    public BigDecimal getRate(String currencyCode) {
+        return usdRates.getOrDefault(currencyCode, BigDecimal.ONE);
+    }
+
+    public Map<String, BigDecimal> getRates() {
+        return usdRates;
+    }
+
+    private static BigDecimal crossRate(BigDecimal fromRate, BigDecimal toRate) {
+        return fromRate.divide(toRate, CROSS_RATE_SCALE, RoundingMode.HALF_UP);
+    }
+}
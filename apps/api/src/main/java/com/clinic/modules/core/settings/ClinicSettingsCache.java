@@ -0,0 +1,119 @@
+package com.clinic.modules.core.settings;
+
+import com.clinic.modules.core.cache.PendingTenantInvalidations;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Per-tenant cache of {@link ClinicSettingsSnapshot}s.
+ *
+ * Writes on this node evict the tenant's snapshot once the transaction ends
+ * (see {@link ClinicSettingsChangeListener}). Other nodes pick up the change
+ * by polling for rows whose settings_version is above the last version they
+ * saw; the column is bumped by a database trigger on every update, so no
+ * message broker is needed. The TTL is a backstop for anything the poll misses,
+ * such as deleted rows.
+ */
+@Component
+public class ClinicSettingsCache {
+
+    private static final Logger log = LoggerFactory.getLogger(ClinicSettingsCache.class);
+
+    private final ClinicSettingsRepository clinicSettingsRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final Cache<Long, Optional<ClinicSettingsSnapshot>> snapshots;
+    private final PendingTenantInvalidations pendingInvalidations =
+            new PendingTenantInvalidations(PendingTenantInvalidations.Phase.COMPLETION, this::invalidate);
+
+    /**
+     * Versions up to this value were seen two polls ago. Polling from here rather
+     * than from the latest version also catches updates that took a lower version
+     * but committed after the previous poll ran.
+     */
+    private volatile long pollFrom = -1;
+    private volatile long lastSeenVersion = -1;
+
+    public ClinicSettingsCache(ClinicSettingsRepository clinicSettingsRepository,
+                               JdbcTemplate jdbcTemplate,
+                               @Value("${clinic.settings-cache.ttl:PT10M}") Duration ttl,
+                               @Value("${clinic.settings-cache.size:10000}") long maximumSize) {
+        this.clinicSettingsRepository = clinicSettingsRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.snapshots = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Returns the tenant's settings snapshot, loading it on first use.
+     */
+    public Optional<ClinicSettingsSnapshot> get(Long tenantId) {
+        if (tenantId == null) {
+            return Optional.empty();
+        }
+        return snapshots.get(tenantId, id -> clinicSettingsRepository.findByTenantId(id)
+                .map(ClinicSettingsSnapshot::from));
+    }
+
+    /**
+     * Evicts the tenant's snapshot when the current transaction completes, or
+     * immediately when there is no transaction. Eviction happens on rollback
+     * too, since a snapshot may have been loaded from uncommitted changes.
+     */
+    public void invalidateAfterCompletion(Long tenantId) {
+        pendingInvalidations.add(tenantId);
+    }
+
+    public void invalidate(Long tenantId) {
+        snapshots.invalidate(tenantId);
+    }
+
+    /**
+     * Evicts snapshots that are older than the row in the database.
+     */
+    @Scheduled(fixedDelayString = "${clinic.settings-cache.poll-interval:PT5S}")
+    public void pollForChanges() {
+        try {
+            if (pollFrom < 0) {
+                Long max = jdbcTemplate.queryForObject(
+                        "SELECT COALESCE(MAX(settings_version), 0) FROM clinic_settings", Long.class);
+                pollFrom = max != null ? max : 0;
+                lastSeenVersion = pollFrom;
+                return;
+            }
+
+            List<VersionRow> changed = jdbcTemplate.query(
+                    "SELECT tenant_id, settings_version FROM clinic_settings WHERE settings_version > ?",
+                    (rs, rowNum) -> new VersionRow(rs.getLong("tenant_id"), rs.getLong("settings_version")),
+                    pollFrom);
+
+            long maxSeen = lastSeenVersion;
+            for (VersionRow row : changed) {
+                maxSeen = Math.max(maxSeen, row.version());
+                Optional<ClinicSettingsSnapshot> cached = snapshots.getIfPresent(row.tenantId());
+                if (cached != null && cached.map(snapshot -> snapshot.version() < row.version()).orElse(true)) {
+                    snapshots.invalidate(row.tenantId());
+                    log.debug("Evicted stale settings snapshot for tenant {} (version {})", row.tenantId(), row.version());
+                }
+            }
+            pollFrom = lastSeenVersion;
+            lastSeenVersion = maxSeen;
+        } catch (RuntimeException e) {
+            log.warn("Polling clinic settings versions failed: {}", e.getMessage());
+        }
+    }
+
+    record VersionRow(Long tenantId, long version) {}
+}
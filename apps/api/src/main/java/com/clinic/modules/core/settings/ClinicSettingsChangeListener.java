@@ -0,0 +1,29 @@
+package com.clinic.modules.core.settings;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA entity listener that evicts cached settings snapshots on every write to
+ * clinic settings, whichever service made it.
+ */
+@Component
+public class ClinicSettingsChangeListener {
+
+    private final ClinicSettingsCache clinicSettingsCache;
+
+    public ClinicSettingsChangeListener(ClinicSettingsCache clinicSettingsCache) {
+        this.clinicSettingsCache = clinicSettingsCache;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onSettingsChange(ClinicSettingsEntity settings) {
+        if (settings.getTenant() != null) {
+            clinicSettingsCache.invalidateAfterCompletion(settings.getTenant().getId());
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.clinic.modules.core.settings;
 
+import com.clinic.modules.core.cache.TenantContentChangeListener;
 import com.clinic.modules.core.tenant.TenantEntity;
 import jakarta.persistence.*;
 import org.hibernate.annotations.JdbcTypeCode;
@@ -14,6 +15,7 @@ import java.util.Map;
 
 @Entity
 @Table(name = "clinic_settings")
+@EntityListeners({ClinicSettingsChangeListener.class, TenantContentChangeListener.class})
 public class ClinicSettingsEntity {
 
     @Id
@@ -180,6 +182,10 @@ public class ClinicSettingsEntity {
     @Column(name = "updated_at")
     private Instant updatedAt;
 
+    // Maintained by a database trigger; see ClinicSettingsCache
+    @Column(name = "settings_version", insertable = false, updatable = false)
+    private Long settingsVersion;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private Instant createdAt;
 
@@ -212,6 +218,10 @@ public class ClinicSettingsEntity {
         return id;
     }
 
+    public Long getSettingsVersion() {
+        return settingsVersion;
+    }
+
     public TenantEntity getTenant() {
         return tenant;
     }
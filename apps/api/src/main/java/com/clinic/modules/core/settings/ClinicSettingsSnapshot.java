@@ -0,0 +1,158 @@
+package com.clinic.modules.core.settings;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable copy of a tenant's clinic settings, served from {@link ClinicSettingsCache}.
+ *
+ * {@code version} is the row's settings_version at load time; it changes on every
+ * update and is used to detect stale snapshots on other nodes.
+ */
+public record ClinicSettingsSnapshot(
+        Long id,
+        Long tenantId,
+        long version,
+        String clinicName,
+        String phone,
+        String email,
+        String address,
+        String city,
+        String state,
+        String zipCode,
+        String country,
+        String currency,
+        String locale,
+        String mondayHours,
+        String tuesdayHours,
+        String wednesdayHours,
+        String thursdayHours,
+        String fridayHours,
+        String saturdayHours,
+        String sundayHours,
+        String facebookUrl,
+        String instagramUrl,
+        String twitterUrl,
+        String linkedinUrl,
+        String logoUrl,
+        String logoImageId,
+        String faviconUrl,
+        String faviconImageId,
+        BigDecimal virtualConsultationFee,
+        Integer slotDurationMinutes,
+        String virtualConsultationMeetingLink,
+        Map<String, BigDecimal> exchangeRates,
+        String timezone,
+        String sendgridApiKey,
+        String emailFrom,
+        String emailFromName,
+        Boolean emailEnabled,
+        Boolean reminderEnabled,
+        Integer reminderHoursBefore,
+        String paypalClientId,
+        String paypalClientSecret,
+        String paypalEnvironment,
+        String heroMediaType,
+        String heroImageUrl,
+        String heroVideoId,
+        String whyChooseTitleEn,
+        String whyChooseTitleAr,
+        String whyChooseSubtitleEn,
+        String whyChooseSubtitleAr,
+        List<WhyChooseFeature> whyChooseFeatures,
+        Instant updatedAt
+) {
+
+    public static ClinicSettingsSnapshot from(ClinicSettingsEntity entity) {
+        return new ClinicSettingsSnapshot(
+                entity.getId(),
+                entity.getTenant().getId(),
+                entity.getSettingsVersion() != null ? entity.getSettingsVersion() : 0L,
+                entity.getClinicName(),
+                entity.getPhone(),
+                entity.getEmail(),
+                entity.getAddress(),
+                entity.getCity(),
+                entity.getState(),
+                entity.getZipCode(),
+                entity.getCountry(),
+                entity.getCurrency(),
+                entity.getLocale(),
+                entity.getMondayHours(),
+                entity.getTuesdayHours(),
+                entity.getWednesdayHours(),
+                entity.getThursdayHours(),
+                entity.getFridayHours(),
+                entity.getSaturdayHours(),
+                entity.getSundayHours(),
+                entity.getFacebookUrl(),
+                entity.getInstagramUrl(),
+                entity.getTwitterUrl(),
+                entity.getLinkedinUrl(),
+                entity.getLogoUrl(),
+                entity.getLogoImageId(),
+                entity.getFaviconUrl(),
+                entity.getFaviconImageId(),
+                entity.getVirtualConsultationFee(),
+                entity.getSlotDurationMinutes(),
+                entity.getVirtualConsultationMeetingLink(),
+                copyRates(entity.getExchangeRates()),
+                entity.getTimezone(),
+                entity.getSendgridApiKey(),
+                entity.getEmailFrom(),
+                entity.getEmailFromName(),
+                entity.getEmailEnabled(),
+                entity.getReminderEnabled(),
+                entity.getReminderHoursBefore(),
+                entity.getPaypalClientId(),
+                entity.getPaypalClientSecret(),
+                entity.getPaypalEnvironment(),
+                entity.getHeroMediaType(),
+                entity.getHeroImageUrl(),
+                entity.getHeroVideoId(),
+                entity.getWhyChooseTitleEn(),
+                entity.getWhyChooseTitleAr(),
+                entity.getWhyChooseSubtitleEn(),
+                entity.getWhyChooseSubtitleAr(),
+                copyFeatures(entity.getWhyChooseFeatures()),
+                entity.getUpdatedAt()
+        );
+    }
+
+    private static Map<String, BigDecimal> copyRates(Map<String, BigDecimal> rates) {
+        if (rates == null || rates.isEmpty()) {
+            return Map.of();
+        }
+        return Collections.unmodifiableMap(new LinkedHashMap<>(rates));
+    }
+
+    private static List<WhyChooseFeature> copyFeatures(List<ClinicSettingsEntity.WhyChooseFeatureConfig> features) {
+        if (features == null) {
+            return List.of();
+        }
+        return features.stream()
+                .map(feature -> new WhyChooseFeature(
+                        feature.getKey(),
+                        feature.getIcon(),
+                        feature.getTitleEn(),
+                        feature.getTitleAr(),
+                        feature.getDescriptionEn(),
+                        feature.getDescriptionAr()
+                ))
+                .toList();
+    }
+
+    public record WhyChooseFeature(
+            String key,
+            String icon,
+            String titleEn,
+            String titleAr,
+            String descriptionEn,
+            String descriptionAr
+    ) {
+    }
+}
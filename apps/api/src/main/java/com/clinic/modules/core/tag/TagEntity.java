@@ -1,7 +1,10 @@
 package com.clinic.modules.core.tag;
 
+import com.clinic.config.db.HibernateCacheRegions;
 import com.clinic.modules.core.tenant.TenantEntity;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.Where;
 
@@ -12,6 +15,8 @@ import java.util.Objects;
 @Table(name = "tags")
 @SQLDelete(sql = "UPDATE tags SET deleted_at = NOW() WHERE id = ?")
 @Where(clause = "deleted_at IS NULL")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheRegions.TAG)
 public class TagEntity {
 
     @Id
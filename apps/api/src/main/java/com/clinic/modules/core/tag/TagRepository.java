@@ -1,7 +1,11 @@
 package com.clinic.modules.core.tag;
 
+import com.clinic.config.db.HibernateCacheRegions;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -16,5 +20,9 @@ public interface TagRepository extends JpaRepository<TagEntity, Long> {
     @Query("SELECT t FROM TagEntity t WHERE t.tenant.id = :tenantId AND lower(t.name) LIKE lower(concat('%', :search, '%')) ORDER BY t.name ASC")
     List<TagEntity> searchByTenantIdAndName(Long tenantId, String search);
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = HibernateCacheRegions.REFERENCE_QUERIES)
+    })
     List<TagEntity> findAllByTenantIdOrderByNameAsc(Long tenantId);
 }
@@ -4,6 +4,8 @@ import com.clinic.config.TenantProperties;
 import org.springframework.stereotype.Component;
 import org.springframework.util.Assert;
 
+import java.util.Optional;
+
 @Component
 public class TenantContextHolder {
 
@@ -32,6 +34,14 @@ public class TenantContextHolder {
         return context;
     }
 
+    /**
+     * The tenant bound to the current thread, without falling back to the
+     * default tenant.
+     */
+    public Optional<TenantContext> findTenant() {
+        return Optional.ofNullable(CONTEXT.get());
+    }
+
     public Long requireTenantId() {
         return getTenant().tenantId();
     }
@@ -1,11 +1,18 @@
 package com.clinic.modules.core.tenant;
 
+import com.clinic.config.db.HibernateCacheRegions;
+import com.clinic.modules.core.cache.TenantContentChangeListener;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.Instant;
 
 @Entity
+@EntityListeners(TenantContentChangeListener.class)
 @Table(name = "tenants")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheRegions.TENANT)
 public class TenantEntity {
 
     @Id
@@ -1,9 +1,13 @@
 package com.clinic.modules.core.tenant;
 
+import com.clinic.config.db.HibernateCacheRegions;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
@@ -13,6 +17,10 @@ import java.util.stream.Collectors;
 
 public interface TenantRepository extends JpaRepository<TenantEntity, Long> {
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = HibernateCacheRegions.REFERENCE_QUERIES)
+    })
     Optional<TenantEntity> findBySlugIgnoreCase(String slug);
 
     Optional<TenantEntity> findByCustomDomainIgnoreCase(String domain);
@@ -34,6 +42,10 @@ public interface TenantRepository extends JpaRepository<TenantEntity, Long> {
     Page<TenantEntity> findAllWithDeletedFilter(@Param("includeDeleted") boolean includeDeleted, Pageable pageable);
 
     // Find by slug excluding soft-deleted
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = HibernateCacheRegions.REFERENCE_QUERIES)
+    })
     @Query("SELECT t FROM TenantEntity t WHERE LOWER(t.slug) = LOWER(:slug) AND t.deletedAt IS NULL")
     Optional<TenantEntity> findBySlugIgnoreCaseAndNotDeleted(@Param("slug") String slug);
 
@@ -71,6 +71,11 @@ public class TenantResolutionFilter extends OncePerRequestFilter {
             return true;
         }
 
+        // Self-hosted image delivery: ids are globally unique, no tenant needed
+        if (normalizedPath.startsWith("/api/public/images/") || normalizedPath.startsWith("/public/images/")) {
+            return true;
+        }
+
         // Public signup endpoints (marketing site) should not require tenant resolution
         if (normalizedPath.startsWith("/api/public/signup") || normalizedPath.startsWith("/api/api/public/signup") ||
                 normalizedPath.startsWith("/public/signup")) {
@@ -113,7 +118,7 @@ public class TenantResolutionFilter extends OncePerRequestFilter {
                 .orElseGet(() -> tenantService.requireActiveTenantBySlug(tenantProperties.getDefaultTenantSlug()));
     }
 
-    private String resolveSlug(HttpServletRequest request) {
+    String resolveSlug(HttpServletRequest request) {
         String headerValue = request.getHeader(tenantProperties.getHeaderName());
         if (StringUtils.hasText(headerValue)) {
             return headerValue.trim().toLowerCase();
@@ -127,7 +132,7 @@ public class TenantResolutionFilter extends OncePerRequestFilter {
         return null;
     }
 
-    private String normalizeHost(String host) {
+    public static String normalizeHost(String host) {
         if (!StringUtils.hasText(host)) {
             return host;
         }
@@ -1,11 +1,13 @@
 package com.clinic.modules.core.translation;
 
+import com.clinic.modules.core.cache.TenantContentChangeListener;
 import com.clinic.modules.core.tenant.TenantEntity;
 import jakarta.persistence.*;
 
 import java.time.Instant;
 
 @Entity
+@EntityListeners(TenantContentChangeListener.class)
 @Table(name = "tenant_translations", uniqueConstraints = {
         @UniqueConstraint(
                 name = "ux_tenant_translations_unique",
@@ -2,8 +2,13 @@ package com.clinic.modules.core.translation;
 
 import com.clinic.modules.admin.translation.dto.TranslationResponse;
 import com.clinic.modules.admin.translation.dto.TranslationUpsertRequest;
+import com.clinic.modules.core.cache.TenantContentChangedEvent;
 import com.clinic.modules.core.tenant.TenantContextHolder;
 import com.clinic.modules.core.tenant.TenantService;
+import com.clinic.modules.core.translation.TenantTranslationUpsertRepository.TranslationRow;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,25 +22,73 @@ public class TenantTranslationService {
     private final TenantContextHolder tenantContextHolder;
     private final TenantService tenantService;
     private final DefaultTranslationProvider defaultTranslationProvider;
+    private final TenantTranslationUpsertRepository upsertRepository;
+    private final TranslationBundleCache bundleCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
 
     public TenantTranslationService(
             TenantTranslationRepository translationRepository,
             TenantContextHolder tenantContextHolder,
             TenantService tenantService,
-            DefaultTranslationProvider defaultTranslationProvider
+            DefaultTranslationProvider defaultTranslationProvider,
+            TenantTranslationUpsertRepository upsertRepository,
+            TranslationBundleCache bundleCache,
+            ApplicationEventPublisher eventPublisher,
+            ObjectMapper objectMapper
     ) {
         this.translationRepository = translationRepository;
         this.tenantContextHolder = tenantContextHolder;
         this.tenantService = tenantService;
         this.defaultTranslationProvider = defaultTranslationProvider;
+        this.upsertRepository = upsertRepository;
+        this.bundleCache = bundleCache;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
     }
 
     @Transactional(readOnly = true)
     public List<TranslationResponse> getTranslations(String namespace, String locale) {
         Long tenantId = tenantContextHolder.requireTenantId();
-        String normalizedLocale = locale != null ? locale.toLowerCase(Locale.ROOT) : "en";
+        return mergeTranslations(tenantId, normalizeLocale(locale), normalize(namespace));
+    }
+
+    /**
+     * Same content as {@link #getTranslations}, compiled to JSON once per tenant,
+     * locale and namespace and reused until the tenant's translations change.
+     */
+    @Transactional(readOnly = true)
+    public TranslationBundle getTranslationBundle(String namespace, String locale) {
+        Long tenantId = tenantContextHolder.requireTenantId();
+        String normalizedLocale = normalizeLocale(locale);
+        String normalizedNamespace = normalize(namespace);
+
+        return bundleCache.get(tenantId, TranslationBundleCache.View.MERGED, normalizedLocale, normalizedNamespace,
+                () -> compile(tenantId, mergeTranslations(tenantId, normalizedLocale, normalizedNamespace)));
+    }
+
+    /**
+     * Same content as {@link #getTranslationsForLocale}, compiled to JSON once per
+     * tenant, locale and namespace and reused until the tenant's translations change.
+     */
+    @Transactional(readOnly = true)
+    public TranslationBundle getPublicTranslationBundle(Long tenantId, String locale, String namespace) {
+        String normalizedLocale = locale.toLowerCase(Locale.ROOT);
         String normalizedNamespace = normalize(namespace);
 
+        return bundleCache.get(tenantId, TranslationBundleCache.View.OVERRIDES, normalizedLocale, normalizedNamespace,
+                () -> compile(tenantId, getTranslationsForLocale(tenantId, normalizedLocale, normalizedNamespace)));
+    }
+
+    private TranslationBundle compile(Long tenantId, Object translations) {
+        try {
+            return TranslationBundle.of(objectMapper.writeValueAsBytes(translations));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize translations for tenant " + tenantId, e);
+        }
+    }
+
+    private List<TranslationResponse> mergeTranslations(Long tenantId, String normalizedLocale, String normalizedNamespace) {
         Map<String, String> defaults = defaultTranslationProvider.getDefaults(normalizedLocale);
         Map<String, TranslationResponse> result = new LinkedHashMap<>();
 
@@ -82,28 +135,23 @@ public class TenantTranslationService {
         }
 
         Long tenantId = tenantContextHolder.requireTenantId();
-        var tenant = tenantService.requireTenant(tenantId);
+        tenantService.requireTenant(tenantId);
 
+        // Later entries for the same key win, as they did when each one was saved in turn
+        Map<List<String>, TranslationRow> rows = new LinkedHashMap<>();
         for (TranslationUpsertRequest request : requests) {
             String namespace = requireNonBlank(request.namespace(), "namespace");
             String key = requireNonBlank(request.key(), "key");
             String locale = requireNonBlank(request.locale(), "locale").toLowerCase(Locale.ROOT);
             String value = Optional.ofNullable(request.value()).orElse("").trim();
 
-            TenantTranslationEntity entity = translationRepository
-                    .findByTenantIdAndNamespaceAndTranslationKeyAndLocale(tenantId, namespace, key, locale)
-                    .orElseGet(() -> {
-                        TenantTranslationEntity created = new TenantTranslationEntity();
-                        created.setTenant(tenant);
-                        created.setNamespace(namespace);
-                        created.setTranslationKey(key);
-                        created.setLocale(locale);
-                        return created;
-                    });
-
-            entity.setValue(value);
-            translationRepository.save(entity);
+            rows.put(List.of(namespace, key, locale), new TranslationRow(namespace, key, locale, value));
         }
+
+        upsertRepository.upsertAll(tenantId, new ArrayList<>(rows.values()));
+        // The native upsert bypasses the entity listener
+        eventPublisher.publishEvent(
+                new TenantContentChangedEvent(this, tenantId, TenantContentChangedEvent.Area.TRANSLATIONS));
     }
 
     @Transactional(readOnly = true)
@@ -117,12 +165,19 @@ public class TenantTranslationService {
             entities = translationRepository.findByTenantIdAndLocale(tenantId, normalizedLocale);
         }
 
+        // Sorted, so the serialized bundle and its ETag are the same on every node
         return entities.stream().collect(Collectors.toMap(
                 entity -> entity.getNamespace() + "." + entity.getTranslationKey(),
-                TenantTranslationEntity::getValue
+                TenantTranslationEntity::getValue,
+                (first, second) -> second,
+                TreeMap::new
         ));
     }
 
+    private String normalizeLocale(String locale) {
+        return locale != null ? locale.toLowerCase(Locale.ROOT) : "en";
+    }
+
     private String normalize(String value) {
         if (value == null) {
             return null;
@@ -0,0 +1,52 @@
+package com.clinic.modules.core.translation;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Writes tenant translation overrides in one JDBC batch.
+ *
+ * Each row is an upsert on the (tenant, namespace, key, locale) unique index,
+ * so saving a whole editor page is one round trip instead of a lookup and a
+ * save per key. The statements bypass JPA, so callers are responsible for
+ * invalidating caches built from these rows.
+ */
+@Repository
+public class TenantTranslationUpsertRepository {
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO tenant_translations (tenant_id, namespace, translation_key, locale, value, updated_at)
+            VALUES (?, ?, ?, ?, ?, NOW())
+            ON CONFLICT (tenant_id, namespace, translation_key, locale)
+            DO UPDATE SET value = EXCLUDED.value,
+                          updated_at = NOW()
+            WHERE tenant_translations.value IS DISTINCT FROM EXCLUDED.value
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TenantTranslationUpsertRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Insert or update the given overrides for a tenant. Unchanged values keep
+     * their updated_at.
+     */
+    public void upsertAll(Long tenantId, List<TranslationRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPSERT_SQL, rows, rows.size(), (ps, row) -> {
+            ps.setLong(1, tenantId);
+            ps.setString(2, row.namespace());
+            ps.setString(3, row.key());
+            ps.setString(4, row.locale());
+            ps.setString(5, row.value());
+        });
+    }
+
+    public record TranslationRow(String namespace, String key, String locale, String value) {}
+}
@@ -0,0 +1,23 @@
+package com.clinic.modules.core.translation;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * A tenant's merged translations for one locale and namespace, serialized once.
+ *
+ * @param json the JSON body as served to clients
+ * @param etag strong ETag derived from the body, identical on every node
+ */
+public record TranslationBundle(byte[] json, String etag) {
+
+    public static TranslationBundle of(byte[] json) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+            return new TranslationBundle(json, "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
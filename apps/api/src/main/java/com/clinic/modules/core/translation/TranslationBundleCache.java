@@ -0,0 +1,81 @@
+package com.clinic.modules.core.translation;
+
+import com.clinic.modules.core.cache.PendingTenantInvalidations;
+import com.clinic.modules.core.cache.TenantContentChangedEvent;
+import com.clinic.modules.core.cache.TenantGenerations;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Per-tenant cache of compiled {@link TranslationBundle}s.
+ *
+ * Entries are keyed by tenant, translation generation, view, locale and namespace.
+ * Translation writes publish a {@link TenantContentChangedEvent}, which bumps
+ * the tenant's generation after the transaction commits, so
+ * every bundle of that tenant is recompiled on its next read. The TTL bounds
+ * how long another node keeps serving a bundle compiled before the write.
+ */
+@Component
+public class TranslationBundleCache {
+
+    private final Cache<BundleKey, TranslationBundle> cache;
+    private final TenantGenerations generations = new TenantGenerations();
+    private final PendingTenantInvalidations pendingInvalidations =
+            new PendingTenantInvalidations(PendingTenantInvalidations.Phase.COMMIT, this::invalidateTenant);
+
+    public TranslationBundleCache(@Value("${clinic.translations.bundle-cache-ttl:PT1M}") Duration ttl,
+                                  @Value("${clinic.translations.bundle-cache-size:2000}") long maximumSize) {
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Return the compiled bundle, compiling it with the loader on a miss.
+     */
+    public TranslationBundle get(Long tenantId, View view, String locale, String namespace,
+                                 Supplier<TranslationBundle> loader) {
+        BundleKey key = new BundleKey(tenantId, generations.current(tenantId), view, locale,
+                namespace != null ? namespace : "");
+        return cache.get(key, k -> loader.get());
+    }
+
+    @EventListener
+    public void onTenantContentChanged(TenantContentChangedEvent event) {
+        if (event.getArea() == TenantContentChangedEvent.Area.TRANSLATIONS) {
+            invalidateTenantAfterCommit(event.getTenantId());
+        }
+    }
+
+    /**
+     * Invalidate the tenant's bundles once the current transaction commits,
+     * or immediately when no transaction is active.
+     */
+    public void invalidateTenantAfterCommit(Long tenantId) {
+        pendingInvalidations.add(tenantId);
+    }
+
+    public void invalidateTenant(Long tenantId) {
+        generations.bump(tenantId);
+    }
+
+    /**
+     * The shape a bundle is compiled to.
+     */
+    public enum View {
+        /** Defaults merged with overrides, as a list of translation rows (admin). */
+        MERGED,
+        /** The tenant's overrides only, as a path to value map (public). */
+        OVERRIDES
+    }
+
+    private record BundleKey(Long tenantId, long generation, View view, String locale, String namespace) {}
+}
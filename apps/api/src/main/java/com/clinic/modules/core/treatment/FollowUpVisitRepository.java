@@ -6,6 +6,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -15,6 +16,23 @@ public interface FollowUpVisitRepository extends JpaRepository<FollowUpVisitEnti
 
     List<FollowUpVisitEntity> findByTreatmentPlanId(Long treatmentPlanId);
 
+    /**
+     * Initializes {@code payments} on every visit of the given plans.
+     */
+    @Query("select distinct v from FollowUpVisitEntity v left join fetch v.payments where v.treatmentPlan.id in :planIds")
+    List<FollowUpVisitEntity> fetchPaymentsByTreatmentPlanIds(@Param("planIds") Collection<Long> planIds);
+
+    /**
+     * Initializes {@code materialUsages}, with their catalog material, on every visit of the given plans.
+     */
+    @Query("""
+            select distinct v from FollowUpVisitEntity v
+            left join fetch v.materialUsages u
+            left join fetch u.material
+            where v.treatmentPlan.id in :planIds
+            """)
+    List<FollowUpVisitEntity> fetchMaterialUsagesByTreatmentPlanIds(@Param("planIds") Collection<Long> planIds);
+
     long countByVisitDateBetween(Instant start, Instant end);
 
     @Query("""
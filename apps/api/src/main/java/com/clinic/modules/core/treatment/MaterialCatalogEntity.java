@@ -1,7 +1,10 @@
 package com.clinic.modules.core.treatment;
 
+import com.clinic.config.db.HibernateCacheRegions;
 import com.clinic.modules.core.tenant.TenantEntity;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.math.BigDecimal;
 import java.time.Instant;
@@ -21,6 +24,8 @@ import java.util.Objects;
                 )
         }
 )
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheRegions.MATERIAL)
 public class MaterialCatalogEntity {
 
     @Id
@@ -1,8 +1,12 @@
 package com.clinic.modules.core.treatment;
 
+import com.clinic.config.db.HibernateCacheRegions;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -15,11 +19,39 @@ public interface MaterialCatalogRepository extends JpaRepository<MaterialCatalog
     /**
      * Find all materials for a specific tenant
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = HibernateCacheRegions.REFERENCE_QUERIES)
+    })
     List<MaterialCatalogEntity> findAllByTenantId(Long tenantId);
 
+    /**
+     * Keyset page of the tenant's materials ordered by name, starting after
+     * ({@code afterName}, {@code afterId}).
+     */
+    @Query("""
+            select new com.clinic.modules.core.treatment.MaterialCatalogView(
+                m.id, m.name, m.description, m.unitCost, m.currency, m.unitOfMeasure, m.active,
+                m.createdAt, m.updatedAt)
+            from MaterialCatalogEntity m
+            where m.tenant.id = :tenantId
+              and (:activeOnly = false or m.active = true)
+              and (m.name > :afterName or (m.name = :afterName and m.id > :afterId))
+            order by m.name asc, m.id asc
+            """)
+    List<MaterialCatalogView> findViewPage(@Param("tenantId") Long tenantId,
+                                           @Param("activeOnly") boolean activeOnly,
+                                           @Param("afterName") String afterName,
+                                           @Param("afterId") long afterId,
+                                           Pageable pageable);
+
     /**
      * Find material by ID and tenant ID
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = HibernateCacheRegions.REFERENCE_QUERIES)
+    })
     Optional<MaterialCatalogEntity> findByIdAndTenantId(Long id, Long tenantId);
 
     /**
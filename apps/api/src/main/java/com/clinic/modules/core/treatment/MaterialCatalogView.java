@@ -0,0 +1,20 @@
+package com.clinic.modules.core.treatment;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * The material catalog columns shown in list views.
+ */
+public record MaterialCatalogView(
+        Long id,
+        String name,
+        String description,
+        BigDecimal unitCost,
+        String currency,
+        String unitOfMeasure,
+        Boolean active,
+        Instant createdAt,
+        Instant updatedAt
+) {
+}
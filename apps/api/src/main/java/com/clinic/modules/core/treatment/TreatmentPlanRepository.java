@@ -1,11 +1,14 @@
 package com.clinic.modules.core.treatment;
 
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -55,6 +58,42 @@ public interface TreatmentPlanRepository extends JpaRepository<TreatmentPlanEnti
     @Query("SELECT t FROM TreatmentPlanEntity t WHERE t.doctor.id = :doctorId AND t.status = :status")
     List<TreatmentPlanEntity> findByDoctorIdAndStatus(@Param("doctorId") Long doctorId, @Param("status") TreatmentPlanStatus status);
 
+    /**
+     * Keyset page of the tenant's plans, newest first, starting after
+     * ({@code afterCreatedAt}, {@code afterId}). Null filters match every plan.
+     * Patient, doctor and treatment type are fetched with the rows; collections
+     * are loaded for the whole page by the fetch* queries below.
+     */
+    @EntityGraph(attributePaths = {"patient", "doctor", "treatmentType"})
+    @Query("""
+            select t from TreatmentPlanEntity t
+            where t.tenant.id = :tenantId
+              and (:patientId is null or t.patient.id = :patientId)
+              and (:doctorId is null or t.doctor.id = :doctorId)
+              and (:status is null or t.status = :status)
+              and (t.createdAt < :afterCreatedAt or (t.createdAt = :afterCreatedAt and t.id < :afterId))
+            order by t.createdAt desc, t.id desc
+            """)
+    List<TreatmentPlanEntity> findKeysetPage(@Param("tenantId") Long tenantId,
+                                             @Param("patientId") Long patientId,
+                                             @Param("doctorId") Long doctorId,
+                                             @Param("status") TreatmentPlanStatus status,
+                                             @Param("afterCreatedAt") Instant afterCreatedAt,
+                                             @Param("afterId") long afterId,
+                                             Pageable pageable);
+
+    /**
+     * Initializes {@code followUpVisits} on the given plans already in the persistence context.
+     */
+    @Query("select distinct t from TreatmentPlanEntity t left join fetch t.followUpVisits where t.id in :ids")
+    List<TreatmentPlanEntity> fetchFollowUpVisits(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Initializes {@code directPayments} on the given plans already in the persistence context.
+     */
+    @Query("select distinct t from TreatmentPlanEntity t left join fetch t.directPayments where t.id in :ids")
+    List<TreatmentPlanEntity> fetchDirectPayments(@Param("ids") Collection<Long> ids);
+
     long countByTenantIdAndStatus(Long tenantId, TreatmentPlanStatus status);
 
     long countByStatus(TreatmentPlanStatus status);
@@ -0,0 +1,51 @@
+package com.clinic.modules.ecommerce.cache;
+
+import com.clinic.modules.core.cache.TenantContentChangedEvent;
+import com.clinic.modules.ecommerce.model.CategoryEntity;
+import com.clinic.modules.ecommerce.model.ProductCategoryEntity;
+import com.clinic.modules.ecommerce.model.ProductEntity;
+import com.clinic.modules.ecommerce.model.ProductVariantEntity;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA entity listener that publishes a catalog {@link TenantContentChangedEvent}
+ * on catalog writes, which invalidates the storefront facet counts.
+ *
+ * Registered on products, variants, categories and product-category links, so
+ * every write path (admin edits, stock changes during checkout, category moves)
+ * is covered without each service having to remember the cache. Hibernate
+ * resolves the listener through Spring, so it is an ordinary bean.
+ */
+@Component
+public class CatalogChangeListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public CatalogChangeListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onCatalogChange(Object entity) {
+        Long tenantId = null;
+        if (entity instanceof ProductEntity product) {
+            tenantId = product.getTenantId();
+        } else if (entity instanceof ProductVariantEntity variant) {
+            tenantId = variant.getTenantId();
+        } else if (entity instanceof CategoryEntity category) {
+            tenantId = category.getTenantId();
+        } else if (entity instanceof ProductCategoryEntity productCategory) {
+            tenantId = productCategory.getTenantId();
+        }
+        if (tenantId != null) {
+            eventPublisher.publishEvent(
+                    new TenantContentChangedEvent(this, tenantId, TenantContentChangedEvent.Area.CATALOG));
+        }
+    }
+}
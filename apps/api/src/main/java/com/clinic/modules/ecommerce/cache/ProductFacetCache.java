@@ -0,0 +1,82 @@
+package com.clinic.modules.ecommerce.cache;
+
+import com.clinic.modules.core.cache.PendingTenantInvalidations;
+import com.clinic.modules.core.cache.TenantContentChangedEvent;
+import com.clinic.modules.core.cache.TenantGenerations;
+import com.clinic.modules.ecommerce.dto.ProductFacetCounts;
+import com.clinic.modules.ecommerce.dto.ProductFacetFilter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Per-tenant cache of storefront facet counts.
+ *
+ * Entries are keyed by tenant, catalog generation and facet selection.
+ * Catalog writes publish a {@link TenantContentChangedEvent} (see
+ * {@link CatalogChangeListener}), which bumps the tenant's generation after
+ * the transaction commits, so a count computed concurrently with the write is
+ * stored under the old generation and never served again. Entries of old generations are left to
+ * the size bound and TTL instead of being scanned out on every write. The TTL
+ * also covers writes that bypass the entity listener (bulk JPQL updates).
+ */
+@Component
+public class ProductFacetCache {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductFacetCache.class);
+
+    private final Cache<FacetKey, ProductFacetCounts> cache;
+    private final TenantGenerations generations = new TenantGenerations();
+    private final PendingTenantInvalidations pendingInvalidations =
+            new PendingTenantInvalidations(PendingTenantInvalidations.Phase.COMMIT, this::invalidateTenant);
+
+    public ProductFacetCache(@Value("${ecommerce.facets.cache-ttl:PT10M}") Duration ttl,
+                             @Value("${ecommerce.facets.cache-size:10000}") long maximumSize) {
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Return cached facet counts, computing them with the loader on a miss.
+     */
+    public ProductFacetCounts get(Long tenantId, ProductFacetFilter filter, Supplier<ProductFacetCounts> loader) {
+        FacetKey key = new FacetKey(tenantId, generations.current(tenantId), filter);
+        return cache.get(key, k -> loader.get());
+    }
+
+    @EventListener
+    public void onTenantContentChanged(TenantContentChangedEvent event) {
+        if (event.getArea() == TenantContentChangedEvent.Area.CATALOG) {
+            invalidateTenantAfterCommit(event.getTenantId());
+        }
+    }
+
+    /**
+     * Invalidate the tenant's facet counts once the current transaction commits,
+     * or immediately when no transaction is active.
+     */
+    public void invalidateTenantAfterCommit(Long tenantId) {
+        pendingInvalidations.add(tenantId);
+    }
+
+    /**
+     * Invalidate the tenant's facet counts immediately.
+     */
+    public void invalidateTenant(Long tenantId) {
+        long next = generations.bump(tenantId);
+        log.debug("Facet counts for tenant {} moved to generation {}", tenantId, next);
+    }
+
+    private record FacetKey(Long tenantId, long generation, ProductFacetFilter filter) {
+    }
+}
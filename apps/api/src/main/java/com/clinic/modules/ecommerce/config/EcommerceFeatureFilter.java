@@ -35,7 +35,7 @@ public class EcommerceFeatureFilter implements Filter {
     private static final Pattern ADMIN_ECOMMERCE_PATTERN = 
             Pattern.compile("^/admin/tenants/(\\d+)/(products|categories|carousels).*");
     private static final Pattern PUBLIC_ECOMMERCE_PATTERN = 
-            Pattern.compile("^/public/(products|carousels|cart|orders|payments).*");
+            Pattern.compile("^/public/(products|categories|carousels|cart|orders|payments).*");
 
     private final EcommerceFeatureService ecommerceFeatureService;
     private final ObjectMapper objectMapper;
@@ -0,0 +1,74 @@
+package com.clinic.modules.ecommerce.controller.publicapi;
+
+import com.clinic.modules.core.tenant.TenantEntity;
+import com.clinic.modules.ecommerce.dto.PublicCategoryTreeResponse;
+import com.clinic.modules.ecommerce.service.CategoryService;
+import com.clinic.modules.ecommerce.service.PublicProductService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Public API controller for category navigation.
+ * 
+ * Provides customer-facing endpoints for browsing the category hierarchy.
+ * All operations are tenant-scoped and only return active categories.
+ * 
+ * Base path: /public/categories
+ */
+@RestController
+@RequestMapping("/public/categories")
+public class PublicCategoryController {
+
+    private static final Logger log = LoggerFactory.getLogger(PublicCategoryController.class);
+
+    private final CategoryService categoryService;
+    private final PublicProductService publicProductService;
+
+    public PublicCategoryController(CategoryService categoryService, PublicProductService publicProductService) {
+        this.categoryService = categoryService;
+        this.publicProductService = publicProductService;
+    }
+
+    /**
+     * Get the full active category tree for the tenant.
+     * 
+     * @param slug tenant slug (optional, used for tenant resolution)
+     * @param domain tenant domain (optional, used for tenant resolution)
+     * @return root categories with nested children
+     */
+    @GetMapping("/tree")
+    public ResponseEntity<List<PublicCategoryTreeResponse>> getCategoryTree(
+            @RequestParam(name = "slug", required = false) String slug,
+            @RequestParam(name = "domain", required = false) String domain,
+            @RequestHeader(name = "X-Tenant-Slug", required = false) String headerSlug,
+            @RequestHeader(name = "X-Tenant-Domain", required = false) String headerDomain) {
+
+        String effectiveSlug = StringUtils.hasText(slug) ? slug : headerSlug;
+        String effectiveDomain = StringUtils.hasText(domain) ? domain : headerDomain;
+
+        log.debug("Getting category tree - slug: {}, domain: {}", effectiveSlug, effectiveDomain);
+
+        try {
+            // Resolve tenant from slug or domain
+            TenantEntity tenant = publicProductService.resolveTenant(effectiveSlug, effectiveDomain);
+
+            List<PublicCategoryTreeResponse> tree = categoryService.getActiveCategoryTree(tenant.getId());
+
+            log.info("Retrieved category tree with {} root categories for tenant {}", tree.size(), tenant.getSlug());
+
+            return ResponseEntity.ok(tree);
+
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid request parameters: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("Error retrieving category tree", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+}
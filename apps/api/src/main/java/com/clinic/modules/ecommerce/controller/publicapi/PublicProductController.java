@@ -1,8 +1,13 @@
 package com.clinic.modules.ecommerce.controller.publicapi;
 
+import com.clinic.api.PaginatedResponse;
 import com.clinic.modules.core.tenant.TenantEntity;
+import com.clinic.modules.ecommerce.dto.ProductFacetFilter;
+import com.clinic.modules.ecommerce.dto.PublicProductFacetResponse;
 import com.clinic.modules.ecommerce.dto.PublicProductListResponse;
 import com.clinic.modules.ecommerce.dto.PublicProductResponse;
+import com.clinic.modules.ecommerce.dto.PublicProductSearchHit;
+import com.clinic.modules.ecommerce.exception.ProductNotFoundException;
 import com.clinic.modules.ecommerce.service.PublicProductService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -105,6 +110,64 @@ public class PublicProductController {
         }
     }
 
+    /**
+     * Get visible products filtered by facets, together with facet counts.
+     * 
+     * @param slug tenant slug (optional, used for tenant resolution)
+     * @param domain tenant domain (optional, used for tenant resolution)
+     * @param category category ID facet (optional)
+     * @param priceBucket price bucket facet, e.g. FROM_25_TO_50 (optional)
+     * @param inStock stock facet (optional)
+     * @param productType product type facet, SIMPLE or VARIABLE (optional)
+     * @param page page number (0-based, default: 0)
+     * @param size page size (default: 20, max: 100)
+     * @param sort sort criteria (default: createdAt,desc)
+     * @return paginated list of products with facet counts
+     */
+    @GetMapping("/faceted")
+    public ResponseEntity<PublicProductFacetResponse> getProductsWithFacets(
+            @RequestParam(name = "slug", required = false) String slug,
+            @RequestParam(name = "domain", required = false) String domain,
+            @RequestHeader(name = "X-Tenant-Slug", required = false) String headerSlug,
+            @RequestHeader(name = "X-Tenant-Domain", required = false) String headerDomain,
+            @RequestParam(name = "category", required = false) Long category,
+            @RequestParam(name = "priceBucket", required = false) String priceBucket,
+            @RequestParam(name = "inStock", required = false) Boolean inStock,
+            @RequestParam(name = "productType", required = false) String productType,
+            @RequestParam(name = "locale", required = false) String locale,
+            @RequestParam(name = "page", defaultValue = "0") int page,
+            @RequestParam(name = "size", defaultValue = "20") int size,
+            @RequestParam(name = "sort", defaultValue = "createdAt,desc") String sort) {
+        
+        String effectiveSlug = StringUtils.hasText(slug) ? slug : headerSlug;
+        String effectiveDomain = StringUtils.hasText(domain) ? domain : headerDomain;
+
+        log.debug("Getting faceted products - slug: {}, domain: {}, category: {}, priceBucket: {}, inStock: {}, productType: {}",
+                effectiveSlug, effectiveDomain, category, priceBucket, inStock, productType);
+        
+        try {
+            TenantEntity tenant = publicProductService.resolveTenant(effectiveSlug, effectiveDomain);
+            
+            Pageable pageable = createPageable(page, size, sort);
+            ProductFacetFilter filter = ProductFacetFilter.fromRequest(category, priceBucket, inStock, productType);
+            
+            PublicProductFacetResponse response = publicProductService.getVisibleProductsWithFacets(
+                    tenant.getId(), filter, pageable, locale);
+            
+            log.info("Retrieved {} faceted products for tenant {} (total {})",
+                    response.getData().size(), tenant.getSlug(), response.getFacets().total());
+            
+            return ResponseEntity.ok(response);
+            
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid request parameters: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("Error retrieving faceted products", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
     /**
      * Get a specific product by ID.
      * 
@@ -190,7 +253,7 @@ public class PublicProductController {
     }
 
     /**
-     * Search products by term.
+     * Search products by term, ordered by relevance.
      * 
      * @param searchTerm the search term
      * @param slug tenant slug (optional, used for tenant resolution)
@@ -245,12 +308,62 @@ public class PublicProductController {
         }
     }
 
+    /**
+     * Search products by term and return relevance scores and highlighted snippets.
+     * 
+     * @param searchTerm the search term; supports quoted phrases, "or" and "-" exclusions
+     * @param slug tenant slug (optional, used for tenant resolution)
+     * @param domain tenant domain (optional, used for tenant resolution)
+     * @param page page number (0-based, default: 0)
+     * @param size page size (default: 20, max: 100)
+     * @return paginated list of search hits in rank order
+     */
+    @GetMapping("/search/ranked")
+    public ResponseEntity<PaginatedResponse<PublicProductSearchHit>> searchProductsRanked(
+            @RequestParam(name = "q") String searchTerm,
+            @RequestParam(name = "slug", required = false) String slug,
+            @RequestParam(name = "domain", required = false) String domain,
+            @RequestHeader(name = "X-Tenant-Slug", required = false) String headerSlug,
+            @RequestHeader(name = "X-Tenant-Domain", required = false) String headerDomain,
+            @RequestParam(name = "locale", required = false) String locale,
+            @RequestParam(name = "page", defaultValue = "0") int page,
+            @RequestParam(name = "size", defaultValue = "20") int size) {
+        
+        String effectiveSlug = StringUtils.hasText(slug) ? slug : headerSlug;
+        String effectiveDomain = StringUtils.hasText(domain) ? domain : headerDomain;
+
+        log.debug("Ranked product search with term '{}' - slug: {}, domain: {}, page: {}, size: {}", 
+                searchTerm, effectiveSlug, effectiveDomain, page, size);
+        
+        try {
+            TenantEntity tenant = publicProductService.resolveTenant(effectiveSlug, effectiveDomain);
+            
+            Pageable pageable = createPageable(page, size, null);
+            
+            Page<PublicProductSearchHit> hits = publicProductService.searchVisibleProductsRanked(
+                    tenant.getId(), searchTerm, pageable, locale);
+            
+            log.info("Found {} ranked hits for search term '{}' for tenant {} (page {}/{})", 
+                    hits.getNumberOfElements(), searchTerm, tenant.getSlug(), page + 1, hits.getTotalPages());
+            
+            return ResponseEntity.ok(PaginatedResponse.fromPage(hits));
+            
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid request parameters: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("Error searching products with term '{}'", searchTerm, e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
     /**
      * Get products by category.
      * 
      * @param categoryId the category ID
      * @param slug tenant slug (optional, used for tenant resolution)
      * @param domain tenant domain (optional, used for tenant resolution)
+     * @param includeSubcategories whether products of descendant categories are included (default: false)
      * @param page page number (0-based, default: 0)
      * @param size page size (default: 20, max: 100)
      * @param sort sort criteria (default: createdAt,desc)
@@ -264,6 +377,7 @@ public class PublicProductController {
             @RequestHeader(name = "X-Tenant-Slug", required = false) String headerSlug,
             @RequestHeader(name = "X-Tenant-Domain", required = false) String headerDomain,
             @RequestParam(name = "locale", required = false) String locale,
+            @RequestParam(name = "includeSubcategories", defaultValue = "false") boolean includeSubcategories,
             @RequestParam(name = "page", defaultValue = "0") int page,
             @RequestParam(name = "size", defaultValue = "20") int size,
             @RequestParam(name = "sort", defaultValue = "createdAt,desc") String sort) {
@@ -281,9 +395,10 @@ public class PublicProductController {
             // Validate and create pagination
             Pageable pageable = createPageable(page, size, sort);
             
-            // Get products by category
-            Page<PublicProductResponse> products = publicProductService.getVisibleProductsByCategory(
-                    tenant.getId(), categoryId, pageable, locale);
+            // Get products by category, optionally including the whole subtree
+            Page<PublicProductResponse> products = includeSubcategories
+                    ? publicProductService.getVisibleProductsInCategoryTree(tenant.getId(), categoryId, pageable, locale)
+                    : publicProductService.getVisibleProductsByCategory(tenant.getId(), categoryId, pageable, locale);
             
             PublicProductListResponse response = PublicProductListResponse.fromProductPage(products);
             
@@ -292,6 +407,9 @@ public class PublicProductController {
             
             return ResponseEntity.ok(response);
             
+        } catch (ProductNotFoundException e) {
+            log.warn("Category {} not found: {}", categoryId, e.getMessage());
+            return ResponseEntity.notFound().build();
         } catch (IllegalArgumentException e) {
             log.warn("Invalid request parameters: {}", e.getMessage());
             return ResponseEntity.badRequest().build();
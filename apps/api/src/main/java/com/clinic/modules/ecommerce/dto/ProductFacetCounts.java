@@ -0,0 +1,35 @@
+package com.clinic.modules.ecommerce.dto;
+
+import com.clinic.modules.ecommerce.model.ProductPriceBucket;
+import com.clinic.modules.ecommerce.model.ProductType;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Facet counts for a storefront product listing.
+ *
+ * Each facet is counted with every other selected facet applied but not its
+ * own selection, so the storefront can show how many products each
+ * alternative value would return. {@code total} applies all selections.
+ */
+public record ProductFacetCounts(
+    long total,
+    List<CategoryFacet> categories,
+    Map<ProductPriceBucket, Long> priceBuckets,
+    long inStock,
+    long outOfStock,
+    Map<ProductType, Long> productTypes
+) {
+
+    /**
+     * Product count for one active category.
+     */
+    public record CategoryFacet(
+        Long id,
+        String name,
+        String slug,
+        long count
+    ) {
+    }
+}
@@ -0,0 +1,43 @@
+package com.clinic.modules.ecommerce.dto;
+
+import com.clinic.modules.ecommerce.model.ProductPriceBucket;
+import com.clinic.modules.ecommerce.model.ProductType;
+import org.springframework.util.StringUtils;
+
+import java.util.Locale;
+
+/**
+ * Facet selection for storefront product listings.
+ *
+ * Every field is optional; null means the facet is not filtered.
+ * Used as part of the facet count cache key, so it must stay immutable.
+ */
+public record ProductFacetFilter(
+    Long categoryId,
+    ProductPriceBucket priceBucket,
+    Boolean inStock,
+    ProductType productType
+) {
+
+    /**
+     * Builds a filter from raw request parameters.
+     *
+     * @throws IllegalArgumentException if a price bucket or product type is unknown
+     */
+    public static ProductFacetFilter fromRequest(Long categoryId, String priceBucket, Boolean inStock, String productType) {
+        return new ProductFacetFilter(
+            categoryId,
+            StringUtils.hasText(priceBucket) ? parse(ProductPriceBucket.class, priceBucket, "price bucket") : null,
+            inStock,
+            StringUtils.hasText(productType) ? parse(ProductType.class, productType, "product type") : null
+        );
+    }
+
+    private static <E extends Enum<E>> E parse(Class<E> type, String value, String label) {
+        try {
+            return Enum.valueOf(type, value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown " + label + ": " + value);
+        }
+    }
+}
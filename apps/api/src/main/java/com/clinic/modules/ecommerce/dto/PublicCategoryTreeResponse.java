@@ -0,0 +1,41 @@
+package com.clinic.modules.ecommerce.dto;
+
+import com.clinic.modules.ecommerce.model.CategoryEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO for a node of the public category tree.
+ * 
+ * Each node carries its nested children so storefront navigation can be
+ * rendered from a single response.
+ */
+public record PublicCategoryTreeResponse(
+    Long id,
+    String name,
+    String slug,
+    String description,
+    Integer sortOrder,
+    int depth,
+    List<PublicCategoryTreeResponse> children
+) {
+
+    /**
+     * Creates a tree node without children from a CategoryEntity.
+     * 
+     * @param category the category entity
+     * @return the tree node
+     */
+    public static PublicCategoryTreeResponse fromEntity(CategoryEntity category) {
+        return new PublicCategoryTreeResponse(
+            category.getId(),
+            category.getName(),
+            category.getSlug(),
+            category.getDescription(),
+            category.getSortOrder(),
+            category.getDepth(),
+            new ArrayList<>()
+        );
+    }
+}
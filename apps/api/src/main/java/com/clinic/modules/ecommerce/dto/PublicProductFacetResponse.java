@@ -0,0 +1,30 @@
+package com.clinic.modules.ecommerce.dto;
+
+import com.clinic.api.PaginatedResponse;
+import com.clinic.api.PaginationMetadata;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+/**
+ * DTO for faceted product list responses.
+ *
+ * Same pagination format as {@link PublicProductListResponse}, plus the
+ * facet counts for the current selection.
+ */
+public class PublicProductFacetResponse extends PaginatedResponse<PublicProductResponse> {
+
+    @JsonProperty("facets")
+    private final ProductFacetCounts facets;
+
+    public PublicProductFacetResponse(List<PublicProductResponse> data,
+                                      PaginationMetadata pagination,
+                                      ProductFacetCounts facets) {
+        super(data, pagination);
+        this.facets = facets;
+    }
+
+    public ProductFacetCounts getFacets() {
+        return facets;
+    }
+}
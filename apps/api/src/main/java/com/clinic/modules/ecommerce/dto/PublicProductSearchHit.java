@@ -0,0 +1,14 @@
+package com.clinic.modules.ecommerce.dto;
+
+/**
+ * DTO for one ranked product search result.
+ *
+ * The snippet is a short excerpt with matched words wrapped in
+ * {@code <mark>} tags; it is null when no text field matched.
+ */
+public record PublicProductSearchHit(
+    PublicProductResponse product,
+    double score,
+    String snippet
+) {
+}
@@ -23,7 +23,8 @@ import java.util.List;
 public class CartEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "carts_id_seq")
+    @SequenceGenerator(name = "carts_id_seq", sequenceName = "carts_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
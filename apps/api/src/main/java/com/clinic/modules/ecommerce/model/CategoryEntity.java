@@ -1,6 +1,7 @@
 package com.clinic.modules.ecommerce.model;
 
 import com.clinic.modules.core.tenant.TenantEntity;
+import com.clinic.modules.ecommerce.cache.CatalogChangeListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 
@@ -15,6 +16,7 @@ import java.util.List;
  * Each category is tenant-scoped and can have multiple products associated.
  */
 @Entity
+@EntityListeners(CatalogChangeListener.class)
 @Table(name = "categories")
 public class CategoryEntity {
 
@@ -54,6 +56,16 @@ public class CategoryEntity {
     @Column(name = "is_active")
     private Boolean isActive = true;
 
+    /**
+     * Materialized path of ancestor ids including this category, e.g. "/3/17/42/".
+     * Assigned by {@link #refreshPath()} once the id is known.
+     */
+    @Column(name = "path", length = 512)
+    private String path;
+
+    @Column(name = "depth", nullable = false)
+    private Integer depth;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private Instant createdAt;
 
@@ -96,6 +108,10 @@ public class CategoryEntity {
         if (sortOrder == null) {
             sortOrder = 0;
         }
+
+        if (depth == null) {
+            depth = getDepth();
+        }
     }
 
     @PreUpdate
@@ -173,6 +189,10 @@ public class CategoryEntity {
         return Boolean.TRUE.equals(isActive);
     }
 
+    public String getPath() {
+        return path;
+    }
+
     public Instant getCreatedAt() {
         return createdAt;
     }
@@ -246,12 +266,52 @@ public class CategoryEntity {
      * Root categories have depth 0.
      */
     public int getDepth() {
+        if (depth != null) {
+            return depth;
+        }
         if (parent == null) {
             return 0;
         }
         return parent.getDepth() + 1;
     }
 
+    /**
+     * Recomputes the materialized path and depth from the current parent.
+     * Has no effect until the category has been assigned an id.
+     */
+    public void refreshPath() {
+        if (id == null) {
+            return;
+        }
+        if (parent == null) {
+            this.path = "/" + id + "/";
+            this.depth = 0;
+        } else {
+            this.path = parent.resolvePath() + id + "/";
+            this.depth = parent.getDepth() + 1;
+        }
+    }
+
+    /**
+     * Returns the exclusive upper bound of the subtree rooted at the given path.
+     * Paths end with '/', and '0' is the next character after '/', so every
+     * descendant path p satisfies {@code path <= p < upperBound} in byte order.
+     */
+    public static String pathUpperBound(String path) {
+        return path.substring(0, path.length() - 1) + '0';
+    }
+
+    /**
+     * Returns the stored path, deriving it from the parent chain if it has not been assigned yet.
+     */
+    public String resolvePath() {
+        if (path != null) {
+            return path;
+        }
+        String parentPath = parent != null ? parent.resolvePath() : "/";
+        return parentPath + id + "/";
+    }
+
     /**
      * Gets all ancestor categories up to the root.
      */
@@ -281,6 +341,9 @@ public class CategoryEntity {
      * Checks if this category is an ancestor of the given category.
      */
     public boolean isAncestorOf(CategoryEntity category) {
+        if (path != null && category.getPath() != null) {
+            return !path.equals(category.getPath()) && category.getPath().startsWith(path);
+        }
         CategoryEntity current = category.getParent();
         while (current != null) {
             if (current.equals(this)) {
@@ -16,7 +16,8 @@ import java.time.LocalDateTime;
 public class PaymentEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ecommerce_payments_id_seq")
+    @SequenceGenerator(name = "ecommerce_payments_id_seq", sequenceName = "ecommerce_payments_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
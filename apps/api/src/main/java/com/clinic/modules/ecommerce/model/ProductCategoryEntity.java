@@ -1,6 +1,7 @@
 package com.clinic.modules.ecommerce.model;
 
 import com.clinic.modules.core.tenant.TenantEntity;
+import com.clinic.modules.ecommerce.cache.CatalogChangeListener;
 import jakarta.persistence.*;
 
 import java.time.Instant;
@@ -13,6 +14,7 @@ import java.util.Objects;
  * while maintaining tenant isolation.
  */
 @Entity
+@EntityListeners(CatalogChangeListener.class)
 @Table(name = "product_categories",
        uniqueConstraints = @UniqueConstraint(
            name = "uk_product_categories_product_category",
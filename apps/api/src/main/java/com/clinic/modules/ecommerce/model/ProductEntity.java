@@ -1,6 +1,7 @@
 package com.clinic.modules.ecommerce.model;
 
 import com.clinic.modules.core.tenant.TenantEntity;
+import com.clinic.modules.ecommerce.cache.CatalogChangeListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 
@@ -16,6 +17,7 @@ import java.util.List;
  * Each product can have multiple variants, images, and category associations.
  */
 @Entity
+@EntityListeners(CatalogChangeListener.class)
 @Table(name = "products")
 public class ProductEntity {
 
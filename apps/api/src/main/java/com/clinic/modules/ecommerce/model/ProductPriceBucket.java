@@ -0,0 +1,39 @@
+package com.clinic.modules.ecommerce.model;
+
+import java.math.BigDecimal;
+
+/**
+ * Enumeration of price ranges used for storefront price facets.
+ *
+ * Each bucket covers {@code [min, max)}; the last bucket is open-ended.
+ * Products without a price (e.g. priced per variant) fall in no bucket.
+ */
+public enum ProductPriceBucket {
+    UNDER_25(null, new BigDecimal("25")),
+    FROM_25_TO_50(new BigDecimal("25"), new BigDecimal("50")),
+    FROM_50_TO_100(new BigDecimal("50"), new BigDecimal("100")),
+    FROM_100_TO_250(new BigDecimal("100"), new BigDecimal("250")),
+    OVER_250(new BigDecimal("250"), null);
+
+    private final BigDecimal min;
+    private final BigDecimal max;
+
+    ProductPriceBucket(BigDecimal min, BigDecimal max) {
+        this.min = min;
+        this.max = max;
+    }
+
+    /**
+     * Inclusive lower bound, or null for the first bucket.
+     */
+    public BigDecimal getMin() {
+        return min;
+    }
+
+    /**
+     * Exclusive upper bound, or null for the last bucket.
+     */
+    public BigDecimal getMax() {
+        return max;
+    }
+}
@@ -1,6 +1,7 @@
 package com.clinic.modules.ecommerce.model;
 
 import com.clinic.modules.core.tenant.TenantEntity;
+import com.clinic.modules.ecommerce.cache.CatalogChangeListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 
@@ -14,6 +15,7 @@ import java.time.Instant;
  * Each variant has its own SKU, price, and stock information.
  */
 @Entity
+@EntityListeners(CatalogChangeListener.class)
 @Table(name = "product_variants")
 public class ProductVariantEntity {
 
@@ -26,6 +26,18 @@ public interface CartRepository extends JpaRepository<CartEntity, Long> {
     Optional<CartEntity> findByTenantIdAndSessionId(@Param("tenantId") Long tenantId, 
                                                    @Param("sessionId") String sessionId);
 
+    /**
+     * Find cart by tenant ID and session ID with items, products and variants fetched.
+     * Used by checkout so availability checks and order item snapshots don't lazy-load per item.
+     */
+    @Query("SELECT DISTINCT c FROM CartEntity c " +
+           "LEFT JOIN FETCH c.items i " +
+           "LEFT JOIN FETCH i.product " +
+           "LEFT JOIN FETCH i.variant " +
+           "WHERE c.tenant.id = :tenantId AND c.sessionId = :sessionId")
+    Optional<CartEntity> findWithItemsByTenantIdAndSessionId(@Param("tenantId") Long tenantId,
+                                                            @Param("sessionId") String sessionId);
+
     /**
      * Find all carts for a tenant.
      * Used for admin purposes and analytics.
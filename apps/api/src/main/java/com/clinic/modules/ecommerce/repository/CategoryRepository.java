@@ -61,6 +61,22 @@ public interface CategoryRepository extends JpaRepository<CategoryEntity, Long>
     @Query("SELECT c FROM CategoryEntity c WHERE c.tenantId = :tenantId AND c.parent.id IN :parentIds ORDER BY c.parent.id, c.sortOrder ASC, c.name ASC")
     List<CategoryEntity> findChildrenByTenantAndParentIn(@Param("tenantId") Long tenantId, @Param("parentIds") List<Long> parentIds);
 
+    // Materialized path queries
+    @Query("SELECT c FROM CategoryEntity c WHERE c.tenantId = :tenantId AND c.isActive = true ORDER BY c.depth ASC, c.sortOrder ASC, c.name ASC")
+    List<CategoryEntity> findActiveTreeByTenant(@Param("tenantId") Long tenantId);
+
+    @org.springframework.data.jpa.repository.Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE CategoryEntity c SET " +
+           "c.path = CONCAT(:newPrefix, SUBSTRING(c.path, :oldPrefixLength + 1)), " +
+           "c.depth = c.depth + :depthDelta " +
+           "WHERE c.tenantId = :tenantId AND c.path >= :oldPrefix AND c.path < :oldPrefixUpperBound")
+    int rebaseSubtree(@Param("tenantId") Long tenantId,
+                      @Param("oldPrefix") String oldPrefix,
+                      @Param("oldPrefixUpperBound") String oldPrefixUpperBound,
+                      @Param("oldPrefixLength") int oldPrefixLength,
+                      @Param("newPrefix") String newPrefix,
+                      @Param("depthDelta") int depthDelta);
+
     // Search queries
     @Query("SELECT c FROM CategoryEntity c WHERE c.tenantId = :tenantId AND " +
            "(LOWER(c.name) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
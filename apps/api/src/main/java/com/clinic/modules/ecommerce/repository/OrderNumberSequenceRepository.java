@@ -0,0 +1,55 @@
+package com.clinic.modules.ecommerce.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.time.LocalDate;
+
+/**
+ * Repository for the per-tenant, per-day order number counters.
+ *
+ * Counters are advanced with one atomic upsert, so concurrent checkouts on any
+ * node never receive overlapping values and never need a uniqueness probe.
+ */
+@Repository
+public class OrderNumberSequenceRepository {
+
+    private static final String RESERVE_SQL = """
+            INSERT INTO order_number_sequences (tenant_id, sequence_date, last_value, updated_at)
+            VALUES (?, ?, ?, NOW())
+            ON CONFLICT (tenant_id, sequence_date)
+            DO UPDATE SET last_value = order_number_sequences.last_value + EXCLUDED.last_value,
+                          updated_at = NOW()
+            RETURNING last_value
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public OrderNumberSequenceRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Reserve {@code count} consecutive values for the tenant and day.
+     *
+     * Runs in its own short transaction so the counter row lock is released
+     * immediately instead of being held for the rest of the checkout.
+     *
+     * @return the highest reserved value; the block is {@code (result - count, result]}
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public long reserve(Long tenantId, LocalDate sequenceDate, int count) {
+        if (count < 1) {
+            throw new IllegalArgumentException("Reservation count must be positive");
+        }
+        Long upper = jdbcTemplate.queryForObject(RESERVE_SQL, Long.class,
+                tenantId, Date.valueOf(sequenceDate), (long) count);
+        if (upper == null) {
+            throw new IllegalStateException("Order number sequence upsert returned no value for tenant " + tenantId);
+        }
+        return upper;
+    }
+}
@@ -0,0 +1,172 @@
+package com.clinic.modules.ecommerce.repository;
+
+import com.clinic.modules.ecommerce.dto.ProductFacetCounts;
+import com.clinic.modules.ecommerce.dto.ProductFacetFilter;
+import com.clinic.modules.ecommerce.model.ProductPriceBucket;
+import com.clinic.modules.ecommerce.model.ProductType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Repository computing storefront facet counts.
+ *
+ * All facets are counted in a single statement: a CTE evaluates each facet
+ * predicate once per visible product, and one UNION ALL branch per facet
+ * aggregates with every predicate except its own.
+ */
+@Repository
+public class ProductFacetRepository {
+
+    private static final String BUCKET_EXPRESSION = buildBucketExpression();
+
+    // Same rule as ProductVariantEntity.isInStock()
+    private static final String IN_STOCK_EXPRESSION = """
+            (NOT EXISTS (SELECT 1 FROM product_variants v WHERE v.product_id = p.id)
+             OR EXISTS (SELECT 1 FROM product_variants v WHERE v.product_id = p.id AND v.is_in_stock = TRUE
+                        AND (v.stock_quantity IS NULL OR v.stock_quantity > 0)))""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ProductFacetRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Count visible, active products per facet value for the given selection.
+     */
+    public ProductFacetCounts countFacets(Long tenantId, ProductFacetFilter filter) {
+        // Parameters are bound in placeholder order: the category predicate sits in the
+        // CTE select list ahead of the tenant filter, the other predicates follow it
+        List<Object> params = new ArrayList<>();
+
+        String categoryMatch = "TRUE";
+        if (filter.categoryId() != null) {
+            categoryMatch = "EXISTS (SELECT 1 FROM product_categories pc WHERE pc.product_id = p.id AND pc.category_id = ?)";
+            params.add(filter.categoryId());
+        }
+        params.add(tenantId);
+
+        String priceMatch = "TRUE";
+        if (filter.priceBucket() != null) {
+            priceMatch = "b.price_bucket = ?";
+            params.add(filter.priceBucket().name());
+        }
+        String stockMatch = "TRUE";
+        if (filter.inStock() != null) {
+            stockMatch = "b.in_stock = ?";
+            params.add(filter.inStock());
+        }
+        String typeMatch = "TRUE";
+        if (filter.productType() != null) {
+            typeMatch = "b.product_type = ?";
+            params.add(filter.productType().name());
+        }
+        params.add(tenantId);
+
+        String sql = """
+                WITH base AS (
+                    SELECT p.id, p.product_type,
+                           %s AS price_bucket,
+                           %s AS in_stock,
+                           %s AS category_match
+                    FROM products p
+                    WHERE p.tenant_id = ? AND p.status = 'ACTIVE' AND p.is_visible = TRUE
+                ), flagged AS (
+                    SELECT b.id, b.product_type, b.price_bucket, b.in_stock, b.category_match,
+                           %s AS price_match, %s AS stock_match, %s AS type_match
+                    FROM base b
+                )
+                SELECT 'total' AS facet, NULL AS facet_value, NULL AS label, NULL AS slug, COUNT(*) AS cnt
+                FROM flagged WHERE category_match AND price_match AND stock_match AND type_match
+                UNION ALL
+                SELECT 'price', price_bucket, NULL, NULL, COUNT(*)
+                FROM flagged WHERE category_match AND stock_match AND type_match AND price_bucket IS NOT NULL
+                GROUP BY price_bucket
+                UNION ALL
+                SELECT 'stock', CAST(in_stock AS VARCHAR), NULL, NULL, COUNT(*)
+                FROM flagged WHERE category_match AND price_match AND type_match
+                GROUP BY in_stock
+                UNION ALL
+                SELECT 'type', product_type, NULL, NULL, COUNT(*)
+                FROM flagged WHERE category_match AND price_match AND stock_match
+                GROUP BY product_type
+                UNION ALL
+                SELECT 'category', CAST(c.id AS VARCHAR), c.name, c.slug, COUNT(DISTINCT f.id)
+                FROM flagged f
+                JOIN product_categories pc ON pc.product_id = f.id
+                JOIN categories c ON c.id = pc.category_id
+                WHERE f.price_match AND f.stock_match AND f.type_match
+                  AND c.tenant_id = ? AND c.is_active = TRUE
+                GROUP BY c.id, c.name, c.slug
+                """.formatted(BUCKET_EXPRESSION, IN_STOCK_EXPRESSION, categoryMatch, priceMatch, stockMatch, typeMatch);
+
+        FacetAccumulator accumulator = new FacetAccumulator();
+        jdbcTemplate.query(sql, rs -> {
+            accumulator.add(rs.getString("facet"), rs.getString("facet_value"),
+                    rs.getString("label"), rs.getString("slug"), rs.getLong("cnt"));
+        }, params.toArray());
+        return accumulator.toCounts();
+    }
+
+    private static String buildBucketExpression() {
+        StringBuilder sql = new StringBuilder("CASE WHEN p.price IS NULL THEN NULL");
+        for (ProductPriceBucket bucket : ProductPriceBucket.values()) {
+            if (bucket.getMax() != null) {
+                sql.append(" WHEN p.price < ").append(bucket.getMax().toPlainString())
+                   .append(" THEN '").append(bucket.name()).append('\'');
+            } else {
+                sql.append(" ELSE '").append(bucket.name()).append('\'');
+            }
+        }
+        return sql.append(" END").toString();
+    }
+
+    private static final class FacetAccumulator {
+        private long total;
+        private long inStock;
+        private long outOfStock;
+        private final List<ProductFacetCounts.CategoryFacet> categories = new ArrayList<>();
+        private final Map<ProductPriceBucket, Long> priceBuckets = new EnumMap<>(ProductPriceBucket.class);
+        private final Map<ProductType, Long> productTypes = new EnumMap<>(ProductType.class);
+
+        FacetAccumulator() {
+            for (ProductPriceBucket bucket : ProductPriceBucket.values()) {
+                priceBuckets.put(bucket, 0L);
+            }
+            for (ProductType type : ProductType.values()) {
+                productTypes.put(type, 0L);
+            }
+        }
+
+        void add(String facet, String value, String label, String slug, long count) {
+            switch (facet) {
+                case "total" -> total = count;
+                case "price" -> priceBuckets.put(ProductPriceBucket.valueOf(value), count);
+                case "stock" -> {
+                    if (Boolean.parseBoolean(value)) {
+                        inStock = count;
+                    } else {
+                        outOfStock = count;
+                    }
+                }
+                case "type" -> productTypes.put(ProductType.valueOf(value), count);
+                case "category" -> categories.add(
+                        new ProductFacetCounts.CategoryFacet(Long.valueOf(value), label, slug, count));
+                default -> throw new IllegalStateException("Unexpected facet row: " + facet);
+            }
+        }
+
+        ProductFacetCounts toCounts() {
+            categories.sort((a, b) -> a.name().compareToIgnoreCase(b.name()));
+            return new ProductFacetCounts(total, List.copyOf(categories),
+                    Collections.unmodifiableMap(priceBuckets), inStock, outOfStock,
+                    Collections.unmodifiableMap(productTypes));
+        }
+    }
+}
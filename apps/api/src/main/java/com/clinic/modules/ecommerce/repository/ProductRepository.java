@@ -2,6 +2,7 @@ package com.clinic.modules.ecommerce.repository;
 
 import com.clinic.modules.ecommerce.model.ProductEntity;
 import com.clinic.modules.ecommerce.model.ProductStatus;
+import com.clinic.modules.ecommerce.model.ProductType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -73,6 +74,17 @@ public interface ProductRepository extends JpaRepository<ProductEntity, Long> {
            "WHERE p.tenantId = :tenantId AND pc.category.id = :categoryId AND p.status = 'ACTIVE' AND p.isVisible = true")
     Page<ProductEntity> findVisibleByTenantAndCategory(@Param("tenantId") Long tenantId, @Param("categoryId") Long categoryId, Pageable pageable);
 
+    @Query("SELECT DISTINCT p FROM ProductEntity p " +
+           "JOIN p.productCategories pc " +
+           "JOIN pc.category c " +
+           "WHERE p.tenantId = :tenantId AND c.tenantId = :tenantId " +
+           "AND c.path >= :pathPrefix AND c.path < :pathUpperBound " +
+           "AND p.status = 'ACTIVE' AND p.isVisible = true")
+    Page<ProductEntity> findVisibleByTenantAndCategoryPath(@Param("tenantId") Long tenantId,
+                                                           @Param("pathPrefix") String pathPrefix,
+                                                           @Param("pathUpperBound") String pathUpperBound,
+                                                           Pageable pageable);
+
     @Query("SELECT DISTINCT p FROM ProductEntity p " +
            "JOIN p.productCategories pc " +
            "WHERE p.tenantId = :tenantId AND pc.category.id IN :categoryIds")
@@ -115,6 +127,31 @@ public interface ProductRepository extends JpaRepository<ProductEntity, Long> {
         Pageable pageable
     );
 
+    // Faceted filtering; returns a list because the total comes from the facet counts
+    @Query("SELECT p FROM ProductEntity p " +
+           "WHERE p.tenantId = :tenantId AND p.status = 'ACTIVE' AND p.isVisible = true " +
+           "AND (:categoryId IS NULL OR EXISTS (SELECT 1 FROM ProductCategoryEntity pc " +
+           "     WHERE pc.product = p AND pc.category.id = :categoryId)) " +
+           "AND (:minPrice IS NULL OR p.price >= :minPrice) " +
+           "AND (:maxPrice IS NULL OR p.price < :maxPrice) " +
+           "AND (:productType IS NULL OR p.productType = :productType) " +
+           "AND (:inStock IS NULL " +
+           "     OR (:inStock = true AND (NOT EXISTS (SELECT 1 FROM ProductVariantEntity v WHERE v.product = p) " +
+           "         OR EXISTS (SELECT 1 FROM ProductVariantEntity v WHERE v.product = p AND v.isInStock = true " +
+           "             AND (v.stockQuantity IS NULL OR v.stockQuantity > 0)))) " +
+           "     OR (:inStock = false AND EXISTS (SELECT 1 FROM ProductVariantEntity v WHERE v.product = p) " +
+           "         AND NOT EXISTS (SELECT 1 FROM ProductVariantEntity v WHERE v.product = p AND v.isInStock = true " +
+           "             AND (v.stockQuantity IS NULL OR v.stockQuantity > 0))))")
+    List<ProductEntity> findVisibleByTenantWithFacets(
+        @Param("tenantId") Long tenantId,
+        @Param("categoryId") Long categoryId,
+        @Param("minPrice") java.math.BigDecimal minPrice,
+        @Param("maxPrice") java.math.BigDecimal maxPrice,
+        @Param("productType") ProductType productType,
+        @Param("inStock") Boolean inStock,
+        Pageable pageable
+    );
+
     // Count queries
     @Query("SELECT COUNT(p) FROM ProductEntity p WHERE p.tenantId = :tenantId")
     long countByTenant(@Param("tenantId") Long tenantId);
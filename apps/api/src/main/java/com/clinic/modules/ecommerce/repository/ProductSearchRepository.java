@@ -0,0 +1,119 @@
+package com.clinic.modules.ecommerce.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Repository for ranked full-text product search.
+ *
+ * Matches a term against the English search vector, the normalized-Arabic
+ * search vector and the trigram name column (see
+ * V20250616_001__add_product_full_text_search.sql); each predicate is served
+ * by its own GIN index. The trigram match uses word similarity, so a
+ * misspelled word is compared with the closest word of the name rather than
+ * the whole string. Results are ordered by a combined score, and snippets
+ * are only built for the returned page.
+ */
+@Repository
+public class ProductSearchRepository {
+
+    private static final String HEADLINE_OPTIONS =
+            "MaxWords=24, MinWords=8, ShortWord=2, MaxFragments=2, FragmentDelimiter=\" ... \", StartSel=<mark>, StopSel=</mark>";
+
+    private static final String QUERY_CTE = """
+            q AS (
+                SELECT websearch_to_tsquery('english', ?) AS en_query,
+                       websearch_to_tsquery('simple', normalize_arabic(?)) AS ar_query,
+                       lower(normalize_arabic(?)) AS term
+            )""";
+
+    private static final String MATCH_PREDICATE = """
+            p.tenant_id = ? AND p.status = 'ACTIVE' AND p.is_visible = TRUE
+                  AND (p.search_vector_en @@ q.en_query
+                       OR p.search_vector_ar @@ q.ar_query
+                       OR q.term <% p.search_trgm)""";
+
+    private static final String SEARCH_SQL = """
+            WITH %1$s, matches AS (
+                SELECT p.id,
+                       ts_rank_cd(p.search_vector_en, q.en_query, 32)
+                         + ts_rank_cd(p.search_vector_ar, q.ar_query, 32)
+                         + 0.5 * word_similarity(q.term, p.search_trgm) AS score,
+                       COUNT(*) OVER () AS total
+                FROM products p
+                CROSS JOIN q
+                WHERE %2$s
+                ORDER BY score DESC, p.id
+                LIMIT ? OFFSET ?
+            )
+            SELECT m.id, m.score, m.total,
+                   CASE WHEN ?
+                        THEN ts_headline('simple',
+                                 normalize_arabic(COALESCE(NULLIF(p.short_description_ar, ''), p.description_ar, p.name_ar, p.name)),
+                                 q.ar_query, '%3$s')
+                        ELSE ts_headline('english',
+                                 COALESCE(NULLIF(p.short_description, ''), p.description, p.name),
+                                 q.en_query, '%3$s')
+                   END AS snippet
+            FROM matches m
+            JOIN products p ON p.id = m.id
+            CROSS JOIN q
+            ORDER BY m.score DESC, m.id
+            """.formatted(QUERY_CTE, MATCH_PREDICATE, HEADLINE_OPTIONS);
+
+    // Only run for a page past the last hit, where the window count has no row to ride on
+    private static final String COUNT_SQL = """
+            WITH %s
+            SELECT COUNT(*)
+            FROM products p
+            CROSS JOIN q
+            WHERE %s
+            """.formatted(QUERY_CTE, MATCH_PREDICATE);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ProductSearchRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Search visible, active products of a tenant.
+     *
+     * @param tenantId the tenant ID
+     * @param term the raw search term; websearch syntax (quotes, "or", "-") is supported
+     * @param arabicSnippets whether snippets are built from the Arabic fields
+     * @param limit page size
+     * @param offset number of hits to skip
+     * @return one page of hits in rank order and the total hit count
+     */
+    public SearchResult search(Long tenantId, String term, boolean arabicSnippets, int limit, long offset) {
+        List<SearchHit> hits = new ArrayList<>();
+        long[] total = {0};
+        jdbcTemplate.query(SEARCH_SQL, rs -> {
+            total[0] = rs.getLong("total");
+            hits.add(new SearchHit(rs.getLong("id"), rs.getDouble("score"), rs.getString("snippet")));
+        }, term, term, term, tenantId, limit, offset, arabicSnippets);
+        if (hits.isEmpty() && offset > 0) {
+            total[0] = jdbcTemplate.queryForObject(COUNT_SQL, Long.class, term, term, term, tenantId);
+        }
+        return new SearchResult(hits, total[0]);
+    }
+
+    /**
+     * A matching product with its relevance score and highlighted snippet.
+     */
+    public record SearchHit(Long productId, double score, String snippet) {
+    }
+
+    /**
+     * One page of hits plus the total number of matches.
+     *
+     * The total is read from the returned rows; a page past the last hit
+     * counts the matches with a separate query.
+     */
+    public record SearchResult(List<SearchHit> hits, long total) {
+    }
+}
@@ -271,7 +271,7 @@ public class CartService {
     @Transactional(readOnly = true)
     public Optional<CartEntity> getCart(TenantEntity tenant, String sessionId) {
         requireEcommerceEnabled(tenant);
-        return cartRepository.findByTenantIdAndSessionId(tenant.getId(), sessionId);
+        return cartRepository.findWithItemsByTenantIdAndSessionId(tenant.getId(), sessionId);
     }
 
     /**
@@ -2,6 +2,7 @@ package com.clinic.modules.ecommerce.service;
 
 import com.clinic.modules.core.tenant.TenantEntity;
 import com.clinic.modules.core.tenant.TenantRepository;
+import com.clinic.modules.ecommerce.dto.PublicCategoryTreeResponse;
 import com.clinic.modules.ecommerce.exception.ProductNotFoundException;
 import com.clinic.modules.ecommerce.model.CategoryEntity;
 import com.clinic.modules.ecommerce.model.ProductEntity;
@@ -14,7 +15,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -77,6 +81,7 @@ public class CategoryService {
         category.setSortOrder(maxSortOrder.orElse(0) + 1);
         
         category = categoryRepository.save(category);
+        category.refreshPath();
         
         log.info("Created root category {} for tenant {}", category.getId(), tenantId);
         return category;
@@ -126,6 +131,7 @@ public class CategoryService {
         category.setSortOrder(maxSortOrder.orElse(0) + 1);
         
         category = categoryRepository.save(category);
+        category.refreshPath();
         
         log.info("Created child category {} for tenant {} under parent {}", category.getId(), tenantId, parentId);
         return category;
@@ -293,7 +299,7 @@ public class CategoryService {
             newParent = getCategory(newParentId, tenantId);
             
             // Prevent circular references
-            if (newParent.isDescendantOf(category)) {
+            if (newParent.equals(category) || newParent.isDescendantOf(category)) {
                 throw new IllegalArgumentException("Cannot move category to its own descendant");
             }
             
@@ -303,7 +309,11 @@ public class CategoryService {
             }
         }
         
+        String oldPath = category.getPath();
+        int oldDepth = category.getDepth();
+        
         category.setParent(newParent);
+        category.refreshPath();
         
         // Set sort order as the last in the new parent
         Optional<Integer> maxSortOrder = newParentId != null 
@@ -313,6 +323,18 @@ public class CategoryService {
         
         category = categoryRepository.save(category);
         
+        // Rebase all descendants onto the new path in a single statement
+        if (oldPath != null && !oldPath.equals(category.getPath())) {
+            int rebased = categoryRepository.rebaseSubtree(
+                    tenantId,
+                    oldPath,
+                    CategoryEntity.pathUpperBound(oldPath),
+                    oldPath.length(),
+                    category.getPath(),
+                    category.getDepth() - oldDepth);
+            log.debug("Rebased {} descendant categories of category {}", rebased, categoryId);
+        }
+        
         log.info("Moved category {} to parent {} for tenant {}", categoryId, newParentId, tenantId);
         return category;
     }
@@ -419,6 +441,45 @@ public class CategoryService {
         return categoryRepository.findActiveChildrenByTenantAndParent(tenantId, parentId);
     }
 
+    /**
+     * Get the full active category tree for a tenant.
+     * 
+     * Loads all active categories with one query and assembles the tree in memory.
+     * Categories below an inactive ancestor are omitted.
+     * 
+     * @param tenantId the tenant ID
+     * @return root nodes of the active tree, each with nested children
+     */
+    @Transactional(readOnly = true)
+    public List<PublicCategoryTreeResponse> getActiveCategoryTree(Long tenantId) {
+        log.debug("Getting active category tree for tenant {}", tenantId);
+        
+        // Validate e-commerce feature is enabled
+        ecommerceFeatureService.validateEcommerceEnabled(tenantId);
+        
+        // Ordered by depth, so every parent is seen before its children
+        List<CategoryEntity> categories = categoryRepository.findActiveTreeByTenant(tenantId);
+        
+        Map<Long, PublicCategoryTreeResponse> nodes = new HashMap<>();
+        List<PublicCategoryTreeResponse> roots = new ArrayList<>();
+        for (CategoryEntity category : categories) {
+            PublicCategoryTreeResponse node = PublicCategoryTreeResponse.fromEntity(category);
+            if (category.getParent() == null) {
+                roots.add(node);
+            } else {
+                PublicCategoryTreeResponse parentNode = nodes.get(category.getParent().getId());
+                if (parentNode == null) {
+                    // Parent is inactive, so the whole branch is hidden
+                    continue;
+                }
+                parentNode.children().add(node);
+            }
+            nodes.put(category.getId(), node);
+        }
+        
+        return roots;
+    }
+
     /**
      * Get all categories for a tenant with pagination.
      * 
@@ -6,7 +6,6 @@ import com.clinic.modules.ecommerce.dto.CreateOrderRequest;
 import com.clinic.modules.ecommerce.exception.InvalidCartStateException;
 import com.clinic.modules.ecommerce.exception.ProductNotFoundException;
 import com.clinic.modules.ecommerce.model.*;
-import com.clinic.modules.ecommerce.repository.OrderItemRepository;
 import com.clinic.modules.ecommerce.repository.OrderRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -16,11 +15,8 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Service for order processing with cart validation and order creation.
@@ -31,22 +27,21 @@ import java.util.concurrent.ThreadLocalRandom;
 public class OrderService {
 
     private static final Logger logger = LoggerFactory.getLogger(OrderService.class);
-    private static final DateTimeFormatter ORDER_NUMBER_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
 
     private final OrderRepository orderRepository;
-    private final OrderItemRepository orderItemRepository;
     private final CartService cartService;
     private final ProductService productService;
+    private final OrderNumberGenerator orderNumberGenerator;
 
     @Autowired
     public OrderService(OrderRepository orderRepository,
-                       OrderItemRepository orderItemRepository,
                        CartService cartService,
-                       ProductService productService) {
+                       ProductService productService,
+                       OrderNumberGenerator orderNumberGenerator) {
         this.orderRepository = orderRepository;
-        this.orderItemRepository = orderItemRepository;
         this.cartService = cartService;
         this.productService = productService;
+        this.orderNumberGenerator = orderNumberGenerator;
     }
 
     /**
@@ -78,7 +73,7 @@ public class OrderService {
         }
 
         // Generate unique order number
-        String orderNumber = generateOrderNumber(tenant);
+        String orderNumber = orderNumberGenerator.nextOrderNumber(tenant.getId());
 
         // Create order entity
         OrderEntity order = new OrderEntity(tenant, orderNumber);
@@ -100,19 +95,13 @@ public class OrderService {
         order.setTaxAmount(cart.getTaxAmount());
         order.setTotalAmount(cart.getTotalAmount());
 
-        // Save order first to get ID
-        OrderEntity savedOrder = orderRepository.save(order);
-
-        // Create order items from cart items
+        // Attach items before persisting; the cascade writes the order and all
+        // items in a single flush, batched thanks to sequence-based ids
         for (CartItemEntity cartItem : cart.getItems()) {
-            OrderItemEntity orderItem = OrderItemEntity.fromCartItem(savedOrder, cartItem);
-            orderItemRepository.save(orderItem);
-            savedOrder.addItem(orderItem);
+            order.addItem(OrderItemEntity.fromCartItem(order, cartItem));
         }
 
-        // Recalculate totals and save
-        savedOrder.calculateTotals();
-        OrderEntity finalOrder = orderRepository.save(savedOrder);
+        OrderEntity finalOrder = orderRepository.save(order);
 
         logger.info("Created order {} from cart {} for tenant {}", 
                    finalOrder.getOrderNumber(), cart.getId(), tenant.getId());
@@ -150,7 +139,7 @@ public class OrderService {
         }
 
         // Generate unique order number
-        String orderNumber = generateOrderNumber(tenant);
+        String orderNumber = orderNumberGenerator.nextOrderNumber(tenant.getId());
 
         // Create order entity
         OrderEntity order = new OrderEntity(tenant, orderNumber);
@@ -167,12 +156,9 @@ public class OrderService {
         order.setCurrency("USD"); // Default currency, could be made configurable
         order.setStatus(OrderStatus.PENDING_PAYMENT);
 
-        // Save order first to get ID
-        OrderEntity savedOrder = orderRepository.save(order);
-
         // Create single order item
         OrderItemEntity orderItem = new OrderItemEntity();
-        orderItem.setOrder(savedOrder);
+        orderItem.setOrder(order);
         orderItem.setProduct(product);
         orderItem.setVariant(variant);
         orderItem.setQuantity(request.getQuantity());
@@ -189,12 +175,9 @@ public class OrderService {
             orderItem.setVariantName(variant.getName());
         }
 
-        orderItemRepository.save(orderItem);
-        savedOrder.addItem(orderItem);
-
-        // Calculate totals and save
-        savedOrder.calculateTotals();
-        OrderEntity finalOrder = orderRepository.save(savedOrder);
+        // Calculate totals and persist order with its item in one flush
+        order.addItem(orderItem);
+        OrderEntity finalOrder = orderRepository.save(order);
 
         logger.info("Created direct order {} for product {} and tenant {}", 
                    finalOrder.getOrderNumber(), product.getName(), tenant.getId());
@@ -381,29 +364,6 @@ public class OrderService {
         }
     }
 
-    /**
-     * Generate unique order number for tenant.
-     */
-    private String generateOrderNumber(TenantEntity tenant) {
-        String datePrefix = LocalDateTime.now().format(ORDER_NUMBER_FORMAT);
-        String tenantPrefix = String.format("%04d", tenant.getId() % 10000);
-        
-        int attempts = 0;
-        while (attempts < 10) {
-            int randomSuffix = ThreadLocalRandom.current().nextInt(1000, 9999);
-            String orderNumber = tenantPrefix + "-" + datePrefix + "-" + randomSuffix;
-            
-            if (!orderRepository.existsByTenantAndOrderNumber(tenant.getId(), orderNumber)) {
-                return orderNumber;
-            }
-            attempts++;
-        }
-        
-        // Fallback with timestamp if all attempts fail
-        long timestamp = System.currentTimeMillis() % 100000;
-        return tenantPrefix + "-" + datePrefix + "-" + timestamp;
-    }
-
     /**
      * Order statistics data class.
      */
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -37,7 +38,7 @@ public class PayPalService {
 
     public PayPalService(PayPalConfigService payPalConfigService,
                         PaymentRepository paymentRepository,
-                        RestTemplate restTemplate,
+                        @Qualifier("paypalRestTemplate") RestTemplate restTemplate,
                         ObjectMapper objectMapper) {
         this.payPalConfigService = payPalConfigService;
         this.paymentRepository = paymentRepository;
@@ -1,21 +1,36 @@
 package com.clinic.modules.ecommerce.service;
 
+import com.clinic.api.PaginationMetadata;
 import com.clinic.modules.core.tenant.TenantService;
 import com.clinic.modules.core.tenant.TenantEntity;
+import com.clinic.modules.ecommerce.cache.ProductFacetCache;
+import com.clinic.modules.ecommerce.dto.ProductFacetCounts;
+import com.clinic.modules.ecommerce.dto.ProductFacetFilter;
+import com.clinic.modules.ecommerce.dto.PublicProductFacetResponse;
 import com.clinic.modules.ecommerce.dto.PublicProductResponse;
+import com.clinic.modules.ecommerce.dto.PublicProductSearchHit;
 import com.clinic.modules.ecommerce.exception.ProductNotFoundException;
+import com.clinic.modules.ecommerce.model.CategoryEntity;
 import com.clinic.modules.ecommerce.model.ProductEntity;
 import com.clinic.modules.ecommerce.model.ProductStatus;
+import com.clinic.modules.ecommerce.repository.CategoryRepository;
+import com.clinic.modules.ecommerce.repository.ProductFacetRepository;
 import com.clinic.modules.ecommerce.repository.ProductRepository;
+import com.clinic.modules.ecommerce.repository.ProductSearchRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
 import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 
 /**
  * Service for public product browsing operations.
@@ -29,14 +44,26 @@ public class PublicProductService {
     private static final Logger log = LoggerFactory.getLogger(PublicProductService.class);
 
     private final ProductRepository productRepository;
+    private final CategoryRepository categoryRepository;
+    private final ProductFacetRepository productFacetRepository;
+    private final ProductFacetCache productFacetCache;
+    private final ProductSearchRepository productSearchRepository;
     private final TenantService tenantService;
     private final EcommerceFeatureService ecommerceFeatureService;
 
     public PublicProductService(
             ProductRepository productRepository,
+            CategoryRepository categoryRepository,
+            ProductFacetRepository productFacetRepository,
+            ProductFacetCache productFacetCache,
+            ProductSearchRepository productSearchRepository,
             TenantService tenantService,
             EcommerceFeatureService ecommerceFeatureService) {
         this.productRepository = productRepository;
+        this.categoryRepository = categoryRepository;
+        this.productFacetRepository = productFacetRepository;
+        this.productFacetCache = productFacetCache;
+        this.productSearchRepository = productSearchRepository;
         this.tenantService = tenantService;
         this.ecommerceFeatureService = ecommerceFeatureService;
     }
@@ -137,19 +164,60 @@ public class PublicProductService {
     }
 
     /**
-     * Search visible products for a tenant.
+     * Search visible products for a tenant, ordered by relevance.
      * 
      * @param tenantId the tenant ID
      * @param searchTerm the search term
-     * @param pageable pagination parameters
+     * @param pageable pagination parameters; sort is ignored in favour of relevance
      * @return page of matching products
      */
     @Transactional(readOnly = true)
     public Page<PublicProductResponse> searchVisibleProducts(Long tenantId, String searchTerm, Pageable pageable, String locale) {
+        return searchVisibleProductsRanked(tenantId, searchTerm, pageable, locale)
+                .map(PublicProductSearchHit::product);
+    }
+
+    /**
+     * Search visible products for a tenant with relevance scores and highlighted snippets.
+     * 
+     * English fields are matched with stemming, Arabic fields after diacritic and
+     * alef normalization, and names/SKUs by trigram similarity to tolerate typos.
+     * Snippets come from the Arabic fields when the locale or the term is Arabic.
+     * 
+     * @param tenantId the tenant ID
+     * @param searchTerm the search term
+     * @param pageable pagination parameters; sort is ignored in favour of relevance
+     * @return page of search hits in rank order
+     */
+    @Transactional(readOnly = true)
+    public Page<PublicProductSearchHit> searchVisibleProductsRanked(Long tenantId, String searchTerm, Pageable pageable, String locale) {
         log.debug("Searching visible products for tenant {} with term: {}", tenantId, searchTerm);
         
-        Page<ProductEntity> products = productRepository.searchVisibleByTenant(tenantId, searchTerm, pageable);
-        return products.map(product -> PublicProductResponse.fromEntity(product, locale));
+        if (!StringUtils.hasText(searchTerm)) {
+            return Page.empty(pageable);
+        }
+        
+        String term = searchTerm.trim();
+        boolean arabic = (locale != null && locale.toLowerCase(Locale.ROOT).startsWith("ar")) || containsArabic(term);
+        ProductSearchRepository.SearchResult result = productSearchRepository.search(
+                tenantId, term, arabic, pageable.getPageSize(), pageable.getOffset());
+        
+        List<Long> ids = result.hits().stream().map(ProductSearchRepository.SearchHit::productId).toList();
+        Map<Long, ProductEntity> productsById = new HashMap<>();
+        productRepository.findAllById(ids).forEach(product -> productsById.put(product.getId(), product));
+        
+        List<PublicProductSearchHit> hits = result.hits().stream()
+                .filter(hit -> productsById.containsKey(hit.productId()))
+                .map(hit -> new PublicProductSearchHit(
+                        PublicProductResponse.fromEntity(productsById.get(hit.productId()), locale),
+                        hit.score(),
+                        hit.snippet()))
+                .toList();
+        return new PageImpl<>(hits, pageable, result.total());
+    }
+
+    private static boolean containsArabic(String text) {
+        return text.codePoints().anyMatch(c -> Character.UnicodeBlock.of(c) == Character.UnicodeBlock.ARABIC);
     }
 
     /**
@@ -168,6 +236,32 @@ public class PublicProductService {
         return products.map(product -> PublicProductResponse.fromEntity(product, locale));
     }
 
+    /**
+     * Get visible products in a category or any of its descendant categories.
+     * 
+     * Uses the category's materialized path, so the whole subtree is matched
+     * with one indexed range query instead of walking the tree.
+     * 
+     * @param tenantId the tenant ID
+     * @param categoryId the root category ID of the subtree
+     * @param pageable pagination parameters
+     * @return page of products in the category subtree
+     * @throws ProductNotFoundException if the category does not exist
+     */
+    @Transactional(readOnly = true)
+    public Page<PublicProductResponse> getVisibleProductsInCategoryTree(Long tenantId, Long categoryId, Pageable pageable, String locale) {
+        log.debug("Getting visible products in category tree {} for tenant {}", categoryId, tenantId);
+        
+        CategoryEntity category = categoryRepository.findByIdAndTenant(categoryId, tenantId)
+                .orElseThrow(() -> new ProductNotFoundException(null, tenantId,
+                    "Category with ID " + categoryId + " not found"));
+        
+        String pathPrefix = category.resolvePath();
+        Page<ProductEntity> products = productRepository.findVisibleByTenantAndCategoryPath(
+                tenantId, pathPrefix, CategoryEntity.pathUpperBound(pathPrefix), pageable);
+        return products.map(product -> PublicProductResponse.fromEntity(product, locale));
+    }
+
     /**
      * Get visible products within a price range for a tenant.
      * 
@@ -223,6 +317,52 @@ public class PublicProductService {
         return products.map(product -> PublicProductResponse.fromEntity(product, locale));
     }
 
+    /**
+     * Get visible products matching a facet selection, together with facet counts.
+     * 
+     * Facet counts (including the total) come from one aggregate query and are
+     * cached per tenant until the catalog changes; the page itself is one more
+     * query without a separate count.
+     * 
+     * @param tenantId the tenant ID
+     * @param filter the selected facet values
+     * @param pageable pagination parameters
+     * @return page of matching products with facet counts
+     */
+    @Transactional(readOnly = true)
+    public PublicProductFacetResponse getVisibleProductsWithFacets(
+            Long tenantId,
+            ProductFacetFilter filter,
+            Pageable pageable,
+            String locale) {
+        
+        log.debug("Getting faceted products for tenant {}: {}", tenantId, filter);
+        
+        ProductFacetCounts facets = productFacetCache.get(tenantId, filter,
+                () -> productFacetRepository.countFacets(tenantId, filter));
+        
+        List<PublicProductResponse> products = List.of();
+        if (pageable.getOffset() < facets.total()) {
+            BigDecimal minPrice = filter.priceBucket() != null ? filter.priceBucket().getMin() : null;
+            BigDecimal maxPrice = filter.priceBucket() != null ? filter.priceBucket().getMax() : null;
+            products = productRepository.findVisibleByTenantWithFacets(
+                    tenantId,
+                    filter.categoryId(),
+                    minPrice,
+                    maxPrice,
+                    filter.productType(),
+                    filter.inStock(),
+                    pageable
+            ).stream()
+                    .map(product -> PublicProductResponse.fromEntity(product, locale))
+                    .toList();
+        }
+        
+        PaginationMetadata pagination = PaginationMetadata.forList(
+                pageable.getPageNumber(), pageable.getPageSize(), facets.total());
+        return new PublicProductFacetResponse(products, pagination, facets);
+    }
+
     /**
      * Get recently added visible products for a tenant.
      * 
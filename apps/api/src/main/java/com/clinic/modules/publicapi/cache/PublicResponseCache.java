@@ -0,0 +1,117 @@
+package com.clinic.modules.publicapi.cache;
+
+import com.clinic.modules.core.cache.PendingTenantInvalidations;
+import com.clinic.modules.core.cache.TenantContentChangedEvent;
+import com.clinic.modules.core.cache.TenantGenerations;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+
+/**
+ * Serialized responses of hot public GET endpoints, per tenant.
+ *
+ * Entries are keyed by tenant, content generation, host, path and query. Writes to
+ * public content or translations publish a {@link TenantContentChangedEvent},
+ * which bumps the tenant's generation after the transaction commits, so
+ * responses rendered before the write are never served again. Other nodes only see the write once their
+ * entries expire, so the TTL is kept short. The cache is bounded by the bytes
+ * of the bodies it holds, not by entry count, since one body may be up to
+ * {@code max-body-bytes}.
+ */
+@Component
+public class PublicResponseCache {
+
+    private static final Logger log = LoggerFactory.getLogger(PublicResponseCache.class);
+
+    // Key, headers and bookkeeping, so empty bodies still count
+    private static final int ENTRY_OVERHEAD_BYTES = 512;
+
+    private final Cache<ResponseKey, CachedResponse> cache;
+    private final TenantGenerations generations = new TenantGenerations();
+    private final PendingTenantInvalidations pendingInvalidations =
+            new PendingTenantInvalidations(PendingTenantInvalidations.Phase.COMMIT, this::invalidateTenant);
+
+    public PublicResponseCache(@Value("${public-api.response-cache.ttl:PT1M}") Duration ttl,
+                               @Value("${public-api.response-cache.max-size:64MB}") DataSize maximumSize) {
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumWeight(maximumSize.toBytes())
+                .weigher((ResponseKey key, CachedResponse response) -> response.body().length + ENTRY_OVERHEAD_BYTES)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Builds the key for a request against the tenant's current generation.
+     */
+    ResponseKey keyFor(Long tenantId, String host, String path, String query) {
+        return new ResponseKey(tenantId, generations.current(tenantId), host, path, query);
+    }
+
+    CachedResponse get(ResponseKey key) {
+        return cache.getIfPresent(key);
+    }
+
+    /**
+     * Stores a rendered response unless the tenant's content changed while it
+     * was being rendered.
+     */
+    void put(ResponseKey key, CachedResponse response) {
+        if (generations.current(key.tenantId()) == key.generation()) {
+            cache.put(key, response);
+        }
+    }
+
+    @EventListener
+    public void onTenantContentChanged(TenantContentChangedEvent event) {
+        if (event.getArea() != TenantContentChangedEvent.Area.CATALOG) {
+            invalidateTenantAfterCommit(event.getTenantId());
+        }
+    }
+
+    /**
+     * Invalidate the tenant's cached responses once the current transaction
+     * commits, or immediately when no transaction is active.
+     */
+    public void invalidateTenantAfterCommit(Long tenantId) {
+        pendingInvalidations.add(tenantId);
+    }
+
+    public void invalidateTenant(Long tenantId) {
+        long next = generations.bump(tenantId);
+        log.debug("Public response cache for tenant {} moved to generation {}", tenantId, next);
+    }
+
+    record ResponseKey(Long tenantId, long generation, String host, String path, String query) {}
+
+    /**
+     * A response body as written to the client, with its strong ETag. The ETag is
+     * derived from the bytes so every node hands out the same validator for the
+     * same content.
+     */
+    record CachedResponse(byte[] body, String contentType, String cacheControl, String etag) {
+
+        static CachedResponse of(byte[] body, String contentType, String cacheControl) {
+            return new CachedResponse(body, contentType, cacheControl, etagOf(body));
+        }
+
+        private static String etagOf(byte[] body) {
+            try {
+                byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+                return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 not available", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package com.clinic.modules.publicapi.cache;
+
+import com.clinic.config.TenantProperties;
+import com.clinic.modules.core.tenant.TenantContextHolder;
+import com.clinic.modules.core.tenant.TenantResolutionFilter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+
+/**
+ * Serves hot public GET endpoints from {@link PublicResponseCache}.
+ *
+ * The first request for a tenant, path and query renders through the
+ * controller as usual and its JSON bytes are kept; later requests are written
+ * straight from those bytes without touching the service layer or Jackson.
+ * Every response carries a strong ETag, and a matching If-None-Match gets a
+ * 304. The tenant is resolved from a header or the Host as well as the URL,
+ * so the normalized host is part of the key and responses vary on those
+ * headers for shared caches. The key only takes the query parameters the
+ * route's controller reads.
+ */
+@Component
+@Order(110) // After security (CORS headers) and the e-commerce feature check
+public class PublicResponseCacheFilter extends OncePerRequestFilter {
+
+    // Blog detail is left out because each read increments the view count,
+    // and the timezone endpoint returns the current time. Each route lists the
+    // query parameters its controller reads; only those go into the key, so
+    // made-up parameters cannot mint new entries.
+    private static final List<CacheableRoute> ROUTES = List.of(
+            CacheableRoute.of("settings"),
+            CacheableRoute.of("translations", "locale", "namespace"),
+            CacheableRoute.of("services(/[^/]+)?", "locale"),
+            CacheableRoute.of("doctors", "locale", "service"),
+            CacheableRoute.of("doctors/[^/]+", "locale"),
+            CacheableRoute.of("insurance-companies", "locale"),
+            CacheableRoute.of("blogs", "locale"));
+
+    private final PublicResponseCache responseCache;
+    private final TenantContextHolder tenantContextHolder;
+    private final String vary;
+    private final boolean enabled;
+    private final int maxBodyBytes;
+
+    public PublicResponseCacheFilter(PublicResponseCache responseCache,
+                                     TenantContextHolder tenantContextHolder,
+                                     TenantProperties tenantProperties,
+                                     @Value("${public-api.response-cache.enabled:true}") boolean enabled,
+                                     @Value("${public-api.response-cache.max-body-bytes:1048576}") int maxBodyBytes) {
+        this.responseCache = responseCache;
+        this.tenantContextHolder = tenantContextHolder;
+        this.vary = HttpHeaders.HOST + ", " + tenantProperties.getHeaderName() + ", X-Forwarded-Host";
+        this.enabled = enabled;
+        this.maxBodyBytes = maxBodyBytes;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled
+                || !"GET".equals(request.getMethod())
+                || routeFor(pathWithinApplication(request)) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        Long tenantId = tenantContextHolder.requireTenantId();
+        String path = pathWithinApplication(request);
+        PublicResponseCache.ResponseKey key = responseCache.keyFor(
+                tenantId, host(request), path, canonicalQuery(request, routeFor(path)));
+
+        PublicResponseCache.CachedResponse cached = responseCache.get(key);
+        if (cached != null) {
+            write(request, response, cached);
+            return;
+        }
+
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        filterChain.doFilter(request, wrapper);
+
+        byte[] body = wrapper.getContentAsByteArray();
+        if (!isCacheable(wrapper, body)) {
+            wrapper.copyBodyToResponse();
+            return;
+        }
+
+        String cacheControl = wrapper.getHeader(HttpHeaders.CACHE_CONTROL);
+        PublicResponseCache.CachedResponse rendered = PublicResponseCache.CachedResponse.of(
+                body,
+                wrapper.getContentType(),
+                StringUtils.hasText(cacheControl) ? cacheControl : CacheControl.noCache().getHeaderValue());
+        responseCache.put(key, rendered);
+        wrapper.resetBuffer();
+        write(request, response, rendered);
+    }
+
+    private boolean isCacheable(ContentCachingResponseWrapper wrapper, byte[] body) {
+        if (wrapper.getStatus() != HttpServletResponse.SC_OK || body.length > maxBodyBytes) {
+            return false;
+        }
+        String contentType = wrapper.getContentType();
+        if (contentType == null || !MediaType.APPLICATION_JSON.isCompatibleWith(MediaType.parseMediaType(contentType))) {
+            return false;
+        }
+        String cacheControl = wrapper.getHeader(HttpHeaders.CACHE_CONTROL);
+        return cacheControl == null || !(cacheControl.contains("no-store") || cacheControl.contains("private"));
+    }
+
+    private void write(HttpServletRequest request, HttpServletResponse response,
+                       PublicResponseCache.CachedResponse cached) throws IOException {
+        response.setHeader(HttpHeaders.ETAG, cached.etag());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cached.cacheControl());
+        response.setHeader(HttpHeaders.VARY, vary);
+
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), cached.etag())) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(cached.contentType());
+        response.setContentLength(cached.body().length);
+        response.getOutputStream().write(cached.body());
+    }
+
+    /**
+     * If-None-Match uses weak comparison, so a W/ prefix from an intermediary
+     * that re-encoded the body still matches.
+     */
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (!StringUtils.hasText(ifNoneMatch)) {
+            return false;
+        }
+        return Arrays.stream(ifNoneMatch.split(","))
+                .map(String::trim)
+                .map(tag -> tag.startsWith("W/") ? tag.substring(2) : tag)
+                .anyMatch(tag -> tag.equals("*") || tag.equals(etag));
+    }
+
+    /**
+     * The host the tenant was resolved from, normalized the same way.
+     */
+    private static String host(HttpServletRequest request) {
+        String forwardedHost = request.getHeader("X-Forwarded-Host");
+        String host = StringUtils.hasText(forwardedHost) ? forwardedHost : request.getServerName();
+        return String.valueOf(TenantResolutionFilter.normalizeHost(host));
+    }
+
+    /**
+     * The route's query parameters, sorted by name and URL-encoded. Parameters
+     * the route does not read are left out, as is the tenant parameter (the
+     * tenant is already part of the key).
+     */
+    static String canonicalQuery(HttpServletRequest request, CacheableRoute route) {
+        StringBuilder query = new StringBuilder();
+        for (String name : route.parameters()) {
+            String[] values = request.getParameterValues(name);
+            if (values == null) {
+                continue;
+            }
+            for (String value : values) {
+                if (!query.isEmpty()) {
+                    query.append('&');
+                }
+                query.append(URLEncoder.encode(name, StandardCharsets.UTF_8))
+                        .append('=')
+                        .append(URLEncoder.encode(value, StandardCharsets.UTF_8));
+            }
+        }
+        return query.toString();
+    }
+
+    static CacheableRoute routeFor(String path) {
+        for (CacheableRoute route : ROUTES) {
+            if (route.path().matcher(path).matches()) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    private static String pathWithinApplication(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        String contextPath = request.getContextPath();
+        return StringUtils.hasLength(contextPath) && uri.startsWith(contextPath)
+                ? uri.substring(contextPath.length())
+                : uri;
+    }
+
+    /**
+     * A cached public route and the query parameters its response depends on.
+     */
+    record CacheableRoute(Pattern path, SortedSet<String> parameters) {
+
+        static CacheableRoute of(String route, String... parameters) {
+            return new CacheableRoute(Pattern.compile("^(?:/api)*/public/" + route + "/?$"),
+                    new TreeSet<>(List.of(parameters)));
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.clinic.modules.publicapi.controller;
 
+import com.clinic.api.KeysetPageRequest;
 import com.clinic.modules.admin.dto.TreatmentPlanResponse;
 import com.clinic.modules.admin.service.TreatmentPlanService;
 import com.clinic.security.JwtPrincipal;
@@ -7,6 +8,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -26,15 +28,20 @@ public class PatientTreatmentPlanController {
     }
 
     /**
-     * Get all treatment plans for the authenticated patient.
-     * GET /public/treatment-plans/my
+     * Get a page of treatment plans for the authenticated patient, newest first.
+     * GET /public/treatment-plans/my?cursor=...&limit=100
+     * The cursor of the next page is returned in the X-Next-Cursor header.
      */
     @GetMapping("/my")
-    public ResponseEntity<List<TreatmentPlanResponse>> getMyTreatmentPlans(Authentication authentication) {
+    public ResponseEntity<List<TreatmentPlanResponse>> getMyTreatmentPlans(
+            Authentication authentication,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit
+    ) {
         JwtPrincipal principal = (JwtPrincipal) authentication.getPrincipal();
         Long patientId = Long.parseLong(principal.subject());
 
-        List<TreatmentPlanResponse> response = treatmentPlanService.getTreatmentPlansByPatient(patientId);
-        return ResponseEntity.ok(response);
+        return treatmentPlanService.listTreatmentPlans(patientId, null, null, KeysetPageRequest.of(cursor, limit))
+                .toResponseEntity();
     }
 }
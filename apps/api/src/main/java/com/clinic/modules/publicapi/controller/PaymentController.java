@@ -3,8 +3,8 @@ package com.clinic.modules.publicapi.controller;
 import com.clinic.api.ApiResponse;
 import com.clinic.api.ApiResponseFactory;
 import com.clinic.modules.core.payment.PayPalPaymentService;
-import com.clinic.modules.core.settings.ClinicSettingsEntity;
-import com.clinic.modules.core.settings.ClinicSettingsRepository;
+import com.clinic.modules.core.settings.ClinicSettingsCache;
+import com.clinic.modules.core.settings.ClinicSettingsSnapshot;
 import com.clinic.modules.core.tenant.TenantContextHolder;
 import com.clinic.modules.core.tenant.TenantEntity;
 import com.clinic.modules.core.tenant.TenantRepository;
@@ -33,7 +33,7 @@ public class PaymentController {
     private static final Logger logger = LoggerFactory.getLogger(PaymentController.class);
 
     private final PayPalPaymentService paymentService;
-    private final ClinicSettingsRepository settingsRepository;
+    private final ClinicSettingsCache clinicSettingsCache;
     private final TenantContextHolder tenantContextHolder;
     private final TenantRepository tenantRepository;
 
@@ -45,11 +45,11 @@ public class PaymentController {
 
     @Autowired
     public PaymentController(PayPalPaymentService paymentService,
-                             ClinicSettingsRepository settingsRepository,
+                             ClinicSettingsCache clinicSettingsCache,
                              TenantContextHolder tenantContextHolder,
                              TenantRepository tenantRepository) {
         this.paymentService = paymentService;
-        this.settingsRepository = settingsRepository;
+        this.clinicSettingsCache = clinicSettingsCache;
         this.tenantContextHolder = tenantContextHolder;
         this.tenantRepository = tenantRepository;
     }
@@ -112,9 +112,9 @@ public class PaymentController {
     @GetMapping("/settings")
     public ResponseEntity<ApiResponse<PaymentSettingsResponse>> getPaymentSettings(HttpServletRequest request) {
         try {
-            ClinicSettingsEntity settings = resolveTenantSettings(request);
+            ClinicSettingsSnapshot settings = resolveTenantSettings(request);
 
-            BigDecimal fee = settings.getVirtualConsultationFee();
+            BigDecimal fee = settings.virtualConsultationFee();
 
             if (fee == null || fee.compareTo(BigDecimal.ZERO) <= 0) {
                 return ResponseEntity.badRequest()
@@ -160,7 +160,7 @@ public class PaymentController {
         String paypalEnvironment
     ) {}
 
-    private ClinicSettingsEntity resolveTenantSettings(HttpServletRequest request) {
+    private ClinicSettingsSnapshot resolveTenantSettings(HttpServletRequest request) {
         Long tenantId = null;
 
         // Prefer explicit slug header
@@ -186,14 +186,14 @@ public class PaymentController {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Tenant context not provided");
         }
 
-        return settingsRepository.findByTenantId(tenantId)
+        return clinicSettingsCache.get(tenantId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Clinic settings not configured"));
     }
 
-    private PayPalSettings resolvePayPalSettings(ClinicSettingsEntity settings) {
-        String dbClientId = settings.getPaypalClientId();
+    private PayPalSettings resolvePayPalSettings(ClinicSettingsSnapshot settings) {
+        String dbClientId = settings.paypalClientId();
         if (StringUtils.hasText(dbClientId)) {
-            String dbEnvironment = settings.getPaypalEnvironment();
+            String dbEnvironment = settings.paypalEnvironment();
             String resolvedEnvironment = StringUtils.hasText(dbEnvironment)
                     ? dbEnvironment
                     : paypalEnvironmentFallback;
@@ -0,0 +1,197 @@
+package com.clinic.modules.publicapi.controller;
+
+import com.clinic.modules.core.image.storage.ImageContentTypes;
+import com.clinic.modules.core.image.storage.StoredImageService;
+import com.clinic.modules.core.image.storage.StoredImageService.DeliverableImage;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Serves self-hosted images and their resized variants.
+ *
+ * Image URLs are immutable (a new upload gets a new id), so responses are
+ * cacheable for a year. Conditional requests get a 304, and single byte
+ * ranges a 206. Files go out through Tomcat's sendfile when the connector
+ * supports it, otherwise through {@link FileChannel#transferTo}, so the bytes
+ * are never copied into the heap.
+ *
+ * Every response forbids content sniffing and carries a CSP that allows
+ * nothing, so a stored file can never run as a document on the API origin.
+ */
+@RestController
+@RequestMapping("/public/images")
+public class PublicImageController {
+
+    static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private static final String CACHE_CONTROL = CacheControl.maxAge(Duration.ofDays(365))
+            .cachePublic()
+            .immutable()
+            .getHeaderValue();
+
+    static final String CONTENT_SECURITY_POLICY = "default-src 'none'";
+
+    private final StoredImageService storedImageService;
+
+    public PublicImageController(StoredImageService storedImageService) {
+        this.storedImageService = storedImageService;
+    }
+
+    @GetMapping("/{imageId}/{variant}")
+    public void getImage(@PathVariable String imageId,
+                         @PathVariable String variant,
+                         HttpServletRequest request,
+                         HttpServletResponse response) throws IOException {
+        response.setHeader("X-Content-Type-Options", "nosniff");
+        response.setHeader("Content-Security-Policy", CONTENT_SECURITY_POLICY);
+        Optional<DeliverableImage> image = storedImageService.resolve(imageId, variant);
+        if (image.isEmpty()) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        send(image.get(), request, response);
+    }
+
+    static void send(DeliverableImage image, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        String etag = image.etag();
+        long lastModified = image.lastModified().toEpochMilli() / 1000 * 1000;
+
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, lastModified);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        if (notModified(request, etag, lastModified)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        long size = image.size();
+        long start = 0;
+        long end = size - 1;
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader != null && rangeApplies(request, etag, lastModified)) {
+            List<HttpRange> ranges;
+            try {
+                ranges = HttpRange.parseRanges(rangeHeader);
+            } catch (IllegalArgumentException e) {
+                // Unparseable ranges are ignored and the whole file is sent
+                ranges = List.of();
+            }
+            // Multiple ranges would need multipart/byteranges; the whole file is a valid answer
+            if (ranges.size() == 1) {
+                HttpRange range = ranges.get(0);
+                long rangeStart;
+                long rangeEnd;
+                try {
+                    rangeStart = range.getRangeStart(size);
+                    rangeEnd = range.getRangeEnd(size);
+                } catch (IllegalArgumentException e) {
+                    rangeStart = size;
+                    rangeEnd = size - 1;
+                }
+                if (size == 0 || rangeStart >= size || rangeStart > rangeEnd) {
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                    response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                    return;
+                }
+                start = rangeStart;
+                end = rangeEnd;
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size);
+            }
+        }
+
+        long length = end - start + 1;
+        response.setContentType(ImageContentTypes.servable(image.contentType()));
+        response.setContentLengthLong(length);
+        if ("HEAD".equalsIgnoreCase(request.getMethod()) || length <= 0) {
+            return;
+        }
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            // Tomcat sends the file from the socket after the servlet returns; end is exclusive
+            request.setAttribute(SENDFILE_FILENAME, image.path().toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+
+        try (FileChannel file = FileChannel.open(image.path(), StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = length;
+            while (remaining > 0) {
+                long sent = file.transferTo(position, remaining, out);
+                if (sent <= 0) {
+                    break;
+                }
+                position += sent;
+                remaining -= sent;
+            }
+        }
+    }
+
+    private static boolean notModified(HttpServletRequest request, String etag, long lastModified) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            return matches(ifNoneMatch, etag);
+        }
+        long ifModifiedSince = dateHeader(request, HttpHeaders.IF_MODIFIED_SINCE);
+        return ifModifiedSince >= 0 && lastModified <= ifModifiedSince;
+    }
+
+    /**
+     * If-Range: the range only applies while the client's copy is still current.
+     */
+    private static boolean rangeApplies(HttpServletRequest request, String etag, long lastModified) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            // Weak validators never match for ranges
+            return ifRange.trim().equals(etag);
+        }
+        long date = dateHeader(request, HttpHeaders.IF_RANGE);
+        return date >= 0 && date == lastModified;
+    }
+
+    static boolean matches(String ifNoneMatch, String etag) {
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || tag.equals(etag) || (tag.startsWith("W/") && tag.substring(2).equals(etag))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static long dateHeader(HttpServletRequest request, String name) {
+        try {
+            return request.getDateHeader(name);
+        } catch (IllegalArgumentException e) {
+            return -1;
+        }
+    }
+}
@@ -1,15 +1,18 @@
 package com.clinic.modules.publicapi.controller;
 
 import com.clinic.modules.core.translation.TenantTranslationService;
+import com.clinic.modules.core.translation.TranslationBundle;
 import com.clinic.modules.core.tenant.TenantContextHolder;
 import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
-import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 @RestController
@@ -27,16 +30,31 @@ public class TenantTranslationPublicController {
         this.tenantContextHolder = tenantContextHolder;
     }
 
+    /**
+     * Returns the tenant's translation overrides as a pre-serialized bundle.
+     * Clients that send the bundle's ETag back in If-None-Match get a 304
+     * without a body.
+     */
     @GetMapping
-    public ResponseEntity<Map<String, String>> getTranslations(
+    public ResponseEntity<byte[]> getTranslations(
             @RequestParam("locale") String locale,
-            @RequestParam(value = "namespace", required = false) String namespace
+            @RequestParam(value = "namespace", required = false) String namespace,
+            WebRequest webRequest
     ) {
         Long tenantId = tenantContextHolder.requireTenantId();
-        Map<String, String> translations = translationService.getTranslationsForLocale(tenantId, locale, namespace);
+        TranslationBundle bundle = translationService.getPublicTranslationBundle(tenantId, locale, namespace);
+        CacheControl cacheControl = CacheControl.maxAge(5, TimeUnit.MINUTES).cachePublic();
 
+        if (webRequest.checkNotModified(bundle.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(bundle.etag())
+                    .cacheControl(cacheControl)
+                    .build();
+        }
         return ResponseEntity.ok()
-                .cacheControl(CacheControl.maxAge(5, TimeUnit.MINUTES).cachePublic())
-                .body(translations);
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(bundle.etag())
+                .cacheControl(cacheControl)
+                .body(bundle.json());
     }
 }
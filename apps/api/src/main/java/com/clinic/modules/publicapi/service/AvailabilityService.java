@@ -10,8 +10,8 @@ import com.clinic.modules.core.service.ClinicServiceEntity;
 import com.clinic.modules.core.service.ClinicServiceRepository;
 import com.clinic.modules.publicapi.dto.AvailabilityRequest;
 import com.clinic.modules.publicapi.dto.AvailabilitySlotResponse;
-import com.clinic.modules.core.settings.ClinicSettingsEntity;
-import com.clinic.modules.core.settings.ClinicSettingsRepository;
+import com.clinic.modules.core.settings.ClinicSettingsCache;
+import com.clinic.modules.core.settings.ClinicSettingsSnapshot;
 import com.clinic.modules.core.tenant.TenantContextHolder;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
@@ -30,7 +30,7 @@ public class AvailabilityService {
     private final AppointmentRepository appointmentRepository;
     private final DoctorAvailabilityRepository availabilityRepository;
     private final ClinicTimezoneConfig timezoneConfig;
-    private final ClinicSettingsRepository clinicSettingsRepository;
+    private final ClinicSettingsCache clinicSettingsCache;
     private final TenantContextHolder tenantContextHolder;
     private static final int DEFAULT_SLOT_DURATION_MINUTES = 30;
 
@@ -39,14 +39,14 @@ public class AvailabilityService {
                                AppointmentRepository appointmentRepository,
                                DoctorAvailabilityRepository availabilityRepository,
                                ClinicTimezoneConfig timezoneConfig,
-                               ClinicSettingsRepository clinicSettingsRepository,
+                               ClinicSettingsCache clinicSettingsCache,
                                TenantContextHolder tenantContextHolder) {
         this.doctorRepository = doctorRepository;
         this.serviceRepository = serviceRepository;
         this.appointmentRepository = appointmentRepository;
         this.availabilityRepository = availabilityRepository;
         this.timezoneConfig = timezoneConfig;
-        this.clinicSettingsRepository = clinicSettingsRepository;
+        this.clinicSettingsCache = clinicSettingsCache;
         this.tenantContextHolder = tenantContextHolder;
     }
 
@@ -117,35 +117,18 @@ public class AvailabilityService {
             return List.of();
         }
 
-        List<AvailabilitySlotResponse> slots = new ArrayList<>();
-        LocalDateTime windowStart = LocalDateTime.of(targetDate, availability.getStartTime());
-        LocalDateTime windowEnd = LocalDateTime.of(targetDate, availability.getEndTime());
-
-        LocalDateTime pointer = windowStart;
         // Use configured clinic timezone instead of UTC
         ZoneId clinicZone = timezoneConfig.toZoneId();
-        int slotDurationMinutes = getDefaultSlotDurationMinutes();
-        Duration slotDuration = Duration.ofMinutes(slotDurationMinutes);
-
-        while (pointer.isBefore(windowEnd)) {
-            LocalDateTime slotEnd = pointer.plus(slotDuration);
-            if (slotEnd.isAfter(windowEnd.plusNanos(1))) {
-                break;
-            }
-
-            Instant slotStartInstant = pointer.atZone(clinicZone).toInstant();
-            Instant slotEndInstant = slotEnd.atZone(clinicZone).toInstant();
-
-            if (targetDate.equals(today) && slotStartInstant.isBefore(nowInstant)) {
-                pointer = pointer.plus(slotDuration);
-                continue;
-            }
+        Duration slotDuration = Duration.ofMinutes(getDefaultSlotDurationMinutes());
 
+        List<AvailabilitySlotResponse> slots = new ArrayList<>();
+        for (SlotWindow window : slotWindows(targetDate, availability.getStartTime(), availability.getEndTime(),
+                slotDuration, clinicZone, today, nowInstant)) {
             boolean conflict = appointmentRepository.existsActiveByDoctorAndTimeRange(
                     tenantId,
                     doctor.getId(),
-                    slotStartInstant,
-                    slotEndInstant,
+                    window.start(),
+                    window.end(),
                     DEFAULT_SLOT_DURATION_MINUTES
             );
 
@@ -153,22 +136,55 @@ public class AvailabilityService {
                 slots.add(new AvailabilitySlotResponse(
                         doctor.getId(),
                         doctor.getFullName(),
-                        slotStartInstant.toString(),
-                        slotEndInstant.toString()
+                        window.start().toString(),
+                        window.end().toString()
                 ));
             }
-
-            pointer = pointer.plus(slotDuration);
         }
 
         return slots;
     }
 
+    /**
+     * Splits {@code [startTime, endTime]} on {@code targetDate} into whole
+     * slots in the clinic zone, skipping slots that already started today.
+     */
+    static List<SlotWindow> slotWindows(LocalDate targetDate,
+                                        LocalTime startTime,
+                                        LocalTime endTime,
+                                        Duration slotDuration,
+                                        ZoneId clinicZone,
+                                        LocalDate today,
+                                        Instant nowInstant) {
+        List<SlotWindow> windows = new ArrayList<>();
+        LocalDateTime windowEnd = LocalDateTime.of(targetDate, endTime);
+        LocalDateTime pointer = LocalDateTime.of(targetDate, startTime);
+        boolean isToday = targetDate.equals(today);
+
+        while (pointer.isBefore(windowEnd)) {
+            LocalDateTime slotEnd = pointer.plus(slotDuration);
+            if (slotEnd.isAfter(windowEnd.plusNanos(1))) {
+                break;
+            }
+
+            Instant slotStartInstant = pointer.atZone(clinicZone).toInstant();
+            if (!isToday || !slotStartInstant.isBefore(nowInstant)) {
+                windows.add(new SlotWindow(slotStartInstant, slotEnd.atZone(clinicZone).toInstant()));
+            }
+            pointer = slotEnd;
+        }
+
+        return windows;
+    }
+
+    record SlotWindow(Instant start, Instant end) {
+    }
+
     private int getDefaultSlotDurationMinutes() {
         try {
             Long tenantId = tenantContextHolder.requireTenantId();
-            return clinicSettingsRepository.findByTenantId(tenantId)
-                    .map(ClinicSettingsEntity::getSlotDurationMinutes)
+            return clinicSettingsCache.get(tenantId)
+                    .map(ClinicSettingsSnapshot::slotDurationMinutes)
                     .filter(duration -> duration != null && duration >= 5 && duration <= 240)
                     .orElse(DEFAULT_SLOT_DURATION_MINUTES);
         } catch (RuntimeException ex) {
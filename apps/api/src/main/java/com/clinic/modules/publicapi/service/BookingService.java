@@ -17,26 +17,37 @@ import com.clinic.modules.core.patient.PatientEntity;
 import com.clinic.modules.core.patient.PatientRepository;
 import com.clinic.modules.core.service.ClinicServiceEntity;
 import com.clinic.modules.core.service.ClinicServiceRepository;
-import com.clinic.modules.core.settings.ClinicSettingsEntity;
-import com.clinic.modules.core.settings.ClinicSettingsRepository;
+import com.clinic.modules.core.settings.ClinicSettingsCache;
+import com.clinic.modules.core.settings.ClinicSettingsSnapshot;
 import com.clinic.modules.publicapi.dto.BookingRequest;
 import com.clinic.modules.publicapi.dto.BookingResponse;
 import com.clinic.modules.publicapi.dto.GuestBookingRequest;
 import com.clinic.modules.core.tenant.TenantContextHolder;
 import com.clinic.modules.core.tenant.TenantEntity;
 import com.clinic.modules.core.tenant.TenantService;
+import com.clinic.modules.core.tenant.TenantContext;
 import jakarta.transaction.Transactional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.time.*;
 import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 @Service
-public class BookingService {
+public class BookingService implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(BookingService.class);
 
     private final ClinicServiceRepository serviceRepository;
     private final DoctorRepository doctorRepository;
@@ -45,12 +56,16 @@ public class BookingService {
     private final DoctorAvailabilityRepository availabilityRepository;
     private final EmailService emailService;
     private final NotificationService notificationService;
-    private final ClinicSettingsRepository clinicSettingsRepository;
+    private final ClinicSettingsCache clinicSettingsCache;
     private final ClinicTimezoneConfig clinicTimezoneConfig;
     private final TenantContextHolder tenantContextHolder;
     private final TenantService tenantService;
     private final com.clinic.modules.admin.service.AppointmentConfirmationService appointmentConfirmationService;
     private static final int DEFAULT_SLOT_DURATION_MINUTES = 30;
+    // Confirmation emails are sent off the request thread, which still holds its connection in afterCommit
+    private final ExecutorService emailExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    // How long shutdown waits for emails already handed to the executor
+    private static final Duration EMAIL_SHUTDOWN_WAIT = Duration.ofSeconds(30);
 
     public BookingService(ClinicServiceRepository serviceRepository,
                           DoctorRepository doctorRepository,
@@ -59,7 +74,7 @@ public class BookingService {
                           DoctorAvailabilityRepository availabilityRepository,
                           EmailService emailService,
                           NotificationService notificationService,
-                          ClinicSettingsRepository clinicSettingsRepository,
+                          ClinicSettingsCache clinicSettingsCache,
                           ClinicTimezoneConfig clinicTimezoneConfig,
                           TenantContextHolder tenantContextHolder,
                           TenantService tenantService,
@@ -71,7 +86,7 @@ public class BookingService {
         this.availabilityRepository = availabilityRepository;
         this.emailService = emailService;
         this.notificationService = notificationService;
-        this.clinicSettingsRepository = clinicSettingsRepository;
+        this.clinicSettingsCache = clinicSettingsCache;
         this.clinicTimezoneConfig = clinicTimezoneConfig;
         this.tenantContextHolder = tenantContextHolder;
         this.tenantService = tenantService;
@@ -401,8 +416,8 @@ public class BookingService {
     }
 
     private int getDefaultSlotDurationMinutes() {
-        ClinicSettingsEntity settings = requireSettings();
-        Integer duration = settings.getSlotDurationMinutes();
+        ClinicSettingsSnapshot settings = requireSettings();
+        Integer duration = settings.slotDurationMinutes();
         if (duration != null && duration >= 5 && duration <= 240) {
             return duration;
         }
@@ -410,14 +425,14 @@ public class BookingService {
     }
 
     private String getVirtualConsultationMeetingLink() {
-        ClinicSettingsEntity settings = requireSettings();
-        String link = settings.getVirtualConsultationMeetingLink();
+        ClinicSettingsSnapshot settings = requireSettings();
+        String link = settings.virtualConsultationMeetingLink();
         return (link != null && !link.isBlank()) ? link : null;
     }
 
-    private ClinicSettingsEntity requireSettings() {
+    private ClinicSettingsSnapshot requireSettings() {
         Long tenantId = tenantContextHolder.requireTenantId();
-        return clinicSettingsRepository.findByTenantId(tenantId)
+        return clinicSettingsCache.get(tenantId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Clinic settings not configured"));
     }
 
@@ -481,12 +496,20 @@ public class BookingService {
         }
     }
 
+    /**
+     * Sends the booking confirmation on a separate thread once the transaction
+     * has committed, so no email goes out for a booking that rolls back. The
+     * request thread keeps its connection until after the commit callbacks,
+     * so the SendGrid call itself must not run there. Everything the email
+     * needs is read here, while the entities are still attached.
+     */
     private void sendConfirmationEmail(
             AppointmentEntity appointment,
             PatientEntity patient,
             DoctorEntity doctor,
             ClinicServiceEntity service
     ) {
+        Runnable send;
         try {
             String patientEmail = patient.getEmail();
             if (patientEmail == null || patientEmail.isBlank()) {
@@ -505,39 +528,82 @@ public class BookingService {
                     : getDefaultSlotDurationMinutes();
             ZonedDateTime appointmentEndTime = appointmentStartTime.plusMinutes(slotDurationMinutes);
 
-        // Check if this is a virtual consultation
-        if (appointment.getBookingMode() == AppointmentMode.VIRTUAL_CONSULTATION) {
-            // Send special virtual consultation email with Google Meet link and calendar
-            emailService.sendVirtualConsultationConfirmation(
-                    patientEmail,
-                    patientName,
-                    doctorName,
-                    serviceName,
-                    appointmentStartTime,
-                    appointmentEndTime,
-                    getVirtualConsultationMeetingLink()
-            );
-        } else {
-            // Send regular clinic visit confirmation
-            String appointmentDate = appointmentStartTime.toLocalDate().toString();
-            String appointmentTimeStr = appointmentStartTime.toLocalTime().toString();
-            String consultationType = appointment.getBookingMode().displayName();
-            String confirmationLink = appointmentConfirmationService.generateConfirmationLink(appointment);
-
-            emailService.sendAppointmentConfirmation(
-                    patientEmail,
-                    patientName,
-                    doctorName,
-                    serviceName,
-                    appointmentDate,
-                    appointmentTimeStr,
-                    consultationType,
-                    confirmationLink
-            );
-        }
+            // Check if this is a virtual consultation
+            if (appointment.getBookingMode() == AppointmentMode.VIRTUAL_CONSULTATION) {
+                // Send special virtual consultation email with Google Meet link and calendar
+                String meetingLink = getVirtualConsultationMeetingLink();
+                send = () -> emailService.sendVirtualConsultationConfirmation(
+                        patientEmail,
+                        patientName,
+                        doctorName,
+                        serviceName,
+                        appointmentStartTime,
+                        appointmentEndTime,
+                        meetingLink
+                );
+            } else {
+                // Send regular clinic visit confirmation
+                String appointmentDate = appointmentStartTime.toLocalDate().toString();
+                String appointmentTimeStr = appointmentStartTime.toLocalTime().toString();
+                String consultationType = appointment.getBookingMode().displayName();
+                String confirmationLink = appointmentConfirmationService.generateConfirmationLink(appointment);
+
+                send = () -> emailService.sendAppointmentConfirmation(
+                        patientEmail,
+                        patientName,
+                        doctorName,
+                        serviceName,
+                        appointmentDate,
+                        appointmentTimeStr,
+                        consultationType,
+                        confirmationLink
+                );
+            }
         } catch (Exception e) {
             // Log but don't fail the booking if email fails
-            System.err.println("Failed to send confirmation email: " + e.getMessage());
+            log.error("Failed to prepare confirmation email for appointment {}: {}", appointment.getId(), e.getMessage(), e);
+            return;
+        }
+
+        Long appointmentId = appointment.getId();
+        TenantContext tenant = tenantContextHolder.findTenant().orElse(null);
+        afterCommit(() -> emailExecutor.execute(() -> {
+            if (tenant != null) {
+                tenantContextHolder.setTenant(tenant);
+            }
+            try {
+                send.run();
+            } catch (Exception e) {
+                log.error("Failed to send confirmation email for appointment {}: {}", appointmentId, e.getMessage(), e);
+            } finally {
+                tenantContextHolder.clear();
+            }
+        }));
+    }
+
+    private static void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    /**
+     * Lets confirmation emails that are already queued or sending finish, for a
+     * bounded time, before the context (and the mail client) goes away.
+     */
+    @Override
+    public void destroy() throws InterruptedException {
+        emailExecutor.shutdown();
+        if (!emailExecutor.awaitTermination(EMAIL_SHUTDOWN_WAIT.toMillis(), TimeUnit.MILLISECONDS)) {
+            log.warn("Confirmation emails still sending after {}; abandoning them", EMAIL_SHUTDOWN_WAIT);
+            emailExecutor.shutdownNow();
         }
     }
 
@@ -47,15 +47,6 @@ public class CacheConfig {
                         .build()
         );
 
-        CaffeineCache paypalAccessTokenCache = new CaffeineCache(
-                "paypalAccessToken",
-                Caffeine.newBuilder()
-                        .expireAfterWrite(9, TimeUnit.HOURS)
-                        .maximumSize(1)
-                        .recordStats()
-                        .build()
-        );
-
         CaffeineCache tenantPlanCache = new CaffeineCache(
                 "tenantPlan",
                 Caffeine.newBuilder()
@@ -77,7 +68,6 @@ public class CacheConfig {
         cacheManager.setCaches(List.of(
                 billingStatusCache, 
                 paypalConfigCache, 
-                paypalAccessTokenCache, 
                 tenantPlanCache,
                 planTierConfigCache
         ));
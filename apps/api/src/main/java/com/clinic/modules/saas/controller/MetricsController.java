@@ -1,5 +1,6 @@
 package com.clinic.modules.saas.controller;
 
+import com.clinic.config.observability.RequestCostRegistry;
 import com.clinic.modules.saas.dto.AnalyticsResponse;
 import com.clinic.modules.saas.dto.SystemMetricsResponse;
 import com.clinic.modules.saas.dto.TenantMetricsResponse;
@@ -10,6 +11,10 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
 /**
  * REST controller for system metrics and analytics.
  * All endpoints require SAAS_MANAGER role authentication.
@@ -50,12 +55,34 @@ public class MetricsController {
         return ResponseEntity.ok(metrics);
     }
 
+    /**
+     * Top-N request cost report since startup.
+     * GET /saas/metrics/costs?by=tenant&sort=sql_time&limit=10
+     *
+     * @param by    tenant or endpoint (method and route template)
+     * @param sort  time, sql_time or statements; SQL time covers JDBC execution
+     *              and row fetching, not the application's work between rows
+     * @param limit number of entries (max 100)
+     */
+    @GetMapping("/metrics/costs")
+    @PreAuthorize("hasRole('SAAS_MANAGER')")
+    public ResponseEntity<List<RequestCostRegistry.RequestCost>> getRequestCosts(
+            @RequestParam(defaultValue = "tenant") String by,
+            @RequestParam(defaultValue = "time") String sort,
+            @RequestParam(defaultValue = "10") int limit) {
+        log.debug("GET /saas/metrics/costs - by: {}, sort: {}, limit: {}", by, sort, limit);
+        return ResponseEntity.ok(metricsService.getRequestCosts(
+                parseEnum(RequestCostRegistry.Dimension.class, "by", by),
+                parseEnum(RequestCostRegistry.SortBy.class, "sort", sort),
+                limit));
+    }
+
     /**
      * Get analytics data for reporting and visualization
      *
      * @param timeRange Time range for analytics (7d, 30d, 90d, custom)
-     * @param startDate Optional start date for custom range
-     * @param endDate Optional end date for custom range
+     * @param startDate Optional start date for custom range (yyyy-MM-dd)
+     * @param endDate Optional end date for custom range (yyyy-MM-dd)
      * @return AnalyticsResponse with chart and report data (200 OK)
      */
     @GetMapping("/analytics")
@@ -66,7 +93,27 @@ public class MetricsController {
             @RequestParam(required = false) String endDate) {
         log.debug("GET /saas/analytics - timeRange: {}, startDate: {}, endDate: {}",
                 timeRange, startDate, endDate);
-        AnalyticsResponse analytics = metricsService.getAnalytics(timeRange);
+        AnalyticsResponse analytics = metricsService.getAnalytics(
+                timeRange, parseDate("startDate", startDate), parseDate("endDate", endDate));
         return ResponseEntity.ok(analytics);
     }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String name, String value) {
+        try {
+            return Enum.valueOf(type, value.trim().toUpperCase().replace('-', '_'));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported " + name + ": " + value);
+        }
+    }
+
+    private static LocalDate parseDate(String name, String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(name + " must be a date in yyyy-MM-dd format");
+        }
+    }
 }
@@ -1,13 +1,49 @@
 package com.clinic.modules.saas.dto;
 
-import java.util.Map;
+import java.util.List;
 
 /**
  * Response DTO for analytics data
+ *
+ * Series are aligned with their {@code labels}: one entry per time bucket,
+ * labelled with the bucket's first day (UTC).
  */
 public record AnalyticsResponse(
-        Map<String, Object> tenantGrowth,
-        Map<String, Object> userActivity,
-        Map<String, Object> systemPerformance
+        TenantGrowth tenantGrowth,
+        UsageMetrics usageMetrics,
+        Summary summary,
+        ApiLatencyResponse systemPerformance
 ) {
+
+    /**
+     * @param totalTenants tenants created up to the end of each bucket
+     * @param newTenants   tenants created within each bucket
+     */
+    public record TenantGrowth(
+            List<String> labels,
+            List<Long> totalTenants,
+            List<Long> newTenants
+    ) {
+    }
+
+    /**
+     * @param users        staff accounts created within each bucket
+     * @param appointments appointments booked within each bucket
+     * @param storage      storage used in MB; not tracked yet, always zero
+     */
+    public record UsageMetrics(
+            List<String> labels,
+            List<Long> users,
+            List<Long> appointments,
+            List<Long> storage
+    ) {
+    }
+
+    public record Summary(
+            long totalTenants,
+            long totalUsers,
+            long totalAppointments,
+            double storageUsedMB
+    ) {
+    }
 }
@@ -0,0 +1,16 @@
+package com.clinic.modules.saas.dto;
+
+/**
+ * API latency taken from the {@code http.server.requests} timers.
+ *
+ * Count and mean cover every request since startup; percentiles cover the
+ * recent histogram window and are null until a request has been seen in it.
+ */
+public record ApiLatencyResponse(
+        long requestCount,
+        double meanMs,
+        Double p50Ms,
+        Double p95Ms,
+        Double p99Ms
+) {
+}
@@ -4,6 +4,9 @@ import java.util.List;
 
 /**
  * Response DTO for system-wide metrics
+ *
+ * {@code apiResponseTime} is the 95th percentile latency in milliseconds;
+ * {@code apiLatency} carries the full breakdown.
  */
 public record SystemMetricsResponse(
         long totalTenants,
@@ -12,6 +15,7 @@ public record SystemMetricsResponse(
         long activeUsers,
         long apiResponseTime,
         String databaseStatus,
-        List<ActivityResponse> recentActivity
+        List<ActivityResponse> recentActivity,
+        ApiLatencyResponse apiLatency
 ) {
 }
@@ -6,6 +6,7 @@ import com.clinic.modules.saas.service.PayPalConfigService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -32,6 +33,7 @@ public class SubscriptionDataMigrationService {
     private PayPalConfigService payPalConfigService;
     
     @Autowired
+    @Qualifier("paypalRestTemplate")
     private RestTemplate restTemplate;
 
     /**
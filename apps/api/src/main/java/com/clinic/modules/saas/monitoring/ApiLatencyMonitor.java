@@ -0,0 +1,84 @@
+package com.clinic.modules.saas.monitoring;
+
+import com.clinic.modules.saas.dto.ApiLatencyResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.CountAtBucket;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Summarises API latency from the {@code http.server.requests} timers that
+ * Spring MVC records for every request.
+ *
+ * Percentiles are estimated by merging the timers' histogram buckets (enabled
+ * with {@code management.metrics.distribution.percentiles-histogram}), so
+ * they hold across all endpoints rather than per URI. Actuator requests are
+ * left out so health probes do not pull the numbers down.
+ */
+@Service
+public class ApiLatencyMonitor {
+
+    static final String HTTP_SERVER_REQUESTS = "http.server.requests";
+
+    private final MeterRegistry meterRegistry;
+
+    public ApiLatencyMonitor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public ApiLatencyResponse summarize() {
+        long count = 0;
+        double totalMs = 0;
+        NavigableMap<Double, Double> buckets = new TreeMap<>();
+
+        for (Timer timer : meterRegistry.find(HTTP_SERVER_REQUESTS).timers()) {
+            String uri = timer.getId().getTag("uri");
+            if (uri != null && uri.startsWith("/actuator")) {
+                continue;
+            }
+            HistogramSnapshot snapshot = timer.takeSnapshot();
+            count += snapshot.count();
+            totalMs += snapshot.total(TimeUnit.MILLISECONDS);
+            for (CountAtBucket bucket : snapshot.histogramCounts()) {
+                buckets.merge(bucket.bucket(TimeUnit.MILLISECONDS), bucket.count(), Double::sum);
+            }
+        }
+
+        return new ApiLatencyResponse(
+                count,
+                count > 0 ? totalMs / count : 0d,
+                percentile(buckets, 0.50),
+                percentile(buckets, 0.95),
+                percentile(buckets, 0.99)
+        );
+    }
+
+    /**
+     * Upper bound of the first bucket that holds the given share of requests.
+     *
+     * @param buckets cumulative request counts keyed by bucket upper bound in milliseconds
+     * @return the estimate, or null if the buckets are empty
+     */
+    static Double percentile(NavigableMap<Double, Double> buckets, double quantile) {
+        if (buckets.isEmpty()) {
+            return null;
+        }
+        double total = buckets.lastEntry().getValue();
+        if (total <= 0) {
+            return null;
+        }
+        double target = quantile * total;
+        for (Map.Entry<Double, Double> bucket : buckets.entrySet()) {
+            if (bucket.getValue() >= target) {
+                return bucket.getKey();
+            }
+        }
+        return buckets.lastKey();
+    }
+}
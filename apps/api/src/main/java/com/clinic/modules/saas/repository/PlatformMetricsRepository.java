@@ -0,0 +1,114 @@
+package com.clinic.modules.saas.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Platform-wide aggregates for the SaaS dashboard.
+ *
+ * Every method is a single COUNT / GROUP BY query, so the cost does not depend
+ * on how many tenants or staff rows have to be loaded into memory.
+ */
+@Repository
+public class PlatformMetricsRepository {
+
+    /**
+     * Tables whose rows are counted per time bucket. Names are fixed here and
+     * never taken from request input.
+     */
+    public enum CreatedRows {
+        TENANTS("tenants"),
+        STAFF_USERS("staff_users"),
+        APPOINTMENTS("appointments");
+
+        private final String table;
+
+        CreatedRows(String table) {
+            this.table = table;
+        }
+    }
+
+    private static final String TENANTS_BY_STATUS_SQL = """
+            SELECT status, COUNT(*) AS total
+            FROM tenants
+            WHERE deleted_at IS NULL
+            GROUP BY status
+            """;
+
+    private static final String STAFF_BY_STATUS_SQL = """
+            SELECT status, COUNT(*) AS total
+            FROM staff_users
+            GROUP BY status
+            """;
+
+    private static final String TENANTS_CREATED_BEFORE_SQL = """
+            SELECT COUNT(*) FROM tenants WHERE created_at < ?
+            """;
+
+    // Bucket n covers [from + n * bucket, from + (n + 1) * bucket)
+    private static final String CREATED_PER_BUCKET_SQL = """
+            SELECT CAST(FLOOR((EXTRACT(EPOCH FROM created_at) - ?) / ?) AS BIGINT) AS bucket, COUNT(*) AS total
+            FROM %s
+            WHERE created_at >= ? AND created_at < ?
+            GROUP BY 1
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PlatformMetricsRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Number of tenants per status, excluding soft-deleted tenants.
+     */
+    public Map<String, Long> countTenantsByStatus() {
+        return countByStatus(TENANTS_BY_STATUS_SQL);
+    }
+
+    /**
+     * Number of staff users per status.
+     */
+    public Map<String, Long> countStaffByStatus() {
+        return countByStatus(STAFF_BY_STATUS_SQL);
+    }
+
+    /**
+     * Number of tenants created before {@code instant}, including ones deleted since.
+     */
+    public long countTenantsCreatedBefore(Instant instant) {
+        Long count = jdbcTemplate.queryForObject(TENANTS_CREATED_BEFORE_SQL, Long.class, Timestamp.from(instant));
+        return count != null ? count : 0L;
+    }
+
+    /**
+     * Rows created in each bucket of {@code bucket} length between {@code from}
+     * (inclusive) and {@code to} (exclusive), as an array indexed by bucket.
+     */
+    public long[] countCreatedPerBucket(CreatedRows rows, Instant from, Instant to, Duration bucket) {
+        long bucketSeconds = bucket.toSeconds();
+        long spanSeconds = Duration.between(from, to).toSeconds();
+        long[] counts = new long[(int) ((spanSeconds + bucketSeconds - 1) / bucketSeconds)];
+        jdbcTemplate.query(CREATED_PER_BUCKET_SQL.formatted(rows.table), rs -> {
+            int index = (int) rs.getLong("bucket");
+            if (index >= 0 && index < counts.length) {
+                counts[index] = rs.getLong("total");
+            }
+        }, from.getEpochSecond(), bucketSeconds, Timestamp.from(from), Timestamp.from(to));
+        return counts;
+    }
+
+    private Map<String, Long> countByStatus(String sql) {
+        Map<String, Long> counts = new HashMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            counts.put(rs.getString("status"), rs.getLong("total"));
+        });
+        return counts;
+    }
+}
@@ -1,13 +1,9 @@
 package com.clinic.modules.saas.service;
 
 import com.clinic.modules.saas.model.BillingAuditLogEntity;
-import com.clinic.modules.saas.repository.BillingAuditLogRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.PlatformTransactionManager;
-import org.springframework.transaction.TransactionDefinition;
-import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
@@ -19,6 +15,8 @@ import java.util.Map;
 /**
  * Centralized logging utility for billing operations.
  * Provides structured logging for audit trails and monitoring.
+ * Entries are persisted through {@link BillingAuditWriter}, which batches them
+ * off the caller's thread.
  */
 @Component
 public class BillingAuditLogger {
@@ -26,15 +24,10 @@ public class BillingAuditLogger {
     private static final Logger logger = LoggerFactory.getLogger("BILLING_AUDIT");
     private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS");
 
-    private final BillingAuditLogRepository auditLogRepository;
-    private final TransactionTemplate auditTxTemplate;
+    private final BillingAuditWriter auditWriter;
 
-    public BillingAuditLogger(BillingAuditLogRepository auditLogRepository,
-                              PlatformTransactionManager transactionManager) {
-        this.auditLogRepository = auditLogRepository;
-        this.auditTxTemplate = new TransactionTemplate(transactionManager);
-        this.auditTxTemplate.setReadOnly(false);
-        this.auditTxTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    public BillingAuditLogger(BillingAuditWriter auditWriter) {
+        this.auditWriter = auditWriter;
     }
 
     public void logSuccess(String operation, Long tenantId, Long userId, String details) {
@@ -268,18 +261,14 @@ public class BillingAuditLogger {
                                    Long managerId,
                                    String description,
                                    Map<String, Object> metadata) {
-        try {
-            BillingAuditLogEntity entity = new BillingAuditLogEntity();
-            entity.setAction(action);
-            entity.setSeverity(severity);
-            entity.setTenantId(tenantId);
-            entity.setManagerId(managerId);
-            entity.setDescription(description);
-            entity.setCreatedAt(OffsetDateTime.now(ZoneOffset.UTC));
-            entity.setMetadata(metadata != null ? metadata : Map.of());
-            auditTxTemplate.executeWithoutResult(status -> auditLogRepository.save(entity));
-        } catch (Exception e) {
-            logger.warn("Failed to persist billing audit log entry for action {}: {}", action, e.getMessage());
-        }
+        BillingAuditLogEntity entity = new BillingAuditLogEntity();
+        entity.setAction(action);
+        entity.setSeverity(severity);
+        entity.setTenantId(tenantId);
+        entity.setManagerId(managerId);
+        entity.setDescription(description);
+        entity.setCreatedAt(OffsetDateTime.now(ZoneOffset.UTC));
+        entity.setMetadata(metadata != null ? metadata : Map.of());
+        auditWriter.write(entity);
     }
 }
@@ -0,0 +1,263 @@
+package com.clinic.modules.saas.service;
+
+import com.clinic.modules.saas.model.BillingAuditLogEntity;
+import com.clinic.modules.saas.repository.BillingAuditLogRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Persists billing audit entries.
+ *
+ * In {@code ASYNC} mode entries are put on a bounded queue and a single
+ * background thread writes them with one JDBC batch per flush, every
+ * {@code flush-interval} or {@code batch-size} entries, whichever comes first.
+ * Actions listed in {@code synchronous-actions} (security-relevant events) are
+ * still written immediately in their own transaction, as every entry is in
+ * {@code SYNC} mode.
+ *
+ * When the queue is full the caller writes its entry synchronously instead, so
+ * bursts slow down rather than lose entries. Entries still queued at shutdown
+ * are flushed before the DataSource closes.
+ */
+@Component
+public class BillingAuditWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(BillingAuditWriter.class);
+
+    static final String INSERT_SQL = """
+            INSERT INTO billing_audit_log
+                (tenant_id, manager_id, manager_email, manager_name, action, severity, description, metadata, source, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, CAST(? AS jsonb), ?, ?)
+            """;
+
+    public enum Mode {
+        /** Every entry is written before the logging call returns. */
+        SYNC,
+        /** Entries are queued and written in batches by a background thread. */
+        ASYNC
+    }
+
+    private final BillingAuditLogRepository auditLogRepository;
+    private final TransactionTemplate auditTxTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final Mode mode;
+    private final Set<String> synchronousActions;
+    private final int batchSize;
+    private final Duration flushInterval;
+    private final BlockingQueue<BillingAuditLogEntity> queue;
+
+    private final Counter queued;
+    private final Counter overflowed;
+    private final Counter failed;
+    private final Timer flushTimer;
+
+    private volatile boolean accepting = true;
+    private Thread flusher;
+
+    public BillingAuditWriter(BillingAuditLogRepository auditLogRepository,
+                              PlatformTransactionManager transactionManager,
+                              JdbcTemplate jdbcTemplate,
+                              ObjectMapper objectMapper,
+                              MeterRegistry meterRegistry,
+                              @Value("${clinic.billing-audit.mode:ASYNC}") Mode mode,
+                              @Value("${clinic.billing-audit.synchronous-actions:WEBHOOK_VERIFICATION_FAILED,MANUAL_OVERRIDE,MANUAL_PLAN_OVERRIDE,PLAN_OVERRIDE}") Set<String> synchronousActions,
+                              @Value("${clinic.billing-audit.queue-capacity:10000}") int queueCapacity,
+                              @Value("${clinic.billing-audit.batch-size:200}") int batchSize,
+                              @Value("${clinic.billing-audit.flush-interval:PT0.5S}") Duration flushInterval) {
+        this.auditLogRepository = auditLogRepository;
+        this.auditTxTemplate = new TransactionTemplate(transactionManager);
+        this.auditTxTemplate.setReadOnly(false);
+        this.auditTxTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.mode = mode;
+        this.synchronousActions = Set.copyOf(synchronousActions);
+        this.batchSize = batchSize;
+        this.flushInterval = flushInterval;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        Gauge.builder("billing.audit.queue.size", queue, BlockingQueue::size)
+                .description("Billing audit entries waiting to be written")
+                .register(meterRegistry);
+        Gauge.builder("billing.audit.queue.remaining", queue, BlockingQueue::remainingCapacity)
+                .description("Free slots in the billing audit queue")
+                .register(meterRegistry);
+        this.queued = Counter.builder("billing.audit.queued")
+                .description("Billing audit entries queued for batch writing")
+                .register(meterRegistry);
+        this.overflowed = Counter.builder("billing.audit.overflow")
+                .description("Billing audit entries written synchronously because the queue was full")
+                .register(meterRegistry);
+        this.failed = Counter.builder("billing.audit.failed")
+                .description("Billing audit entries that could not be persisted")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("billing.audit.flush")
+                .description("Time to write one batch of billing audit entries")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        if (mode == Mode.ASYNC) {
+            flusher = Thread.ofPlatform().name("billing-audit-writer").daemon().start(this::run);
+        }
+    }
+
+    /**
+     * Persist an entry now or queue it for the next batch, depending on the mode
+     * and the entry's action. Never throws.
+     */
+    public void write(BillingAuditLogEntity entry) {
+        if (mode == Mode.SYNC || !accepting || synchronousActions.contains(entry.getAction())) {
+            writeNow(entry);
+            return;
+        }
+        if (queue.offer(entry)) {
+            queued.increment();
+            if (!accepting && queue.remove(entry)) {
+                // Raced with shutdown(), which may already have drained the queue
+                writeNow(entry);
+            }
+        } else {
+            overflowed.increment();
+            writeNow(entry);
+        }
+    }
+
+    /**
+     * Stop queueing and write everything still pending. Entries logged during
+     * shutdown are written synchronously.
+     */
+    @PreDestroy
+    void shutdown() {
+        accepting = false;
+        if (flusher != null) {
+            try {
+                flusher.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        // Normally empty by now, unless the flusher was interrupted or is still busy past the join timeout
+        List<BillingAuditLogEntity> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            flush(batch);
+            batch.clear();
+        }
+    }
+
+    private void run() {
+        List<BillingAuditLogEntity> batch = new ArrayList<>(batchSize);
+        boolean interrupted = false;
+        while (!interrupted && (accepting || !queue.isEmpty())) {
+            try {
+                collect(batch);
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Wait for a first entry, then keep collecting until the batch is full or
+     * the flush interval since that entry has passed.
+     */
+    void collect(List<BillingAuditLogEntity> batch) throws InterruptedException {
+        BillingAuditLogEntity first = queue.poll(flushInterval.toNanos(), TimeUnit.NANOSECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+        long deadline = System.nanoTime() + flushInterval.toNanos();
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0) {
+                return;
+            }
+            BillingAuditLogEntity next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    /**
+     * Write a batch in one statement round trip; if the batch fails, fall back
+     * to writing entries one by one so one bad row does not lose the rest.
+     */
+    void flush(List<BillingAuditLogEntity> batch) {
+        try {
+            flushTimer.record(() -> jdbcTemplate.batchUpdate(INSERT_SQL, batch.stream().map(this::toRow).toList()));
+        } catch (Exception e) {
+            log.warn("Billing audit batch of {} entries failed, writing individually: {}", batch.size(), e.getMessage());
+            batch.forEach(this::writeNow);
+        }
+    }
+
+    private void writeNow(BillingAuditLogEntity entry) {
+        try {
+            auditTxTemplate.executeWithoutResult(status -> auditLogRepository.save(entry));
+        } catch (Exception e) {
+            failed.increment();
+            log.warn("Failed to persist billing audit log entry for action {}: {}", entry.getAction(), e.getMessage());
+        }
+    }
+
+    private Object[] toRow(BillingAuditLogEntity entry) {
+        return new Object[]{
+                entry.getTenantId(),
+                entry.getManagerId(),
+                entry.getManagerEmail(),
+                entry.getManagerName(),
+                entry.getAction(),
+                entry.getSeverity(),
+                entry.getDescription(),
+                toJson(entry.getMetadata()),
+                entry.getSource(),
+                Timestamp.from(entry.getCreatedAt().toInstant())
+        };
+    }
+
+    private String toJson(Map<String, Object> metadata) {
+        try {
+            return objectMapper.writeValueAsString(metadata != null ? metadata : Map.of());
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Unserializable billing audit metadata", e);
+        }
+    }
+
+    int pending() {
+        return queue.size();
+    }
+}
@@ -1,5 +1,7 @@
 package com.clinic.modules.saas.service;
 
+import com.clinic.config.observability.RequestCostRegistry;
+import com.clinic.modules.admin.staff.model.StaffStatus;
 import com.clinic.modules.admin.staff.repository.StaffUserRepository;
 import com.clinic.modules.core.appointment.AppointmentRepository;
 import com.clinic.modules.core.patient.PatientRepository;
@@ -8,63 +10,127 @@ import com.clinic.modules.core.tenant.TenantRepository;
 import com.clinic.modules.core.tenant.TenantStatus;
 import com.clinic.modules.saas.dto.*;
 import com.clinic.modules.saas.exception.NotFoundException;
+import com.clinic.modules.saas.monitoring.ApiLatencyMonitor;
+import com.clinic.modules.saas.repository.PlatformMetricsRepository;
+import com.clinic.modules.saas.repository.PlatformMetricsRepository.CreatedRows;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
 /**
  * Service for calculating and providing system metrics and analytics
+ *
+ * Platform counts come from COUNT / GROUP BY queries and growth series from
+ * one time-bucketed query per series; API latency is read from the
+ * {@code http.server.requests} timers. Results are cached for a short
+ * interval ({@code clinic.saas.metrics-ttl}) since dashboards poll them.
  */
 @Service
 public class MetricsService {
 
     private static final Logger log = LoggerFactory.getLogger(MetricsService.class);
 
+    /** Longest custom analytics range accepted. */
+    static final int MAX_RANGE_DAYS = 366;
+
+    /** Ranges longer than this are bucketed by week instead of by day. */
+    static final int DAILY_BUCKETS_UP_TO_DAYS = 31;
+
+    static final int MAX_COST_REPORT_LIMIT = 100;
+
     private final TenantRepository tenantRepository;
     private final StaffUserRepository staffUserRepository;
     private final PatientRepository patientRepository;
     private final AppointmentRepository appointmentRepository;
+    private final PlatformMetricsRepository platformMetricsRepository;
+    private final ApiLatencyMonitor apiLatencyMonitor;
+    private final RequestCostRegistry requestCostRegistry;
+    private final Clock clock;
 
+    private final Cache<Boolean, SystemMetricsResponse> systemMetricsCache;
+    private final Cache<AnalyticsWindow, AnalyticsResponse> analyticsCache;
+
+    @Autowired
     public MetricsService(
             TenantRepository tenantRepository,
             StaffUserRepository staffUserRepository,
             PatientRepository patientRepository,
-            AppointmentRepository appointmentRepository) {
+            AppointmentRepository appointmentRepository,
+            PlatformMetricsRepository platformMetricsRepository,
+            ApiLatencyMonitor apiLatencyMonitor,
+            RequestCostRegistry requestCostRegistry,
+            @Value("${clinic.saas.metrics-ttl:PT30S}") Duration metricsTtl) {
+        this(tenantRepository, staffUserRepository, patientRepository, appointmentRepository,
+                platformMetricsRepository, apiLatencyMonitor, requestCostRegistry, metricsTtl, Clock.systemUTC());
+    }
+
+    MetricsService(
+            TenantRepository tenantRepository,
+            StaffUserRepository staffUserRepository,
+            PatientRepository patientRepository,
+            AppointmentRepository appointmentRepository,
+            PlatformMetricsRepository platformMetricsRepository,
+            ApiLatencyMonitor apiLatencyMonitor,
+            RequestCostRegistry requestCostRegistry,
+            Duration metricsTtl,
+            Clock clock) {
         this.tenantRepository = tenantRepository;
         this.staffUserRepository = staffUserRepository;
         this.patientRepository = patientRepository;
         this.appointmentRepository = appointmentRepository;
+        this.platformMetricsRepository = platformMetricsRepository;
+        this.apiLatencyMonitor = apiLatencyMonitor;
+        this.requestCostRegistry = requestCostRegistry;
+        this.clock = clock;
+        this.systemMetricsCache = Caffeine.newBuilder()
+                .expireAfterWrite(metricsTtl)
+                .maximumSize(1)
+                .build();
+        this.analyticsCache = Caffeine.newBuilder()
+                .expireAfterWrite(metricsTtl)
+                .maximumSize(32)
+                .build();
     }
 
     /**
      * Get system-wide metrics including tenant and user statistics
      */
     public SystemMetricsResponse getSystemMetrics() {
-        log.debug("Calculating system metrics");
-
-        // Count total tenants (excluding soft-deleted)
-        long totalTenants = tenantRepository.count();
+        return systemMetricsCache.get(Boolean.TRUE, key -> computeSystemMetrics());
+    }
 
-        // Count active tenants
-        long activeTenants = tenantRepository.findAll().stream()
-                .filter(t -> t.getStatus() == TenantStatus.ACTIVE && !t.isDeleted())
-                .count();
+    private SystemMetricsResponse computeSystemMetrics() {
+        log.debug("Calculating system metrics");
 
-        // Count total users (all staff users)
-        long totalUsers = staffUserRepository.count();
+        // Tenants excluding soft-deleted, per status
+        Map<String, Long> tenantsByStatus = platformMetricsRepository.countTenantsByStatus();
+        long totalTenants = sum(tenantsByStatus);
+        long activeTenants = tenantsByStatus.getOrDefault(TenantStatus.ACTIVE.name(), 0L);
 
-        // Count active users
-        long activeUsers = staffUserRepository.findAll().stream()
-                .filter(staff -> staff.getStatus() == com.clinic.modules.admin.staff.model.StaffStatus.ACTIVE)
-                .count();
+        // All staff users, per status
+        Map<String, Long> staffByStatus = platformMetricsRepository.countStaffByStatus();
+        long totalUsers = sum(staffByStatus);
+        long activeUsers = staffByStatus.getOrDefault(StaffStatus.ACTIVE.name(), 0L);
 
-        // Mock API response time (TODO: implement actual monitoring)
-        long apiResponseTime = 50L; // milliseconds
+        ApiLatencyResponse apiLatency = apiLatencyMonitor.summarize();
+        long apiResponseTime = apiLatency.p95Ms() != null
+                ? Math.round(apiLatency.p95Ms())
+                : Math.round(apiLatency.meanMs());
 
         // Database status (TODO: implement actual health check)
         String databaseStatus = "healthy";
@@ -82,36 +148,107 @@ public class MetricsService {
                 activeUsers,
                 apiResponseTime,
                 databaseStatus,
-                recentActivity
+                recentActivity,
+                apiLatency
         );
     }
 
     /**
      * Get analytics data for dashboards and reporting
+     *
+     * @param timeRange 7d, 30d or 90d; ignored when both dates are given
+     * @param startDate first day of a custom range (UTC), inclusive
+     * @param endDate   last day of a custom range (UTC), inclusive
+     * @throws IllegalArgumentException if the range is unknown, reversed or too long
      */
-    public AnalyticsResponse getAnalytics(String timeRange) {
-        log.debug("Calculating analytics for timeRange: {}", timeRange);
+    public AnalyticsResponse getAnalytics(String timeRange, LocalDate startDate, LocalDate endDate) {
+        AnalyticsWindow window = resolveWindow(timeRange, startDate, endDate);
+        return analyticsCache.get(window, this::computeAnalytics);
+    }
 
-        // TODO: Implement actual analytics calculation based on time range
-        // For now, return placeholder data
+    private AnalyticsResponse computeAnalytics(AnalyticsWindow window) {
+        log.debug("Calculating analytics for {} - {} by {}", window.from(), window.to(), window.bucket());
 
-        Map<String, Object> tenantGrowth = new HashMap<>();
-        tenantGrowth.put("labels", List.of("Week 1", "Week 2", "Week 3", "Week 4"));
-        tenantGrowth.put("data", List.of(5, 12, 18, 24));
+        long[] newTenants = platformMetricsRepository.countCreatedPerBucket(
+                CreatedRows.TENANTS, window.from(), window.to(), window.bucket());
+        long[] newUsers = platformMetricsRepository.countCreatedPerBucket(
+                CreatedRows.STAFF_USERS, window.from(), window.to(), window.bucket());
+        long[] newAppointments = platformMetricsRepository.countCreatedPerBucket(
+                CreatedRows.APPOINTMENTS, window.from(), window.to(), window.bucket());
 
-        Map<String, Object> userActivity = new HashMap<>();
-        userActivity.put("labels", List.of("Active", "Inactive"));
-        userActivity.put("data", List.of(0, 0));
+        long runningTotal = platformMetricsRepository.countTenantsCreatedBefore(window.from());
+        List<Long> totalTenants = new ArrayList<>(newTenants.length);
+        for (long created : newTenants) {
+            runningTotal += created;
+            totalTenants.add(runningTotal);
+        }
 
-        Map<String, Object> systemPerformance = new HashMap<>();
-        systemPerformance.put("uptime", "99.9%");
-        systemPerformance.put("avgResponseTime", 50);
+        List<String> labels = window.labels();
+        AnalyticsResponse.TenantGrowth tenantGrowth = new AnalyticsResponse.TenantGrowth(
+                labels, totalTenants, toList(newTenants));
+        AnalyticsResponse.UsageMetrics usageMetrics = new AnalyticsResponse.UsageMetrics(
+                labels, toList(newUsers), toList(newAppointments),
+                Collections.nCopies(labels.size(), 0L));
+        AnalyticsResponse.Summary summary = new AnalyticsResponse.Summary(
+                sum(platformMetricsRepository.countTenantsByStatus()),
+                staffUserRepository.count(),
+                appointmentRepository.count(),
+                0d);
 
-        return new AnalyticsResponse(
-                tenantGrowth,
-                userActivity,
-                systemPerformance
-        );
+        return new AnalyticsResponse(tenantGrowth, usageMetrics, summary, apiLatencyMonitor.summarize());
+    }
+
+    /**
+     * The UTC days covered by the request, split into daily or weekly buckets.
+     */
+    AnalyticsWindow resolveWindow(String timeRange, LocalDate startDate, LocalDate endDate) {
+        LocalDate first;
+        LocalDate last;
+        if (startDate != null && endDate != null) {
+            if (endDate.isBefore(startDate)) {
+                throw new IllegalArgumentException("endDate must not be before startDate");
+            }
+            first = startDate;
+            last = endDate;
+        } else {
+            int days = switch (timeRange == null ? "30d" : timeRange) {
+                case "7d" -> 7;
+                case "30d", "custom" -> 30;
+                case "90d" -> 90;
+                default -> throw new IllegalArgumentException("Unsupported timeRange: " + timeRange);
+            };
+            last = LocalDate.now(clock);
+            first = last.minusDays(days - 1L);
+        }
+
+        long days = ChronoUnit.DAYS.between(first, last) + 1;
+        if (days > MAX_RANGE_DAYS) {
+            throw new IllegalArgumentException("Analytics range must not exceed " + MAX_RANGE_DAYS + " days");
+        }
+        int bucketDays = days <= DAILY_BUCKETS_UP_TO_DAYS ? 1 : 7;
+
+        List<String> labels = new ArrayList<>();
+        for (LocalDate day = first; !day.isAfter(last); day = day.plusDays(bucketDays)) {
+            labels.add(day.toString());
+        }
+        return new AnalyticsWindow(
+                first.atStartOfDay(ZoneOffset.UTC).toInstant(),
+                last.plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant(),
+                Duration.ofDays(bucketDays),
+                List.copyOf(labels));
+    }
+
+    /**
+     * The tenants or endpoints that have cost the most since startup, by
+     * request time, SQL time or number of JDBC statements.
+     *
+     * @param limit number of entries, 1 to {@value #MAX_COST_REPORT_LIMIT}
+     */
+    public List<RequestCostRegistry.RequestCost> getRequestCosts(RequestCostRegistry.Dimension dimension,
+                                                                 RequestCostRegistry.SortBy sortBy,
+                                                                 int limit) {
+        int size = Math.max(1, Math.min(limit, MAX_COST_REPORT_LIMIT));
+        return requestCostRegistry.top(dimension, sortBy, size);
     }
 
     /**
@@ -144,4 +281,23 @@ public class MetricsService {
                 tenant.getUpdatedAt() != null ? tenant.getUpdatedAt() : tenant.getCreatedAt()
         );
     }
+
+    private static long sum(Map<String, Long> counts) {
+        return counts.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    private static List<Long> toList(long[] values) {
+        List<Long> list = new ArrayList<>(values.length);
+        for (long value : values) {
+            list.add(value);
+        }
+        return list;
+    }
+
+    /**
+     * Analytics period: {@code [from, to)} split into buckets of {@code bucket}
+     * length, one label per bucket.
+     */
+    record AnalyticsWindow(Instant from, Instant to, Duration bucket, List<String> labels) {
+    }
 }
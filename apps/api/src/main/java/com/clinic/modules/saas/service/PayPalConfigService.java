@@ -7,12 +7,14 @@ import com.clinic.modules.saas.model.PayPalConfigEntity;
 import com.clinic.modules.saas.model.PlanTier;
 import com.clinic.modules.saas.repository.PayPalConfigRepository;
 import com.clinic.util.EncryptionUtil;
-import com.clinic.modules.core.settings.ClinicSettingsRepository;
-import com.clinic.modules.core.settings.ClinicSettingsEntity;
+import com.clinic.modules.core.settings.ClinicSettingsCache;
+import com.clinic.modules.core.settings.ClinicSettingsSnapshot;
+import com.clinic.modules.core.payment.PayPalAccessTokenManager;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.http.*;
@@ -40,29 +42,27 @@ public class PayPalConfigService {
     private static final String SANDBOX_BASE_URL = "https://api-m.sandbox.paypal.com";
     private static final String PRODUCTION_BASE_URL = "https://api-m.paypal.com";
     private static final String TOKEN_ENDPOINT = "/v1/oauth2/token";
-    private static final long ACCESS_TOKEN_CACHE_DURATION = 9 * 60 * 60 * 1000; // 9 hours in milliseconds
 
     private final PayPalConfigRepository payPalConfigRepository;
     private final EncryptionUtil encryptionUtil;
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
-    private final ClinicSettingsRepository clinicSettingsRepository;
-
-    // In-memory cache for access tokens per tenant
-    private final java.util.concurrent.ConcurrentHashMap<Long, TokenCache> accessTokenCache = new java.util.concurrent.ConcurrentHashMap<>();
-    private TokenCache globalAccessTokenCache;
+    private final ClinicSettingsCache clinicSettingsCache;
+    private final PayPalAccessTokenManager accessTokenManager;
 
     public PayPalConfigService(
             PayPalConfigRepository payPalConfigRepository,
             EncryptionUtil encryptionUtil,
-            RestTemplate restTemplate,
+            @Qualifier("paypalRestTemplate") RestTemplate restTemplate,
             ObjectMapper objectMapper,
-            ClinicSettingsRepository clinicSettingsRepository) {
+            ClinicSettingsCache clinicSettingsCache,
+            PayPalAccessTokenManager accessTokenManager) {
         this.payPalConfigRepository = payPalConfigRepository;
         this.encryptionUtil = encryptionUtil;
         this.restTemplate = restTemplate;
         this.objectMapper = objectMapper;
-        this.clinicSettingsRepository = clinicSettingsRepository;
+        this.clinicSettingsCache = clinicSettingsCache;
+        this.accessTokenManager = accessTokenManager;
     }
 
     /**
@@ -106,7 +106,7 @@ public class PayPalConfigService {
      * @throws IllegalArgumentException if credentials are invalid
      */
     @Transactional
-    @CacheEvict(value = {"paypalConfig", "paypalAccessToken"}, allEntries = true)
+    @CacheEvict(value = "paypalConfig", allEntries = true)
     public PayPalConfigResponse updateConfig(PayPalConfigRequest request) {
         logger.info("Updating PayPal configuration");
 
@@ -159,10 +159,6 @@ public class PayPalConfigService {
 
         PayPalConfigEntity savedConfig = payPalConfigRepository.save(config);
 
-        // Clear cached access tokens (all tenants) since credentials changed
-        accessTokenCache.clear();
-        globalAccessTokenCache = null;
-
         logger.info("PayPal configuration updated successfully");
 
         PayPalConfigResponse response = new PayPalConfigResponse(
@@ -217,20 +213,13 @@ public class PayPalConfigService {
     }
 
     /**
-     * Get PayPal access token with caching.
-     * Token is cached for 9 hours (PayPal tokens are valid for 9 hours).
+     * Get PayPal access token for the platform configuration.
+     * Tokens are cached by {@link PayPalAccessTokenManager} for their PayPal-issued lifetime.
      *
      * @return PayPal access token
      * @throws IllegalStateException if configuration is missing or token retrieval fails
      */
-    @Cacheable(value = "paypalAccessToken", unless = "#result == null")
     public String getAccessToken() {
-        long now = System.currentTimeMillis();
-        if (globalAccessTokenCache != null && globalAccessTokenCache.expiresAt > now
-                && globalAccessTokenCache.token != null && !globalAccessTokenCache.token.isBlank()) {
-            return globalAccessTokenCache.token;
-        }
-
         PayPalConfigEntity config = payPalConfigRepository.findFirstByOrderByIdAsc()
                 .orElseThrow(() -> new IllegalStateException("PayPal configuration not found"));
 
@@ -240,40 +229,8 @@ public class PayPalConfigService {
             throw new IllegalStateException("PayPal client ID/secret not configured");
         }
 
-        try {
-            String baseUrl = Boolean.TRUE.equals(config.getSandboxMode()) ? SANDBOX_BASE_URL : PRODUCTION_BASE_URL;
-            String url = baseUrl + TOKEN_ENDPOINT;
-
-            String auth = clientId + ":" + clientSecret;
-            String encodedAuth = Base64.getEncoder().encodeToString(auth.getBytes());
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
-            headers.set("Authorization", "Basic " + encodedAuth);
-
-            String body = "grant_type=client_credentials";
-
-            HttpEntity<String> request = new HttpEntity<>(body, headers);
-
-            ResponseEntity<Map> response = restTemplate.exchange(
-                    url,
-                    HttpMethod.POST,
-                    request,
-                    Map.class
-            );
-
-            if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-                String token = (String) response.getBody().get("access_token");
-                globalAccessTokenCache = new TokenCache(token, now + ACCESS_TOKEN_CACHE_DURATION);
-                return token;
-            }
-
-            throw new IllegalStateException("Failed to retrieve PayPal access token");
-
-        } catch (Exception e) {
-            logger.error("Failed to get PayPal access token (global config)", e);
-            throw new IllegalStateException("Failed to retrieve PayPal access token", e);
-        }
+        String baseUrl = Boolean.TRUE.equals(config.getSandboxMode()) ? SANDBOX_BASE_URL : PRODUCTION_BASE_URL;
+        return accessTokenManager.getAccessToken(clientId, clientSecret, baseUrl);
     }
 
     /**
@@ -318,47 +275,8 @@ public class PayPalConfigService {
 
     public String getAccessTokenForTenant(Long tenantId) {
         TenantPayPalConfig config = resolveTenantConfig(tenantId);
-        long now = System.currentTimeMillis();
-        TokenCache cached = accessTokenCache.get(tenantId);
-        if (cached != null && cached.expiresAt > now && cached.token != null && !cached.token.isBlank()) {
-            return cached.token;
-        }
-
-        try {
-            String baseUrl = config.sandboxMode ? SANDBOX_BASE_URL : PRODUCTION_BASE_URL;
-            String url = baseUrl + TOKEN_ENDPOINT;
-
-            String auth = config.clientId + ":" + config.clientSecret;
-            String encodedAuth = Base64.getEncoder().encodeToString(auth.getBytes());
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
-            headers.set("Authorization", "Basic " + encodedAuth);
-
-            String body = "grant_type=client_credentials";
-
-            HttpEntity<String> request = new HttpEntity<>(body, headers);
-
-            ResponseEntity<Map> response = restTemplate.exchange(
-                    url,
-                    HttpMethod.POST,
-                    request,
-                    Map.class
-            );
-
-            if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-                String token = (String) response.getBody().get("access_token");
-                // Cache token for 9 hours from now
-                accessTokenCache.put(tenantId, new TokenCache(token, now + ACCESS_TOKEN_CACHE_DURATION));
-                return token;
-            }
-
-            throw new IllegalStateException("Failed to retrieve PayPal access token for tenant " + tenantId);
-
-        } catch (Exception e) {
-            logger.error("Failed to get PayPal access token for tenant {}", tenantId, e);
-            throw new IllegalStateException("Failed to retrieve PayPal access token for tenant " + tenantId, e);
-        }
+        String baseUrl = config.sandboxMode ? SANDBOX_BASE_URL : PRODUCTION_BASE_URL;
+        return accessTokenManager.getAccessToken(config.clientId, config.clientSecret, baseUrl);
     }
 
     public String getBaseUrlForTenant(Long tenantId) {
@@ -367,12 +285,12 @@ public class PayPalConfigService {
     }
 
     private TenantPayPalConfig resolveTenantConfig(Long tenantId) {
-        ClinicSettingsEntity settings = clinicSettingsRepository.findByTenantId(tenantId)
+        ClinicSettingsSnapshot settings = clinicSettingsCache.get(tenantId)
                 .orElseThrow(() -> new IllegalStateException("Clinic settings not found for tenant " + tenantId));
 
-        String clientId = settings.getPaypalClientId();
-        String clientSecret = settings.getPaypalClientSecret();
-        String env = settings.getPaypalEnvironment();
+        String clientId = settings.paypalClientId();
+        String clientSecret = settings.paypalClientSecret();
+        String env = settings.paypalEnvironment();
 
         if (clientId == null || clientSecret == null) {
             throw new IllegalStateException("PayPal client ID/secret not configured for tenant " + tenantId);
@@ -384,8 +302,6 @@ public class PayPalConfigService {
 
     private record TenantPayPalConfig(String clientId, String clientSecret, boolean sandboxMode) {}
 
-    private record TokenCache(String token, long expiresAt) {}
-
     /**
      * Resolve PayPal plan ID for provided tier/cycle, or null if not configured.
      */
@@ -16,6 +16,7 @@ import com.clinic.modules.saas.repository.SubscriptionRepository;
 import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
@@ -76,7 +77,7 @@ public class SubscriptionService {
 
     public SubscriptionService(
             PayPalConfigService payPalConfigService,
-            RestTemplate restTemplate,
+            @Qualifier("paypalRestTemplate") RestTemplate restTemplate,
             SubscriptionRepository subscriptionRepository,
             TenantRepository tenantRepository,
             BillingAuditLogger auditLogger,
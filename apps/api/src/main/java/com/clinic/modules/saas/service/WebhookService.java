@@ -16,6 +16,7 @@ import com.clinic.modules.saas.repository.SubscriptionRepository;
 import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -49,7 +50,7 @@ public class WebhookService {
 
     public WebhookService(
             PayPalConfigService payPalConfigService,
-            RestTemplate restTemplate,
+            @Qualifier("paypalRestTemplate") RestTemplate restTemplate,
             SubscriptionRepository subscriptionRepository,
             PaymentTransactionRepository paymentTransactionRepository,
             TenantRepository tenantRepository,
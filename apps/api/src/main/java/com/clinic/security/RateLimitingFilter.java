@@ -72,7 +72,7 @@ public class RateLimitingFilter extends OncePerRequestFilter {
         return securityProperties.rateLimiting().adminAuth();
     }
 
-    private boolean allowRequest(String key, SecurityProperties.Bucket config) {
+    boolean allowRequest(String key, SecurityProperties.Bucket config) {
         long windowMillis = config.refillPeriod().toMillis();
         int capacity = Math.max(1, Math.toIntExact(config.capacity()));
         long now = System.currentTimeMillis();
@@ -0,0 +1,16 @@
+-- Per-tenant, per-day counters backing order number generation.
+-- Rows are advanced with a single INSERT ... ON CONFLICT DO UPDATE ... RETURNING,
+-- so checkout never has to probe the orders table for a free number.
+CREATE TABLE IF NOT EXISTS order_number_sequences (
+    tenant_id BIGINT NOT NULL,
+    sequence_date DATE NOT NULL,
+    last_value BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+
+    CONSTRAINT pk_order_number_sequences
+        PRIMARY KEY (tenant_id, sequence_date),
+    CONSTRAINT fk_order_number_sequences_tenant
+        FOREIGN KEY (tenant_id) REFERENCES tenants(id) ON DELETE CASCADE
+);
+
+COMMENT ON TABLE order_number_sequences IS 'Per-tenant daily counters used to allocate collision-free order numbers';
@@ -0,0 +1,10 @@
+-- Switch checkout-path ecommerce tables to pooled sequence allocation.
+-- Hibernate reserves 50 ids per nextval() call (allocationSize = 50), which lets
+-- order, order item, cart and payment inserts be sent as JDBC batches instead of
+-- one IDENTITY round trip per row. The BIGSERIAL column defaults keep working for
+-- manual inserts; they simply consume a whole block per row.
+ALTER SEQUENCE IF EXISTS orders_id_seq INCREMENT BY 50;
+ALTER SEQUENCE IF EXISTS order_items_id_seq INCREMENT BY 50;
+ALTER SEQUENCE IF EXISTS ecommerce_payments_id_seq INCREMENT BY 50;
+ALTER SEQUENCE IF EXISTS carts_id_seq INCREMENT BY 50;
+ALTER SEQUENCE IF EXISTS cart_items_id_seq INCREMENT BY 50;
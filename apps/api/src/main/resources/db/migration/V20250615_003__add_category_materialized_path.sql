@@ -0,0 +1,27 @@
+-- Materialized path for the category tree.
+-- path holds the ids from the root down to the category itself, e.g. '/3/17/42/'.
+-- The column uses the "C" collation so a plain btree index serves subtree lookups
+-- as a byte-wise prefix range (path >= '/3/17/' AND path < '/3/170').
+ALTER TABLE categories ADD COLUMN IF NOT EXISTS path VARCHAR(512) COLLATE "C";
+ALTER TABLE categories ADD COLUMN IF NOT EXISTS depth INTEGER NOT NULL DEFAULT 0;
+
+-- Backfill paths and depths for existing categories
+WITH RECURSIVE tree AS (
+    SELECT id, ('/' || id || '/')::VARCHAR(512) AS path, 0 AS depth
+    FROM categories
+    WHERE parent_id IS NULL
+    UNION ALL
+    SELECT c.id, (t.path || c.id || '/')::VARCHAR(512), t.depth + 1
+    FROM categories c
+    JOIN tree t ON c.parent_id = t.id
+)
+UPDATE categories c
+SET path = tree.path,
+    depth = tree.depth
+FROM tree
+WHERE c.id = tree.id;
+
+CREATE INDEX IF NOT EXISTS idx_categories_tenant_path ON categories(tenant_id, path);
+
+COMMENT ON COLUMN categories.path IS 'Materialized path of ancestor ids including the category itself, e.g. /3/17/42/';
+COMMENT ON COLUMN categories.depth IS 'Depth in the category tree; root categories have depth 0';
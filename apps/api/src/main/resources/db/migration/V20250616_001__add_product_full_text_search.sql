@@ -0,0 +1,50 @@
+-- Full-text and fuzzy search for products.
+-- English text is indexed with the english configuration (stemming, stop words).
+-- Arabic text is normalized first (diacritics and tatweel removed, alef/yeh/teh
+-- marbuta variants folded) and indexed with the simple configuration.
+-- A trigram column over names and SKU catches typos the tsvector match misses.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE OR REPLACE FUNCTION normalize_arabic(input TEXT) RETURNS TEXT
+    LANGUAGE sql
+    IMMUTABLE
+    STRICT
+    PARALLEL SAFE
+AS $$
+    SELECT translate(
+        regexp_replace(input, '[\u064B-\u065F\u0670\u0640]', '', 'g'),
+        -- alef with hamza above/below, alef with madda, alef wasla -> alef;
+        -- alef maqsura -> yeh; teh marbuta -> heh
+        'أإآٱىة',
+        'اااايه'
+    )
+$$;
+
+ALTER TABLE products
+    ADD COLUMN IF NOT EXISTS search_vector_en TSVECTOR GENERATED ALWAYS AS (
+        setweight(to_tsvector('english', COALESCE(name, '')), 'A') ||
+        setweight(to_tsvector('simple', COALESCE(sku, '')), 'A') ||
+        setweight(to_tsvector('english', COALESCE(short_description, '')), 'B') ||
+        setweight(to_tsvector('english', COALESCE(description, '')), 'C')
+    ) STORED;
+
+ALTER TABLE products
+    ADD COLUMN IF NOT EXISTS search_vector_ar TSVECTOR GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', normalize_arabic(COALESCE(name_ar, ''))), 'A') ||
+        setweight(to_tsvector('simple', normalize_arabic(COALESCE(short_description_ar, ''))), 'B') ||
+        setweight(to_tsvector('simple', normalize_arabic(COALESCE(description_ar, ''))), 'C')
+    ) STORED;
+
+ALTER TABLE products
+    ADD COLUMN IF NOT EXISTS search_trgm TEXT GENERATED ALWAYS AS (
+        lower(normalize_arabic(COALESCE(name, '') || ' ' || COALESCE(name_ar, '') || ' ' || COALESCE(sku, '')))
+    ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_products_search_vector_en ON products USING GIN (search_vector_en);
+CREATE INDEX IF NOT EXISTS idx_products_search_vector_ar ON products USING GIN (search_vector_ar);
+CREATE INDEX IF NOT EXISTS idx_products_search_trgm ON products USING GIN (search_trgm gin_trgm_ops);
+
+COMMENT ON FUNCTION normalize_arabic(TEXT) IS 'Strips Arabic diacritics and tatweel and folds alef, alef maqsura and teh marbuta variants';
+COMMENT ON COLUMN products.search_vector_en IS 'Weighted English search vector: name/sku (A), short description (B), description (C)';
+COMMENT ON COLUMN products.search_vector_ar IS 'Weighted search vector over normalized Arabic fields';
+COMMENT ON COLUMN products.search_trgm IS 'Lower-cased, Arabic-normalized names and SKU for trigram similarity';
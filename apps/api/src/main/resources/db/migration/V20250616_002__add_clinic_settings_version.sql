@@ -0,0 +1,24 @@
+-- Version counter for cached clinic settings snapshots.
+-- Every update takes the next value from a shared sequence, so a node can find
+-- all settings changed since its last poll with one indexed range query and
+-- drop its cached snapshots for those tenants.
+CREATE SEQUENCE IF NOT EXISTS clinic_settings_version_seq;
+
+ALTER TABLE clinic_settings
+    ADD COLUMN IF NOT EXISTS settings_version BIGINT NOT NULL DEFAULT nextval('clinic_settings_version_seq');
+
+CREATE INDEX IF NOT EXISTS idx_clinic_settings_version ON clinic_settings (settings_version);
+
+CREATE OR REPLACE FUNCTION bump_clinic_settings_version()
+RETURNS TRIGGER AS $$
+BEGIN
+    NEW.settings_version := nextval('clinic_settings_version_seq');
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trigger_bump_clinic_settings_version ON clinic_settings;
+CREATE TRIGGER trigger_bump_clinic_settings_version
+    BEFORE UPDATE ON clinic_settings
+    FOR EACH ROW
+    EXECUTE FUNCTION bump_clinic_settings_version();
@@ -0,0 +1,53 @@
+-- Image galleries and per-image metadata, previously held in memory.
+-- Each image belongs to at most one gallery per tenant.
+-- Tags are a text array searched with the && (overlap) operator. The GIN index
+-- covers tenant_id as well (btree_gin), so a tag search reads only the
+-- tenant's postings instead of filtering every tenant's matches.
+CREATE EXTENSION IF NOT EXISTS btree_gin;
+
+CREATE TABLE IF NOT EXISTS image_galleries (
+    id UUID PRIMARY KEY,
+    tenant_id BIGINT NOT NULL,
+    name VARCHAR(200) NOT NULL,
+    description TEXT,
+    gallery_type VARCHAR(30) NOT NULL,
+    image_count INTEGER NOT NULL DEFAULT 0,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    modified_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+
+    CONSTRAINT fk_image_galleries_tenant
+        FOREIGN KEY (tenant_id) REFERENCES tenants(id) ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS idx_image_galleries_tenant_type_modified
+    ON image_galleries (tenant_id, gallery_type, modified_at DESC);
+
+CREATE TABLE IF NOT EXISTS gallery_images (
+    id BIGSERIAL PRIMARY KEY,
+    tenant_id BIGINT NOT NULL,
+    gallery_id UUID NOT NULL,
+    image_id VARCHAR(100) NOT NULL,
+    title VARCHAR(255),
+    description TEXT,
+    tags TEXT[] NOT NULL DEFAULT '{}',
+    created_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+
+    CONSTRAINT ux_gallery_images_tenant_image UNIQUE (tenant_id, image_id),
+    CONSTRAINT fk_gallery_images_gallery
+        FOREIGN KEY (gallery_id) REFERENCES image_galleries(id) ON DELETE CASCADE,
+    CONSTRAINT fk_gallery_images_tenant
+        FOREIGN KEY (tenant_id) REFERENCES tenants(id) ON DELETE CASCADE
+);
+
+-- Gallery pages walk (gallery_id, id) from the cursor
+CREATE INDEX IF NOT EXISTS idx_gallery_images_gallery_id
+    ON gallery_images (gallery_id, id);
+
+-- Tag search: tenant + tag overlap, newest first
+CREATE INDEX IF NOT EXISTS idx_gallery_images_tenant_tags
+    ON gallery_images USING GIN (tenant_id, tags);
+
+COMMENT ON TABLE image_galleries IS 'Per-tenant image galleries';
+COMMENT ON COLUMN image_galleries.image_count IS 'Number of gallery_images rows, maintained by the application';
+COMMENT ON TABLE gallery_images IS 'Metadata of images placed in a gallery';
+COMMENT ON COLUMN gallery_images.tags IS 'Free-form tags, trimmed and de-duplicated; searched with &&';
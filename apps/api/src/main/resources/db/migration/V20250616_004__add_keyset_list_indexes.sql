@@ -0,0 +1,23 @@
+-- Admin list endpoints page by keyset: each query seeks to the cursor within
+-- the tenant and reads the next rows in index order, instead of sorting or
+-- skipping the tenant's whole table.
+
+-- Newest first: (created_at, id) descending
+CREATE INDEX IF NOT EXISTS idx_blogs_tenant_created_id
+    ON blogs (tenant_id, created_at DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_staff_users_tenant_created_id
+    ON staff_users (tenant_id, created_at DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_treatment_plans_tenant_created_id
+    ON treatment_plans (tenant_id, created_at DESC, id DESC);
+
+-- Alphabetical: (name, id) ascending
+CREATE INDEX IF NOT EXISTS idx_material_catalog_tenant_name_id
+    ON material_catalog (tenant_id, name, id);
+
+CREATE INDEX IF NOT EXISTS idx_insurance_companies_tenant_name_id
+    ON insurance_companies (tenant_id, name_en, id);
+
+CREATE INDEX IF NOT EXISTS idx_doctors_tenant_name_id
+    ON doctors (tenant_id, full_name_en, id);
@@ -0,0 +1,124 @@
+package com.clinic.api;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for KeysetPage, KeysetPageRequest and KeysetCursor.
+ */
+class KeysetPageTest {
+
+    @Test
+    void testCursorRoundTrip() {
+        Instant createdAt = Instant.parse("2025-06-16T10:15:30Z");
+        KeysetCursor cursor = KeysetCursor.of(createdAt, 42L);
+
+        KeysetCursor decoded = KeysetCursor.decode(cursor.encode());
+
+        assertThat(decoded).isEqualTo(cursor);
+        assertThat(decoded.instantKey()).isEqualTo(createdAt);
+    }
+
+    @Test
+    void testCursorKeepsSeparatorsInSortKey() {
+        KeysetCursor cursor = KeysetCursor.of("Composite: resin", 7L);
+
+        assertThat(KeysetCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void testInvalidCursorIsBadRequest() {
+        assertThatThrownBy(() -> KeysetPageRequest.of("not a cursor!", null))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+    }
+
+    @Test
+    void testLimitDefaultsAndIsCapped() {
+        assertThat(KeysetPageRequest.of(null, null).limit()).isEqualTo(KeysetPageRequest.DEFAULT_LIMIT);
+        assertThat(KeysetPageRequest.of(null, 0).limit()).isEqualTo(KeysetPageRequest.DEFAULT_LIMIT);
+        assertThat(KeysetPageRequest.of(null, 10_000).limit()).isEqualTo(KeysetPageRequest.MAX_LIMIT);
+        assertThat(KeysetPageRequest.of(null, 20).fetchWindow().getPageSize()).isEqualTo(21);
+    }
+
+    @Test
+    void testFirstPageUsesSentinels() {
+        KeysetPageRequest request = KeysetPageRequest.of("", 10);
+
+        assertThat(request.instantKeyOr(KeysetPageRequest.LATEST)).isEqualTo(KeysetPageRequest.LATEST);
+        assertThat(request.stringKeyOr("")).isEmpty();
+        assertThat(request.idOr(0L)).isZero();
+    }
+
+    @Test
+    void testExtraRowIsDroppedAndBecomesNextCursor() {
+        KeysetPageRequest request = KeysetPageRequest.of(null, 2);
+
+        KeysetPage<String> page = KeysetPage.of(List.of("a", "b", "c"), request,
+                item -> KeysetCursor.of(item, item.charAt(0)));
+
+        assertThat(page.items()).containsExactly("a", "b");
+        assertThat(page.hasNext()).isTrue();
+        KeysetPageRequest next = KeysetPageRequest.of(page.nextCursor(), 2);
+        assertThat(next.stringKeyOr("")).isEqualTo("b");
+        assertThat(next.idOr(0L)).isEqualTo('b');
+    }
+
+    @Test
+    void testLastPageHasNoCursorHeader() {
+        KeysetPage<String> page = KeysetPage.of(List.of("a", "b"), KeysetPageRequest.of(null, 2),
+                item -> KeysetCursor.of(item, 1L));
+
+        ResponseEntity<List<String>> response = page.toResponseEntity();
+
+        assertThat(page.hasNext()).isFalse();
+        assertThat(response.getBody()).containsExactly("a", "b");
+        assertThat(response.getHeaders().containsKey(KeysetPage.NEXT_CURSOR_HEADER)).isFalse();
+    }
+
+    @Test
+    void testNextCursorIsSentAsHeader() {
+        KeysetPage<Integer> page = new KeysetPage<>(List.of(1), "token");
+
+        ResponseEntity<List<String>> response = page.map(String::valueOf).toResponseEntity();
+
+        assertThat(response.getBody()).containsExactly("1");
+        assertThat(response.getHeaders().getFirst(KeysetPage.NEXT_CURSOR_HEADER)).isEqualTo("token");
+    }
+
+    @Test
+    void testListWithoutCursorOrLimitReadsEveryPage() {
+        List<String> rows = List.of("a", "b", "c");
+        List<KeysetPageRequest> requests = new ArrayList<>();
+
+        KeysetPage<String> page = KeysetPage.list(null, null, request -> {
+            requests.add(request);
+            int from = (int) request.idOr(0L);
+            List<String> window = rows.subList(from, Math.min(rows.size(), from + 2));
+            String next = from + 2 < rows.size() ? KeysetCursor.of("", from + 2L).encode() : null;
+            return new KeysetPage<>(window, next);
+        });
+
+        assertThat(page.items()).containsExactly("a", "b", "c");
+        assertThat(page.hasNext()).isFalse();
+        assertThat(requests).hasSize(2).allSatisfy(
+                request -> assertThat(request.limit()).isEqualTo(KeysetPageRequest.MAX_LIMIT));
+    }
+
+    @Test
+    void testListWithLimitReturnsOnePage() {
+        KeysetPage<String> page = KeysetPage.list(null, 2, request -> new KeysetPage<>(List.of("a", "b"), "token"));
+
+        assertThat(page.items()).containsExactly("a", "b");
+        assertThat(page.nextCursor()).isEqualTo("token");
+    }
+}
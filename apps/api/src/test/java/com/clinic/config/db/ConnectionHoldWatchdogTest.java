@@ -0,0 +1,148 @@
+package com.clinic.config.db;
+
+import com.clinic.config.http.UpstreamGuard;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for ConnectionHoldWatchdog and ConnectionTrackingDataSource.
+ */
+class ConnectionHoldWatchdogTest {
+
+    private static final String OWNER = "com.clinic.modules.publicapi.service.BookingService.createBooking";
+
+    private SimpleMeterRegistry meterRegistry;
+    private ConnectionWatchdogProperties properties;
+    private ConnectionHoldWatchdog watchdog;
+    private Connection target;
+    private ConnectionTrackingDataSource dataSource;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws SQLException {
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new ConnectionWatchdogProperties();
+        watchdog = new ConnectionHoldWatchdog(properties, meterRegistry);
+
+        DataSource pool = mock(DataSource.class);
+        target = mock(Connection.class);
+        when(pool.getConnection()).thenReturn(target);
+        ObjectProvider<ConnectionHoldWatchdog> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(watchdog);
+        dataSource = new ConnectionTrackingDataSource(pool, provider);
+
+        TransactionSynchronizationManager.setCurrentTransactionName(OWNER);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionName(null);
+    }
+
+    @Test
+    void testHoldIsTrackedUntilConnectionIsClosed() throws SQLException {
+        Connection connection = dataSource.getConnection();
+        assertThat(watchdog.isHoldingConnection()).isTrue();
+        assertThat(watchdog.report().openConnections()).isEqualTo(1);
+
+        connection.close();
+        connection.close();
+
+        verify(target, times(2)).close();
+        assertThat(watchdog.isHoldingConnection()).isFalse();
+        assertThat(watchdog.report().openConnections()).isZero();
+        assertThat(meterRegistry.get(ConnectionHoldWatchdog.HOLD_TIMER).timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void testLongHoldIsCountedAgainstTransactionOwner() throws SQLException {
+        properties.setHoldThreshold(Duration.ZERO);
+
+        Connection connection = dataSource.getConnection();
+        connection.prepareStatement("SELECT 1");
+        TransactionSynchronizationManager.setCurrentTransactionName(null);
+        connection.close();
+
+        Counter longHolds = meterRegistry.get(ConnectionHoldWatchdog.LONG_HOLD_COUNTER).tag("owner", OWNER).counter();
+        assertThat(longHolds.count()).isEqualTo(1);
+        assertThat(watchdog.report().recent())
+                .singleElement()
+                .satisfies(event -> {
+                    assertThat(event.kind()).isEqualTo("LONG_HOLD");
+                    assertThat(event.owner()).isEqualTo(OWNER);
+                });
+    }
+
+    @Test
+    void testScanReportsConnectionsStillHeld() throws SQLException {
+        properties.setHoldThreshold(Duration.ZERO);
+
+        Connection connection = dataSource.getConnection();
+        watchdog.scan();
+
+        assertThat(meterRegistry.get("db.connection.hold.open.long").gauge().value()).isEqualTo(1);
+        assertThat(watchdog.report().longHeldNow()).hasSize(1);
+        connection.close();
+    }
+
+    @Test
+    void testRemoteCallWhileHoldingConnectionIsCounted() throws Exception {
+        UpstreamGuard guard = new UpstreamGuard("paypal", 2, Duration.ofMillis(10), meterRegistry, watchdog);
+
+        try (Connection ignored = dataSource.getConnection()) {
+            guard.execute("POST /v1/billing/subscriptions", () -> 200, status -> status);
+        }
+
+        Counter remoteCalls = meterRegistry.get(ConnectionHoldWatchdog.REMOTE_CALL_COUNTER)
+                .tag("upstream", "paypal")
+                .tag("owner", OWNER)
+                .counter();
+        assertThat(remoteCalls.count()).isEqualTo(1);
+        assertThat(watchdog.report().recent()).extracting(ConnectionHoldWatchdog.Event::remoteCall)
+                .containsExactly("paypal POST /v1/billing/subscriptions");
+    }
+
+    @Test
+    void testFailPolicyRejectsRemoteCallInsideTransaction() throws SQLException {
+        properties.setRemoteCallPolicy(ConnectionWatchdogProperties.RemoteCallPolicy.FAIL);
+        UpstreamGuard guard = new UpstreamGuard("sendgrid", 2, Duration.ofMillis(10), meterRegistry, watchdog);
+
+        try (Connection ignored = dataSource.getConnection()) {
+            assertThatThrownBy(() -> guard.execute("POST /v3/mail/send", () -> 202, status -> status))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining(OWNER);
+        }
+
+        Timer calls = meterRegistry.find("http.client.upstream").timer();
+        assertThat(calls).isNull();
+    }
+
+    @Test
+    void testRemoteCallWithoutConnectionIsAllowed() throws Exception {
+        properties.setRemoteCallPolicy(ConnectionWatchdogProperties.RemoteCallPolicy.FAIL);
+        UpstreamGuard guard = new UpstreamGuard("sendgrid", 2, Duration.ofMillis(10), meterRegistry, watchdog);
+
+        dataSource.getConnection().close();
+
+        assertThat(guard.execute("POST /v3/mail/send", () -> 202, status -> status)).isEqualTo(202);
+        assertThat(meterRegistry.find(ConnectionHoldWatchdog.REMOTE_CALL_COUNTER).counter()).isNull();
+    }
+}
@@ -0,0 +1,193 @@
+package com.clinic.config.db;
+
+import com.clinic.modules.core.cache.TenantContentChangedEvent;
+import com.clinic.security.JwtAudience;
+import com.clinic.security.JwtPrincipal;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for ReplicaRouter and ReplicaRoutingDataSource.
+ */
+class ReplicaRouterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private DataSource first;
+    private DataSource second;
+    private Map<DataSource, Object> lag;
+    private ReadYourWritesTracker tracker;
+    private ReplicaRouter router;
+    private Long currentTenant;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        first = mock(DataSource.class);
+        second = mock(DataSource.class);
+        lag = new HashMap<>();
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-1", first);
+        replicas.put("replica-2", second);
+        tracker = new ReadYourWritesTracker(Duration.ofSeconds(10), Duration.ofSeconds(7), 100, () -> currentTenant);
+        router = new ReplicaRouter(replicas, tracker, Duration.ofSeconds(5), meterRegistry, dataSource -> {
+            Object value = lag.get(dataSource);
+            if (value instanceof SQLException e) {
+                throw e;
+            }
+            return (Double) value;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testReplicasAreOutOfRotationUntilChecked() {
+        assertThat(router.route()).isEmpty();
+        assertThat(routed("primary", "no-replica")).isEqualTo(1);
+    }
+
+    @Test
+    void testReadsAlternateBetweenReplicasWithinMaxLag() {
+        lag.put(first, 0.0);
+        lag.put(second, 4.5);
+        router.checkLag();
+
+        assertThat(List.of(router.route().orElseThrow(), router.route().orElseThrow()))
+                .containsExactlyInAnyOrder(first, second);
+        assertThat(routed("replica", "in-rotation")).isEqualTo(2);
+        assertThat(meterRegistry.get("db.replica.lag").tag("replica", "replica-2").gauge().value()).isEqualTo(4.5);
+    }
+
+    @Test
+    void testLaggingReplicaIsSkippedUntilItCatchesUp() {
+        lag.put(first, 30.0);
+        lag.put(second, 0.0);
+        router.checkLag();
+
+        assertThat(router.route()).contains(second);
+        assertThat(router.route()).contains(second);
+        assertThat(meterRegistry.get("db.replica.available").tag("replica", "replica-1").gauge().value()).isZero();
+
+        lag.put(first, 1.0);
+        router.checkLag();
+
+        assertThat(List.of(router.route().orElseThrow(), router.route().orElseThrow()))
+                .containsExactlyInAnyOrder(first, second);
+    }
+
+    @Test
+    void testReadsGoToPrimaryWhenEveryReplicaIsBehindOrDown() {
+        lag.put(first, 6.0);
+        lag.put(second, new SQLTransientConnectionException("Connection is not available"));
+        router.checkLag();
+
+        assertThat(router.route()).isEmpty();
+        assertThat(meterRegistry.get("db.replica.lag").tag("replica", "replica-2").gauge().value()).isNaN();
+    }
+
+    @Test
+    void testSessionThatWroteReadsFromPrimary() {
+        lag.put(first, 0.0);
+        lag.put(second, 0.0);
+        router.checkLag();
+        authenticate("staff-1");
+
+        router.recordWrite();
+
+        assertThat(router.route()).isEmpty();
+        assertThat(routed("primary", "read-your-writes")).isEqualTo(1);
+
+        authenticate("staff-2");
+        assertThat(router.route()).isPresent();
+    }
+
+    @Test
+    void testTenantWithInvalidatedContentReadsFromPrimary() {
+        lag.put(first, 0.0);
+        lag.put(second, 0.0);
+        router.checkLag();
+
+        tracker.onTenantContentChanged(
+                new TenantContentChangedEvent(this, 7L, TenantContentChangedEvent.Area.PUBLIC_CONTENT));
+
+        currentTenant = 7L;
+        assertThat(router.route()).isEmpty();
+        assertThat(routed("primary", "tenant-cache-refill")).isEqualTo(1);
+
+        currentTenant = 8L;
+        assertThat(router.route()).isPresent();
+        currentTenant = null;
+        assertThat(router.route()).isPresent();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testDataSourceRoutesReadOnlyConnectionsAndRecordsWrites() throws SQLException {
+        lag.put(first, 0.0);
+        lag.put(second, 0.0);
+        router.checkLag();
+        authenticate("staff-1");
+
+        DataSource primary = mock(DataSource.class);
+        Connection primaryConnection = mock(Connection.class);
+        Connection replicaConnection = mock(Connection.class);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(first.getConnection()).thenReturn(replicaConnection);
+        when(second.getConnection()).thenReturn(replicaConnection);
+        ObjectProvider<ReplicaRouter> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(router);
+        ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource(primary, provider);
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setReadOnly(true);
+            connection.prepareStatement("select 1");
+        }
+        verify(replicaConnection).prepareStatement("select 1");
+        verify(primary, never()).getConnection();
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.prepareStatement("select * from tenants where id = ?");
+        }
+        assertThat(router.route()).isPresent();
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.prepareStatement("update tenants set name = ? where id = ?");
+        }
+        verify(primaryConnection).prepareStatement("update tenants set name = ? where id = ?");
+        assertThat(router.route()).isEmpty();
+    }
+
+    private double routed(String target, String reason) {
+        return meterRegistry.get(ReplicaRouter.ROUTING_COUNTER).tags("target", target, "reason", reason).counter().count();
+    }
+
+    private static void authenticate(String subject) {
+        JwtPrincipal principal = new JwtPrincipal(subject, JwtAudience.STAFF, List.of("ADMIN"), 1L);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, List.of()));
+    }
+}
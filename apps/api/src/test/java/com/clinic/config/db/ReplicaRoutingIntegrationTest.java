@@ -0,0 +1,107 @@
+package com.clinic.config.db;
+
+import com.clinic.modules.core.tenant.TenantRepository;
+import com.clinic.security.JwtAudience;
+import com.clinic.security.JwtPrincipal;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for read replica routing, with the test database standing
+ * in as its own replica: a second pool on the same URL, told apart by the
+ * {@code application_name} of its sessions.
+ */
+@SpringBootTest(properties = {
+        "clinic.db.replicas.enabled=true",
+        "clinic.db.replicas.urls=${spring.datasource.url}",
+        "clinic.db.replicas.maximum-pool-size=2"
+})
+@ActiveProfiles("test")
+public class ReplicaRoutingIntegrationTest {
+
+    private static final String REPLICA = "clinic-api-replica-1";
+
+    @Autowired
+    private ReplicaRouter router;
+
+    @Autowired
+    private TenantRepository tenantRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+
+    @BeforeEach
+    void setUp() {
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readWrite = new TransactionTemplate(transactionManager);
+        router.checkLag();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testReadOnlyTransactionRunsOnReplica() {
+        String applicationName = readOnly.execute(status -> {
+            tenantRepository.count();
+            return applicationName();
+        });
+
+        assertThat(applicationName).isEqualTo(REPLICA);
+    }
+
+    @Test
+    void testReadWriteTransactionRunsOnPrimary() {
+        assertThat(readWrite.execute(status -> applicationName())).isNotEqualTo(REPLICA);
+    }
+
+    @Test
+    void testSessionReadsFromPrimaryRightAfterWriting() {
+        authenticate("replica-routing-writer");
+        readWrite.executeWithoutResult(status -> jdbcTemplate.update("UPDATE tenants SET name = name WHERE id = -1"));
+
+        assertThat(readOnly.execute(status -> applicationName())).isNotEqualTo(REPLICA);
+
+        authenticate("replica-routing-reader");
+        assertThat(readOnly.execute(status -> applicationName())).isEqualTo(REPLICA);
+    }
+
+    @Test
+    void testReadOnlyTransactionJoiningReadWriteTransactionStaysOnPrimary() {
+        String applicationName = readWrite.execute(status -> readOnly.execute(inner -> applicationName()));
+
+        assertThat(applicationName).isNotEqualTo(REPLICA);
+    }
+
+    private String applicationName() {
+        return jdbcTemplate.queryForObject("SELECT current_setting('application_name')", String.class);
+    }
+
+    private static void authenticate(String subject) {
+        JwtPrincipal principal = new JwtPrincipal(subject, JwtAudience.STAFF, List.of("ADMIN"), 1L);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, List.of()));
+    }
+}
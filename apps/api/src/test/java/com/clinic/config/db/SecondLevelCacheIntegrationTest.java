@@ -0,0 +1,190 @@
+package com.clinic.config.db;
+
+import com.clinic.modules.core.doctor.DoctorEntity;
+import com.clinic.modules.core.doctor.DoctorRepository;
+import com.clinic.modules.core.service.ClinicServiceEntity;
+import com.clinic.modules.core.service.ClinicServiceRepository;
+import com.clinic.modules.core.tenant.TenantEntity;
+import com.clinic.modules.core.tenant.TenantRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the Hibernate second-level cache on reference data.
+ *
+ * Every step runs in its own committed transaction, since the cache is only
+ * populated and updated on commit.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class SecondLevelCacheIntegrationTest {
+
+    private static final String SLUG_PREFIX = "l2-cache-";
+
+    @Autowired
+    private TenantRepository tenantRepository;
+
+    @Autowired
+    private ClinicServiceRepository serviceRepository;
+
+    @Autowired
+    private DoctorRepository doctorRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private SessionFactory sessionFactory;
+    private Statistics statistics;
+    private Long tenantId;
+    private Long otherTenantId;
+    private Long serviceId;
+    private Long doctorId;
+
+    @BeforeEach
+    void setUp() {
+        deleteTestData();
+        sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        statistics = sessionFactory.getStatistics();
+        // Rows deleted over JDBC above bypass the cache
+        sessionFactory.getCache().evictAllRegions();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            TenantEntity tenant = tenantRepository.save(new TenantEntity(SLUG_PREFIX + "a", "Cache Clinic A"));
+            TenantEntity otherTenant = tenantRepository.save(new TenantEntity(SLUG_PREFIX + "b", "Cache Clinic B"));
+            ClinicServiceEntity service = serviceRepository.save(
+                    new ClinicServiceEntity(SLUG_PREFIX + "cleaning", tenant, "Cleaning", null, null, null));
+            DoctorEntity doctor = new DoctorEntity("Dr. Cache", null, null, null, null, null, "en");
+            doctor.setTenant(tenant);
+            doctor.getServices().add(service);
+            doctorRepository.save(doctor);
+
+            tenantId = tenant.getId();
+            otherTenantId = otherTenant.getId();
+            serviceId = service.getId();
+            doctorId = doctor.getId();
+        });
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        deleteTestData();
+        sessionFactory.getCache().evictAllRegions();
+    }
+
+    @Test
+    void testEntityIsServedFromCacheAfterFirstLoad() {
+        sessionFactory.getCache().evictEntityData(ClinicServiceEntity.class);
+
+        transactionTemplate.executeWithoutResult(status -> serviceRepository.findById(serviceId).orElseThrow());
+        transactionTemplate.executeWithoutResult(status -> serviceRepository.findById(serviceId).orElseThrow());
+
+        assertThat(sessionFactory.getCache().containsEntity(ClinicServiceEntity.class, serviceId)).isTrue();
+        assertThat(statistics.getDomainDataRegionStatistics(HibernateCacheRegions.SERVICE).getHitCount())
+                .isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    void testUpdateReplacesCachedEntity() {
+        transactionTemplate.executeWithoutResult(status -> serviceRepository.findById(serviceId).orElseThrow());
+
+        transactionTemplate.executeWithoutResult(status -> serviceRepository.findById(serviceId).orElseThrow()
+                .updateDetails(SLUG_PREFIX + "cleaning", "Deep cleaning", null, null, null));
+
+        String name = transactionTemplate.execute(status -> serviceRepository.findById(serviceId).orElseThrow().getNameEn());
+        assertThat(name).isEqualTo("Deep cleaning");
+    }
+
+    @Test
+    void testDeleteEvictsCachedEntity() {
+        Long extraId = transactionTemplate.execute(status -> serviceRepository.save(new ClinicServiceEntity(
+                SLUG_PREFIX + "whitening", tenantRepository.getReferenceById(tenantId), "Whitening", null, null, null)).getId());
+        transactionTemplate.executeWithoutResult(status -> serviceRepository.findById(extraId).orElseThrow());
+        assertThat(sessionFactory.getCache().containsEntity(ClinicServiceEntity.class, extraId)).isTrue();
+
+        transactionTemplate.executeWithoutResult(status -> serviceRepository.deleteById(extraId));
+
+        assertThat(sessionFactory.getCache().containsEntity(ClinicServiceEntity.class, extraId)).isFalse();
+        assertThat(transactionTemplate.execute(status -> serviceRepository.findById(extraId))).isEmpty();
+    }
+
+    @Test
+    void testDoctorServicesCollectionIsRefreshedAfterChange() {
+        assertThat(doctorServiceSlugs()).containsExactly(SLUG_PREFIX + "cleaning");
+
+        transactionTemplate.executeWithoutResult(status -> {
+            ClinicServiceEntity implants = serviceRepository.save(new ClinicServiceEntity(
+                    SLUG_PREFIX + "implants", tenantRepository.getReferenceById(tenantId), "Implants", null, null, null));
+            doctorRepository.findById(doctorId).orElseThrow().getServices().add(implants);
+        });
+
+        assertThat(doctorServiceSlugs()).containsExactlyInAnyOrder(SLUG_PREFIX + "cleaning", SLUG_PREFIX + "implants");
+    }
+
+    @Test
+    void testQueryCacheIsInvalidatedByInsertsAndKeyedByTenant() {
+        assertThat(serviceNames(tenantId)).containsExactly("Cleaning");
+        assertThat(serviceNames(tenantId)).containsExactly("Cleaning");
+        assertThat(serviceNames(otherTenantId)).isEmpty();
+        assertThat(statistics.getQueryRegionStatistics(HibernateCacheRegions.REFERENCE_QUERIES).getHitCount())
+                .isGreaterThanOrEqualTo(1);
+
+        transactionTemplate.executeWithoutResult(status -> serviceRepository.save(new ClinicServiceEntity(
+                SLUG_PREFIX + "braces", tenantRepository.getReferenceById(tenantId), "Braces", null, null, null)));
+
+        assertThat(serviceNames(tenantId)).containsExactly("Braces", "Cleaning");
+        assertThat(serviceNames(otherTenantId)).isEmpty();
+    }
+
+    @Test
+    void testTenantUpdateIsVisibleThroughCachedSlugLookup() {
+        transactionTemplate.executeWithoutResult(status ->
+                tenantRepository.findBySlugIgnoreCaseAndNotDeleted(SLUG_PREFIX + "a").orElseThrow());
+
+        transactionTemplate.executeWithoutResult(status ->
+                tenantRepository.findById(tenantId).orElseThrow().setName("Renamed Clinic"));
+
+        String name = transactionTemplate.execute(status ->
+                tenantRepository.findBySlugIgnoreCaseAndNotDeleted(SLUG_PREFIX + "a").orElseThrow().getName());
+        assertThat(name).isEqualTo("Renamed Clinic");
+    }
+
+    private List<String> serviceNames(Long tenant) {
+        return transactionTemplate.execute(status -> serviceRepository.findByTenantIdOrderByNameEnAsc(tenant).stream()
+                .map(ClinicServiceEntity::getNameEn)
+                .toList());
+    }
+
+    private List<String> doctorServiceSlugs() {
+        return transactionTemplate.execute(status -> doctorRepository.findById(doctorId).orElseThrow().getServices().stream()
+                .map(ClinicServiceEntity::getSlug)
+                .toList());
+    }
+
+    private void deleteTestData() {
+        String tenants = "SELECT id FROM tenants WHERE slug LIKE '" + SLUG_PREFIX + "%'";
+        // doctor_services rows cascade with the doctor
+        jdbcTemplate.update("DELETE FROM doctors WHERE tenant_id IN (" + tenants + ")");
+        jdbcTemplate.update("DELETE FROM services WHERE tenant_id IN (" + tenants + ")");
+        jdbcTemplate.update("DELETE FROM tenants WHERE slug LIKE '" + SLUG_PREFIX + "%'");
+    }
+}
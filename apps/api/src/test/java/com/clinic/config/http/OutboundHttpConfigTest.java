@@ -0,0 +1,196 @@
+package com.clinic.config.http;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for the pooled outbound RestTemplates against a local stub server.
+ */
+class OutboundHttpConfigTest {
+
+    private HttpServer server;
+    private String baseUrl;
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+    private final CountDownLatch slowRequestReceived = new CountDownLatch(1);
+    private final CountDownLatch releaseSlowRequest = new CountDownLatch(1);
+
+    private SimpleMeterRegistry meterRegistry;
+    private OutboundHttpProperties properties;
+    private OutboundHttpConfig config;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/v2/checkout/orders", exchange -> respond(exchange, 200, "{\"status\":\"CREATED\"}"));
+        server.createContext("/error", exchange -> respond(exchange, 500, "{\"error\":\"boom\"}"));
+        server.createContext("/slow", exchange -> {
+            slowRequestReceived.countDown();
+            try {
+                releaseSlowRequest.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            respond(exchange, 200, "{}");
+        });
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new OutboundHttpProperties();
+        config = new OutboundHttpConfig(properties, new UpstreamGuards(properties, meterRegistry), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseSlowRequest.countDown();
+        config.destroy();
+        server.stop(0);
+    }
+
+    @Test
+    void testRequestsAreTimedByUpstreamAndOperation() {
+        RestTemplate restTemplate = config.restTemplateFor(OutboundHttpConfig.PAYPAL);
+
+        restTemplate.postForObject(baseUrl + "/v2/checkout/orders/5O190127TN364715T/capture", "{}", String.class);
+        restTemplate.postForObject(baseUrl + "/v2/checkout/orders/8AB12345CD678901E/capture", "{}", String.class);
+        assertThatThrownBy(() -> restTemplate.getForObject(baseUrl + "/error", String.class))
+                .isInstanceOf(HttpServerErrorException.class);
+
+        Timer success = meterRegistry.find(UpstreamGuard.TIMER_NAME)
+                .tags("upstream", "paypal", "operation", "POST /v2/checkout/orders/{id}/capture", "outcome", "SUCCESS")
+                .timer();
+        assertThat(success).isNotNull();
+        assertThat(success.count()).isEqualTo(2L);
+
+        Timer serverError = meterRegistry.find(UpstreamGuard.TIMER_NAME)
+                .tags("upstream", "paypal", "operation", "GET /error", "outcome", "SERVER_ERROR")
+                .timer();
+        assertThat(serverError).isNotNull();
+        assertThat(serverError.count()).isEqualTo(1L);
+    }
+
+    @Test
+    void testConnectionsAreReused() {
+        RestTemplate restTemplate = config.restTemplateFor(OutboundHttpConfig.PAYPAL);
+
+        for (int i = 0; i < 10; i++) {
+            restTemplate.postForObject(baseUrl + "/v2/checkout/orders", "{}", String.class);
+        }
+
+        assertThat(clientPorts).hasSize(1);
+        assertThat(meterRegistry.get("http.client.pool.available").tag("upstream", "paypal").gauge().value())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void testSaturatedUpstreamRejectsCalls() throws Exception {
+        OutboundHttpProperties.Upstream paypal = new OutboundHttpProperties.Upstream();
+        paypal.setMaxConcurrentCalls(1);
+        paypal.setBulkheadWait(Duration.ofMillis(50));
+        properties.getUpstreams().put(OutboundHttpConfig.PAYPAL, paypal);
+        RestTemplate restTemplate = config.restTemplateFor(OutboundHttpConfig.PAYPAL);
+
+        CompletableFuture<String> slowCall = CompletableFuture.supplyAsync(
+                () -> restTemplate.getForObject(baseUrl + "/slow", String.class));
+        assertThat(slowRequestReceived.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> restTemplate.postForObject(baseUrl + "/v2/checkout/orders", "{}", String.class))
+                .isInstanceOf(BulkheadFullException.class);
+
+        releaseSlowRequest.countDown();
+        assertThat(slowCall.get(5, TimeUnit.SECONDS)).isEqualTo("{}");
+
+        Timer rejected = meterRegistry.find(UpstreamGuard.TIMER_NAME)
+                .tags("upstream", "paypal", "outcome", "REJECTED")
+                .timer();
+        assertThat(rejected).isNotNull();
+        assertThat(rejected.count()).isEqualTo(1L);
+
+        // The slot is free again once the slow call has finished
+        assertThat(restTemplate.postForObject(baseUrl + "/v2/checkout/orders", "{}", String.class)).contains("CREATED");
+    }
+
+    @Test
+    void testSlotIsHeldUntilResponseIsClosed() {
+        RestTemplate restTemplate = config.restTemplateFor(OutboundHttpConfig.PAYPAL);
+        Gauge inFlight = meterRegistry.get("http.client.upstream.in.flight").tag("upstream", "paypal").gauge();
+
+        double whileReading = restTemplate.execute(baseUrl + "/v2/checkout/orders", HttpMethod.GET, null, response -> {
+            response.getBody().readAllBytes();
+            return inFlight.value();
+        });
+
+        assertThat(whileReading).isEqualTo(1.0);
+        assertThat(inFlight.value()).isEqualTo(0.0);
+        Timer success = meterRegistry.find(UpstreamGuard.TIMER_NAME)
+                .tags("upstream", "paypal", "operation", "GET /v2/checkout/orders", "outcome", "SUCCESS")
+                .timer();
+        assertThat(success).isNotNull();
+        assertThat(success.count()).isEqualTo(1L);
+    }
+
+    @Test
+    void testSlowUpstreamTimesOut() {
+        OutboundHttpProperties.Upstream cloudflare = new OutboundHttpProperties.Upstream();
+        cloudflare.setResponseTimeout(Duration.ofMillis(200));
+        properties.getUpstreams().put(OutboundHttpConfig.CLOUDFLARE, cloudflare);
+        RestTemplate restTemplate = config.restTemplateFor(OutboundHttpConfig.CLOUDFLARE);
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> restTemplate.getForObject(baseUrl + "/slow", String.class))
+                .isInstanceOf(ResourceAccessException.class);
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(3));
+
+        Timer error = meterRegistry.find(UpstreamGuard.TIMER_NAME)
+                .tags("upstream", "cloudflare", "operation", "GET /slow", "outcome", "ERROR")
+                .timer();
+        assertThat(error).isNotNull();
+        assertThat(error.count()).isEqualTo(1L);
+    }
+
+    @Test
+    void testNormalizePathReplacesIds() {
+        assertThat(UpstreamGuardInterceptor.normalizePath("/v1/billing/subscriptions/I-BW452GLLEP1G"))
+                .isEqualTo("/v1/billing/subscriptions/{id}");
+        assertThat(UpstreamGuardInterceptor.normalizePath("/client/v4/accounts/023e105f4ecef8ad9ca31a8372d0c353/images/v1"))
+                .isEqualTo("/client/v4/accounts/{id}/images/v1");
+        assertThat(UpstreamGuardInterceptor.normalizePath("/v3/mail/send")).isEqualTo("/v3/mail/send");
+        assertThat(UpstreamGuardInterceptor.normalizePath("/orders/42")).isEqualTo("/orders/{id}");
+        assertThat(UpstreamGuardInterceptor.normalizePath("")).isEqualTo("/");
+    }
+
+    private void respond(HttpExchange exchange, int status, String body) throws IOException {
+        clientPorts.add(exchange.getRemoteAddress().getPort());
+        exchange.getRequestBody().readAllBytes();
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+        exchange.close();
+    }
+}
@@ -0,0 +1,155 @@
+package com.clinic.config.observability;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for RequestProfiler, StatementProfilingDataSource and RequestCostRegistry.
+ */
+class RequestProfilerTest {
+
+    private static final String SELECT_DOCTOR = "select d.id, d.full_name_en from doctors d where d.id = ?";
+
+    private SimpleMeterRegistry meterRegistry;
+    private RequestProfilingProperties properties;
+    private RequestCostRegistry costRegistry;
+    private RequestProfiler profiler;
+    private Connection target;
+    private StatementProfilingDataSource dataSource;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws SQLException {
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new RequestProfilingProperties();
+        properties.setRepeatedStatementThreshold(3);
+        costRegistry = new RequestCostRegistry();
+        profiler = new RequestProfiler(properties, meterRegistry, costRegistry);
+
+        DataSource pool = mock(DataSource.class);
+        target = mock(Connection.class);
+        when(pool.getConnection()).thenReturn(target);
+        when(target.prepareStatement(anyString())).thenAnswer(invocation -> mock(PreparedStatement.class));
+        ObjectProvider<RequestProfiler> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(profiler);
+        dataSource = new StatementProfilingDataSource(pool, provider);
+    }
+
+    @AfterEach
+    void tearDown() {
+        profiler.complete("none", "GET", "/cleanup", 200);
+    }
+
+    @Test
+    void testConnectionsOutsideRequestsAreNotWrapped() throws SQLException {
+        assertThat(dataSource.getConnection()).isSameAs(target);
+    }
+
+    @Test
+    void testStatementsAreCountedPerRequestAndTagged() throws SQLException {
+        properties.setTenantTag(true);
+        profiler.begin();
+        try (Connection connection = dataSource.getConnection()) {
+            connection.prepareStatement(SELECT_DOCTOR).executeQuery();
+            connection.prepareStatement("select count(*) from appointments").executeQuery();
+        }
+        profiler.complete("7", "GET", "/admin/doctors/{id}", 200);
+
+        DistributionSummary statements = meterRegistry.get(RequestProfiler.STATEMENTS_SUMMARY)
+                .tag("tenant", "7")
+                .tag("uri", "/admin/doctors/{id}")
+                .summary();
+        assertThat(statements.count()).isEqualTo(1);
+        assertThat(statements.totalAmount()).isEqualTo(2);
+        assertThat(meterRegistry.find(RequestProfiler.REPEATED_STATEMENT_COUNTER).counter()).isNull();
+
+        RequestCostRegistry.RequestCost cost = costRegistry.top(
+                RequestCostRegistry.Dimension.ENDPOINT, RequestCostRegistry.SortBy.STATEMENTS, 10).get(0);
+        assertThat(cost.key()).isEqualTo("GET /admin/doctors/{id}");
+        assertThat(cost.statements()).isEqualTo(2);
+        assertThat(cost.nPlusOneRequests()).isZero();
+    }
+
+    @Test
+    void testRowFetchesCountAsSqlTimeOfTheSameStatement() throws SQLException {
+        PreparedStatement statement = mock(PreparedStatement.class);
+        ResultSet rows = mock(ResultSet.class);
+        when(target.prepareStatement(SELECT_DOCTOR)).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(rows);
+        when(rows.next()).thenAnswer(invocation -> {
+            Thread.sleep(20);
+            return false;
+        });
+
+        profiler.begin();
+        try (Connection connection = dataSource.getConnection();
+             ResultSet resultSet = connection.prepareStatement(SELECT_DOCTOR).executeQuery()) {
+            assertThat(resultSet.next()).isFalse();
+        }
+        profiler.complete("7", "GET", "/admin/doctors/{id}", 200);
+
+        RequestCostRegistry.RequestCost cost = costRegistry.top(
+                RequestCostRegistry.Dimension.ENDPOINT, RequestCostRegistry.SortBy.SQL_TIME, 10).get(0);
+        assertThat(cost.statements()).isEqualTo(1);
+        assertThat(cost.sqlTimeMs()).isGreaterThanOrEqualTo(20);
+    }
+
+    @Test
+    void testRepeatedStatementIsFlaggedAsNPlusOne() throws SQLException {
+        profiler.begin();
+        try (Connection connection = dataSource.getConnection()) {
+            for (int i = 0; i < 3; i++) {
+                connection.prepareStatement(SELECT_DOCTOR.replace(" ", "  ")).executeQuery();
+            }
+        }
+        profiler.complete("7", "GET", "/admin/doctors", 200);
+
+        assertThat(meterRegistry.get(RequestProfiler.REPEATED_STATEMENT_COUNTER)
+                .tag("uri", "/admin/doctors").counter().count()).isEqualTo(1);
+        assertThat(costRegistry.top(RequestCostRegistry.Dimension.TENANT, RequestCostRegistry.SortBy.TIME, 10))
+                .singleElement()
+                .satisfies(cost -> {
+                    assertThat(cost.key()).isEqualTo("7");
+                    assertThat(cost.nPlusOneRequests()).isEqualTo(1);
+                });
+    }
+
+    @Test
+    void testTenantTagIsOffByDefault() {
+        profiler.begin();
+        profiler.complete("7", "GET", "/admin/doctors", 200);
+
+        assertThat(meterRegistry.get(RequestProfiler.STATEMENTS_SUMMARY).summary().getId().getTag("tenant")).isNull();
+    }
+
+    @Test
+    void testTopReportIsSortedAndLimited() {
+        costRegistry.record("1", "GET /a", 1_000_000, 5, 500_000, false);
+        costRegistry.record("2", "GET /b", 9_000_000, 1, 100_000, false);
+        costRegistry.record("3", "GET /c", 2_000_000, 50, 1_500_000, true);
+
+        List<RequestCostRegistry.RequestCost> byStatements = costRegistry.top(
+                RequestCostRegistry.Dimension.TENANT, RequestCostRegistry.SortBy.STATEMENTS, 2);
+        List<RequestCostRegistry.RequestCost> byTime = costRegistry.top(
+                RequestCostRegistry.Dimension.ENDPOINT, RequestCostRegistry.SortBy.TIME, 1);
+
+        assertThat(byStatements).extracting(RequestCostRegistry.RequestCost::key).containsExactly("3", "1");
+        assertThat(byTime).extracting(RequestCostRegistry.RequestCost::key).containsExactly("GET /b");
+    }
+}
@@ -0,0 +1,125 @@
+package com.clinic.modules.admin.service;
+
+import com.clinic.modules.admin.dto.TeamOnCallResponse;
+import com.clinic.modules.core.appointment.AppointmentRepository;
+import com.clinic.modules.core.appointment.AppointmentStatus;
+import com.clinic.modules.core.doctor.DoctorAvailabilityEntity;
+import com.clinic.modules.core.doctor.DoctorAvailabilityRepository;
+import com.clinic.modules.core.doctor.DoctorEntity;
+import com.clinic.modules.core.doctor.DoctorRepository;
+import com.clinic.modules.core.finance.FinanceAggregationService;
+import com.clinic.modules.core.patient.PatientRepository;
+import com.clinic.modules.core.tenant.TenantContextHolder;
+import com.clinic.modules.core.treatment.PaymentRepository;
+import com.clinic.modules.core.treatment.TreatmentPlanPaymentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for DashboardService team-on-call status.
+ */
+@ExtendWith(MockitoExtension.class)
+class DashboardServiceTeamOnCallTest {
+
+    private static final Long TENANT_ID = 123L;
+    private static final ZoneId ZONE = ZoneOffset.UTC;
+
+    @Mock
+    private AppointmentRepository appointmentRepository;
+
+    @Mock
+    private PatientRepository patientRepository;
+
+    @Mock
+    private PaymentRepository paymentRepository;
+
+    @Mock
+    private TreatmentPlanPaymentRepository treatmentPlanPaymentRepository;
+
+    @Mock
+    private DoctorRepository doctorRepository;
+
+    @Mock
+    private DoctorAvailabilityRepository doctorAvailabilityRepository;
+
+    @Mock
+    private FinanceAggregationService financeAggregationService;
+
+    @Mock
+    private TenantContextHolder tenantContextHolder;
+
+    private DashboardService dashboardService;
+
+    @BeforeEach
+    void setUp() {
+        dashboardService = new DashboardService(appointmentRepository, patientRepository, paymentRepository,
+                treatmentPlanPaymentRepository, doctorRepository, doctorAvailabilityRepository,
+                financeAggregationService, tenantContextHolder, Duration.ofMinutes(1));
+        when(tenantContextHolder.requireTenantId()).thenReturn(TENANT_ID);
+    }
+
+    @Test
+    void testStatusesAreComputedFromTwoBulkQueries() {
+        LocalDate today = LocalDate.now(ZONE);
+        DoctorEntity inClinic = doctor(1L, "Dr. One");
+        DoctorEntity available = doctor(2L, "Dr. Two");
+        DoctorEntity offDuty = doctor(3L, "Dr. Three");
+        when(doctorRepository.findAllByTenantIdAndIsActiveTrue(TENANT_ID))
+                .thenReturn(List.of(inClinic, available, offDuty));
+        when(doctorAvailabilityRepository.findByDoctorIdsWithinDates(List.of(1L, 2L, 3L), today, today.plusDays(6)))
+                .thenReturn(List.of(
+                        new DoctorAvailabilityEntity(available, true, today.getDayOfWeek(), null,
+                                LocalTime.MIDNIGHT, LocalTime.NOON),
+                        new DoctorAvailabilityEntity(offDuty, false, null, today.plusDays(3),
+                                LocalTime.of(9, 0), LocalTime.of(17, 0))));
+        when(appointmentRepository.findDoctorIdsByTenantIdAndStatusAndScheduledAtBetween(
+                eq(TENANT_ID), eq(AppointmentStatus.CONFIRMED), any(), any()))
+                .thenReturn(List.of(1L));
+
+        List<TeamOnCallResponse> team = dashboardService.getTeamOnCall(ZONE);
+
+        assertThat(team).extracting(TeamOnCallResponse::status)
+                .containsExactly("In clinic", "Available", "Off duty");
+        assertThat(team.get(0).nextSlot()).isNull();
+        assertThat(team.get(2).nextSlot())
+                .isEqualTo(today.plusDays(3).atTime(9, 0).atZone(ZONE).toInstant());
+        verify(doctorAvailabilityRepository, never()).findByDoctorIdAndRecurringWeeklyTrueAndDayOfWeek(anyLong(), any());
+        verify(doctorAvailabilityRepository, never()).findByDoctorIdAndSpecificDate(anyLong(), any());
+    }
+
+    @Test
+    void testRepeatedPollsAreServedFromCache() {
+        when(doctorRepository.findAllByTenantIdAndIsActiveTrue(TENANT_ID)).thenReturn(List.of());
+
+        dashboardService.getTeamOnCall(ZONE);
+        dashboardService.getTeamOnCall(ZONE);
+
+        verify(doctorRepository, times(1)).findAllByTenantIdAndIsActiveTrue(TENANT_ID);
+    }
+
+    private static DoctorEntity doctor(Long id, String name) {
+        DoctorEntity doctor = new DoctorEntity(name, name, "Dentist", "طبيب أسنان", null, null, "en");
+        ReflectionTestUtils.setField(doctor, "id", id);
+        return doctor;
+    }
+}
@@ -17,6 +17,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.util.Arrays;
@@ -75,7 +76,8 @@ public class DashboardServiceTest {
                 doctorRepository,
                 doctorAvailabilityRepository,
                 financeAggregationService,
-                tenantContextHolder
+                tenantContextHolder,
+                Duration.ofSeconds(15)
         );
 
         // Setup common mocks
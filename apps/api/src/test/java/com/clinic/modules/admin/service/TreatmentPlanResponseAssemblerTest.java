@@ -0,0 +1,128 @@
+package com.clinic.modules.admin.service;
+
+import com.clinic.modules.admin.dto.ScheduledFollowUpResponse;
+import com.clinic.modules.admin.dto.TreatmentPlanResponse;
+import com.clinic.modules.core.appointment.AppointmentMode;
+import com.clinic.modules.core.appointment.AppointmentRepository;
+import com.clinic.modules.core.appointment.AppointmentStatus;
+import com.clinic.modules.core.appointment.FollowUpAppointmentView;
+import com.clinic.modules.core.doctor.DoctorEntity;
+import com.clinic.modules.core.patient.PatientEntity;
+import com.clinic.modules.core.service.ClinicServiceEntity;
+import com.clinic.modules.core.service.CurrencyConversionService;
+import com.clinic.modules.core.service.FxRateTable;
+import com.clinic.modules.core.treatment.FollowUpCadence;
+import com.clinic.modules.core.treatment.FollowUpVisitEntity;
+import com.clinic.modules.core.treatment.FollowUpVisitRepository;
+import com.clinic.modules.core.treatment.PaymentEntity;
+import com.clinic.modules.core.treatment.PaymentMethod;
+import com.clinic.modules.core.treatment.TreatmentPlanEntity;
+import com.clinic.modules.core.treatment.TreatmentPlanRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for TreatmentPlanResponseAssembler.
+ */
+@ExtendWith(MockitoExtension.class)
+class TreatmentPlanResponseAssemblerTest {
+
+    @Mock
+    private TreatmentPlanRepository treatmentPlanRepository;
+
+    @Mock
+    private FollowUpVisitRepository followUpVisitRepository;
+
+    @Mock
+    private AppointmentRepository appointmentRepository;
+
+    @Mock
+    private CurrencyConversionService currencyConversionService;
+
+    private TreatmentPlanResponseAssembler assembler;
+
+    @BeforeEach
+    void setUp() {
+        assembler = new TreatmentPlanResponseAssembler(
+                treatmentPlanRepository, followUpVisitRepository, appointmentRepository, currencyConversionService);
+    }
+
+    @Test
+    void testPageIsAssembledWithOneQueryPerCollection() {
+        stubConversion();
+        TreatmentPlanEntity first = plan(1L, "100.00");
+        TreatmentPlanEntity second = plan(2L, "250.00");
+        FollowUpVisitEntity visit = new FollowUpVisitEntity(first, 1, Instant.now(), null, null);
+        visit.getPayments().add(new PaymentEntity(visit, new BigDecimal("40.00"), "USD",
+                PaymentMethod.values()[0], Instant.now(), null, null));
+        first.getFollowUpVisits().add(visit);
+
+        List<Long> ids = List.of(1L, 2L);
+        when(appointmentRepository.findFollowUpViewsByTreatmentPlanIds(ids)).thenReturn(List.of(
+                appointment(1L, 11L, 1, AppointmentStatus.COMPLETED),
+                appointment(1L, 12L, 2, AppointmentStatus.CANCELLED),
+                appointment(2L, 21L, 1, AppointmentStatus.SCHEDULED)));
+
+        List<TreatmentPlanResponse> responses = assembler.toResponses(List.of(first, second));
+
+        verify(treatmentPlanRepository).fetchFollowUpVisits(ids);
+        verify(treatmentPlanRepository).fetchDirectPayments(ids);
+        verify(followUpVisitRepository).fetchPaymentsByTreatmentPlanIds(ids);
+        verify(followUpVisitRepository).fetchMaterialUsagesByTreatmentPlanIds(ids);
+        verify(appointmentRepository, never()).findByTreatmentPlanIdOrderByFollowUpVisitNumberAsc(anyLong());
+        verify(currencyConversionService, times(1)).getClinicCurrency();
+        verify(currencyConversionService, times(1)).getRateTable();
+
+        assertThat(responses).extracting(TreatmentPlanResponse::id).containsExactly(1L, 2L);
+        TreatmentPlanResponse firstResponse = responses.get(0);
+        assertThat(firstResponse.followUpVisits()).singleElement()
+                .satisfies(v -> assertThat(v.appointmentId()).isEqualTo(11L));
+        assertThat(firstResponse.scheduledFollowUps()).extracting(ScheduledFollowUpResponse::appointmentId).containsExactly(11L);
+        assertThat(firstResponse.convertedTotalPaid()).isEqualByComparingTo("40.00");
+        assertThat(firstResponse.convertedRemainingBalance()).isEqualByComparingTo("60.00");
+        assertThat(responses.get(1).scheduledFollowUps()).extracting(ScheduledFollowUpResponse::appointmentId).containsExactly(21L);
+    }
+
+    @Test
+    void testEmptyPageRunsNoQueries() {
+        assertThat(assembler.toResponses(List.of())).isEmpty();
+
+        verifyNoInteractions(treatmentPlanRepository, followUpVisitRepository, appointmentRepository, currencyConversionService);
+    }
+
+    private void stubConversion() {
+        when(currencyConversionService.getClinicCurrency()).thenReturn("USD");
+        when(currencyConversionService.getRateTable()).thenReturn(FxRateTable.of(Map.of("USD", BigDecimal.ONE)));
+    }
+
+    private static TreatmentPlanEntity plan(Long id, String totalPrice) {
+        PatientEntity patient = new PatientEntity("Lina", "Haddad", "lina@example.com", "+962700000000");
+        DoctorEntity doctor = new DoctorEntity("Dr. Sami", "د. سامي", "Dentist", "طبيب أسنان", null, null, "en");
+        ClinicServiceEntity service = new ClinicServiceEntity("implants", null, "Implants", "زراعة", null, null);
+        TreatmentPlanEntity plan = new TreatmentPlanEntity(patient, doctor, service, new BigDecimal(totalPrice), "USD",
+                3, FollowUpCadence.MONTHLY, null);
+        ReflectionTestUtils.setField(plan, "id", id);
+        return plan;
+    }
+
+    private static FollowUpAppointmentView appointment(Long planId, Long id, int visitNumber, AppointmentStatus status) {
+        return new FollowUpAppointmentView(planId, id, visitNumber, Instant.now(), status, AppointmentMode.CLINIC_VISIT, false, null);
+    }
+}
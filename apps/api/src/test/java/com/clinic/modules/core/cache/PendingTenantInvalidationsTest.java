@@ -0,0 +1,59 @@
+package com.clinic.modules.core.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for PendingTenantInvalidations.
+ */
+class PendingTenantInvalidationsTest {
+
+    private final List<Long> invalidated = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        Set.copyOf(TransactionSynchronizationManager.getResourceMap().keySet())
+                .forEach(TransactionSynchronizationManager::unbindResourceIfPossible);
+    }
+
+    @Test
+    void testInvalidatesImmediatelyWithoutTransaction() {
+        PendingTenantInvalidations pending =
+                new PendingTenantInvalidations(PendingTenantInvalidations.Phase.COMMIT, invalidated::add);
+
+        pending.add(1L);
+        pending.add(null);
+
+        assertThat(invalidated).containsExactly(1L);
+    }
+
+    @Test
+    void testCompletionPhaseInvalidatesEachTenantOnceOnRollback() {
+        PendingTenantInvalidations pending =
+                new PendingTenantInvalidations(PendingTenantInvalidations.Phase.COMPLETION, invalidated::add);
+        TransactionSynchronizationManager.initSynchronization();
+
+        pending.add(1L);
+        pending.add(2L);
+        pending.add(1L);
+        assertThat(invalidated).isEmpty();
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        assertThat(synchronizations).hasSize(1);
+        synchronizations.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertThat(invalidated).containsExactly(1L, 2L);
+        assertThat(TransactionSynchronizationManager.getResourceMap()).isEmpty();
+    }
+}
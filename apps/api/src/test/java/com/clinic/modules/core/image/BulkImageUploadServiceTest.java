@@ -0,0 +1,134 @@
+package com.clinic.modules.core.image;
+
+import com.clinic.modules.core.image.BulkImageUploadService.BulkUploadJobStatus;
+import com.clinic.modules.core.image.ImageUploadService.BulkUploadResponse;
+import com.clinic.modules.core.image.ImageUploadService.ImageFile;
+import com.clinic.modules.core.image.ImageUploadService.ImageUploadException;
+import com.clinic.modules.core.image.ImageUploadService.ImageUploadResponse;
+import com.clinic.modules.core.image.ImageUploadService.ImageUploadResult;
+import com.clinic.modules.core.tenant.TenantContextHolder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for BulkImageUploadService.
+ */
+@ExtendWith(MockitoExtension.class)
+class BulkImageUploadServiceTest {
+
+    private static final int PARALLELISM = 3;
+
+    @Mock
+    private ImageUploadService imageUploadService;
+
+    @Mock
+    private TenantContextHolder tenantContextHolder;
+
+    private BulkImageUploadService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new BulkImageUploadService(imageUploadService, tenantContextHolder, PARALLELISM, Duration.ofMinutes(5));
+        when(tenantContextHolder.requireTenantId()).thenReturn(1L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.destroy();
+    }
+
+    @Test
+    void testUploadsRunConcurrentlyWithinTenantLimit() throws Exception {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        // The first uploads wait until the limit is reached, so the peak does not depend on timing
+        CountDownLatch saturated = new CountDownLatch(PARALLELISM);
+        when(imageUploadService.uploadImage(any(ImageFile.class), isNull(), anyBoolean())).thenAnswer(invocation -> {
+            int current = inFlight.incrementAndGet();
+            maxInFlight.accumulateAndGet(current, Math::max);
+            saturated.countDown();
+            saturated.await(5, TimeUnit.SECONDS);
+            inFlight.decrementAndGet();
+            ImageFile file = invocation.getArgument(0);
+            if (file.filename().startsWith("bad")) {
+                throw new ImageUploadException("rejected");
+            }
+            return new ImageUploadResponse("id-" + file.filename(), file.filename(), "https://img/" + file.filename());
+        });
+
+        List<MultipartFile> files = new ArrayList<>();
+        for (int i = 0; i < 9; i++) {
+            files.add(image((i == 4 ? "bad-" : "photo-") + i + ".jpg"));
+        }
+
+        BulkUploadResponse response = service.uploadAll(files, null);
+
+        assertThat(response.successCount()).isEqualTo(8);
+        assertThat(response.failureCount()).isEqualTo(1);
+        assertThat(response.results()).extracting(ImageUploadResult::index).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8);
+        assertThat(response.results().get(4).errorMessage()).isEqualTo("rejected");
+        assertThat(maxInFlight.get()).isEqualTo(PARALLELISM);
+    }
+
+    @Test
+    void testJobStagesFilesAndReportsProgress() throws Exception {
+        when(imageUploadService.uploadImage(any(ImageFile.class), isNull(), anyBoolean())).thenAnswer(invocation -> {
+            ImageFile file = invocation.getArgument(0);
+            try (InputStream content = file.content().getInputStream()) {
+                assertThat(content.readAllBytes()).isEqualTo(file.filename().getBytes());
+            }
+            return new ImageUploadResponse("id-" + file.filename(), file.filename(), "https://img/" + file.filename());
+        });
+
+        BulkUploadJobStatus accepted = service.submit(List.of(image("a.png"), image("b.png")), null);
+        assertThat(accepted.total()).isEqualTo(2);
+
+        BulkUploadJobStatus status = awaitCompletion(accepted.jobId());
+        assertThat(status.status()).isEqualTo("COMPLETED");
+        assertThat(status.completed()).isEqualTo(2);
+        assertThat(status.successCount()).isEqualTo(2);
+        assertThat(status.results()).extracting(ImageUploadResult::filename).containsExactlyInAnyOrder("a.png", "b.png");
+    }
+
+    @Test
+    void testJobsAreVisibleOnlyToTheirTenant() {
+        BulkUploadJobStatus accepted = service.submit(List.of(), null);
+
+        when(tenantContextHolder.requireTenantId()).thenReturn(2L);
+        assertThat(service.getJob(accepted.jobId())).isEmpty();
+    }
+
+    private BulkUploadJobStatus awaitCompletion(String jobId) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        BulkUploadJobStatus status = service.getJob(jobId).orElseThrow();
+        while (!"COMPLETED".equals(status.status()) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            status = service.getJob(jobId).orElseThrow();
+        }
+        return status;
+    }
+
+    private static MockMultipartFile image(String filename) {
+        return new MockMultipartFile("files", filename, "image/jpeg", filename.getBytes());
+    }
+}
@@ -0,0 +1,163 @@
+package com.clinic.modules.core.image;
+
+import com.clinic.modules.core.tenant.TenantContextHolder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for ImageGalleryService.
+ */
+@ExtendWith(MockitoExtension.class)
+class ImageGalleryServiceTest {
+
+    private static final Long TENANT_ID = 7L;
+
+    @Mock
+    private ImageGalleryRepository galleryRepository;
+
+    @Mock
+    private GalleryImageRepository imageRepository;
+
+    @Mock
+    private GalleryImageSearchRepository searchRepository;
+
+    @Mock
+    private TenantContextHolder tenantContextHolder;
+
+    private ImageGalleryService service;
+    private ImageGalleryEntity gallery;
+
+    @BeforeEach
+    void setUp() {
+        service = new ImageGalleryService(galleryRepository, imageRepository, searchRepository, tenantContextHolder);
+        when(tenantContextHolder.requireTenantId()).thenReturn(TENANT_ID);
+        gallery = new ImageGalleryEntity(TENANT_ID, "Clinic", null, ImageGalleryService.GalleryType.CLINIC_PHOTOS);
+        gallery.onCreate();
+    }
+
+    @Test
+    void testGalleryPageReturnsCursorWhenMoreImagesExist() {
+        when(galleryRepository.findByIdAndTenantId(gallery.getId(), TENANT_ID)).thenReturn(Optional.of(gallery));
+        when(imageRepository.findPage(eq(gallery.getId()), eq(0L), any(Pageable.class)))
+                .thenReturn(images(41, 42, 43));
+
+        ImageGalleryService.GalleryWithImages page = service.getGalleryWithImages(gallery.getId().toString(), null, 2);
+
+        assertThat(page.images()).extracting(ImageGalleryService.ImageMetadata::imageId)
+                .containsExactly("img-41", "img-42");
+        assertThat(page.nextCursor()).isEqualTo(ImageGalleryService.encodeCursor(42));
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+        verify(imageRepository).findPage(eq(gallery.getId()), eq(0L), pageable.capture());
+        assertThat(pageable.getValue()).isEqualTo(PageRequest.of(0, 3));
+    }
+
+    @Test
+    void testLastGalleryPageHasNoCursor() {
+        when(galleryRepository.findByIdAndTenantId(gallery.getId(), TENANT_ID)).thenReturn(Optional.of(gallery));
+        String cursor = ImageGalleryService.encodeCursor(42);
+        when(imageRepository.findPage(eq(gallery.getId()), eq(42L), any(Pageable.class)))
+                .thenReturn(images(43));
+
+        ImageGalleryService.GalleryWithImages page = service.getGalleryWithImages(gallery.getId().toString(), cursor, 2);
+
+        assertThat(page.images()).hasSize(1);
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    void testUnknownOrMalformedGalleryIdReturnsNull() {
+        assertThat(service.getGalleryWithImages("not-a-uuid", null, null)).isNull();
+        verify(galleryRepository, never()).findByIdAndTenantId(any(), any());
+    }
+
+    @Test
+    void testMovingImageAdjustsBothGalleryCounts() {
+        UUID previousGallery = UUID.randomUUID();
+        GalleryImageEntity existing = new GalleryImageEntity(TENANT_ID, previousGallery, "img-1");
+        when(galleryRepository.findByIdAndTenantId(gallery.getId(), TENANT_ID)).thenReturn(Optional.of(gallery));
+        when(imageRepository.findByTenantIdAndImageId(TENANT_ID, "img-1")).thenReturn(Optional.of(existing));
+
+        service.addImageToGallery(gallery.getId().toString(), "img-1", "Lobby", null, List.of(" lobby ", "", "lobby", "front"));
+
+        verify(galleryRepository).adjustImageCount(eq(previousGallery), eq(-1), any(Instant.class));
+        verify(galleryRepository).adjustImageCount(eq(gallery.getId()), eq(1), any(Instant.class));
+        verify(imageRepository).save(existing);
+        assertThat(existing.getGalleryId()).isEqualTo(gallery.getId());
+        assertThat(existing.getTags()).containsExactly("lobby", "front");
+    }
+
+    @Test
+    void testAddingToMissingGalleryFails() {
+        UUID missing = UUID.randomUUID();
+        when(galleryRepository.findByIdAndTenantId(missing, TENANT_ID)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.addImageToGallery(missing.toString(), "img-1", null, null, List.of()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Gallery not found");
+    }
+
+    @Test
+    void testTagSearchPagesByRowId() {
+        when(searchRepository.findByAnyTag(TENANT_ID, List.of("xray"), Long.MAX_VALUE, 3))
+                .thenReturn(List.of(tagged(90), tagged(80), tagged(70)));
+
+        ImageGalleryService.ImagePage page = service.searchImagesByTags(List.of("xray", " xray"), null, 2);
+
+        assertThat(page.images()).extracting(ImageGalleryService.ImageMetadata::imageId)
+                .containsExactly("img-90", "img-80");
+        assertThat(ImageGalleryService.decodeCursor(page.nextCursor(), 0)).isEqualTo(80);
+    }
+
+    @Test
+    void testBlankTagSearchDoesNotQuery() {
+        ImageGalleryService.ImagePage page = service.searchImagesByTags(List.of(" "), null, null);
+
+        assertThat(page.images()).isEmpty();
+        verify(searchRepository, never()).findByAnyTag(any(), any(), anyLong(), anyInt());
+    }
+
+    @Test
+    void testInvalidCursorIsRejected() {
+        assertThatThrownBy(() -> service.searchImagesByTags(List.of("xray"), "not a cursor!", null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private List<GalleryImageEntity> images(long... rowIds) {
+        List<GalleryImageEntity> images = new ArrayList<>();
+        for (long rowId : rowIds) {
+            GalleryImageEntity image = new GalleryImageEntity(TENANT_ID, gallery.getId(), "img-" + rowId);
+            ReflectionTestUtils.setField(image, "id", rowId);
+            image.onCreate();
+            images.add(image);
+        }
+        return images;
+    }
+
+    private GalleryImageSearchRepository.TaggedImage tagged(long rowId) {
+        return new GalleryImageSearchRepository.TaggedImage(rowId, new ImageGalleryService.ImageMetadata(
+                "img-" + rowId, null, null, List.of("xray"), gallery.getId().toString(), Instant.now()));
+    }
+}
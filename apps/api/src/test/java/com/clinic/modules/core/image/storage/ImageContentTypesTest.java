@@ -0,0 +1,47 @@
+package com.clinic.modules.core.image.storage;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for ImageContentTypes.
+ */
+class ImageContentTypesTest {
+
+    @Test
+    void testDetectsAllowedFormatsFromLeadingBytes() {
+        assertThat(ImageContentTypes.detect(new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE0}))
+                .contains("image/jpeg");
+        assertThat(ImageContentTypes.detect(new byte[]{(byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A}))
+                .contains("image/png");
+        assertThat(ImageContentTypes.detect(ascii("GIF89a..."))).contains("image/gif");
+        assertThat(ImageContentTypes.detect(ascii("RIFF\0\0\0\0WEBPVP8 "))).contains("image/webp");
+    }
+
+    @Test
+    void testRejectsSvgWhateverTheClaimedType() throws IOException {
+        ByteArrayResource svg = new ByteArrayResource(
+                ascii("<svg xmlns=\"http://www.w3.org/2000/svg\"><script>alert(1)</script></svg>"));
+
+        assertThat(ImageContentTypes.detect(svg)).isEmpty();
+        assertThat(ImageContentTypes.detect(ascii("RIFF\0\0\0\0WAVE"))).isEmpty();
+        assertThat(ImageContentTypes.detect(new byte[]{(byte) 0xFF})).isEmpty();
+    }
+
+    @Test
+    void testOnlyAllowedTypesAreServedAsIs() {
+        assertThat(ImageContentTypes.servable("image/png")).isEqualTo("image/png");
+        assertThat(ImageContentTypes.servable("image/svg+xml")).isEqualTo("application/octet-stream");
+        assertThat(ImageContentTypes.servable("text/html")).isEqualTo("application/octet-stream");
+        assertThat(ImageContentTypes.servable(null)).isEqualTo("application/octet-stream");
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,168 @@
+package com.clinic.modules.core.image.storage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for VariantDiskCache and the ImageResizer geometry.
+ */
+class VariantDiskCacheTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testEntryIsRenderedOnce() throws IOException {
+        VariantDiskCache cache = new VariantDiskCache(directory, 1_000_000, Runnable::run, Duration.ZERO);
+        AtomicInteger renders = new AtomicInteger();
+
+        VariantDiskCache.CachedFile first = cache.get("abc/thumbnail", target -> {
+            renders.incrementAndGet();
+            Files.write(target, new byte[100]);
+            return "image/jpeg";
+        });
+        VariantDiskCache.CachedFile second = cache.get("abc/thumbnail", target -> {
+            renders.incrementAndGet();
+            return "image/jpeg";
+        });
+
+        assertThat(renders).hasValue(1);
+        assertThat(second.path()).isEqualTo(first.path());
+        assertThat(first.path().getFileName().toString()).startsWith("abc__thumbnail~").endsWith(".jpg");
+        assertThat(first.size()).isEqualTo(100);
+    }
+
+    @Test
+    void testEvictedEntriesAreDeletedFromDisk() throws IOException {
+        VariantDiskCache cache = new VariantDiskCache(directory, 250, Runnable::run, Duration.ZERO);
+
+        for (int i = 0; i < 5; i++) {
+            cache.get("img" + i + "/small", target -> {
+                Files.write(target, new byte[100]);
+                return "image/png";
+            });
+        }
+
+        assertThat(cache.weightedSize()).isLessThanOrEqualTo(250);
+        try (var files = Files.list(directory)) {
+            assertThat(files.count()).isLessThanOrEqualTo(2);
+        }
+    }
+
+    @Test
+    void testInvalidatePrefixDeletesAllVariantsOfAnImage() throws IOException {
+        VariantDiskCache cache = new VariantDiskCache(directory, 1_000_000, Runnable::run, Duration.ZERO);
+        Path small = cache.get("abc/small", target -> write(target)).path();
+        Path large = cache.get("abc/large", target -> write(target)).path();
+        Path other = cache.get("xyz/small", target -> write(target)).path();
+
+        cache.invalidatePrefix("abc/");
+
+        assertThat(small).doesNotExist();
+        assertThat(large).doesNotExist();
+        assertThat(other).exists();
+    }
+
+    @Test
+    void testFilesFromPreviousRunAreReindexed() throws IOException {
+        Files.write(directory.resolve("abc__medium.webp"), new byte[42]);
+        Files.write(directory.resolve(".render-123.tmp"), new byte[1]);
+
+        VariantDiskCache cache = new VariantDiskCache(directory, 1_000_000, Runnable::run, Duration.ZERO);
+        VariantDiskCache.CachedFile cached = cache.get("abc/medium", target -> {
+            throw new AssertionError("should not re-render");
+        });
+
+        assertThat(cached.contentType()).isEqualTo("image/webp");
+        assertThat(cached.size()).isEqualTo(42);
+        assertThat(directory.resolve(".render-123.tmp")).doesNotExist();
+    }
+
+    @Test
+    void testReRenderAfterEvictionGetsItsOwnFile() throws IOException {
+        VariantDiskCache cache = new VariantDiskCache(directory, 1_000_000, Runnable::run, Duration.ZERO);
+        Path first = cache.get("abc/small", target -> write(target)).path();
+
+        cache.invalidatePrefix("abc/");
+        Path second = cache.get("abc/small", target -> write(target)).path();
+
+        assertThat(second).isNotEqualTo(first).exists();
+        assertThat(first).doesNotExist();
+    }
+
+    @Test
+    void testNewestFileWinsWhenReindexingDuplicates() throws IOException {
+        Path older = Files.write(directory.resolve("abc__small~a.png"), new byte[10]);
+        Path newer = Files.write(directory.resolve("abc__small~b.png"), new byte[20]);
+        Files.setLastModifiedTime(older, FileTime.fromMillis(1_000));
+        Files.setLastModifiedTime(newer, FileTime.fromMillis(2_000));
+
+        VariantDiskCache cache = new VariantDiskCache(directory, 1_000_000, Runnable::run, Duration.ZERO);
+
+        assertThat(cache.getIfPresent("abc/small")).map(VariantDiskCache.CachedFile::path).contains(newer);
+        assertThat(older).doesNotExist();
+    }
+
+    @Test
+    void testDirectoryIsCreatedByFirstWrite() throws IOException {
+        Path cacheDirectory = directory.resolve("cache");
+        VariantDiskCache cache = new VariantDiskCache(cacheDirectory, 1_000_000, Runnable::run, Duration.ZERO);
+
+        assertThat(cacheDirectory).doesNotExist();
+        cache.get("abc/small", target -> write(target));
+        assertThat(cacheDirectory).isDirectory();
+    }
+
+    @Test
+    void testCropFillsBoxAndScaleDownFitsInside() {
+        BufferedImage landscape = new BufferedImage(3000, 2000, BufferedImage.TYPE_INT_RGB);
+
+        BufferedImage thumbnail = ImageResizer.render(landscape, ImageVariant.THUMBNAIL);
+        assertThat(thumbnail.getWidth()).isEqualTo(150);
+        assertThat(thumbnail.getHeight()).isEqualTo(150);
+
+        BufferedImage medium = ImageResizer.render(landscape, ImageVariant.MEDIUM);
+        assertThat(medium.getWidth()).isEqualTo(600);
+        assertThat(medium.getHeight()).isEqualTo(400);
+
+        BufferedImage hero = ImageResizer.render(landscape, ImageVariant.HERO);
+        assertThat(hero.getWidth()).isEqualTo(1920);
+        assertThat(hero.getHeight()).isEqualTo(1080);
+    }
+
+    @Test
+    void testSmallImagesAreNotEnlarged() {
+        BufferedImage small = new BufferedImage(100, 80, BufferedImage.TYPE_INT_RGB);
+
+        BufferedImage large = ImageResizer.render(small, ImageVariant.LARGE);
+        assertThat(large.getWidth()).isEqualTo(100);
+        assertThat(large.getHeight()).isEqualTo(80);
+
+        BufferedImage thumbnail = ImageResizer.render(small, ImageVariant.THUMBNAIL);
+        assertThat(thumbnail.getWidth()).isEqualTo(100);
+        assertThat(thumbnail.getHeight()).isEqualTo(80);
+    }
+
+    @Test
+    void testSubsamplingKeepsTwiceTheTargetSize() {
+        assertThat(ImageResizer.subsampling(6000, 4000, ImageVariant.THUMBNAIL)).isEqualTo(13);
+        assertThat(ImageResizer.subsampling(1000, 800, ImageVariant.LARGE)).isEqualTo(1);
+        assertThat(ImageResizer.subsampling(6000, 4000, ImageVariant.PUBLIC)).isEqualTo(1);
+    }
+
+    private static String write(Path target) throws IOException {
+        ImageIO.write(new BufferedImage(4, 4, BufferedImage.TYPE_INT_RGB), "png", target.toFile());
+        return "image/png";
+    }
+}
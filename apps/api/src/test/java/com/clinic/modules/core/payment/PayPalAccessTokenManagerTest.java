@@ -0,0 +1,294 @@
+package com.clinic.modules.core.payment;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for PayPalAccessTokenManager.
+ */
+@ExtendWith(MockitoExtension.class)
+class PayPalAccessTokenManagerTest {
+
+    private static final String SANDBOX = "https://api-m.sandbox.paypal.com";
+    private static final String TOKEN_URL = SANDBOX + "/v1/oauth2/token";
+
+    @Mock
+    private RestTemplate restTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private MutableClock clock;
+    private List<Runnable> backgroundTasks;
+    private PayPalAccessTokenManager manager;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        clock = new MutableClock(Instant.parse("2025-06-16T10:00:00Z"));
+        backgroundTasks = new ArrayList<>();
+        manager = new PayPalAccessTokenManager(restTemplate, meterRegistry, backgroundTasks::add, clock);
+    }
+
+    @Test
+    void testTokenIsCachedForItsLifetime() {
+        when(restTemplate.exchange(eq(TOKEN_URL), eq(HttpMethod.POST), any(HttpEntity.class), eq(Map.class)))
+                .thenReturn(tokenResponse("token-1", 3600));
+
+        assertThat(manager.getAccessToken("client", "secret", SANDBOX)).isEqualTo("token-1");
+        clock.advance(Duration.ofMinutes(30));
+        assertThat(manager.getAccessToken("client", "secret", SANDBOX)).isEqualTo("token-1");
+
+        verify(restTemplate, times(1)).exchange(eq(TOKEN_URL), eq(HttpMethod.POST), any(HttpEntity.class), eq(Map.class));
+        assertThat(lookups("hit")).isEqualTo(1.0);
+        assertThat(lookups("miss")).isEqualTo(1.0);
+        assertThat(fetches("success")).isEqualTo(1.0);
+    }
+
+    @Test
+    void testTokenIsRefreshedInBackgroundBeforeExpiry() {
+        when(restTemplate.exchange(eq(TOKEN_URL), eq(HttpMethod.POST), any(HttpEntity.class), eq(Map.class)))
+                .thenReturn(tokenResponse("token-1", 3600), tokenResponse("token-2", 3600));
+
+        manager.getAccessToken("client", "secret", SANDBOX);
+
+        // Past 80% of the lifetime the cached token is still served while a refresh is queued
+        clock.advance(Duration.ofMinutes(50));
+        assertThat(manager.getAccessToken("client", "secret", SANDBOX)).isEqualTo("token-1");
+        assertThat(manager.getAccessToken("client", "secret", SANDBOX)).isEqualTo("token-1");
+        assertThat(backgroundTasks).hasSize(1);
+
+        backgroundTasks.get(0).run();
+        assertThat(manager.getAccessToken("client", "secret", SANDBOX)).isEqualTo("token-2");
+        assertThat(fetches("success")).isEqualTo(2.0);
+    }
+
+    @Test
+    void testExpiredTokenIsFetchedAgain() {
+        when(restTemplate.exchange(eq(TOKEN_URL), eq(HttpMethod.POST), any(HttpEntity.class), eq(Map.class)))
+                .thenReturn(tokenResponse("token-1", 600), tokenResponse("token-2", 600));
+
+        manager.getAccessToken("client", "secret", SANDBOX);
+        clock.advance(Duration.ofMinutes(10));
+
+        assertThat(manager.getAccessToken("client", "secret", SANDBOX)).isEqualTo("token-2");
+        assertThat(lookups("miss")).isEqualTo(2.0);
+    }
+
+    @Test
+    void testTokensAreKeyedByClientEnvironmentAndSecret() {
+        when(restTemplate.exchange(any(String.class), eq(HttpMethod.POST), any(HttpEntity.class), eq(Map.class)))
+                .thenReturn(tokenResponse("a", 3600), tokenResponse("b", 3600),
+                        tokenResponse("c", 3600), tokenResponse("d", 3600));
+
+        assertThat(manager.getAccessToken("client-1", "secret", SANDBOX)).isEqualTo("a");
+        assertThat(manager.getAccessToken("client-2", "secret", SANDBOX)).isEqualTo("b");
+        assertThat(manager.getAccessToken("client-1", "secret", "https://api-m.paypal.com")).isEqualTo("c");
+        assertThat(manager.getAccessToken("client-1", "rotated-secret", SANDBOX)).isEqualTo("d");
+        assertThat(fetches("success")).isEqualTo(4.0);
+    }
+
+    @Test
+    void testConcurrentCallersShareOneFetch() throws Exception {
+        CountDownLatch fetchStarted = new CountDownLatch(1);
+        CountDownLatch releaseFetch = new CountDownLatch(1);
+        when(restTemplate.exchange(eq(TOKEN_URL), eq(HttpMethod.POST), any(HttpEntity.class), eq(Map.class)))
+                .thenAnswer(invocation -> {
+                    fetchStarted.countDown();
+                    releaseFetch.await(5, TimeUnit.SECONDS);
+                    return tokenResponse("shared", 3600);
+                });
+
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            results.add(callers.submit(() -> manager.getAccessToken("client", "secret", SANDBOX)));
+            assertThat(fetchStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            for (int i = 0; i < 7; i++) {
+                results.add(callers.submit(() -> manager.getAccessToken("client", "secret", SANDBOX)));
+            }
+            // Give the followers time to reach the in-flight fetch
+            Thread.sleep(100);
+            releaseFetch.countDown();
+
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("shared");
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+
+        verify(restTemplate, times(1)).exchange(eq(TOKEN_URL), eq(HttpMethod.POST), any(HttpEntity.class), eq(Map.class));
+        assertThat(fetches("success")).isEqualTo(1.0);
+    }
+
+    @Test
+    void testRotatedSecretDoesNotJoinFetchWithOldSecret() throws Exception {
+        CountDownLatch fetchStarted = new CountDownLatch(1);
+        CountDownLatch releaseFetch = new CountDownLatch(1);
+        when(restTemplate.exchange(eq(TOKEN_URL), eq(HttpMethod.POST), any(HttpEntity.class), eq(Map.class)))
+                .thenAnswer(invocation -> {
+                    fetchStarted.countDown();
+                    releaseFetch.await(5, TimeUnit.SECONDS);
+                    return tokenResponse("old", 3600);
+                })
+                .thenReturn(tokenResponse("rotated", 3600));
+
+        ExecutorService callers = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> oldSecret = callers.submit(() -> manager.getAccessToken("client", "secret", SANDBOX));
+            assertThat(fetchStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+            assertThat(manager.getAccessToken("client", "rotated-secret", SANDBOX)).isEqualTo("rotated");
+
+            releaseFetch.countDown();
+            assertThat(oldSecret.get(5, TimeUnit.SECONDS)).isEqualTo("old");
+        } finally {
+            releaseFetch.countDown();
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    void testErrorDuringFetchFailsCallersWaitingOnIt() throws Exception {
+        CountDownLatch fetchStarted = new CountDownLatch(1);
+        CountDownLatch releaseFetch = new CountDownLatch(1);
+        when(restTemplate.exchange(eq(TOKEN_URL), eq(HttpMethod.POST), any(HttpEntity.class), eq(Map.class)))
+                .thenAnswer(invocation -> {
+                    fetchStarted.countDown();
+                    releaseFetch.await(5, TimeUnit.SECONDS);
+                    throw new StackOverflowError();
+                });
+
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> first = callers.submit(() -> manager.getAccessToken("client", "secret", SANDBOX));
+            assertThat(fetchStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<String> follower = callers.submit(() -> manager.getAccessToken("client", "secret", SANDBOX));
+            // Give the follower time to reach the in-flight fetch
+            Thread.sleep(100);
+            releaseFetch.countDown();
+
+            assertThatThrownBy(() -> first.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(StackOverflowError.class);
+            // Fails rather than timing out, whether it joined the fetch or started its own
+            assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class);
+        } finally {
+            releaseFetch.countDown();
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    void testFailedBackgroundRefreshKeepsServingCurrentToken() {
+        when(restTemplate.exchange(eq(TOKEN_URL), eq(HttpMethod.POST), any(HttpEntity.class), eq(Map.class)))
+                .thenReturn(tokenResponse("token-1", 3600))
+                .thenThrow(new ResourceAccessException("connection reset"));
+
+        manager.getAccessToken("client", "secret", SANDBOX);
+        clock.advance(Duration.ofMinutes(50));
+        manager.getAccessToken("client", "secret", SANDBOX);
+        backgroundTasks.get(0).run();
+
+        // No new refresh is queued until the retry delay has passed
+        assertThat(manager.getAccessToken("client", "secret", SANDBOX)).isEqualTo("token-1");
+        assertThat(backgroundTasks).hasSize(1);
+        assertThat(fetches("failure")).isEqualTo(1.0);
+    }
+
+    @Test
+    void testFetchFailureIsReported() {
+        when(restTemplate.exchange(eq(TOKEN_URL), eq(HttpMethod.POST), any(HttpEntity.class), eq(Map.class)))
+                .thenThrow(new ResourceAccessException("connection refused"));
+
+        assertThatThrownBy(() -> manager.getAccessToken("client", "secret", SANDBOX))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(fetches("failure")).isEqualTo(1.0);
+    }
+
+    @Test
+    void testRejectedTokenIsReplacedOnce() {
+        when(restTemplate.exchange(eq(TOKEN_URL), eq(HttpMethod.POST), any(HttpEntity.class), eq(Map.class)))
+                .thenReturn(tokenResponse("token-1", 3600), tokenResponse("token-2", 3600));
+
+        manager.getAccessToken("client", "secret", SANDBOX);
+
+        assertThat(manager.replaceRejectedToken("token-1")).isEqualTo("token-2");
+        // A caller holding the same stale token finds it already replaced
+        assertThat(manager.replaceRejectedToken("token-1")).isNull();
+        assertThat(manager.getAccessToken("client", "secret", SANDBOX)).isEqualTo("token-2");
+
+        verify(restTemplate, times(2)).exchange(eq(TOKEN_URL), eq(HttpMethod.POST), any(HttpEntity.class), eq(Map.class));
+        assertThat(meterRegistry.get("paypal.access_token.rejections").counter().count()).isEqualTo(1.0);
+    }
+
+    private ResponseEntity<Map> tokenResponse(String token, long expiresIn) {
+        return new ResponseEntity<>(Map.of("access_token", token, "expires_in", expiresIn), HttpStatus.OK);
+    }
+
+    private double lookups(String result) {
+        return meterRegistry.get("paypal.access_token.lookups").tag("result", result).counter().count();
+    }
+
+    private double fetches(String outcome) {
+        return meterRegistry.get("paypal.access_token.fetches").tag("outcome", outcome).counter().count();
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
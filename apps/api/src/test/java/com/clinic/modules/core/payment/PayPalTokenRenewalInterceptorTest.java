@@ -0,0 +1,93 @@
+package com.clinic.modules.core.payment;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for PayPalTokenRenewalInterceptor.
+ */
+@ExtendWith(MockitoExtension.class)
+class PayPalTokenRenewalInterceptorTest {
+
+    private static final byte[] BODY = "{}".getBytes(StandardCharsets.UTF_8);
+
+    @Mock
+    private PayPalAccessTokenManager accessTokenManager;
+
+    @Mock
+    private ClientHttpRequestExecution execution;
+
+    private PayPalTokenRenewalInterceptor interceptor;
+    private MockClientHttpRequest request;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        interceptor = new PayPalTokenRenewalInterceptor(() -> accessTokenManager);
+        request = new MockClientHttpRequest(HttpMethod.POST,
+                new URI("https://api-m.sandbox.paypal.com/v2/checkout/orders"));
+        request.getHeaders().setBearerAuth("stale");
+    }
+
+    @Test
+    void testUnauthorizedCallIsRetriedWithReplacementToken() throws Exception {
+        MockClientHttpResponse rejected = new MockClientHttpResponse(new byte[0], HttpStatus.UNAUTHORIZED);
+        MockClientHttpResponse created = new MockClientHttpResponse(BODY, HttpStatus.CREATED);
+        when(execution.execute(any(HttpRequest.class), eq(BODY))).thenReturn(rejected, created);
+        when(accessTokenManager.replaceRejectedToken("stale")).thenReturn("fresh");
+
+        ClientHttpResponse response = interceptor.intercept(request, BODY, execution);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        ArgumentCaptor<HttpRequest> sent = ArgumentCaptor.forClass(HttpRequest.class);
+        verify(execution, times(2)).execute(sent.capture(), eq(BODY));
+        assertThat(sent.getAllValues().get(1).getHeaders().getFirst(HttpHeaders.AUTHORIZATION)).isEqualTo("Bearer fresh");
+        assertThat(sent.getAllValues().get(1).getURI()).isEqualTo(request.getURI());
+    }
+
+    @Test
+    void testUnauthorizedCallIsReturnedWhenTokenWasAlreadyReplaced() throws Exception {
+        MockClientHttpResponse rejected = new MockClientHttpResponse(new byte[0], HttpStatus.UNAUTHORIZED);
+        when(execution.execute(request, BODY)).thenReturn(rejected);
+        when(accessTokenManager.replaceRejectedToken("stale")).thenReturn(null);
+
+        assertThat(interceptor.intercept(request, BODY, execution)).isSameAs(rejected);
+        verify(execution, times(1)).execute(any(HttpRequest.class), any(byte[].class));
+    }
+
+    @Test
+    void testSuccessfulAndBasicAuthCallsAreLeftAlone() throws Exception {
+        MockClientHttpResponse ok = new MockClientHttpResponse(BODY, HttpStatus.OK);
+        when(execution.execute(request, BODY)).thenReturn(ok);
+        assertThat(interceptor.intercept(request, BODY, execution)).isSameAs(ok);
+
+        request.getHeaders().setBasicAuth("client", "secret");
+        MockClientHttpResponse rejected = new MockClientHttpResponse(new byte[0], HttpStatus.UNAUTHORIZED);
+        when(execution.execute(request, BODY)).thenReturn(rejected);
+        assertThat(interceptor.intercept(request, BODY, execution)).isSameAs(rejected);
+
+        verify(accessTokenManager, never()).replaceRejectedToken(any());
+    }
+}
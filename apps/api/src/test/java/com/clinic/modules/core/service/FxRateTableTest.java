@@ -0,0 +1,57 @@
+package com.clinic.modules.core.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for FxRateTable.
+ */
+class FxRateTableTest {
+
+    private final FxRateTable table = FxRateTable.of(Map.of(
+            "USD", new BigDecimal("1.0"),
+            "JOD", new BigDecimal("0.709"),
+            "EUR", new BigDecimal("1.085")
+    ));
+
+    @Test
+    void testConvertUsesPrecomputedCrossRate() {
+        assertThat(table.crossRate("EUR", "JOD")).isEqualByComparingTo("1.5303244006");
+        assertThat(table.convert(new BigDecimal("100"), "EUR", "JOD")).isEqualByComparingTo("153.03");
+        assertThat(table.convert(new BigDecimal("100"), "JOD", "USD")).isEqualByComparingTo("70.90");
+    }
+
+    @Test
+    void testSameCurrencyAndZeroAmountsAreNotConverted() {
+        assertThat(table.convert(new BigDecimal("12.345"), "usd", "USD")).isEqualTo(new BigDecimal("12.35"));
+        assertThat(table.convert(null, "EUR", "USD")).isEqualTo(BigDecimal.ZERO);
+        assertThat(table.convert(BigDecimal.ZERO, "EUR", "USD")).isEqualTo(BigDecimal.ZERO);
+    }
+
+    @Test
+    void testUnknownCurrencyIsWorthOneUsd() {
+        assertThat(table.getRate("XYZ")).isEqualByComparingTo(BigDecimal.ONE);
+        assertThat(table.convert(new BigDecimal("10"), "XYZ", "EUR")).isEqualByComparingTo("9.22");
+    }
+
+    @Test
+    void testConvertAllMatchesSumOfIndividualConversions() {
+        record Amount(BigDecimal value, String currency) {}
+        List<Amount> amounts = List.of(
+                new Amount(new BigDecimal("10.01"), "EUR"),
+                new Amount(new BigDecimal("3.33"), "JOD"),
+                new Amount(null, "EUR"),
+                new Amount(new BigDecimal("7.50"), "USD"));
+
+        BigDecimal expected = amounts.stream()
+                .map(a -> table.convert(a.value(), a.currency(), "USD"))
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        assertThat(table.convertAll(amounts, Amount::value, Amount::currency, "USD")).isEqualByComparingTo(expected);
+    }
+}
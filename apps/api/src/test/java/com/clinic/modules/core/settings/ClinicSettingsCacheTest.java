@@ -0,0 +1,108 @@
+package com.clinic.modules.core.settings;
+
+import com.clinic.modules.core.tenant.TenantEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for ClinicSettingsCache.
+ */
+@ExtendWith(MockitoExtension.class)
+class ClinicSettingsCacheTest {
+
+    private static final Long TENANT_ID = 7L;
+
+    @Mock
+    private ClinicSettingsRepository clinicSettingsRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private ClinicSettingsCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ClinicSettingsCache(clinicSettingsRepository, jdbcTemplate, Duration.ofMinutes(10), 100);
+    }
+
+    @Test
+    void testSnapshotIsLoadedOnce() {
+        when(clinicSettingsRepository.findByTenantId(TENANT_ID)).thenReturn(Optional.of(settings(TENANT_ID, 5L, "Old Name")));
+
+        assertThat(cache.get(TENANT_ID)).map(ClinicSettingsSnapshot::clinicName).contains("Old Name");
+        assertThat(cache.get(TENANT_ID)).map(ClinicSettingsSnapshot::version).contains(5L);
+
+        verify(clinicSettingsRepository, times(1)).findByTenantId(TENANT_ID);
+    }
+
+    @Test
+    void testInvalidateReloadsSnapshot() {
+        when(clinicSettingsRepository.findByTenantId(TENANT_ID))
+                .thenReturn(Optional.of(settings(TENANT_ID, 5L, "Old Name")), Optional.of(settings(TENANT_ID, 6L, "New Name")));
+
+        cache.get(TENANT_ID);
+        cache.invalidateAfterCompletion(TENANT_ID);
+
+        assertThat(cache.get(TENANT_ID)).map(ClinicSettingsSnapshot::clinicName).contains("New Name");
+    }
+
+    @Test
+    void testMissingSettingsAreCachedAsEmpty() {
+        when(clinicSettingsRepository.findByTenantId(TENANT_ID)).thenReturn(Optional.empty());
+
+        assertThat(cache.get(TENANT_ID)).isEmpty();
+        assertThat(cache.get(TENANT_ID)).isEmpty();
+
+        verify(clinicSettingsRepository, times(1)).findByTenantId(TENANT_ID);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testPollEvictsSnapshotsChangedOnAnotherNode() {
+        when(clinicSettingsRepository.findByTenantId(TENANT_ID))
+                .thenReturn(Optional.of(settings(TENANT_ID, 5L, "Old Name")), Optional.of(settings(TENANT_ID, 9L, "New Name")));
+        when(clinicSettingsRepository.findByTenantId(8L)).thenReturn(Optional.of(settings(8L, 8L, "Other Clinic")));
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class))).thenReturn(5L);
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), eq(5L)))
+                .thenAnswer(invocation -> List.of(new ClinicSettingsCache.VersionRow(TENANT_ID, 9L),
+                        new ClinicSettingsCache.VersionRow(8L, 8L)));
+
+        cache.get(TENANT_ID);
+        cache.get(8L);
+        cache.pollForChanges();
+        cache.pollForChanges();
+
+        // The other tenant's snapshot already has the latest version and stays cached
+        assertThat(cache.get(TENANT_ID)).map(ClinicSettingsSnapshot::clinicName).contains("New Name");
+        assertThat(cache.get(8L)).map(ClinicSettingsSnapshot::clinicName).contains("Other Clinic");
+        verify(clinicSettingsRepository, times(2)).findByTenantId(TENANT_ID);
+        verify(clinicSettingsRepository, times(1)).findByTenantId(8L);
+    }
+
+    private ClinicSettingsEntity settings(Long tenantId, Long version, String clinicName) {
+        TenantEntity tenant = new TenantEntity("clinic-" + tenantId, clinicName);
+        ReflectionTestUtils.setField(tenant, "id", tenantId);
+        ClinicSettingsEntity settings = new ClinicSettingsEntity(clinicName);
+        settings.setTenant(tenant);
+        ReflectionTestUtils.setField(settings, "settingsVersion", version);
+        return settings;
+    }
+}
@@ -0,0 +1,128 @@
+package com.clinic.modules.core.translation;
+
+import com.clinic.config.JacksonConfig;
+import com.clinic.modules.admin.translation.dto.TranslationUpsertRequest;
+import com.clinic.modules.core.cache.TenantContentChangedEvent;
+import com.clinic.modules.core.tenant.TenantContextHolder;
+import com.clinic.modules.core.tenant.TenantService;
+import com.clinic.modules.core.translation.TenantTranslationUpsertRepository.TranslationRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for TenantTranslationService bundles and batch upserts.
+ */
+@ExtendWith(MockitoExtension.class)
+class TenantTranslationServiceTest {
+
+    private static final Long TENANT_ID = 3L;
+
+    @Mock
+    private TenantTranslationRepository translationRepository;
+
+    @Mock
+    private TenantContextHolder tenantContextHolder;
+
+    @Mock
+    private TenantService tenantService;
+
+    @Mock
+    private DefaultTranslationProvider defaultTranslationProvider;
+
+    @Mock
+    private TenantTranslationUpsertRepository upsertRepository;
+
+    private TenantTranslationService service;
+
+    @BeforeEach
+    void setUp() {
+        TranslationBundleCache bundleCache = new TranslationBundleCache(Duration.ofMinutes(1), 100);
+        service = new TenantTranslationService(
+                translationRepository,
+                tenantContextHolder,
+                tenantService,
+                defaultTranslationProvider,
+                upsertRepository,
+                bundleCache,
+                event -> bundleCache.onTenantContentChanged((TenantContentChangedEvent) event),
+                new JacksonConfig().objectMapper()
+        );
+        when(tenantContextHolder.requireTenantId()).thenReturn(TENANT_ID);
+    }
+
+    @Test
+    void testBundleIsCompiledOnceAndRebuiltAfterUpsert() {
+        when(defaultTranslationProvider.getDefaults("en")).thenReturn(Map.of("home.title", "Welcome"));
+        when(translationRepository.findByTenantAndFilters(TENANT_ID, null, "en")).thenReturn(List.of());
+
+        TranslationBundle first = service.getTranslationBundle(null, "EN");
+        TranslationBundle second = service.getTranslationBundle(null, "en");
+
+        assertThat(second).isSameAs(first);
+        assertThat(new String(first.json(), StandardCharsets.UTF_8))
+                .contains("\"namespace\":\"home\"", "\"key\":\"title\"", "\"value\":\"Welcome\"");
+        assertThat(first.etag()).startsWith("\"").endsWith("\"");
+        verify(translationRepository, times(1)).findByTenantAndFilters(TENANT_ID, null, "en");
+
+        service.upsertTranslations(List.of(new TranslationUpsertRequest("home", "title", "en", "Hello")));
+        service.getTranslationBundle(null, "en");
+
+        verify(translationRepository, times(2)).findByTenantAndFilters(TENANT_ID, null, "en");
+    }
+
+    @Test
+    void testPublicBundleHoldsOverridesOnlyAndIsRebuiltAfterUpsert() {
+        TenantTranslationEntity override = new TenantTranslationEntity();
+        override.setNamespace("home");
+        override.setTranslationKey("title");
+        override.setLocale("en");
+        override.setValue("Hello");
+        when(translationRepository.findByTenantIdAndLocale(TENANT_ID, "en")).thenReturn(List.of(override));
+
+        TranslationBundle first = service.getPublicTranslationBundle(TENANT_ID, "EN", " ");
+        TranslationBundle second = service.getPublicTranslationBundle(TENANT_ID, "en", null);
+
+        assertThat(second).isSameAs(first);
+        assertThat(new String(first.json(), StandardCharsets.UTF_8)).isEqualTo("{\"home.title\":\"Hello\"}");
+        assertThat(first).isNotSameAs(service.getTranslationBundle(null, "en"));
+        verify(translationRepository, times(1)).findByTenantIdAndLocale(TENANT_ID, "en");
+
+        service.upsertTranslations(List.of(new TranslationUpsertRequest("home", "title", "en", "Hi")));
+        service.getPublicTranslationBundle(TENANT_ID, "en", null);
+
+        verify(translationRepository, times(2)).findByTenantIdAndLocale(TENANT_ID, "en");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testUpsertWritesOneBatchWithLastValuePerKey() {
+        service.upsertTranslations(List.of(
+                new TranslationUpsertRequest(" home ", "title", "EN", " Hello "),
+                new TranslationUpsertRequest("home", "subtitle", "en", null),
+                new TranslationUpsertRequest("home", "title", "en", "Hi")
+        ));
+
+        ArgumentCaptor<List<TranslationRow>> rows = ArgumentCaptor.forClass(List.class);
+        verify(upsertRepository).upsertAll(eq(TENANT_ID), rows.capture());
+        assertThat(rows.getValue()).containsExactly(
+                new TranslationRow("home", "title", "en", "Hi"),
+                new TranslationRow("home", "subtitle", "en", "")
+        );
+        verify(tenantService).requireTenant(TENANT_ID);
+    }
+}
@@ -0,0 +1,110 @@
+package com.clinic.modules.ecommerce.cache;
+
+import com.clinic.modules.core.cache.TenantContentChangedEvent;
+import com.clinic.modules.ecommerce.dto.ProductFacetCounts;
+import com.clinic.modules.ecommerce.dto.ProductFacetFilter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ProductFacetCache.
+ */
+class ProductFacetCacheTest {
+
+    private static final ProductFacetFilter NO_FILTER = new ProductFacetFilter(null, null, null, null);
+
+    private final ProductFacetCache cache = new ProductFacetCache(Duration.ofMinutes(10), 100);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        Set.copyOf(TransactionSynchronizationManager.getResourceMap().keySet())
+                .forEach(TransactionSynchronizationManager::unbindResourceIfPossible);
+    }
+
+    @Test
+    void get_CachesPerTenantAndFilter() {
+        cache.get(1L, NO_FILTER, this::load);
+        cache.get(1L, NO_FILTER, this::load);
+        cache.get(2L, NO_FILTER, this::load);
+        cache.get(1L, new ProductFacetFilter(7L, null, null, null), this::load);
+
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void invalidateTenant_OnlyAffectsThatTenant() {
+        cache.get(1L, NO_FILTER, this::load);
+        cache.get(2L, NO_FILTER, this::load);
+
+        cache.invalidateTenant(1L);
+        cache.get(1L, NO_FILTER, this::load);
+        cache.get(2L, NO_FILTER, this::load);
+
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void invalidateTenantAfterCommit_DefersUntilCommit() {
+        cache.get(1L, NO_FILTER, this::load);
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.invalidateTenantAfterCommit(1L);
+        cache.invalidateTenantAfterCommit(1L);
+        cache.get(1L, NO_FILTER, this::load);
+        assertEquals(1, loads.get(), "Counts must stay cached until the write commits");
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        assertEquals(1, synchronizations.size(), "Repeated writes register one synchronization");
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        synchronizations.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        cache.get(1L, NO_FILTER, this::load);
+        assertEquals(2, loads.get());
+        assertTrue(TransactionSynchronizationManager.getResourceMap().isEmpty());
+    }
+
+    @Test
+    void invalidateTenantAfterCommit_RollbackKeepsCounts() {
+        cache.get(1L, NO_FILTER, this::load);
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.invalidateTenantAfterCommit(1L);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        cache.get(1L, NO_FILTER, this::load);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void onTenantContentChanged_OnlyCatalogChangesInvalidate() {
+        cache.get(1L, NO_FILTER, this::load);
+
+        cache.onTenantContentChanged(new TenantContentChangedEvent(this, 1L, TenantContentChangedEvent.Area.PUBLIC_CONTENT));
+        cache.get(1L, NO_FILTER, this::load);
+        assertEquals(1, loads.get());
+
+        cache.onTenantContentChanged(new TenantContentChangedEvent(this, 1L, TenantContentChangedEvent.Area.CATALOG));
+        cache.get(1L, NO_FILTER, this::load);
+        assertEquals(2, loads.get());
+    }
+
+    private ProductFacetCounts load() {
+        loads.incrementAndGet();
+        return new ProductFacetCounts(0, List.of(), Map.of(), 0, 0, Map.of());
+    }
+}
@@ -0,0 +1,187 @@
+package com.clinic.modules.ecommerce.integration;
+
+import com.clinic.modules.core.tenant.TenantEntity;
+import com.clinic.modules.core.tenant.TenantRepository;
+import com.clinic.modules.ecommerce.dto.PublicCategoryTreeResponse;
+import com.clinic.modules.ecommerce.dto.PublicProductResponse;
+import com.clinic.modules.ecommerce.model.CategoryEntity;
+import com.clinic.modules.ecommerce.model.ProductEntity;
+import com.clinic.modules.ecommerce.model.ProductStatus;
+import com.clinic.modules.ecommerce.repository.CategoryRepository;
+import com.clinic.modules.ecommerce.repository.ProductRepository;
+import com.clinic.modules.ecommerce.service.CategoryService;
+import com.clinic.modules.ecommerce.service.PublicProductService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Integration tests for the materialized category path against PostgreSQL.
+ *
+ * Covers the single-query active tree, the bulk subtree rebase when a
+ * category moves, and the path range query for products in a subtree.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class CategoryTreeIntegrationTest {
+
+    @Autowired
+    private TenantRepository tenantRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private PublicProductService publicProductService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Long tenantId;
+    private CategoryEntity skincare;
+    private CategoryEntity faces;
+    private CategoryEntity creams;
+    private CategoryEntity haircare;
+
+    @BeforeEach
+    void setUp() {
+        TenantEntity newTenant = new TenantEntity("category-tree-test", "Category Tree Store");
+        newTenant.setEcommerceEnabled(true);
+        tenantId = tenantRepository.save(newTenant).getId();
+
+        // skincare > faces > creams, haircare
+        skincare = categoryService.createRootCategory(tenantId, "Skincare", "skincare");
+        faces = categoryService.createChildCategory(tenantId, skincare.getId(), "Faces", "faces");
+        creams = categoryService.createChildCategory(tenantId, faces.getId(), "Creams", "creams");
+        haircare = categoryService.createRootCategory(tenantId, "Haircare", "haircare");
+        flushAndClear();
+    }
+
+    @Test
+    void getActiveCategoryTree_NestsChildrenAndHidesBranchesBelowInactiveCategories() {
+        List<PublicCategoryTreeResponse> tree = categoryService.getActiveCategoryTree(tenantId);
+
+        assertThat(tree).extracting(PublicCategoryTreeResponse::slug).containsExactly("skincare", "haircare");
+        PublicCategoryTreeResponse facesNode = tree.get(0).children().get(0);
+        assertThat(facesNode.slug()).isEqualTo("faces");
+        assertThat(facesNode.depth()).isEqualTo(1);
+        assertThat(facesNode.children()).extracting(PublicCategoryTreeResponse::slug).containsExactly("creams");
+
+        categoryService.updateCategoryStatus(faces.getId(), tenantId, false);
+        flushAndClear();
+
+        tree = categoryService.getActiveCategoryTree(tenantId);
+        assertThat(tree.get(0).slug()).isEqualTo("skincare");
+        assertThat(tree.get(0).children()).isEmpty();
+    }
+
+    @Test
+    void moveCategoryToParent_RebasesDescendantPathsAndDepths() {
+        categoryService.moveCategoryToParent(faces.getId(), tenantId, haircare.getId());
+        flushAndClear();
+
+        String facesPath = "/" + haircare.getId() + "/" + faces.getId() + "/";
+        assertPath(faces, facesPath, 1);
+        assertPath(creams, facesPath + creams.getId() + "/", 2);
+        assertPath(skincare, "/" + skincare.getId() + "/", 0);
+    }
+
+    @Test
+    void moveCategoryToParent_ToRootShortensDescendantPaths() {
+        categoryService.moveCategoryToParent(faces.getId(), tenantId, null);
+        flushAndClear();
+
+        String facesPath = "/" + faces.getId() + "/";
+        assertPath(faces, facesPath, 0);
+        assertPath(creams, facesPath + creams.getId() + "/", 1);
+        assertThat(categoryService.getActiveCategoryTree(tenantId))
+                .extracting(PublicCategoryTreeResponse::slug)
+                .contains("faces");
+    }
+
+    @Test
+    void moveCategoryToParent_UnderOwnDescendantIsRejectedAndLeavesPathsAlone() {
+        assertThatThrownBy(() -> categoryService.moveCategoryToParent(skincare.getId(), tenantId, creams.getId()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("own descendant");
+        flushAndClear();
+
+        String skincarePath = "/" + skincare.getId() + "/";
+        assertPath(skincare, skincarePath, 0);
+        assertPath(creams, skincarePath + faces.getId() + "/" + creams.getId() + "/", 2);
+    }
+
+    @Test
+    void getVisibleProductsInCategoryTree_MatchesTheWholeSubtreeOnce() {
+        ProductEntity serum = product("serum", true);
+        ProductEntity cream = product("night-cream", true);
+        ProductEntity hidden = product("hidden-cream", false);
+        ProductEntity shampoo = product("shampoo", true);
+        link(faces, serum);
+        link(creams, cream);
+        link(faces, cream);
+        link(creams, hidden);
+        link(haircare, shampoo);
+        flushAndClear();
+
+        assertThat(slugsInTree(skincare)).containsExactlyInAnyOrder("serum", "night-cream");
+        assertThat(slugsInTree(creams)).containsExactly("night-cream");
+
+        // Products follow their category when it moves
+        categoryService.moveCategoryToParent(creams.getId(), tenantId, haircare.getId());
+        flushAndClear();
+
+        assertThat(slugsInTree(haircare)).containsExactlyInAnyOrder("shampoo", "night-cream");
+        assertThat(slugsInTree(skincare)).containsExactlyInAnyOrder("serum", "night-cream");
+    }
+
+    private void assertPath(CategoryEntity category, String path, int depth) {
+        CategoryEntity reloaded = categoryRepository.findById(category.getId()).orElseThrow();
+        assertThat(reloaded.getPath()).isEqualTo(path);
+        assertThat(reloaded.getDepth()).isEqualTo(depth);
+    }
+
+    private List<String> slugsInTree(CategoryEntity category) {
+        Page<PublicProductResponse> page = publicProductService.getVisibleProductsInCategoryTree(
+                tenantId, category.getId(), PageRequest.of(0, 20), "en");
+        return page.getContent().stream().map(PublicProductResponse::slug).toList();
+    }
+
+    private ProductEntity product(String slug, boolean visible) {
+        ProductEntity product = new ProductEntity(tenantRepository.getReferenceById(tenantId), slug, slug);
+        product.setPrice(new BigDecimal("20.00"));
+        product.setStatus(ProductStatus.ACTIVE);
+        product.setIsVisible(visible);
+        return productRepository.save(product);
+    }
+
+    private void link(CategoryEntity category, ProductEntity product) {
+        CategoryEntity managed = categoryRepository.findById(category.getId()).orElseThrow();
+        managed.addProduct(product);
+        entityManager.flush();
+    }
+
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
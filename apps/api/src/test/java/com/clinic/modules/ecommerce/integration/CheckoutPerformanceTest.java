@@ -0,0 +1,167 @@
+package com.clinic.modules.ecommerce.integration;
+
+import com.clinic.modules.core.tenant.TenantEntity;
+import com.clinic.modules.core.tenant.TenantRepository;
+import com.clinic.modules.ecommerce.dto.CreateOrderRequest;
+import com.clinic.modules.ecommerce.model.*;
+import com.clinic.modules.ecommerce.repository.CartRepository;
+import com.clinic.modules.ecommerce.repository.ProductRepository;
+import com.clinic.modules.ecommerce.service.OrderService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checkout latency benchmark for 1-, 10- and 50-item carts.
+ *
+ * Each checkout runs in its own committed transaction so the measured time
+ * includes the flush. The test prints mean/p50/p95 latency plus the JDBC
+ * statement and entity insert counts from Hibernate statistics; run it on a
+ * commit before and after a change to compare numbers.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+public class CheckoutPerformanceTest {
+
+    private static final int[] CART_SIZES = {1, 10, 50};
+    private static final int WARMUP_RUNS = 5;
+    private static final int MEASURED_RUNS = 30;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private TenantRepository tenantRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private TenantEntity tenant;
+    private List<ProductEntity> products;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM tenants WHERE slug = ?", "perf-checkout");
+
+        TenantEntity newTenant = new TenantEntity("perf-checkout", "Checkout Performance Store");
+        newTenant.setEcommerceEnabled(true);
+        tenant = tenantRepository.save(newTenant);
+
+        products = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            ProductEntity product = new ProductEntity(tenant, "Perf Product " + i, "perf-product-" + i);
+            product.setSku("PERF-" + i);
+            product.setPrice(new BigDecimal("19.99"));
+            product.setStatus(ProductStatus.ACTIVE);
+            products.add(productRepository.save(product));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        // Tenant foreign keys cascade to products, carts and orders
+        jdbcTemplate.update("DELETE FROM tenants WHERE slug = ?", "perf-checkout");
+    }
+
+    @Test
+    void measureCheckoutLatencyByCartSize() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        for (int cartSize : CART_SIZES) {
+            for (int run = 0; run < WARMUP_RUNS; run++) {
+                String sessionId = "warmup-" + cartSize + "-" + run;
+                seedCart(cartSize, sessionId);
+                checkout(cartSize, sessionId);
+            }
+
+            long[] latencies = new long[MEASURED_RUNS];
+            long statements = 0;
+            long inserts = 0;
+            for (int run = 0; run < MEASURED_RUNS; run++) {
+                String sessionId = "measure-" + cartSize + "-" + run;
+                seedCart(cartSize, sessionId);
+                long statementsBefore = statistics.getPrepareStatementCount();
+                long insertsBefore = statistics.getEntityInsertCount();
+                latencies[run] = checkout(cartSize, sessionId);
+                statements += statistics.getPrepareStatementCount() - statementsBefore;
+                inserts += statistics.getEntityInsertCount() - insertsBefore;
+            }
+            statements /= MEASURED_RUNS;
+            inserts /= MEASURED_RUNS;
+
+            Arrays.sort(latencies);
+            double meanMs = Arrays.stream(latencies).average().orElse(0) / 1_000_000.0;
+            System.out.printf("Checkout %2d items: mean=%.2fms p50=%.2fms p95=%.2fms statements/checkout=%d inserts/checkout=%d%n",
+                cartSize,
+                meanMs,
+                latencies[MEASURED_RUNS / 2] / 1_000_000.0,
+                latencies[(int) (MEASURED_RUNS * 0.95)] / 1_000_000.0,
+                statements,
+                inserts);
+
+            // Order plus one row per item, written in a single flush
+            assertThat(inserts).isEqualTo(cartSize + 1L);
+        }
+    }
+
+    /**
+     * Time order creation from a previously seeded cart.
+     *
+     * @return checkout duration in nanoseconds
+     */
+    private long checkout(int cartSize, String sessionId) {
+        CreateOrderRequest request = new CreateOrderRequest();
+        request.setSessionId(sessionId);
+        request.setCustomerName("Perf Customer");
+        request.setCustomerEmail("perf@example.com");
+        request.setBillingAddressLine1("1 Benchmark Way");
+        request.setBillingAddressCity("Amman");
+        request.setBillingAddressCountry("Jordan");
+
+        long start = System.nanoTime();
+        OrderEntity order = transactionTemplate.execute(status -> orderService.createOrderFromCart(tenant, request));
+        long elapsed = System.nanoTime() - start;
+
+        assertThat(order).isNotNull();
+        assertThat(order.getItems()).hasSize(cartSize);
+        return elapsed;
+    }
+
+    private void seedCart(int cartSize, String sessionId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            CartEntity cart = new CartEntity(tenant, sessionId);
+            for (int i = 0; i < cartSize; i++) {
+                ProductEntity product = products.get(i);
+                cart.addItem(new CartItemEntity(cart, product, 1, product.getPrice()));
+            }
+            cartRepository.save(cart);
+        });
+    }
+}
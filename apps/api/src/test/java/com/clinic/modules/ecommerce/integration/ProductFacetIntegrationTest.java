@@ -0,0 +1,136 @@
+package com.clinic.modules.ecommerce.integration;
+
+import com.clinic.modules.core.tenant.TenantEntity;
+import com.clinic.modules.core.tenant.TenantRepository;
+import com.clinic.modules.ecommerce.dto.ProductFacetCounts;
+import com.clinic.modules.ecommerce.dto.ProductFacetFilter;
+import com.clinic.modules.ecommerce.model.*;
+import com.clinic.modules.ecommerce.repository.CategoryRepository;
+import com.clinic.modules.ecommerce.repository.ProductFacetRepository;
+import com.clinic.modules.ecommerce.repository.ProductRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for faceted product filtering against PostgreSQL.
+ *
+ * Verifies that the single-statement facet counts agree with the JPQL page
+ * query for the same selection.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class ProductFacetIntegrationTest {
+
+    @Autowired
+    private TenantRepository tenantRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ProductFacetRepository productFacetRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private TenantEntity tenant;
+    private CategoryEntity creams;
+
+    @BeforeEach
+    void setUp() {
+        TenantEntity newTenant = new TenantEntity("facet-test", "Facet Test Store");
+        newTenant.setEcommerceEnabled(true);
+        tenant = tenantRepository.save(newTenant);
+
+        creams = categoryRepository.save(new CategoryEntity(tenant, "Creams", "creams"));
+
+        // Simple products without variants count as in stock
+        ProductEntity cheapCream = product("cheap-cream", "10.00", ProductType.SIMPLE);
+        ProductEntity midCream = product("mid-cream", "30.00", ProductType.SIMPLE);
+        product("serum", "75.00", ProductType.SIMPLE);
+
+        // Variable product whose only variant is sold out
+        ProductEntity kit = product("kit", "300.00", ProductType.VARIABLE);
+        ProductVariantEntity variant = new ProductVariantEntity(kit, tenant, "KIT-1", "Kit", new BigDecimal("300.00"));
+        variant.setStockQuantity(0);
+        kit.addVariant(variant);
+        kit.setHasVariants(true);
+
+        // Hidden products never count
+        ProductEntity hidden = product("hidden", "20.00", ProductType.SIMPLE);
+        hidden.setIsVisible(false);
+
+        creams.addProduct(cheapCream);
+        creams.addProduct(midCream);
+        creams.addProduct(hidden);
+
+        entityManager.flush();
+    }
+
+    @Test
+    void countFacets_WithoutSelection_CountsAllVisibleProducts() {
+        ProductFacetCounts counts = productFacetRepository.countFacets(tenant.getId(),
+                new ProductFacetFilter(null, null, null, null));
+
+        assertThat(counts.total()).isEqualTo(4);
+        assertThat(counts.priceBuckets().get(ProductPriceBucket.UNDER_25)).isEqualTo(1L);
+        assertThat(counts.priceBuckets().get(ProductPriceBucket.FROM_25_TO_50)).isEqualTo(1L);
+        assertThat(counts.priceBuckets().get(ProductPriceBucket.FROM_50_TO_100)).isEqualTo(1L);
+        assertThat(counts.priceBuckets().get(ProductPriceBucket.OVER_250)).isEqualTo(1L);
+        assertThat(counts.inStock()).isEqualTo(3);
+        assertThat(counts.outOfStock()).isEqualTo(1);
+        assertThat(counts.productTypes().get(ProductType.VARIABLE)).isEqualTo(1L);
+        assertThat(counts.categories()).singleElement()
+                .satisfies(category -> {
+                    assertThat(category.id()).isEqualTo(creams.getId());
+                    assertThat(category.count()).isEqualTo(2);
+                });
+    }
+
+    @Test
+    void countFacets_WithSelection_ExcludesOwnFacetAndMatchesPageQuery() {
+        ProductFacetFilter filter = new ProductFacetFilter(creams.getId(), ProductPriceBucket.UNDER_25, true, null);
+
+        ProductFacetCounts counts = productFacetRepository.countFacets(tenant.getId(), filter);
+
+        assertThat(counts.total()).isEqualTo(1);
+        // Price buckets ignore the price selection but keep the category and stock selections
+        assertThat(counts.priceBuckets().get(ProductPriceBucket.UNDER_25)).isEqualTo(1L);
+        assertThat(counts.priceBuckets().get(ProductPriceBucket.FROM_25_TO_50)).isEqualTo(1L);
+        assertThat(counts.priceBuckets().get(ProductPriceBucket.OVER_250)).isZero();
+
+        var page = productRepository.findVisibleByTenantWithFacets(tenant.getId(), creams.getId(),
+                null, new BigDecimal("25"), null, true, PageRequest.of(0, 20));
+        assertThat(page).extracting(ProductEntity::getSlug).containsExactly("cheap-cream");
+    }
+
+    @Test
+    void findVisibleByTenantWithFacets_OutOfStock_ReturnsSoldOutVariableProducts() {
+        var page = productRepository.findVisibleByTenantWithFacets(tenant.getId(), null,
+                null, null, ProductType.VARIABLE, false, PageRequest.of(0, 20));
+
+        assertThat(page).extracting(ProductEntity::getSlug).containsExactly("kit");
+    }
+
+    private ProductEntity product(String slug, String price, ProductType type) {
+        ProductEntity product = new ProductEntity(tenant, slug, slug);
+        product.setPrice(new BigDecimal(price));
+        product.setProductType(type);
+        product.setStatus(ProductStatus.ACTIVE);
+        return productRepository.save(product);
+    }
+}
@@ -0,0 +1,157 @@
+package com.clinic.modules.ecommerce.integration;
+
+import com.clinic.modules.core.tenant.TenantEntity;
+import com.clinic.modules.core.tenant.TenantRepository;
+import com.clinic.modules.ecommerce.repository.ProductRepository;
+import com.clinic.modules.ecommerce.repository.ProductSearchRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Search benchmark and relevance checks on a tenant with 50,000 products.
+ *
+ * Products are generated in SQL from small English and Arabic word lists, so
+ * common words match thousands of rows. The test prints mean/p50/p95 latency
+ * for the ranked full-text search and the previous LIKE search; run it on a
+ * commit before and after a change to compare numbers.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class ProductSearchPerformanceTest {
+
+    private static final String TENANT_SLUG = "perf-search";
+    private static final int PRODUCT_COUNT = 50_000;
+    private static final int WARMUP_RUNS = 5;
+    private static final int MEASURED_RUNS = 30;
+    private static final List<String> TERMS = List.of("hydrating", "vitamin serum", "sunscreem", "كريم", "مرطب");
+
+    @Autowired
+    private TenantRepository tenantRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductSearchRepository productSearchRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long tenantId;
+
+    @BeforeAll
+    void seedCatalog() {
+        jdbcTemplate.update("DELETE FROM tenants WHERE slug = ?", TENANT_SLUG);
+
+        TenantEntity tenant = new TenantEntity(TENANT_SLUG, "Search Performance Store");
+        tenant.setEcommerceEnabled(true);
+        tenantId = tenantRepository.save(tenant).getId();
+
+        jdbcTemplate.update("""
+                INSERT INTO products (tenant_id, name, name_ar, slug, sku, description, description_ar,
+                                      short_description, status, product_type, price, currency,
+                                      has_variants, is_taxable, is_visible, created_at, updated_at)
+                SELECT ?,
+                       (ARRAY['Hydrating', 'Vitamin C', 'Retinol', 'Sunscreen', 'Clay', 'Gentle', 'Repair', 'Night'])[1 + i % 8]
+                         || ' ' || (ARRAY['Serum', 'Cream', 'Cleanser', 'Mask', 'Toner', 'Lotion'])[1 + (i / 8) % 6]
+                         || ' ' || i,
+                       (ARRAY['كريم', 'سيروم', 'غسول', 'ماسك', 'تونر', 'لوشن'])[1 + (i / 8) % 6]
+                         || ' ' || (ARRAY['مرطب', 'فيتامين سي', 'ريتينول', 'واقي شمس', 'طين', 'لطيف', 'إصلاح', 'ليلي'])[1 + i % 8],
+                       'perf-search-' || i,
+                       'PS-' || i,
+                       'A ' || (ARRAY['lightweight', 'rich', 'soothing', 'brightening'])[1 + i % 4]
+                         || ' formula for ' || (ARRAY['dry', 'oily', 'sensitive', 'combination'])[1 + (i / 4) % 4]
+                         || ' skin. Dermatologist tested and fragrance free.',
+                       'تركيبة ' || (ARRAY['خفيفة', 'غنية', 'مهدئة', 'مفتحة'])[1 + i % 4] || ' للبشرة',
+                       NULL,
+                       'ACTIVE', 'SIMPLE', 10 + (i % 200), 'USD', FALSE, TRUE, TRUE, NOW(), NOW()
+                FROM generate_series(1, ?) AS i
+                """, tenantId, PRODUCT_COUNT);
+        jdbcTemplate.execute("ANALYZE products");
+    }
+
+    @AfterAll
+    void dropCatalog() {
+        // Tenant foreign keys cascade to products
+        jdbcTemplate.update("DELETE FROM tenants WHERE slug = ?", TENANT_SLUG);
+    }
+
+    @Test
+    void measureSearchLatency() {
+        for (String term : TERMS) {
+            measure("ranked", term, () -> productSearchRepository.search(tenantId, term, false, 20, 0).hits().size());
+            measure("like  ", term, () -> productRepository.searchVisibleByTenant(tenantId, term, PageRequest.of(0, 20))
+                    .getNumberOfElements());
+        }
+    }
+
+    @Test
+    void search_RanksNameMatchesAboveDescriptionMatches() {
+        ProductSearchRepository.SearchResult result = productSearchRepository.search(tenantId, "serum", false, 20, 0);
+
+        assertThat(result.total()).isGreaterThan(0);
+        assertThat(result.hits()).isNotEmpty();
+        assertThat(result.hits().get(0).snippet()).isNotBlank();
+        assertThat(productRepository.findById(result.hits().get(0).productId()))
+                .get()
+                .satisfies(product -> assertThat(product.getName()).containsIgnoringCase("serum"));
+    }
+
+    @Test
+    void search_ToleratesTyposAndArabicVariants() {
+        // Misspelled English term falls back to trigram similarity
+        assertThat(productSearchRepository.search(tenantId, "sunscreem", false, 20, 0).total()).isGreaterThan(0);
+
+        // Hamza-less and hamza spellings of the same word match after normalization
+        long withHamza = productSearchRepository.search(tenantId, "إصلاح", true, 20, 0).total();
+        long withoutHamza = productSearchRepository.search(tenantId, "اصلاح", true, 20, 0).total();
+        assertThat(withHamza).isGreaterThan(0).isEqualTo(withoutHamza);
+    }
+
+    @Test
+    void search_ReportsTheTotalOnPagesPastTheLastHit() {
+        long total = productSearchRepository.search(tenantId, "serum", false, 20, 0).total();
+
+        ProductSearchRepository.SearchResult pastEnd = productSearchRepository.search(tenantId, "serum", false, 20, total + 100);
+
+        assertThat(pastEnd.hits()).isEmpty();
+        assertThat(pastEnd.total()).isEqualTo(total);
+    }
+
+    private void measure(String label, String term, Supplier<Integer> search) {
+        for (int run = 0; run < WARMUP_RUNS; run++) {
+            search.get();
+        }
+
+        long[] latencies = new long[MEASURED_RUNS];
+        int results = 0;
+        for (int run = 0; run < MEASURED_RUNS; run++) {
+            long start = System.nanoTime();
+            results = search.get();
+            latencies[run] = System.nanoTime() - start;
+        }
+
+        Arrays.sort(latencies);
+        System.out.printf("Search %s %-14s: mean=%.2fms p50=%.2fms p95=%.2fms results=%d%n",
+                label,
+                "'" + term + "'",
+                Arrays.stream(latencies).average().orElse(0) / 1_000_000.0,
+                latencies[MEASURED_RUNS / 2] / 1_000_000.0,
+                latencies[(int) (MEASURED_RUNS * 0.95)] / 1_000_000.0,
+                results);
+    }
+}
@@ -115,6 +115,28 @@ class CategoryEntityTest {
         assertFalse(rootCategory.isDescendantOf(childCategory));
     }
 
+    @Test
+    void testMaterializedPath() {
+        rootCategory.addChild(childCategory);
+        CategoryEntity grandChild = new CategoryEntity(tenant, childCategory, "Gaming Laptops", "gaming-laptops");
+        setId(grandChild, 3L);
+        childCategory.addChild(grandChild);
+
+        rootCategory.refreshPath();
+        childCategory.refreshPath();
+        grandChild.refreshPath();
+
+        assertEquals("/1/", rootCategory.getPath());
+        assertEquals("/1/2/", childCategory.getPath());
+        assertEquals("/1/2/3/", grandChild.getPath());
+        assertEquals(2, grandChild.getDepth());
+
+        // Subtree range covers descendants but not siblings sharing a numeric prefix
+        String upper = CategoryEntity.pathUpperBound(childCategory.getPath());
+        assertTrue("/1/2/3/".compareTo(upper) < 0);
+        assertTrue("/1/20/".compareTo(upper) >= 0);
+    }
+
     @Test
     void testProductAssociation() {
         ProductEntity product = new ProductEntity(tenant, "Test Product", "test-product");
@@ -0,0 +1,118 @@
+package com.clinic.modules.ecommerce.service;
+
+import com.clinic.modules.ecommerce.repository.OrderNumberSequenceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for OrderNumberGenerator.
+ */
+@ExtendWith(MockitoExtension.class)
+class OrderNumberGeneratorTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 6, 15);
+
+    @Mock
+    private OrderNumberSequenceRepository sequenceRepository;
+
+    private final Map<String, AtomicLong> counters = new ConcurrentHashMap<>();
+    private final AtomicInteger reservations = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        // Simulate the atomic upsert: each reservation advances the counter by the block size
+        lenient().when(sequenceRepository.reserve(anyLong(), any(LocalDate.class), anyInt()))
+            .thenAnswer(invocation -> {
+                reservations.incrementAndGet();
+                Long tenantId = invocation.getArgument(0);
+                LocalDate day = invocation.getArgument(1);
+                int count = invocation.getArgument(2);
+                return counters.computeIfAbsent(tenantId + "|" + day, k -> new AtomicLong())
+                    .addAndGet(count);
+            });
+    }
+
+    @Test
+    void nextOrderNumber_FormatsTenantDateAndSequence() {
+        OrderNumberGenerator generator = new OrderNumberGenerator(sequenceRepository, 20);
+
+        assertEquals("0042-20250615-00001", generator.nextOrderNumber(42L, DAY));
+        assertEquals("0042-20250615-00002", generator.nextOrderNumber(42L, DAY));
+        assertEquals("0007-20250615-00001", generator.nextOrderNumber(7L, DAY));
+    }
+
+    @Test
+    void nextOrderNumber_ReservesOneBlockPerBlockSizeNumbers() {
+        OrderNumberGenerator generator = new OrderNumberGenerator(sequenceRepository, 20);
+
+        for (int i = 0; i < 45; i++) {
+            generator.nextOrderNumber(1L, DAY);
+        }
+
+        verify(sequenceRepository, times(3)).reserve(1L, DAY, 20);
+        verifyNoMoreInteractions(sequenceRepository);
+    }
+
+    @Test
+    void nextOrderNumber_RestartsSequenceOnNewDay() {
+        OrderNumberGenerator generator = new OrderNumberGenerator(sequenceRepository, 20);
+
+        generator.nextOrderNumber(1L, DAY);
+        generator.nextOrderNumber(1L, DAY);
+
+        assertEquals("0001-20250616-00001", generator.nextOrderNumber(1L, DAY.plusDays(1)));
+    }
+
+    @Test
+    void nextOrderNumber_ParallelGenerationAcrossNodesHasNoDuplicates() throws Exception {
+        // Two generators sharing one counter table model two application nodes
+        OrderNumberGenerator nodeA = new OrderNumberGenerator(sequenceRepository, 20);
+        OrderNumberGenerator nodeB = new OrderNumberGenerator(sequenceRepository, 7);
+
+        int total = 100_000;
+        int threads = 16;
+        Set<String> numbers = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                OrderNumberGenerator generator = t % 2 == 0 ? nodeA : nodeB;
+                int perThread = total / threads;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        long tenantId = 1L + (i % 3);
+                        assertTrue(numbers.add(generator.nextOrderNumber(tenantId, DAY)),
+                            "Duplicate order number generated");
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(total, numbers.size());
+        assertTrue(reservations.get() < total / 5, "Numbers should be served from reserved blocks");
+    }
+}
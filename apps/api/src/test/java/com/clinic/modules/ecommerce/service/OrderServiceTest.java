@@ -36,6 +36,9 @@ class OrderServiceTest {
     @Mock
     private CartService cartService;
 
+    @Mock
+    private OrderNumberGenerator orderNumberGenerator;
+
     @InjectMocks
     private OrderService orderService;
 
@@ -80,7 +83,7 @@ class OrderServiceTest {
         // Arrange
         when(cartService.getCart(tenant, "test-session")).thenReturn(Optional.of(cart));
         when(cartService.validateCartAvailability(tenant, "test-session")).thenReturn(List.of());
-        when(orderRepository.existsByTenantAndOrderNumber(eq(tenant.getId()), anyString())).thenReturn(false);
+        when(orderNumberGenerator.nextOrderNumber(any())).thenReturn("0001-20241210-00001");
         
         OrderEntity savedOrder = new OrderEntity(tenant, "0001-20241210-1234");
         savedOrder.setId(1L);
@@ -92,7 +95,6 @@ class OrderServiceTest {
         savedOrder.setTotalAmount(new BigDecimal("32.39"));
         
         when(orderRepository.save(any(OrderEntity.class))).thenReturn(savedOrder);
-        when(orderItemRepository.save(any(OrderItemEntity.class))).thenReturn(new OrderItemEntity());
 
         // Act
         OrderEntity result = orderService.createOrderFromCart(tenant, createOrderRequest);
@@ -107,8 +109,9 @@ class OrderServiceTest {
 
         verify(cartService).getCart(tenant, "test-session");
         verify(cartService).validateCartAvailability(tenant, "test-session");
-        verify(orderRepository, atLeastOnce()).save(any(OrderEntity.class));
-        verify(orderItemRepository).save(any(OrderItemEntity.class));
+        // Order and items are persisted together through the cascade in one save
+        verify(orderRepository, times(1)).save(argThat(order -> order.getItems().size() == 1));
+        verifyNoInteractions(orderItemRepository);
     }
 
     @Test
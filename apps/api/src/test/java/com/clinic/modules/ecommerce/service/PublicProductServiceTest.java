@@ -2,11 +2,21 @@ package com.clinic.modules.ecommerce.service;
 
 import com.clinic.modules.core.tenant.TenantEntity;
 import com.clinic.modules.core.tenant.TenantService;
+import com.clinic.modules.ecommerce.cache.ProductFacetCache;
+import com.clinic.modules.ecommerce.dto.ProductFacetCounts;
+import com.clinic.modules.ecommerce.dto.ProductFacetFilter;
+import com.clinic.modules.ecommerce.dto.PublicProductFacetResponse;
 import com.clinic.modules.ecommerce.dto.PublicProductResponse;
+import com.clinic.modules.ecommerce.dto.PublicProductSearchHit;
 import com.clinic.modules.ecommerce.exception.ProductNotFoundException;
 import com.clinic.modules.ecommerce.model.ProductEntity;
+import com.clinic.modules.ecommerce.model.ProductPriceBucket;
 import com.clinic.modules.ecommerce.model.ProductStatus;
+import com.clinic.modules.ecommerce.model.ProductType;
+import com.clinic.modules.ecommerce.repository.CategoryRepository;
+import com.clinic.modules.ecommerce.repository.ProductFacetRepository;
 import com.clinic.modules.ecommerce.repository.ProductRepository;
+import com.clinic.modules.ecommerce.repository.ProductSearchRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -17,8 +27,10 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -34,6 +46,15 @@ class PublicProductServiceTest {
     @Mock
     private ProductRepository productRepository;
 
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private ProductFacetRepository productFacetRepository;
+
+    @Mock
+    private ProductSearchRepository productSearchRepository;
+
     @Mock
     private TenantService tenantService;
 
@@ -45,7 +66,9 @@ class PublicProductServiceTest {
     @BeforeEach
     void setUp() {
         publicProductService = new PublicProductService(
-                productRepository, tenantService, ecommerceFeatureService);
+                productRepository, categoryRepository, productFacetRepository,
+                new ProductFacetCache(Duration.ofMinutes(10), 100), productSearchRepository,
+                tenantService, ecommerceFeatureService);
     }
 
     @Test
@@ -131,19 +154,93 @@ class PublicProductServiceTest {
     }
 
     @Test
-    void searchVisibleProducts_WithValidTerm_ReturnsMatchingProducts() {
+    void searchVisibleProducts_WithValidTerm_ReturnsMatchingProductsInRankOrder() {
         // Given
         ProductEntity product = createMockProduct();
-        Page<ProductEntity> productPage = new PageImpl<>(List.of(product));
-        when(productRepository.searchVisibleByTenant(eq(1L), eq("test"), any())).thenReturn(productPage);
+        ProductEntity other = mock(ProductEntity.class);
+        when(other.getId()).thenReturn(2L);
+        when(productSearchRepository.search(1L, "test", false, 20, 0L)).thenReturn(
+                new ProductSearchRepository.SearchResult(List.of(
+                        new ProductSearchRepository.SearchHit(1L, 0.9, "a <mark>test</mark> product"),
+                        new ProductSearchRepository.SearchHit(2L, 0.1, null)), 2));
+        // Repository returns entities in id order, not rank order
+        when(productRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(other, product));
 
         // When
-        Page<PublicProductResponse> result = publicProductService.searchVisibleProducts(1L, "test", PageRequest.of(0, 20));
+        Page<PublicProductSearchHit> result = publicProductService.searchVisibleProductsRanked(
+                1L, " test ", PageRequest.of(0, 20), null);
 
         // Then
-        assertNotNull(result);
-        assertEquals(1, result.getContent().size());
-        assertEquals("Test Product", result.getContent().get(0).name());
+        assertEquals(2, result.getTotalElements());
+        assertEquals("Test Product", result.getContent().get(0).product().name());
+        assertEquals("a <mark>test</mark> product", result.getContent().get(0).snippet());
+        assertEquals(2L, result.getContent().get(1).product().id());
+    }
+
+    @Test
+    void searchVisibleProducts_WithArabicTerm_UsesArabicSnippets() {
+        // Given
+        when(productSearchRepository.search(1L, "كريم", true, 20, 0L))
+                .thenReturn(new ProductSearchRepository.SearchResult(List.of(), 0));
+
+        // When
+        Page<PublicProductResponse> result = publicProductService.searchVisibleProducts(
+                1L, "كريم", PageRequest.of(0, 20), "en");
+
+        // Then
+        assertTrue(result.isEmpty());
+        verify(productRepository, never()).searchVisibleByTenant(any(), any(), any());
+    }
+
+    @Test
+    void searchVisibleProducts_WithBlankTerm_ReturnsEmptyPage() {
+        Page<PublicProductResponse> result = publicProductService.searchVisibleProducts(
+                1L, "  ", PageRequest.of(0, 20), null);
+
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(productSearchRepository);
+    }
+
+    @Test
+    void getVisibleProductsWithFacets_AppliesFilterAndCachesCounts() {
+        // Arrange
+        Long tenantId = 1L;
+        ProductFacetFilter filter = new ProductFacetFilter(5L, ProductPriceBucket.FROM_50_TO_100, true, ProductType.SIMPLE);
+        PageRequest pageable = PageRequest.of(0, 20);
+        ProductEntity product = createMockProduct();
+        ProductFacetCounts counts = new ProductFacetCounts(1, List.of(),
+                Map.of(ProductPriceBucket.FROM_50_TO_100, 1L), 1, 0, Map.of(ProductType.SIMPLE, 1L));
+
+        when(productFacetRepository.countFacets(tenantId, filter)).thenReturn(counts);
+        when(productRepository.findVisibleByTenantWithFacets(tenantId, 5L, new BigDecimal("50"), new BigDecimal("100"),
+                ProductType.SIMPLE, true, pageable)).thenReturn(List.of(product));
+
+        // Act
+        PublicProductFacetResponse first = publicProductService.getVisibleProductsWithFacets(tenantId, filter, pageable, null);
+        PublicProductFacetResponse second = publicProductService.getVisibleProductsWithFacets(tenantId, filter, pageable, null);
+
+        // Assert
+        assertEquals(1, first.getData().size());
+        assertEquals(1, first.getPagination().getTotal());
+        assertSame(counts, second.getFacets());
+        verify(productFacetRepository, times(1)).countFacets(tenantId, filter);
+    }
+
+    @Test
+    void getVisibleProductsWithFacets_PageBeyondTotal_SkipsProductQuery() {
+        // Arrange
+        Long tenantId = 1L;
+        ProductFacetFilter filter = new ProductFacetFilter(null, null, null, null);
+        ProductFacetCounts counts = new ProductFacetCounts(0, List.of(), Map.of(), 0, 0, Map.of());
+        when(productFacetRepository.countFacets(tenantId, filter)).thenReturn(counts);
+
+        // Act
+        PublicProductFacetResponse response = publicProductService.getVisibleProductsWithFacets(
+                tenantId, filter, PageRequest.of(0, 20), null);
+
+        // Assert
+        assertTrue(response.getData().isEmpty());
+        verify(productRepository, never()).findVisibleByTenantWithFacets(any(), any(), any(), any(), any(), any(), any());
     }
 
     private TenantEntity createMockTenant() {
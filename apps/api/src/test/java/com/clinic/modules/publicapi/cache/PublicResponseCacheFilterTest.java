@@ -0,0 +1,183 @@
+package com.clinic.modules.publicapi.cache;
+
+import com.clinic.config.TenantProperties;
+import com.clinic.modules.core.tenant.TenantContextHolder;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.lenient;
+
+/**
+ * Unit tests for PublicResponseCacheFilter.
+ */
+@ExtendWith(MockitoExtension.class)
+class PublicResponseCacheFilterTest {
+
+    @Mock
+    private TenantContextHolder tenantContextHolder;
+
+    private PublicResponseCache responseCache;
+    private PublicResponseCacheFilter filter;
+    private final AtomicInteger renders = new AtomicInteger();
+    private String body = "{\"clinicName\":\"Smile\"}";
+
+    @BeforeEach
+    void setUp() {
+        responseCache = new PublicResponseCache(Duration.ofMinutes(1), DataSize.ofMegabytes(1));
+        filter = new PublicResponseCacheFilter(responseCache, tenantContextHolder, new TenantProperties(), true, 1024);
+        lenient().when(tenantContextHolder.requireTenantId()).thenReturn(1L);
+    }
+
+    @Test
+    void testWarmHitSkipsController() throws Exception {
+        MockHttpServletResponse first = get("/public/settings", null);
+        MockHttpServletResponse second = get("/public/settings", null);
+
+        assertThat(renders).hasValue(1);
+        assertThat(second.getStatus()).isEqualTo(200);
+        assertThat(second.getContentAsString()).isEqualTo(body);
+        assertThat(second.getContentType()).startsWith(MediaType.APPLICATION_JSON_VALUE);
+        assertThat(second.getHeader(HttpHeaders.ETAG)).isEqualTo(first.getHeader(HttpHeaders.ETAG)).startsWith("\"");
+        assertThat(second.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("max-age=300, public");
+        assertThat(second.getHeader(HttpHeaders.VARY)).contains("Host", "X-Tenant-Slug", "X-Forwarded-Host");
+    }
+
+    @Test
+    void testMatchingIfNoneMatchReturns304() throws Exception {
+        String etag = get("/public/settings", null).getHeader(HttpHeaders.ETAG);
+
+        MockHttpServletResponse response = get("/public/settings", etag);
+
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_NOT_MODIFIED);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(etag);
+    }
+
+    @Test
+    void testTenantsAndQueriesAreCachedSeparately() throws Exception {
+        get("/public/services?locale=en", null);
+        get("/public/services?locale=ar", null);
+        get("/public/services?locale=en&tenant=acme", null);
+
+        lenient().when(tenantContextHolder.requireTenantId()).thenReturn(2L);
+        get("/public/services?locale=en", null);
+
+        assertThat(renders).hasValue(3);
+    }
+
+    @Test
+    void testHostsAreNormalizedAndCachedSeparately() throws Exception {
+        get("/public/settings", null, "smile.example.com", null);
+        get("/public/settings", null, "SMILE.example.com:8080", null);
+        get("/public/settings", null, "bright.example.com", null);
+        get("/public/settings", null, "api.example.com", "smile.example.com");
+
+        assertThat(renders).hasValue(2);
+    }
+
+    @Test
+    void testParametersTheRouteDoesNotReadShareAnEntry() throws Exception {
+        get("/public/services?locale=en", null);
+        get("/public/services?locale=en&x=1", null);
+        get("/public/services?locale=en&x=2&utm_source=ad", null);
+
+        assertThat(renders).hasValue(1);
+    }
+
+    @Test
+    void testCanonicalQueryEncodesNamesAndValues() {
+        PublicResponseCacheFilter.CacheableRoute route = PublicResponseCacheFilter.routeFor("/public/translations");
+
+        MockHttpServletRequest smuggled = new MockHttpServletRequest("GET", "/public/translations");
+        smuggled.addParameter("namespace", "a&locale=ar");
+        MockHttpServletRequest separate = new MockHttpServletRequest("GET", "/public/translations");
+        separate.addParameter("namespace", "a");
+        separate.addParameter("locale", "ar");
+
+        assertThat(PublicResponseCacheFilter.canonicalQuery(smuggled, route)).isEqualTo("namespace=a%26locale%3Dar");
+        assertThat(PublicResponseCacheFilter.canonicalQuery(separate, route)).isEqualTo("locale=ar&namespace=a");
+    }
+
+    @Test
+    void testInvalidationServesFreshContent() throws Exception {
+        String oldEtag = get("/public/settings", null).getHeader(HttpHeaders.ETAG);
+
+        body = "{\"clinicName\":\"Bright Smile\"}";
+        responseCache.invalidateTenant(1L);
+        MockHttpServletResponse response = get("/public/settings", oldEtag);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).isEqualTo(body);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isNotEqualTo(oldEtag);
+        assertThat(renders).hasValue(2);
+    }
+
+    @Test
+    void testUncachedEndpointsPassThrough() throws Exception {
+        get("/public/blogs/my-post", null);
+        get("/public/blogs/my-post", null);
+
+        assertThat(renders).hasValue(2);
+    }
+
+    @Test
+    void testIfNoneMatchParsing() {
+        assertThat(PublicResponseCacheFilter.matches("\"a\", \"b\"", "\"b\"")).isTrue();
+        assertThat(PublicResponseCacheFilter.matches("W/\"b\"", "\"b\"")).isTrue();
+        assertThat(PublicResponseCacheFilter.matches("*", "\"b\"")).isTrue();
+        assertThat(PublicResponseCacheFilter.matches("\"a\"", "\"b\"")).isFalse();
+        assertThat(PublicResponseCacheFilter.matches(null, "\"b\"")).isFalse();
+    }
+
+    private MockHttpServletResponse get(String uri, String ifNoneMatch) throws Exception {
+        return get(uri, ifNoneMatch, null, null);
+    }
+
+    private MockHttpServletResponse get(String uri, String ifNoneMatch, String host, String forwardedHost)
+            throws Exception {
+        String[] parts = uri.split("\\?", 2);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", parts[0]);
+        if (parts.length > 1) {
+            request.setQueryString(parts[1]);
+            for (String pair : parts[1].split("&")) {
+                String[] nameValue = pair.split("=", 2);
+                request.addParameter(nameValue[0], nameValue[1]);
+            }
+        }
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        if (host != null) {
+            request.addHeader(HttpHeaders.HOST, host);
+        }
+        if (forwardedHost != null) {
+            request.addHeader("X-Forwarded-Host", forwardedHost);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain controller = (req, res) -> {
+            renders.incrementAndGet();
+            HttpServletResponse httpResponse = (HttpServletResponse) res;
+            httpResponse.setStatus(200);
+            httpResponse.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            httpResponse.setHeader(HttpHeaders.CACHE_CONTROL, "max-age=300, public");
+            httpResponse.getOutputStream().write(body.getBytes(StandardCharsets.UTF_8));
+        };
+        filter.doFilter(request, response, controller);
+        return response;
+    }
+}
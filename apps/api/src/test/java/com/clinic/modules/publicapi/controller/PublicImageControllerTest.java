@@ -0,0 +1,177 @@
+package com.clinic.modules.publicapi.controller;
+
+import com.clinic.modules.core.image.storage.StoredImageService;
+import com.clinic.modules.core.image.storage.StoredImageService.DeliverableImage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for PublicImageController.
+ */
+@ExtendWith(MockitoExtension.class)
+class PublicImageControllerTest {
+
+    private static final String CONTENT = "0123456789abcdefghij";
+    private static final Instant MODIFIED = Instant.parse("2025-06-16T10:00:00Z");
+
+    @Mock
+    private StoredImageService storedImageService;
+
+    @TempDir
+    Path directory;
+
+    private PublicImageController controller;
+    private DeliverableImage image;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        controller = new PublicImageController(storedImageService);
+        Path file = Files.writeString(directory.resolve("abc__small.jpg"), CONTENT, StandardCharsets.UTF_8);
+        image = new DeliverableImage(file, CONTENT.length(), "image/jpeg", MODIFIED);
+    }
+
+    @Test
+    void testServesWholeFileWithValidators() throws IOException {
+        MockHttpServletResponse response = get(new MockHttpServletRequest("GET", "/public/images/abc/small"));
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).isEqualTo(CONTENT);
+        assertThat(response.getContentType()).isEqualTo("image/jpeg");
+        assertThat(response.getHeader("ETag")).isEqualTo(image.etag());
+        assertThat(response.getHeader("Accept-Ranges")).isEqualTo("bytes");
+        assertThat(response.getHeader("Cache-Control")).contains("immutable");
+    }
+
+    @Test
+    void testMatchingIfNoneMatchReturnsNotModified() throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/public/images/abc/small");
+        request.addHeader("If-None-Match", "\"other\", " + image.etag());
+
+        MockHttpServletResponse response = get(request);
+
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    void testIfModifiedSinceReturnsNotModified() throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/public/images/abc/small");
+        request.addHeader("If-Modified-Since", MODIFIED.toEpochMilli());
+
+        assertThat(get(request).getStatus()).isEqualTo(304);
+    }
+
+    @Test
+    void testSingleRangeReturnsPartialContent() throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/public/images/abc/small");
+        request.addHeader("Range", "bytes=5-9");
+
+        MockHttpServletResponse response = get(request);
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getContentAsString()).isEqualTo("56789");
+        assertThat(response.getHeader("Content-Range")).isEqualTo("bytes 5-9/20");
+        assertThat(response.getContentLengthLong()).isEqualTo(5);
+    }
+
+    @Test
+    void testSuffixRange() throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/public/images/abc/small");
+        request.addHeader("Range", "bytes=-4");
+
+        MockHttpServletResponse response = get(request);
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getContentAsString()).isEqualTo("ghij");
+    }
+
+    @Test
+    void testUnsatisfiableRange() throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/public/images/abc/small");
+        request.addHeader("Range", "bytes=50-60");
+
+        MockHttpServletResponse response = get(request);
+
+        assertThat(response.getStatus()).isEqualTo(416);
+        assertThat(response.getHeader("Content-Range")).isEqualTo("bytes */20");
+    }
+
+    @Test
+    void testStaleIfRangeSendsWholeFile() throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/public/images/abc/small");
+        request.addHeader("Range", "bytes=5-9");
+        request.addHeader("If-Range", "\"stale\"");
+
+        MockHttpServletResponse response = get(request);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).isEqualTo(CONTENT);
+    }
+
+    @Test
+    void testSendfileIsUsedWhenConnectorSupportsIt() throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/public/images/abc/small");
+        request.setAttribute(PublicImageController.SENDFILE_SUPPORT, Boolean.TRUE);
+        request.addHeader("Range", "bytes=5-9");
+
+        MockHttpServletResponse response = get(request);
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+        assertThat(request.getAttribute(PublicImageController.SENDFILE_FILENAME))
+                .isEqualTo(image.path().toAbsolutePath().toString());
+        assertThat(request.getAttribute(PublicImageController.SENDFILE_START)).isEqualTo(5L);
+        assertThat(request.getAttribute(PublicImageController.SENDFILE_END)).isEqualTo(10L);
+    }
+
+    @Test
+    void testUnknownImageReturnsNotFound() throws IOException {
+        when(storedImageService.resolve("missing", "small")).thenReturn(Optional.empty());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        controller.getImage("missing", "small", new MockHttpServletRequest("GET", "/public/images/missing/small"), response);
+
+        assertThat(response.getStatus()).isEqualTo(404);
+        assertThat(response.getHeader("X-Content-Type-Options")).isEqualTo("nosniff");
+    }
+
+    @Test
+    void testResponsesForbidSniffingAndScripts() throws IOException {
+        MockHttpServletResponse response = get(new MockHttpServletRequest("GET", "/public/images/abc/small"));
+
+        assertThat(response.getHeader("X-Content-Type-Options")).isEqualTo("nosniff");
+        assertThat(response.getHeader("Content-Security-Policy")).isEqualTo("default-src 'none'");
+    }
+
+    @Test
+    void testStoredTypeOutsideAllowListIsServedAsDownload() throws IOException {
+        image = new DeliverableImage(image.path(), image.size(), "image/svg+xml", MODIFIED);
+
+        MockHttpServletResponse response = get(new MockHttpServletRequest("GET", "/public/images/abc/small"));
+
+        assertThat(response.getContentType()).isEqualTo("application/octet-stream");
+    }
+
+    private MockHttpServletResponse get(MockHttpServletRequest request) throws IOException {
+        when(storedImageService.resolve("abc", "small")).thenReturn(Optional.of(image));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        controller.getImage("abc", "small", request, response);
+        return response;
+    }
+}
@@ -0,0 +1,43 @@
+package com.clinic.modules.publicapi.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for AvailabilityService slot generation.
+ */
+class AvailabilityServiceTest {
+
+    private static final ZoneId AMMAN = ZoneId.of("Asia/Amman");
+    private static final LocalDate TODAY = LocalDate.of(2025, 6, 16);
+
+    @Test
+    void testWindowIsSplitIntoWholeSlots() {
+        List<AvailabilityService.SlotWindow> windows = AvailabilityService.slotWindows(
+                TODAY.plusDays(1), LocalTime.of(9, 0), LocalTime.of(10, 45), Duration.ofMinutes(30),
+                AMMAN, TODAY, Instant.parse("2025-06-16T12:00:00Z"));
+
+        assertThat(windows).hasSize(3);
+        assertThat(windows.get(0).start()).isEqualTo(TODAY.plusDays(1).atTime(9, 0).atZone(AMMAN).toInstant());
+        assertThat(windows.get(2).end()).isEqualTo(TODAY.plusDays(1).atTime(10, 30).atZone(AMMAN).toInstant());
+    }
+
+    @Test
+    void testSlotsThatAlreadyStartedTodayAreSkipped() {
+        Instant now = TODAY.atTime(9, 10).atZone(AMMAN).toInstant();
+
+        List<AvailabilityService.SlotWindow> windows = AvailabilityService.slotWindows(
+                TODAY, LocalTime.of(9, 0), LocalTime.of(10, 0), Duration.ofMinutes(30), AMMAN, TODAY, now);
+
+        assertThat(windows).singleElement()
+                .satisfies(window -> assertThat(window.start()).isEqualTo(TODAY.atTime(9, 30).atZone(AMMAN).toInstant()));
+    }
+}
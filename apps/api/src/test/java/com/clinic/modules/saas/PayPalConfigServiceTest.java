@@ -1,5 +1,7 @@
 package com.clinic.modules.saas;
 
+import com.clinic.modules.core.payment.PayPalAccessTokenManager;
+import com.clinic.modules.core.settings.ClinicSettingsCache;
 import com.clinic.modules.saas.dto.PayPalConfigRequest;
 import com.clinic.modules.saas.dto.PayPalConfigResponse;
 import com.clinic.modules.saas.dto.PayPalPlanConfigDto;
@@ -8,6 +10,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.clinic.modules.saas.repository.PayPalConfigRepository;
 import com.clinic.modules.saas.service.PayPalConfigService;
 import com.clinic.util.EncryptionUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -41,6 +44,9 @@ class PayPalConfigServiceTest {
     @Mock
     private RestTemplate restTemplate;
 
+    @Mock
+    private ClinicSettingsCache clinicSettingsCache;
+
     private PayPalConfigService payPalConfigService;
 
     private PayPalConfigEntity testConfig;
@@ -49,7 +55,9 @@ class PayPalConfigServiceTest {
     @BeforeEach
     void setUp() {
         objectMapper = new ObjectMapper();
-        payPalConfigService = new PayPalConfigService(payPalConfigRepository, encryptionUtil, restTemplate, objectMapper);
+        PayPalAccessTokenManager accessTokenManager = new PayPalAccessTokenManager(restTemplate, new SimpleMeterRegistry());
+        payPalConfigService = new PayPalConfigService(payPalConfigRepository, encryptionUtil, restTemplate, objectMapper,
+                clinicSettingsCache, accessTokenManager);
 
         testConfig = new PayPalConfigEntity();
         testConfig.setId(1L);
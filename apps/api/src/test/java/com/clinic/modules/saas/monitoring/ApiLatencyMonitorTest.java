@@ -0,0 +1,81 @@
+package com.clinic.modules.saas.monitoring;
+
+import com.clinic.modules.saas.dto.ApiLatencyResponse;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Unit tests for ApiLatencyMonitor.
+ */
+class ApiLatencyMonitorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ApiLatencyMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        monitor = new ApiLatencyMonitor(meterRegistry);
+    }
+
+    @Test
+    void testNoRequestsYieldsEmptySummary() {
+        ApiLatencyResponse latency = monitor.summarize();
+
+        assertThat(latency.requestCount()).isZero();
+        assertThat(latency.meanMs()).isZero();
+        assertThat(latency.p95Ms()).isNull();
+    }
+
+    @Test
+    void testPercentilesMergeAllEndpointsButActuator() {
+        Timer fast = timer("/api/doctors");
+        Timer slow = timer("/api/appointments");
+        Timer health = timer("/actuator/health");
+        for (int i = 0; i < 90; i++) {
+            fast.record(Duration.ofMillis(10));
+        }
+        for (int i = 0; i < 10; i++) {
+            slow.record(Duration.ofMillis(800));
+        }
+        for (int i = 0; i < 1000; i++) {
+            health.record(Duration.ofMillis(1));
+        }
+
+        ApiLatencyResponse latency = monitor.summarize();
+
+        assertThat(latency.requestCount()).isEqualTo(100);
+        assertThat(latency.meanMs()).isCloseTo(89.0, within(0.01));
+        assertThat(latency.p50Ms()).isBetween(10.0, 20.0);
+        assertThat(latency.p95Ms()).isBetween(800.0, 1000.0);
+    }
+
+    @Test
+    void testPercentileIsUpperBoundOfFirstBucketReachingShare() {
+        TreeMap<Double, Double> buckets = new TreeMap<>();
+        buckets.put(5.0, 10.0);
+        buckets.put(10.0, 50.0);
+        buckets.put(50.0, 95.0);
+        buckets.put(100.0, 100.0);
+
+        assertThat(ApiLatencyMonitor.percentile(buckets, 0.50)).isEqualTo(10.0);
+        assertThat(ApiLatencyMonitor.percentile(buckets, 0.95)).isEqualTo(50.0);
+        assertThat(ApiLatencyMonitor.percentile(buckets, 0.99)).isEqualTo(100.0);
+        assertThat(ApiLatencyMonitor.percentile(new TreeMap<>(), 0.5)).isNull();
+    }
+
+    private Timer timer(String uri) {
+        return Timer.builder(ApiLatencyMonitor.HTTP_SERVER_REQUESTS)
+                .tag("uri", uri)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
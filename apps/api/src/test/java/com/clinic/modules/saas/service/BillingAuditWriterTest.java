@@ -0,0 +1,151 @@
+package com.clinic.modules.saas.service;
+
+import com.clinic.modules.saas.model.BillingAuditLogEntity;
+import com.clinic.modules.saas.repository.BillingAuditLogRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for BillingAuditWriter. The flusher thread is not started; tests
+ * drive collect/flush/shutdown directly.
+ */
+@ExtendWith(MockitoExtension.class)
+class BillingAuditWriterTest {
+
+    @Mock
+    private BillingAuditLogRepository repository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void testQueuedEntriesAreWrittenInBatches() throws InterruptedException {
+        BillingAuditWriter writer = writer(BillingAuditWriter.Mode.ASYNC, 10, 2);
+        writer.write(entry("PLAN_CHANGE"));
+        writer.write(entry("PLAN_CHANGE"));
+        writer.write(entry("PAYMENT_TRANSACTION"));
+        verify(repository, never()).save(any());
+
+        List<BillingAuditLogEntity> batch = new ArrayList<>();
+        writer.collect(batch);
+        assertThat(batch).hasSize(2);
+        writer.flush(batch);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(eq(BillingAuditWriter.INSERT_SQL), rows.capture());
+        assertThat(rows.getValue()).hasSize(2);
+        assertThat(rows.getValue().get(0)[4]).isEqualTo("PLAN_CHANGE");
+        assertThat(rows.getValue().get(0)[7]).isEqualTo("{\"status\":\"SUCCESS\"}");
+        assertThat(writer.pending()).isEqualTo(1);
+    }
+
+    @Test
+    void testSecurityEventsAreWrittenSynchronously() {
+        BillingAuditWriter writer = writer(BillingAuditWriter.Mode.ASYNC, 10, 10);
+        BillingAuditLogEntity entry = entry("WEBHOOK_VERIFICATION_FAILED");
+
+        writer.write(entry);
+
+        verify(repository).save(entry);
+        assertThat(writer.pending()).isZero();
+    }
+
+    @Test
+    void testSyncModeWritesEveryEntryImmediately() {
+        BillingAuditWriter writer = writer(BillingAuditWriter.Mode.SYNC, 10, 10);
+
+        writer.write(entry("PLAN_CHANGE"));
+
+        verify(repository).save(any());
+        assertThat(writer.pending()).isZero();
+    }
+
+    @Test
+    void testFullQueueFallsBackToSynchronousWrite() {
+        BillingAuditWriter writer = writer(BillingAuditWriter.Mode.ASYNC, 1, 10);
+        writer.write(entry("PLAN_CHANGE"));
+        BillingAuditLogEntity overflow = entry("PLAN_CHANGE");
+
+        writer.write(overflow);
+
+        verify(repository).save(overflow);
+        assertThat(meterRegistry.get("billing.audit.overflow").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void testShutdownFlushesPendingEntries() {
+        BillingAuditWriter writer = writer(BillingAuditWriter.Mode.ASYNC, 10, 2);
+        for (int i = 0; i < 3; i++) {
+            writer.write(entry("PLAN_CHANGE"));
+        }
+
+        writer.shutdown();
+        writer.write(entry("PLAN_CHANGE"));
+
+        verify(jdbcTemplate, times(2)).batchUpdate(eq(BillingAuditWriter.INSERT_SQL), anyList());
+        verify(repository).save(any());
+        assertThat(writer.pending()).isZero();
+    }
+
+    @Test
+    void testFailedBatchIsRetriedEntryByEntry() {
+        BillingAuditWriter writer = writer(BillingAuditWriter.Mode.ASYNC, 10, 10);
+        when(jdbcTemplate.batchUpdate(eq(BillingAuditWriter.INSERT_SQL), anyList()))
+                .thenThrow(new DataIntegrityViolationException("bad row"));
+
+        writer.flush(List.of(entry("PLAN_CHANGE"), entry("PLAN_UPGRADE")));
+
+        verify(repository, times(2)).save(any());
+    }
+
+    private BillingAuditWriter writer(BillingAuditWriter.Mode mode, int capacity, int batchSize) {
+        return new BillingAuditWriter(repository, transactionManager, jdbcTemplate, new ObjectMapper(), meterRegistry,
+                mode, Set.of("WEBHOOK_VERIFICATION_FAILED"), capacity, batchSize, Duration.ofMillis(20));
+    }
+
+    private static BillingAuditLogEntity entry(String action) {
+        BillingAuditLogEntity entity = new BillingAuditLogEntity();
+        entity.setAction(action);
+        entity.setSeverity("INFO");
+        entity.setTenantId(7L);
+        entity.setCreatedAt(OffsetDateTime.now());
+        entity.setMetadata(Map.of("status", "SUCCESS"));
+        return entity;
+    }
+}
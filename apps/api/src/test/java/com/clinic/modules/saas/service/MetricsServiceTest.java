@@ -0,0 +1,164 @@
+package com.clinic.modules.saas.service;
+
+import com.clinic.config.observability.RequestCostRegistry;
+import com.clinic.modules.admin.staff.repository.StaffUserRepository;
+import com.clinic.modules.core.appointment.AppointmentRepository;
+import com.clinic.modules.core.patient.PatientRepository;
+import com.clinic.modules.core.tenant.TenantRepository;
+import com.clinic.modules.saas.dto.AnalyticsResponse;
+import com.clinic.modules.saas.dto.ApiLatencyResponse;
+import com.clinic.modules.saas.dto.SystemMetricsResponse;
+import com.clinic.modules.saas.monitoring.ApiLatencyMonitor;
+import com.clinic.modules.saas.repository.PlatformMetricsRepository;
+import com.clinic.modules.saas.repository.PlatformMetricsRepository.CreatedRows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for MetricsService.
+ */
+@ExtendWith(MockitoExtension.class)
+class MetricsServiceTest {
+
+    private static final Instant NOW = Instant.parse("2025-06-16T12:00:00Z");
+
+    @Mock
+    private TenantRepository tenantRepository;
+
+    @Mock
+    private StaffUserRepository staffUserRepository;
+
+    @Mock
+    private PatientRepository patientRepository;
+
+    @Mock
+    private AppointmentRepository appointmentRepository;
+
+    @Mock
+    private PlatformMetricsRepository platformMetricsRepository;
+
+    @Mock
+    private ApiLatencyMonitor apiLatencyMonitor;
+
+    @Mock
+    private RequestCostRegistry requestCostRegistry;
+
+    private MetricsService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new MetricsService(tenantRepository, staffUserRepository, patientRepository, appointmentRepository,
+                platformMetricsRepository, apiLatencyMonitor, requestCostRegistry, Duration.ofSeconds(30), Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    void testSystemMetricsComeFromAggregatesAndAreCached() {
+        when(platformMetricsRepository.countTenantsByStatus()).thenReturn(Map.of("ACTIVE", 3L, "INACTIVE", 2L));
+        when(platformMetricsRepository.countStaffByStatus()).thenReturn(Map.of("ACTIVE", 10L, "SUSPENDED", 1L));
+        when(apiLatencyMonitor.summarize()).thenReturn(new ApiLatencyResponse(100, 20.4, 10.0, 87.4, 250.0));
+
+        SystemMetricsResponse metrics = service.getSystemMetrics();
+        service.getSystemMetrics();
+
+        assertThat(metrics.totalTenants()).isEqualTo(5);
+        assertThat(metrics.activeTenants()).isEqualTo(3);
+        assertThat(metrics.totalUsers()).isEqualTo(11);
+        assertThat(metrics.activeUsers()).isEqualTo(10);
+        assertThat(metrics.apiResponseTime()).isEqualTo(87);
+        verify(platformMetricsRepository, times(1)).countTenantsByStatus();
+        verify(tenantRepository, never()).findAll();
+        verify(staffUserRepository, never()).findAll();
+    }
+
+    @Test
+    void testResponseTimeFallsBackToMeanWithoutHistogram() {
+        when(platformMetricsRepository.countTenantsByStatus()).thenReturn(Map.of());
+        when(platformMetricsRepository.countStaffByStatus()).thenReturn(Map.of());
+        when(apiLatencyMonitor.summarize()).thenReturn(new ApiLatencyResponse(4, 42.6, null, null, null));
+
+        assertThat(service.getSystemMetrics().apiResponseTime()).isEqualTo(43);
+    }
+
+    @Test
+    void testShortRangesAreBucketedByDay() {
+        MetricsService.AnalyticsWindow window = service.resolveWindow("7d", null, null);
+
+        assertThat(window.from()).isEqualTo(Instant.parse("2025-06-10T00:00:00Z"));
+        assertThat(window.to()).isEqualTo(Instant.parse("2025-06-17T00:00:00Z"));
+        assertThat(window.bucket()).isEqualTo(Duration.ofDays(1));
+        assertThat(window.labels()).hasSize(7).startsWith("2025-06-10").endsWith("2025-06-16");
+    }
+
+    @Test
+    void testLongRangesAreBucketedByWeek() {
+        MetricsService.AnalyticsWindow window = service.resolveWindow("90d", null, null);
+
+        assertThat(window.bucket()).isEqualTo(Duration.ofDays(7));
+        assertThat(window.labels()).hasSize(13).first().isEqualTo("2025-03-19");
+    }
+
+    @Test
+    void testCustomRangeIsValidated() {
+        LocalDate start = LocalDate.of(2025, 6, 1);
+
+        assertThat(service.resolveWindow("custom", start, start).labels()).containsExactly("2025-06-01");
+        assertThatThrownBy(() -> service.resolveWindow("custom", start, start.minusDays(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.resolveWindow("custom", start, start.plusDays(MetricsService.MAX_RANGE_DAYS)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.resolveWindow("1y", null, null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testTenantGrowthAccumulatesFromBucketCounts() {
+        when(platformMetricsRepository.countCreatedPerBucket(eq(CreatedRows.TENANTS), any(), any(), any()))
+                .thenReturn(new long[]{1, 0, 2, 0, 0, 1, 0});
+        when(platformMetricsRepository.countCreatedPerBucket(eq(CreatedRows.STAFF_USERS), any(), any(), any()))
+                .thenReturn(new long[7]);
+        when(platformMetricsRepository.countCreatedPerBucket(eq(CreatedRows.APPOINTMENTS), any(), any(), any()))
+                .thenReturn(new long[]{5, 5, 5, 5, 5, 5, 5});
+        when(platformMetricsRepository.countTenantsCreatedBefore(Instant.parse("2025-06-10T00:00:00Z"))).thenReturn(10L);
+        when(platformMetricsRepository.countTenantsByStatus()).thenReturn(Map.of("ACTIVE", 14L));
+        when(staffUserRepository.count()).thenReturn(40L);
+        when(appointmentRepository.count()).thenReturn(500L);
+
+        AnalyticsResponse analytics = service.getAnalytics("7d", null, null);
+        service.getAnalytics("7d", null, null);
+
+        assertThat(analytics.tenantGrowth().newTenants()).containsExactly(1L, 0L, 2L, 0L, 0L, 1L, 0L);
+        assertThat(analytics.tenantGrowth().totalTenants()).containsExactly(11L, 11L, 13L, 13L, 13L, 14L, 14L);
+        assertThat(analytics.usageMetrics().appointments()).hasSize(7).containsOnly(5L);
+        assertThat(analytics.usageMetrics().storage()).hasSize(7).containsOnly(0L);
+        assertThat(analytics.summary().totalTenants()).isEqualTo(14);
+        assertThat(analytics.summary().totalAppointments()).isEqualTo(500);
+        verify(platformMetricsRepository, times(1)).countTenantsCreatedBefore(any());
+    }
+
+    @Test
+    void testCostReportLimitIsClamped() {
+        service.getRequestCosts(RequestCostRegistry.Dimension.ENDPOINT, RequestCostRegistry.SortBy.SQL_TIME, 1_000);
+
+        verify(requestCostRegistry).top(RequestCostRegistry.Dimension.ENDPOINT, RequestCostRegistry.SortBy.SQL_TIME,
+                MetricsService.MAX_COST_REPORT_LIMIT);
+    }
+}
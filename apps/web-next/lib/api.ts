@@ -79,7 +79,7 @@ function applyTenantFallback(tenantSlug: string) {
   throw new TenantNotFoundError(tenantSlug);
 }
 
-async function fetchAPI<T>(endpoint: string, options: RequestInit = {}): Promise<T> {
+async function fetchAPIResponse(endpoint: string, options: RequestInit = {}): Promise<Response> {
   const token = typeof window !== 'undefined' ? localStorage.getItem('authToken') : null;
 
   const headers = new Headers({
@@ -143,9 +143,33 @@ async function fetchAPI<T>(endpoint: string, options: RequestInit = {}): Promise
     );
   }
 
+  return response;
+}
+
+async function fetchAPI<T>(endpoint: string, options: RequestInit = {}): Promise<T> {
+  const response = await fetchAPIResponse(endpoint, options);
   return response.json();
 }
 
+/**
+ * Fetch every page of a cursor-paginated list endpoint, following the
+ * X-Next-Cursor header until the last page.
+ */
+async function fetchAllPages<T>(endpoint: string, options: RequestInit = {}): Promise<T[]> {
+  const items: T[] = [];
+  const separator = endpoint.includes('?') ? '&' : '?';
+  let cursor: string | null = null;
+  do {
+    const pageEndpoint = cursor
+      ? `${endpoint}${separator}cursor=${encodeURIComponent(cursor)}`
+      : endpoint;
+    const response = await fetchAPIResponse(pageEndpoint, options);
+    items.push(...((await response.json()) as T[]));
+    cursor = response.headers.get('X-Next-Cursor');
+  } while (cursor);
+  return items;
+}
+
 export const api = {
   // Auth - Note: token storage is handled by saveAuth() in useAuth hook
   login: async (email: string, password: string) => {
@@ -322,7 +346,7 @@ export const api = {
       throw new APIError('Authentication required', 401);
     }
 
-    return fetchAPI<TreatmentPlan[]>('/treatment-plans/my', {
+    return fetchAllPages<TreatmentPlan>('/treatment-plans/my?limit=500', {
       method: 'GET',
       headers: {
         Authorization: `Bearer ${token}`,